@@ -0,0 +1,27 @@
+package com.damocles.fleet.fleetmanagementsystembackend.config;
+
+import com.damocles.fleet.fleetmanagementsystembackend.web.TransportEventHandshakeInterceptor;
+import com.damocles.fleet.fleetmanagementsystembackend.web.TransportEventSocketHandler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.socket.config.annotation.EnableWebSocket;
+import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
+
+@Configuration
+@EnableWebSocket
+@RequiredArgsConstructor
+public class WebSocketConfig implements WebSocketConfigurer {
+
+    private final TransportEventSocketHandler transportEventSocketHandler;
+    private final TransportEventHandshakeInterceptor transportEventHandshakeInterceptor;
+    private final CorsProperties corsProperties;
+
+    @Override
+    // Same origins as the REST API; with none configured only same-origin pages may connect.
+    public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
+        registry.addHandler(transportEventSocketHandler, "/api/ws/transports")
+                .addInterceptors(transportEventHandshakeInterceptor)
+                .setAllowedOrigins(corsProperties.getAllowedOrigins().toArray(String[]::new));
+    }
+}
@@ -0,0 +1,10 @@
+package com.damocles.fleet.fleetmanagementsystembackend.domain;
+
+public enum ChangeEntityType {
+    TRANSPORT,
+    CARGO,
+    WORK_LOG,
+    VEHICLE,
+    TRAILER,
+    DRIVER
+}
@@ -0,0 +1,34 @@
+package com.damocles.fleet.fleetmanagementsystembackend.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+@Entity
+@Getter @Setter
+@NoArgsConstructor @AllArgsConstructor
+@Builder @EqualsAndHashCode(of = "seq")
+@Table(name = "change_log", indexes = {
+        @Index(name = "ix_change_log_entity", columnList = "entity_type, entity_id, seq"),
+        @Index(name = "ix_change_log_changed_at", columnList = "changed_at")
+})
+public class ChangeLogEntry {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long seq;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entity_type", nullable = false, length = 20)
+    private ChangeEntityType entityType;
+
+    @Column(name = "entity_id", nullable = false)
+    private Long entityId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "operation", nullable = false, length = 10)
+    private ChangeOperation operation;
+
+    @Column(name = "changed_at", nullable = false)
+    private Instant changedAt;
+}
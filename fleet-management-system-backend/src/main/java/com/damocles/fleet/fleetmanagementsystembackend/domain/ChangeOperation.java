@@ -0,0 +1,6 @@
+package com.damocles.fleet.fleetmanagementsystembackend.domain;
+
+public enum ChangeOperation {
+    UPSERT,
+    DELETE
+}
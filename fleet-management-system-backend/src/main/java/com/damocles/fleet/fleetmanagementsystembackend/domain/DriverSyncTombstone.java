@@ -0,0 +1,37 @@
+package com.damocles.fleet.fleetmanagementsystembackend.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+@Entity
+@Getter @Setter
+@NoArgsConstructor @AllArgsConstructor
+@Builder @EqualsAndHashCode(of = "id")
+@Table(name = "driver_sync_tombstones", indexes = {
+        @Index(name = "ix_driver_sync_tombstones_driver", columnList = "driver_id, removed_at"),
+        @Index(name = "ix_driver_sync_tombstones_removed_at", columnList = "removed_at")
+})
+public class DriverSyncTombstone {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "driver_id", nullable = false)
+    private Long driverId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entity_type", nullable = false, length = 20)
+    private ChangeEntityType entityType;
+
+    @Column(name = "entity_id", nullable = false)
+    private Long entityId;
+
+    // the transport itself, or the one the cargo belonged to when it was removed
+    @Column(name = "transport_id")
+    private Long transportId;
+
+    @Column(name = "removed_at", nullable = false)
+    private Instant removedAt;
+}
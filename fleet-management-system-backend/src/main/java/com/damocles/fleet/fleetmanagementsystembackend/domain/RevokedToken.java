@@ -0,0 +1,24 @@
+package com.damocles.fleet.fleetmanagementsystembackend.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+@Entity
+@Getter @Setter
+@NoArgsConstructor @AllArgsConstructor
+@Builder @EqualsAndHashCode(of = "tokenDigest")
+@Table(name = "revoked_tokens", indexes = {
+        @Index(name = "ix_revoked_token_expires_at", columnList = "expires_at"),
+        @Index(name = "ix_revoked_token_revoked_at", columnList = "revoked_at")
+})
+public class RevokedToken {
+    @Id
+    @Column(name = "token_digest", length = 64)
+    private String tokenDigest;
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+    @Column(name = "revoked_at", nullable = false)
+    private Instant revokedAt;
+}
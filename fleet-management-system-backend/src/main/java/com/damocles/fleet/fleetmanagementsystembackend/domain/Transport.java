@@ -73,6 +73,4 @@ public class Transport {
 
     @OneToMany(mappedBy = "transport", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<StatusHistory> statusHistories = new ArrayList<>();
-
-
 }
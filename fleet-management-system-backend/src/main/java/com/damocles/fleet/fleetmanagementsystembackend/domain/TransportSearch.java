@@ -0,0 +1,21 @@
+package com.damocles.fleet.fleetmanagementsystembackend.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Immutable;
+
+// Read-only search document maintained by database triggers (see V15__transport_search.sql).
+@Entity
+@Immutable
+@Getter
+@NoArgsConstructor
+@EqualsAndHashCode(of = "transportId")
+@Table(name = "transport_search")
+public class TransportSearch {
+    @Id
+    @Column(name = "transport_id")
+    private Long transportId;
+
+    @Column(name = "document", nullable = false, columnDefinition = "text")
+    private String document;
+}
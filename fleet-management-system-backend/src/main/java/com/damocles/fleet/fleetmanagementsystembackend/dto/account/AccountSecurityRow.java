@@ -0,0 +1,11 @@
+package com.damocles.fleet.fleetmanagementsystembackend.dto.account;
+
+import com.damocles.fleet.fleetmanagementsystembackend.domain.AccountStatus;
+import com.damocles.fleet.fleetmanagementsystembackend.domain.UserRole;
+
+// One (account, role) pair of the lean status-and-roles lookup used by request authentication.
+public record AccountSecurityRow(
+        Long accountId,
+        AccountStatus status,
+        UserRole role
+) {}
@@ -0,0 +1,10 @@
+package com.damocles.fleet.fleetmanagementsystembackend.dto.admin;
+
+import java.util.List;
+
+// Result of a bulk provisioning request, with one entry per row in input order.
+public record AdminBulkProvisionReport(
+        long created,
+        long rejected,
+        List<AdminBulkUserResult> results
+) {}
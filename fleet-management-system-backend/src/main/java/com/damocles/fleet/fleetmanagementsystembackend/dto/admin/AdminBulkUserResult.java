@@ -0,0 +1,10 @@
+package com.damocles.fleet.fleetmanagementsystembackend.dto.admin;
+
+// Outcome of one provisioning row (1-based); ids are set when it was created, error when it was rejected.
+public record AdminBulkUserResult(
+        long row,
+        String login,
+        Long userId,
+        Long accountId,
+        String error
+) {}
@@ -0,0 +1,34 @@
+package com.damocles.fleet.fleetmanagementsystembackend.dto.admin;
+
+import com.damocles.fleet.fleetmanagementsystembackend.domain.AccountStatus;
+import com.damocles.fleet.fleetmanagementsystembackend.domain.UserRole;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+// One row of a bulk provisioning request: AdminCreateUserWithAccountDTO plus the driver fields,
+// used when roles contain DRIVER.
+public record AdminBulkUserRow(
+        // USER
+        @NotBlank String firstName,
+        String middleName,
+        @NotBlank String lastName,
+        @Email @NotBlank String email,
+        String phone,
+        LocalDate birthDate,
+
+        // ACCOUNT
+        @NotBlank @Size(min = 3, max = 50) String login,
+        @NotBlank @Size(min = 6, max = 255) String password,
+        @NotEmpty Set<UserRole> roles,
+        AccountStatus status,
+
+        // DRIVER
+        @Size(max = 50) String driverLicenseNumber,
+        @Size(max = 50) String driverLicenseCategory,
+        LocalDate driverLicenseExpiryDate
+) {}
@@ -0,0 +1,12 @@
+package com.damocles.fleet.fleetmanagementsystembackend.dto.change;
+
+import java.util.List;
+
+// A slice of the change feed. nextCursor is always set: pass it back as after to continue, also when this
+// slice was empty. hasMore means more changes are waiting right now.
+public record ChangeFeedSlice(
+        List<ChangeRecordDTO> changes,
+        String nextCursor,
+        boolean hasMore
+) {
+}
@@ -0,0 +1,16 @@
+package com.damocles.fleet.fleetmanagementsystembackend.dto.change;
+
+import com.damocles.fleet.fleetmanagementsystembackend.domain.ChangeEntityType;
+import com.damocles.fleet.fleetmanagementsystembackend.domain.ChangeOperation;
+
+import java.time.Instant;
+
+// One change feed entry: which entity changed and how; the consumer fetches the entity itself if it needs it.
+public record ChangeRecordDTO(
+        Long seq,
+        ChangeEntityType type,
+        Long id,
+        ChangeOperation op,
+        Instant at
+) {
+}
@@ -0,0 +1,26 @@
+package com.damocles.fleet.fleetmanagementsystembackend.dto.common;
+
+import java.util.List;
+import java.util.function.Function;
+
+public record CursorSlice<T>(
+        List<T> content,
+        int size,
+        boolean hasNext,
+        String nextCursor
+) {
+    // Builds a slice from rows fetched with limit size + 1; the extra row only signals hasNext.
+    public static <E, T> CursorSlice<T> of(List<E> rows, int size,
+                                           Function<E, T> mapper, Function<E, String> cursorOf) {
+        return ofBatch(rows, size, page -> page.stream().map(mapper).toList(), cursorOf);
+    }
+
+    // Same as of, but maps the visible rows in one call (see BatchEnricher).
+    public static <E, T> CursorSlice<T> ofBatch(List<E> rows, int size,
+                                                Function<List<E>, List<T>> mapper, Function<E, String> cursorOf) {
+        boolean hasNext = rows.size() > size;
+        List<E> page = hasNext ? rows.subList(0, size) : rows;
+        String next = hasNext ? cursorOf.apply(page.get(page.size() - 1)) : null;
+        return new CursorSlice<>(mapper.apply(page), size, hasNext, next);
+    }
+}
@@ -0,0 +1,17 @@
+package com.damocles.fleet.fleetmanagementsystembackend.dto.driver;
+
+import com.damocles.fleet.fleetmanagementsystembackend.dto.cargo.CargoDTO;
+import com.damocles.fleet.fleetmanagementsystembackend.dto.transport.TransportDTO;
+
+import java.util.List;
+
+// One driver delta sync. The client applies removed, then upserts transports and cargos by id, and sends the opaque
+// watermark back as since next time. When full is set the lists are the complete state and replace the local one.
+public record DriverSyncDTO(
+        String watermark,
+        boolean full,
+        List<TransportDTO> transports,
+        List<CargoDTO> cargos,
+        List<SyncTombstoneDTO> removed
+) {
+}
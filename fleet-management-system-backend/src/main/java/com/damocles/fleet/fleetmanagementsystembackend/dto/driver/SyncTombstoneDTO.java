@@ -0,0 +1,10 @@
+package com.damocles.fleet.fleetmanagementsystembackend.dto.driver;
+
+import com.damocles.fleet.fleetmanagementsystembackend.domain.ChangeEntityType;
+
+// A transport or cargo the driver app should drop: it was deleted or moved to another driver.
+public record SyncTombstoneDTO(
+        ChangeEntityType type,
+        Long id
+) {
+}
@@ -0,0 +1,22 @@
+package com.damocles.fleet.fleetmanagementsystembackend.dto.loginHistory;
+
+import java.time.Instant;
+
+// A login attempt waiting to be written to login_histories. Successful attempts know the account id;
+// failed ones only the login, which the writer resolves in SQL.
+public record LoginAttempt(
+        Long accountId,
+        String login,
+        Instant loggedAt,
+        String result,
+        String ip,
+        String userAgent
+) {
+    public static LoginAttempt ofAccount(Long accountId, String result, String ip, String userAgent) {
+        return new LoginAttempt(accountId, null, Instant.now(), result, ip, userAgent);
+    }
+
+    public static LoginAttempt ofLogin(String login, String result, String ip, String userAgent) {
+        return new LoginAttempt(null, login, Instant.now(), result, ip, userAgent);
+    }
+}
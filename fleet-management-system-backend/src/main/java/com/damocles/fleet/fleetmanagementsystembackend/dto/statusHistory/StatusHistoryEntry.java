@@ -0,0 +1,17 @@
+package com.damocles.fleet.fleetmanagementsystembackend.dto.statusHistory;
+
+import com.damocles.fleet.fleetmanagementsystembackend.domain.TransportStatus;
+
+import java.time.Instant;
+
+// A status_histories row waiting to be written, referencing the transport and the user only by id.
+public record StatusHistoryEntry(
+        Long transportId,
+        TransportStatus status,
+        Long changedById,
+        Instant changedAt
+) {
+    public static StatusHistoryEntry now(Long transportId, TransportStatus status, Long changedById) {
+        return new StatusHistoryEntry(transportId, status, changedById, Instant.now());
+    }
+}
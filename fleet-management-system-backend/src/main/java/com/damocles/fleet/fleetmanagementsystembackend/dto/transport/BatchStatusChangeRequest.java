@@ -0,0 +1,12 @@
+package com.damocles.fleet.fleetmanagementsystembackend.dto.transport;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record BatchStatusChangeRequest(
+        @NotEmpty(message = "At least one status change is required")
+        @Size(max = 500, message = "At most 500 status changes per batch")
+        List<@Valid TransportStatusChange> changes
+) {}
@@ -0,0 +1,18 @@
+package com.damocles.fleet.fleetmanagementsystembackend.dto.transport;
+import com.damocles.fleet.fleetmanagementsystembackend.domain.TransportStatus;
+
+// Outcome of one item of a batch status change; error is set only when applied is false.
+public record BatchStatusChangeResult(
+        Long id,
+        TransportStatus status,
+        boolean applied,
+        String error
+) {
+    public static BatchStatusChangeResult applied(Long id, TransportStatus status) {
+        return new BatchStatusChangeResult(id, status, true, null);
+    }
+
+    public static BatchStatusChangeResult rejected(Long id, TransportStatus status, String error) {
+        return new BatchStatusChangeResult(id, status, false, error);
+    }
+}
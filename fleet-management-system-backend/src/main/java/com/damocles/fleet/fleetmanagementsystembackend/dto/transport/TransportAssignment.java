@@ -0,0 +1,17 @@
+package com.damocles.fleet.fleetmanagementsystembackend.dto.transport;
+
+import com.damocles.fleet.fleetmanagementsystembackend.domain.TransportStatus;
+
+import java.time.Instant;
+
+// Resources booked by one transport for its planned window; driverId is the driver's user id.
+public record TransportAssignment(
+        Long transportId,
+        TransportStatus status,
+        Long vehicleId,
+        Long trailerId,
+        Long driverId,
+        Instant plannedStartAt,
+        Instant plannedEndAt
+) {
+}
@@ -0,0 +1,36 @@
+package com.damocles.fleet.fleetmanagementsystembackend.dto.transport;
+
+import com.damocles.fleet.fleetmanagementsystembackend.domain.TransportStatus;
+
+import java.time.Instant;
+
+// A committed change to one transport, as pushed to subscribed clients. previousDriverId is set only when an
+// assignment replaced another driver, so that driver learns the transport is no longer theirs.
+public record TransportEvent(
+        Type type,
+        Long transportId,
+        TransportStatus status,
+        Long driverId,
+        Long previousDriverId,
+        Instant at
+) {
+    public enum Type { CREATED, ASSIGNED, STATUS_CHANGED }
+
+    public static TransportEvent created(Long transportId, TransportStatus status, Long driverId) {
+        return new TransportEvent(Type.CREATED, transportId, status, driverId, null, Instant.now());
+    }
+
+    public static TransportEvent assigned(Long transportId, TransportStatus status, Long driverId, Long previousDriverId) {
+        Long previous = previousDriverId != null && !previousDriverId.equals(driverId) ? previousDriverId : null;
+        return new TransportEvent(Type.ASSIGNED, transportId, status, driverId, previous, Instant.now());
+    }
+
+    public static TransportEvent statusChanged(Long transportId, TransportStatus status, Long driverId) {
+        return new TransportEvent(Type.STATUS_CHANGED, transportId, status, driverId, null, Instant.now());
+    }
+
+    // Whether the driver with this id should see the event.
+    public boolean concernsDriver(Long id) {
+        return id != null && (id.equals(driverId) || id.equals(previousDriverId));
+    }
+}
@@ -0,0 +1,14 @@
+package com.damocles.fleet.fleetmanagementsystembackend.dto.transport;
+
+import java.util.List;
+
+// One push message: the events committed since the previous one. resync is true when events had to be dropped;
+// the client should then refetch instead of relying on the events.
+public record TransportEventBatch(
+        List<TransportEvent> events,
+        boolean resync
+) {
+    public boolean hasContent() {
+        return !events.isEmpty() || resync;
+    }
+}
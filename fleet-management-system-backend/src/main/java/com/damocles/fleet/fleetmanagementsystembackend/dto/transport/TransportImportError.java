@@ -0,0 +1,6 @@
+package com.damocles.fleet.fleetmanagementsystembackend.dto.transport;
+
+public record TransportImportError(
+        long line,
+        String message
+) {}
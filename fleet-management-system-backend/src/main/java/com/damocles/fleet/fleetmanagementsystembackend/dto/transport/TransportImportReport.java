@@ -0,0 +1,10 @@
+package com.damocles.fleet.fleetmanagementsystembackend.dto.transport;
+
+import java.util.List;
+
+// Result of a bulk import; errors lists at most the first TransportImportService.MAX_REPORTED_ERRORS rejected lines.
+public record TransportImportReport(
+        long imported,
+        long rejected,
+        List<TransportImportError> errors
+) {}
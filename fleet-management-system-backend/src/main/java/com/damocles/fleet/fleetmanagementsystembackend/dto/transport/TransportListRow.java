@@ -0,0 +1,30 @@
+package com.damocles.fleet.fleetmanagementsystembackend.dto.transport;
+
+import com.damocles.fleet.fleetmanagementsystembackend.domain.TransportStatus;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+// Flat list projection selected by constructor expression; labels are built in ITransportMapper.
+public record TransportListRow(
+        Long id,
+        Instant contractualDueAt,
+        Instant plannedStartAt,
+        Instant plannedEndAt,
+        Instant actualStartAt,
+        Instant actualEndAt,
+        BigDecimal plannedDistanceKm,
+        BigDecimal actualDistanceKm,
+        Long createdById,
+        Long trailerId,
+        String trailerLicensePlate,
+        String trailerName,
+        Long vehicleId,
+        String vehicleLicensePlate,
+        String vehicleManufacturer,
+        String vehicleModel,
+        TransportStatus status,
+        Long pickupLocationId,
+        Long deliveryLocationId,
+        Long driverId
+) {}
@@ -0,0 +1,10 @@
+package com.damocles.fleet.fleetmanagementsystembackend.dto.transport;
+import com.damocles.fleet.fleetmanagementsystembackend.domain.TransportStatus;
+import jakarta.validation.constraints.NotNull;
+
+public record TransportStatusChange(
+        @NotNull(message = "Transport id is required")
+        Long id,
+        @NotNull(message = "Status is required")
+        TransportStatus status
+) {}
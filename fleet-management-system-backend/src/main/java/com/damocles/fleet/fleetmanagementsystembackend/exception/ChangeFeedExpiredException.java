@@ -0,0 +1,7 @@
+package com.damocles.fleet.fleetmanagementsystembackend.exception;
+
+public class ChangeFeedExpiredException extends RuntimeException {
+    public ChangeFeedExpiredException() {
+        super("Change feed cursor is older than the retained history; resync and start from /api/changes/head");
+    }
+}
@@ -4,6 +4,7 @@ import com.damocles.fleet.fleetmanagementsystembackend.domain.Transport;
 import com.damocles.fleet.fleetmanagementsystembackend.dto.transport.CreateTransportRequest;
 import com.damocles.fleet.fleetmanagementsystembackend.dto.transport.TransportDTO;
 import com.damocles.fleet.fleetmanagementsystembackend.dto.transport.TransportDetailsDTO;
+import com.damocles.fleet.fleetmanagementsystembackend.dto.transport.TransportListRow;
 import org.mapstruct.*;
 
 @Mapper(
@@ -28,6 +29,13 @@ public interface ITransportMapper {
     @Mapping(target = "driverId", source = "driver.userId")
     TransportDTO toDto(Transport transport);
 
+    // LIST ROW -> DTO (same labels as toDto)
+    @Mapping(target = "trailerLabel",
+            expression = "java(row.trailerId() == null ? null : (row.trailerLicensePlate() + \" - \" + row.trailerName()))")
+    @Mapping(target = "vehicleLabel",
+            expression = "java(row.vehicleId() == null ? null : (row.vehicleLicensePlate() + \" - \" + row.vehicleManufacturer() + \" \" + row.vehicleModel()))")
+    TransportDTO toDto(TransportListRow row);
+
     // REQUEST -> ENTITY (create) (relation and status in service)
     @Mappings({
             @Mapping(target = "id", ignore = true),
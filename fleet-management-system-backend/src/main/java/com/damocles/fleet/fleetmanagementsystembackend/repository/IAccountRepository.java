@@ -1,13 +1,19 @@
 package com.damocles.fleet.fleetmanagementsystembackend.repository;
 
 import com.damocles.fleet.fleetmanagementsystembackend.domain.Account;
+import com.damocles.fleet.fleetmanagementsystembackend.dto.account.AccountSecurityRow;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
-public interface IAccountRepository extends JpaRepository<Account, Long>, JpaSpecificationExecutor<Account> {
+public interface IAccountRepository extends JpaRepository<Account, Long>, JpaSpecificationExecutor<Account>,
+        IAccountWriteRepository {
 
     // basic
     boolean existsByLoginIgnoreCase(String login);
@@ -21,4 +27,21 @@ public interface IAccountRepository extends JpaRepository<Account, Long>, JpaSpe
     @EntityGraph(attributePaths = { "user", "roles" })
     Optional<Account> findWithUserByLoginIgnoreCase(String login);
 
+    // account + user + driver + roles in one select, for PrincipalContextCache
+    @EntityGraph(attributePaths = { "user", "user.driver", "roles" })
+    @Query("select a from Account a where upper(a.login) = upper(:login)")
+    Optional<Account> findPrincipalByLoginIgnoreCase(@Param("login") String login);
+
+    // status + roles only (one row per role), without loading the account or its user
+    @Query("""
+            select new com.damocles.fleet.fleetmanagementsystembackend.dto.account.AccountSecurityRow(a.id, a.status, r)
+            from Account a left join a.roles r
+            where upper(a.login) = upper(:login)
+            """)
+    List<AccountSecurityRow> findSecurityRowsByLogin(@Param("login") String login);
+
+    // which of the given lower-cased logins are taken, in one query
+    @Query("select lower(a.login) from Account a where lower(a.login) in :logins")
+    List<String> findExistingLogins(@Param("logins") Collection<String> logins);
+
 }
@@ -0,0 +1,17 @@
+package com.damocles.fleet.fleetmanagementsystembackend.repository;
+
+import com.damocles.fleet.fleetmanagementsystembackend.domain.Account;
+
+import java.util.List;
+
+// JDBC write paths: bulk provisioning (users and accounts use IDENTITY ids, which Hibernate never batches)
+// and password-hash upgrades that must not overwrite a concurrent password change.
+public interface IAccountWriteRepository {
+
+    // Inserts each account's user, the account, its roles and the user's driver (when set) as one JDBC batch
+    // per table, and sets the generated ids on the users and accounts.
+    void insertAllWithUsers(List<Account> accounts);
+
+    // Replaces the password hash only while it still equals expectedHash; false when it changed meanwhile.
+    boolean updatePasswordHashIfUnchanged(Long accountId, String expectedHash, String newHash);
+}
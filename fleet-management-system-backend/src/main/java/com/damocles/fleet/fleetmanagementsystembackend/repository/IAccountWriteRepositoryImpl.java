@@ -0,0 +1,149 @@
+package com.damocles.fleet.fleetmanagementsystembackend.repository;
+
+import com.damocles.fleet.fleetmanagementsystembackend.domain.Account;
+import com.damocles.fleet.fleetmanagementsystembackend.domain.Driver;
+import com.damocles.fleet.fleetmanagementsystembackend.domain.DriverStatus;
+import com.damocles.fleet.fleetmanagementsystembackend.domain.User;
+import com.damocles.fleet.fleetmanagementsystembackend.domain.UserRole;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Objects;
+
+import static com.damocles.fleet.fleetmanagementsystembackend.repository.JdbcBinding.setInstant;
+
+@RequiredArgsConstructor
+public class IAccountWriteRepositoryImpl implements IAccountWriteRepository {
+
+    private static final String INSERT_USER_SQL = """
+            INSERT INTO users (first_name, middle_name, last_name, email, phone, birth_date)
+            VALUES (?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String INSERT_ACCOUNT_SQL = """
+            INSERT INTO accounts (user_id, login, password_hash, created_at, status)
+            VALUES (?, ?, ?, ?, ?)
+            """;
+
+    private static final String INSERT_ROLE_SQL = "INSERT INTO account_roles (account_id, role) VALUES (?, ?)";
+
+    private static final String INSERT_DRIVER_SQL = """
+            INSERT INTO drivers (user_id, driver_license_number, driver_license_category,
+                                 driver_license_expiry_date, driver_status)
+            VALUES (?, ?, ?, ?, ?)
+            """;
+
+    private static final String UPGRADE_HASH_SQL =
+            "UPDATE accounts SET password_hash = ? WHERE id = ? AND password_hash = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public boolean updatePasswordHashIfUnchanged(Long accountId, String expectedHash, String newHash) {
+        return jdbcTemplate.update(UPGRADE_HASH_SQL, newHash, accountId, expectedHash) == 1;
+    }
+
+    @Override
+    public void insertAllWithUsers(List<Account> accounts) {
+        if (accounts.isEmpty()) return;
+
+        jdbcTemplate.execute((ConnectionCallback<Void>) con -> {
+            insertUsers(con, accounts);
+            insertAccounts(con, accounts);
+            insertRoles(con, accounts);
+            insertDrivers(con, accounts.stream()
+                    .map(a -> a.getUser().getDriver())
+                    .filter(Objects::nonNull)
+                    .toList());
+            return null;
+        });
+    }
+
+    private void insertUsers(Connection con, List<Account> accounts) throws SQLException {
+        try (PreparedStatement ps = con.prepareStatement(INSERT_USER_SQL, new String[]{"id"})) {
+            for (Account a : accounts) {
+                User u = a.getUser();
+                ps.setString(1, u.getFirstName());
+                ps.setString(2, u.getMiddleName());
+                ps.setString(3, u.getLastName());
+                ps.setString(4, u.getEmail());
+                ps.setString(5, u.getPhone());
+                setDate(ps, 6, u.getBirthDate());
+                ps.addBatch();
+            }
+            ps.executeBatch();
+
+            try (ResultSet keys = ps.getGeneratedKeys()) {
+                for (Account a : accounts) {
+                    if (!keys.next()) throw new SQLException("Missing generated id for provisioned user");
+                    a.getUser().setId(keys.getLong(1));
+                }
+            }
+        }
+    }
+
+    private void insertAccounts(Connection con, List<Account> accounts) throws SQLException {
+        try (PreparedStatement ps = con.prepareStatement(INSERT_ACCOUNT_SQL, new String[]{"id"})) {
+            for (Account a : accounts) {
+                ps.setLong(1, a.getUser().getId());
+                ps.setString(2, a.getLogin());
+                ps.setString(3, a.getPasswordHash());
+                setInstant(ps, 4, a.getCreatedAt());
+                ps.setString(5, a.getStatus() != null ? a.getStatus().name() : null);
+                ps.addBatch();
+            }
+            ps.executeBatch();
+
+            try (ResultSet keys = ps.getGeneratedKeys()) {
+                for (Account a : accounts) {
+                    if (!keys.next()) throw new SQLException("Missing generated id for provisioned account");
+                    a.setId(keys.getLong(1));
+                }
+            }
+        }
+    }
+
+    private void insertRoles(Connection con, List<Account> accounts) throws SQLException {
+        try (PreparedStatement ps = con.prepareStatement(INSERT_ROLE_SQL)) {
+            for (Account a : accounts) {
+                for (UserRole role : a.getRoles()) {
+                    ps.setLong(1, a.getId());
+                    ps.setString(2, role.name());
+                    ps.addBatch();
+                }
+            }
+            ps.executeBatch();
+        }
+    }
+
+    private void insertDrivers(Connection con, List<Driver> drivers) throws SQLException {
+        if (drivers.isEmpty()) return;
+
+        try (PreparedStatement ps = con.prepareStatement(INSERT_DRIVER_SQL)) {
+            for (Driver d : drivers) {
+                d.setUserId(d.getUser().getId());
+                ps.setLong(1, d.getUserId());
+                ps.setString(2, d.getDriverLicenseNumber());
+                ps.setString(3, d.getDriverLicenseCategory());
+                setDate(ps, 4, d.getDriverLicenseExpiryDate());
+                ps.setString(5, (d.getDriverStatus() != null ? d.getDriverStatus() : DriverStatus.AVAILABLE).name());
+                ps.addBatch();
+            }
+            ps.executeBatch();
+        }
+    }
+
+    private static void setDate(PreparedStatement ps, int index, LocalDate date) throws SQLException {
+        if (date == null) ps.setNull(index, Types.DATE);
+        else ps.setDate(index, Date.valueOf(date));
+    }
+}
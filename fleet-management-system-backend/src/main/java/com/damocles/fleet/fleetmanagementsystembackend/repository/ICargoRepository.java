@@ -1,13 +1,18 @@
 package com.damocles.fleet.fleetmanagementsystembackend.repository;
 
 import com.damocles.fleet.fleetmanagementsystembackend.domain.Cargo;
+import com.damocles.fleet.fleetmanagementsystembackend.dto.cargo.CargoDTO;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface ICargoRepository extends JpaRepository<Cargo, Long> {
     List<Cargo> findAllByTransport_Id(Long transportId);
@@ -25,4 +30,59 @@ public interface ICargoRepository extends JpaRepository<Cargo, Long> {
         )
     """)
     Page<Cargo> search(@Param("q") String q, Pageable pageable);
+
+    // Keyset slice ordered by id. Pass PageRequest.of(0, size + 1).
+    @Query("""
+        SELECT c FROM Cargo c
+        WHERE (
+            :q IS NULL
+            OR LOWER(COALESCE(c.cargoDescription, '')) LIKE CONCAT('%', :q, '%')
+            OR STR(c.id) LIKE CONCAT('%', :q, '%')
+            OR STR(c.transport.id) LIKE CONCAT('%', :q, '%')
+            OR STR(c.weightKg) LIKE CONCAT('%', :q, '%')
+            OR STR(c.volumeM3) LIKE CONCAT('%', :q, '%')
+        )
+        AND (:afterId IS NULL OR c.id > :afterId)
+        ORDER BY c.id ASC
+    """)
+    List<Cargo> searchAfter(@Param("q") String q, @Param("afterId") Long afterId, Pageable pageable);
+
+    // Driver delta sync: cargo of the driver's transports where the cargo or its transport has a change_log entry
+    // after afterSeq (all of them when afterSeq is null), projected straight into CargoDTO. A transport entry
+    // covers cargo that came along with a reassignment.
+    @Query("""
+        SELECT new com.damocles.fleet.fleetmanagementsystembackend.dto.cargo.CargoDTO(
+            c.id, c.cargoDescription, c.weightKg, c.volumeM3, c.pickupDate, c.deliveryDate, t.id, t.status)
+        FROM Cargo c JOIN c.transport t
+        WHERE t.driver.userId = :driverId
+        AND (
+            :afterSeq IS NULL
+            OR EXISTS (SELECT 1 FROM ChangeLogEntry e
+                       WHERE e.entityType = com.damocles.fleet.fleetmanagementsystembackend.domain.ChangeEntityType.CARGO
+                       AND e.entityId = c.id AND e.seq > :afterSeq)
+            OR EXISTS (SELECT 1 FROM ChangeLogEntry e
+                       WHERE e.entityType = com.damocles.fleet.fleetmanagementsystembackend.domain.ChangeEntityType.TRANSPORT
+                       AND e.entityId = t.id AND e.seq > :afterSeq)
+        )
+        ORDER BY c.id ASC
+    """)
+    List<CargoDTO> findForDriverChangedAfter(@Param("driverId") Long driverId, @Param("afterSeq") Long afterSeq);
+
+    // Export cursor: same filter as search, projected straight into CargoDTO and read 500 rows per fetch.
+    @Query("""
+        SELECT new com.damocles.fleet.fleetmanagementsystembackend.dto.cargo.CargoDTO(
+            c.id, c.cargoDescription, c.weightKg, c.volumeM3, c.pickupDate, c.deliveryDate, t.id, t.status)
+        FROM Cargo c JOIN c.transport t
+        WHERE (
+            :q IS NULL
+            OR LOWER(COALESCE(c.cargoDescription, '')) LIKE CONCAT('%', :q, '%')
+            OR STR(c.id) LIKE CONCAT('%', :q, '%')
+            OR STR(t.id) LIKE CONCAT('%', :q, '%')
+            OR STR(c.weightKg) LIKE CONCAT('%', :q, '%')
+            OR STR(c.volumeM3) LIKE CONCAT('%', :q, '%')
+        )
+        ORDER BY c.id ASC
+    """)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    Stream<CargoDTO> streamExport(@Param("q") String q);
 }
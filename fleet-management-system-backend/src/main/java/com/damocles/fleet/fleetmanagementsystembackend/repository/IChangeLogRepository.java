@@ -0,0 +1,26 @@
+package com.damocles.fleet.fleetmanagementsystembackend.repository;
+
+import com.damocles.fleet.fleetmanagementsystembackend.domain.ChangeLogEntry;
+import com.damocles.fleet.fleetmanagementsystembackend.dto.change.ChangeRecordDTO;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface IChangeLogRepository extends JpaRepository<ChangeLogEntry, Long>, IChangeLogWriteRepository {
+
+    // Entries after afterSeq in commit order, projected straight into the DTO; a primary key range scan.
+    @Query("""
+        SELECT new com.damocles.fleet.fleetmanagementsystembackend.dto.change.ChangeRecordDTO(
+            e.seq, e.entityType, e.entityId, e.operation, e.changedAt)
+        FROM ChangeLogEntry e
+        WHERE e.seq > :afterSeq
+        ORDER BY e.seq
+    """)
+    List<ChangeRecordDTO> findSlice(@Param("afterSeq") long afterSeq, Pageable pageable);
+
+    @Query("SELECT COALESCE(MAX(e.seq), 0) FROM ChangeLogEntry e")
+    long findHeadSeq();
+}
@@ -0,0 +1,17 @@
+package com.damocles.fleet.fleetmanagementsystembackend.repository;
+
+import com.damocles.fleet.fleetmanagementsystembackend.domain.ChangeLogEntry;
+
+import java.time.Instant;
+import java.util.List;
+
+// Outbox writes go through JDBC: one batch per transaction, inserted under the change_log advisory lock.
+public interface IChangeLogWriteRepository {
+
+    void appendAll(List<ChangeLogEntry> entries);
+
+    // Deletes entries older than before that a newer entry for the same entity supersedes.
+    int deleteSuperseded(Instant before);
+
+    int deleteOlderThan(Instant before);
+}
@@ -0,0 +1,58 @@
+package com.damocles.fleet.fleetmanagementsystembackend.repository;
+
+import com.damocles.fleet.fleetmanagementsystembackend.domain.ChangeLogEntry;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Instant;
+import java.util.List;
+
+import static com.damocles.fleet.fleetmanagementsystembackend.repository.JdbcBinding.setInstant;
+import static com.damocles.fleet.fleetmanagementsystembackend.repository.JdbcBinding.utc;
+
+@RequiredArgsConstructor
+public class IChangeLogWriteRepositoryImpl implements IChangeLogWriteRepository {
+
+    // arbitrary, only has to be the same for every writer of change_log
+    static final long APPEND_LOCK_KEY = 0x6368616e67656cL;
+
+    private static final String INSERT_SQL =
+            "INSERT INTO change_log (entity_type, entity_id, operation, changed_at) VALUES (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+
+    @Override
+    // Takes the transaction-level lock first, so the sequence values drawn here are not visible to readers
+    // before every smaller one is; the lock is released by the commit (or rollback) right after. Pending entity
+    // changes are flushed before the lock, so their row locks are not waited for while holding it.
+    public void appendAll(List<ChangeLogEntry> entries) {
+        if (entries.isEmpty()) return;
+
+        if (entityManager.isJoinedToTransaction()) entityManager.flush();
+        jdbcTemplate.query("SELECT pg_advisory_xact_lock(?)", rs -> null, APPEND_LOCK_KEY);
+        jdbcTemplate.batchUpdate(INSERT_SQL, entries, entries.size(), (ps, e) -> {
+            Instant changedAt = e.getChangedAt() != null ? e.getChangedAt() : Instant.now();
+            ps.setString(1, e.getEntityType().name());
+            ps.setLong(2, e.getEntityId());
+            ps.setString(3, e.getOperation().name());
+            setInstant(ps, 4, changedAt);
+        });
+    }
+
+    @Override
+    public int deleteSuperseded(Instant before) {
+        return jdbcTemplate.update("""
+                DELETE FROM change_log c
+                WHERE c.changed_at < ?
+                AND EXISTS (SELECT 1 FROM change_log n
+                            WHERE n.entity_type = c.entity_type AND n.entity_id = c.entity_id AND n.seq > c.seq)
+                """, utc(before));
+    }
+
+    @Override
+    public int deleteOlderThan(Instant before) {
+        return jdbcTemplate.update("DELETE FROM change_log WHERE changed_at < ?", utc(before));
+    }
+}
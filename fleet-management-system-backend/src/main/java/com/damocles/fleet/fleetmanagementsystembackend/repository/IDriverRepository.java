@@ -1,6 +1,7 @@
 package com.damocles.fleet.fleetmanagementsystembackend.repository;
 
 import com.damocles.fleet.fleetmanagementsystembackend.domain.Driver;
+import com.damocles.fleet.fleetmanagementsystembackend.domain.DriverStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -17,21 +18,7 @@ public interface IDriverRepository extends JpaRepository<Driver, Long> {
 
     Optional<Driver> findByUserId(Long userId);
 
-    @Query("""
-    SELECT d
-    FROM Driver d
-    WHERE d.driverStatus = com.damocles.fleet.fleetmanagementsystembackend.domain.DriverStatus.AVAILABLE
-      AND NOT EXISTS (
-            SELECT 1 FROM Transport t
-            WHERE t.driver = d
-              AND t.status IN (
-                  com.damocles.fleet.fleetmanagementsystembackend.domain.TransportStatus.PLANNED,
-                  com.damocles.fleet.fleetmanagementsystembackend.domain.TransportStatus.ACCEPTED,
-                  com.damocles.fleet.fleetmanagementsystembackend.domain.TransportStatus.IN_PROGRESS
-              )
-      )
-""")
-    List<Driver> findAvailable();
+    List<Driver> findByDriverStatus(DriverStatus driverStatus);
 
     @Query("""
         SELECT d FROM Driver d
@@ -50,4 +37,34 @@ public interface IDriverRepository extends JpaRepository<Driver, Long> {
     """)
     Page<Driver> search(@Param("q") String q, Pageable pageable);
 
+    // Keyset slice ordered by (last name, id); served by ix_user_last_name_id, whose scan starts at the cursor
+    // through the redundant lastName >= bound. Pass PageRequest.of(0, size + 1).
+    @Query("""
+        SELECT d FROM Driver d
+        JOIN FETCH d.user u
+        WHERE (
+            :q IS NULL
+            OR LOWER(COALESCE(u.firstName, '')) LIKE CONCAT('%', :q, '%')
+            OR LOWER(COALESCE(u.lastName, '')) LIKE CONCAT('%', :q, '%')
+            OR LOWER(COALESCE(u.email, '')) LIKE CONCAT('%', :q, '%')
+            OR LOWER(COALESCE(u.phone, '')) LIKE CONCAT('%', :q, '%')
+            OR LOWER(COALESCE(d.driverLicenseNumber, '')) LIKE CONCAT('%', :q, '%')
+            OR LOWER(COALESCE(d.driverLicenseCategory, '')) LIKE CONCAT('%', :q, '%')
+            OR LOWER(STR(d.driverStatus)) LIKE CONCAT('%', :q, '%')
+            OR STR(d.userId) LIKE CONCAT('%', :q, '%')
+        )
+        AND (
+            :afterId IS NULL
+            OR (
+                u.lastName >= :afterLastName
+                AND (u.lastName > :afterLastName OR (u.lastName = :afterLastName AND u.id > :afterId))
+            )
+        )
+        ORDER BY u.lastName ASC, u.id ASC
+    """)
+    List<Driver> searchAfter(@Param("q") String q,
+                             @Param("afterLastName") String afterLastName,
+                             @Param("afterId") Long afterId,
+                             Pageable pageable);
+
 }
@@ -0,0 +1,38 @@
+package com.damocles.fleet.fleetmanagementsystembackend.repository;
+
+import com.damocles.fleet.fleetmanagementsystembackend.domain.DriverSyncTombstone;
+import com.damocles.fleet.fleetmanagementsystembackend.dto.driver.SyncTombstoneDTO;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface IDriverSyncTombstoneRepository extends JpaRepository<DriverSyncTombstone, Long> {
+
+    // The driver's removals whose row, or whose transport, has a change_log entry after afterSeq. Every way a row
+    // leaves a driver's view (delete, reassignment) records one in the same transaction as the tombstone.
+    @Query("""
+        SELECT DISTINCT new com.damocles.fleet.fleetmanagementsystembackend.dto.driver.SyncTombstoneDTO(
+            x.entityType, x.entityId)
+        FROM DriverSyncTombstone x
+        WHERE x.driverId = :driverId
+        AND (
+            EXISTS (SELECT 1 FROM ChangeLogEntry e
+                    WHERE e.entityType = x.entityType AND e.entityId = x.entityId AND e.seq > :afterSeq)
+            OR EXISTS (SELECT 1 FROM ChangeLogEntry e
+                       WHERE e.entityType = com.damocles.fleet.fleetmanagementsystembackend.domain.ChangeEntityType.TRANSPORT
+                       AND e.entityId = x.transportId AND e.seq > :afterSeq)
+        )
+    """)
+    List<SyncTombstoneDTO> findForDriverChangedAfter(@Param("driverId") Long driverId,
+                                                     @Param("afterSeq") long afterSeq);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM DriverSyncTombstone x WHERE x.removedAt < :before")
+    int deleteOlderThan(@Param("before") Instant before);
+}
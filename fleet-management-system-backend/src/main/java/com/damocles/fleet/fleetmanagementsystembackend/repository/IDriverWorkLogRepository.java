@@ -1,17 +1,42 @@
 package com.damocles.fleet.fleetmanagementsystembackend.repository;
 
 import com.damocles.fleet.fleetmanagementsystembackend.domain.DriverWorkLog;
+import com.damocles.fleet.fleetmanagementsystembackend.dto.driverWorkLog.DriverWorkLogDTO;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
 
 public interface IDriverWorkLogRepository extends JpaRepository<DriverWorkLog, Long> {
     boolean existsByDriver_UserId(Long driverId);
 
+    @Query("SELECT DISTINCT w.driver.userId FROM DriverWorkLog w WHERE w.driver.userId IN :ids")
+    Set<Long> findDriverIdsWithWorkLogs(@Param("ids") Collection<Long> ids);
+
     List<DriverWorkLog> findByDriver_UserId(Long driverId);
     List<DriverWorkLog> findByDriver_UserIdOrderByStartTimeDesc(Long driverId);
 
     List<DriverWorkLog> findByTransport_Id(Long transportId);
     List<DriverWorkLog> findByTransport_IdOrderByStartTimeDesc(Long transportId);
-}
 
+    // Export cursor: all work logs projected straight into DriverWorkLogDTO, read 500 rows per fetch.
+    @Query("""
+        SELECT new com.damocles.fleet.fleetmanagementsystembackend.dto.driverWorkLog.DriverWorkLogDTO(
+            w.id, w.startTime, w.endTime, w.breakDuration, w.notes,
+            d.userId, CONCAT(u.firstName, ' ', u.lastName), t.id, w.activityType)
+        FROM DriverWorkLog w
+        LEFT JOIN w.driver d
+        LEFT JOIN d.user u
+        LEFT JOIN w.transport t
+        ORDER BY w.id ASC
+    """)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    Stream<DriverWorkLogDTO> streamExport();
+}
@@ -1,9 +1,63 @@
 package com.damocles.fleet.fleetmanagementsystembackend.repository;
 import com.damocles.fleet.fleetmanagementsystembackend.domain.LoginHistory;
+import com.damocles.fleet.fleetmanagementsystembackend.dto.loginHistory.LoginHistoryDTO;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
 import java.util.List;
-public interface ILoginHistoryRepository extends JpaRepository<LoginHistory, Long> {
+import java.util.stream.Stream;
+public interface ILoginHistoryRepository extends JpaRepository<LoginHistory, Long>, ILoginHistoryWriteRepository {
     List<LoginHistory> findByAccount_Id(Long accountId);
-    List<LoginHistory> findByAccount_IdOrderByLoggedAtDesc(Long accountId);
+
+    // Keyset slice of one account's history in [from, to), newest first, strictly after (afterAt, afterId).
+    // All bounds are non-null so the planner can prune partitions and walk ix_login_history_account.
+    @Query("""
+        SELECT new com.damocles.fleet.fleetmanagementsystembackend.dto.loginHistory.LoginHistoryDTO(
+            h.id, h.loggedAt, h.ip, h.userAgent, h.result, a.id, a.login)
+        FROM LoginHistory h
+        JOIN h.account a
+        WHERE a.id = :accountId
+        AND h.loggedAt >= :from AND h.loggedAt < :to
+        AND (h.loggedAt < :afterAt OR (h.loggedAt = :afterAt AND h.id < :afterId))
+        ORDER BY h.loggedAt DESC, h.id DESC
+    """)
+    List<LoginHistoryDTO> findAccountSlice(@Param("accountId") Long accountId,
+                                           @Param("from") Instant from,
+                                           @Param("to") Instant to,
+                                           @Param("afterAt") Instant afterAt,
+                                           @Param("afterId") Long afterId,
+                                           Pageable pageable);
+
+    // Same as findAccountSlice across all accounts; relies on partition pruning and the logged_at BRIN index.
+    @Query("""
+        SELECT new com.damocles.fleet.fleetmanagementsystembackend.dto.loginHistory.LoginHistoryDTO(
+            h.id, h.loggedAt, h.ip, h.userAgent, h.result, a.id, a.login)
+        FROM LoginHistory h
+        JOIN h.account a
+        WHERE h.loggedAt >= :from AND h.loggedAt < :to
+        AND (h.loggedAt < :afterAt OR (h.loggedAt = :afterAt AND h.id < :afterId))
+        ORDER BY h.loggedAt DESC, h.id DESC
+    """)
+    List<LoginHistoryDTO> findSlice(@Param("from") Instant from,
+                                    @Param("to") Instant to,
+                                    @Param("afterAt") Instant afterAt,
+                                    @Param("afterId") Long afterId,
+                                    Pageable pageable);
+
+    // Export cursor: all login histories projected straight into LoginHistoryDTO, read 500 rows per fetch.
+    @Query("""
+        SELECT new com.damocles.fleet.fleetmanagementsystembackend.dto.loginHistory.LoginHistoryDTO(
+            h.id, h.loggedAt, h.ip, h.userAgent, h.result, a.id, a.login)
+        FROM LoginHistory h
+        JOIN h.account a
+        ORDER BY h.id ASC
+    """)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    Stream<LoginHistoryDTO> streamExport();
 }
@@ -0,0 +1,24 @@
+package com.damocles.fleet.fleetmanagementsystembackend.repository;
+
+import com.damocles.fleet.fleetmanagementsystembackend.dto.loginHistory.LoginAttempt;
+
+import java.time.YearMonth;
+import java.util.List;
+
+// Bulk write path for the login audit: rows reference accounts by id (or login) and never load them.
+// Also maintains the monthly partitions login_histories_YYYY_MM created by V20.
+public interface ILoginHistoryWriteRepository {
+
+    void insertAll(List<LoginAttempt> attempts);
+
+    // False when login_histories is a plain table (e.g. a schema built by Hibernate).
+    boolean isPartitioned();
+
+    // Months that currently have a partition, oldest first; the default partition is not listed.
+    List<YearMonth> findMonthlyPartitions();
+
+    void createMonthlyPartition(YearMonth month);
+
+    // Drops the month's partition with all its rows.
+    void dropMonthlyPartition(YearMonth month);
+}
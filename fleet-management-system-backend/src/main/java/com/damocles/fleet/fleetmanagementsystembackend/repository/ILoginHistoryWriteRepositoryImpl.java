@@ -0,0 +1,101 @@
+package com.damocles.fleet.fleetmanagementsystembackend.repository;
+
+import com.damocles.fleet.fleetmanagementsystembackend.dto.loginHistory.LoginAttempt;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static com.damocles.fleet.fleetmanagementsystembackend.repository.JdbcBinding.setInstant;
+
+@RequiredArgsConstructor
+public class ILoginHistoryWriteRepositoryImpl implements ILoginHistoryWriteRepository {
+
+    private static final String INSERT_BY_ID_SQL =
+            "INSERT INTO login_histories (logged_at, ip, user_agent, result, account_id) VALUES (?, ?, ?, ?, ?)";
+
+    // Attempts for a login with no account insert nothing, as before.
+    private static final String INSERT_BY_LOGIN_SQL = """
+            INSERT INTO login_histories (logged_at, ip, user_agent, result, account_id)
+            SELECT ?, ?, ?, ?, a.id FROM accounts a WHERE upper(a.login) = upper(?)
+            """;
+
+    private static final String IS_PARTITIONED_SQL = """
+            SELECT EXISTS (SELECT 1 FROM pg_partitioned_table WHERE partrelid = 'login_histories'::regclass)
+            """;
+
+    private static final String PARTITIONS_SQL = """
+            SELECT c.relname FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid
+            WHERE i.inhparent = 'login_histories'::regclass
+            """;
+
+    private static final Pattern MONTHLY_PARTITION = Pattern.compile("login_histories_(\\d{4})_(\\d{2})");
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyy_MM");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    // Inserts the attempts as up to two JDBC batches: by account id, then by login.
+    public void insertAll(List<LoginAttempt> attempts) {
+        List<LoginAttempt> byId = attempts.stream().filter(a -> a.accountId() != null).toList();
+        List<LoginAttempt> byLogin = attempts.stream().filter(a -> a.accountId() == null && a.login() != null).toList();
+
+        if (!byId.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_BY_ID_SQL, byId, byId.size(), (ps, a) -> {
+                bindCommon(ps, a);
+                ps.setLong(5, a.accountId());
+            });
+        }
+        if (!byLogin.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_BY_LOGIN_SQL, byLogin, byLogin.size(), (ps, a) -> {
+                bindCommon(ps, a);
+                ps.setString(5, a.login().trim());
+            });
+        }
+    }
+
+    private static void bindCommon(PreparedStatement ps, LoginAttempt a) throws SQLException {
+        setInstant(ps, 1, a.loggedAt());
+        ps.setString(2, a.ip());
+        ps.setString(3, a.userAgent());
+        ps.setString(4, a.result());
+    }
+
+    @Override
+    public boolean isPartitioned() {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(IS_PARTITIONED_SQL, Boolean.class));
+    }
+
+    @Override
+    public List<YearMonth> findMonthlyPartitions() {
+        return jdbcTemplate.queryForList(PARTITIONS_SQL, String.class).stream()
+                .map(MONTHLY_PARTITION::matcher)
+                .filter(Matcher::matches)
+                .map(m -> YearMonth.of(Integer.parseInt(m.group(1)), Integer.parseInt(m.group(2))))
+                .sorted()
+                .toList();
+    }
+
+    @Override
+    // Partition names and bounds come from a YearMonth, never from input, so formatting them into DDL is safe.
+    public void createMonthlyPartition(YearMonth month) {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + partitionName(month)
+                + " PARTITION OF login_histories FOR VALUES FROM ('" + month.atDay(1)
+                + "') TO ('" + month.plusMonths(1).atDay(1) + "')");
+    }
+
+    @Override
+    public void dropMonthlyPartition(YearMonth month) {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS " + partitionName(month));
+    }
+
+    private static String partitionName(YearMonth month) {
+        return "login_histories_" + month.format(PARTITION_SUFFIX);
+    }
+}
@@ -0,0 +1,15 @@
+package com.damocles.fleet.fleetmanagementsystembackend.repository;
+
+import com.damocles.fleet.fleetmanagementsystembackend.domain.RevokedToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface IRevokedTokenRepository extends JpaRepository<RevokedToken, String>, IRevokedTokenWriteRepository {
+
+    boolean existsByTokenDigestAndExpiresAtAfter(String tokenDigest, Instant now);
+
+    // revocations recorded by any instance since the given time that still matter
+    List<RevokedToken> findByRevokedAtAfterAndExpiresAtAfter(Instant since, Instant now);
+}
@@ -0,0 +1,16 @@
+package com.damocles.fleet.fleetmanagementsystembackend.repository;
+
+import java.time.Instant;
+import java.util.function.Consumer;
+
+// Revocation writes and scans that must not load entities: logout storms insert idempotently,
+// and the sweeper deletes and re-reads the table in bulk.
+public interface IRevokedTokenWriteRepository {
+
+    void insertIfAbsent(String tokenDigest, Instant expiresAt, Instant revokedAt);
+
+    int deleteExpired(Instant now);
+
+    // Streams the digests of all still-valid revocations.
+    void forEachActiveDigest(Instant now, Consumer<String> action);
+}
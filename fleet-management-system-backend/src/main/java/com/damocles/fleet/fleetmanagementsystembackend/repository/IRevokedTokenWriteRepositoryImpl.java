@@ -0,0 +1,37 @@
+package com.damocles.fleet.fleetmanagementsystembackend.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.time.Instant;
+import java.util.function.Consumer;
+
+import static com.damocles.fleet.fleetmanagementsystembackend.repository.JdbcBinding.utc;
+
+@RequiredArgsConstructor
+public class IRevokedTokenWriteRepositoryImpl implements IRevokedTokenWriteRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    // Revoking the same token twice (double logout, several instances) is a no-op.
+    public void insertIfAbsent(String tokenDigest, Instant expiresAt, Instant revokedAt) {
+        jdbcTemplate.update("""
+                INSERT INTO revoked_tokens (token_digest, expires_at, revoked_at) VALUES (?, ?, ?)
+                ON CONFLICT (token_digest) DO NOTHING
+                """, tokenDigest, utc(expiresAt), utc(revokedAt));
+    }
+
+    @Override
+    public int deleteExpired(Instant now) {
+        return jdbcTemplate.update("DELETE FROM revoked_tokens WHERE expires_at <= ?", utc(now));
+    }
+
+    @Override
+    public void forEachActiveDigest(Instant now, Consumer<String> action) {
+        jdbcTemplate.query("SELECT token_digest FROM revoked_tokens WHERE expires_at > ?",
+                (RowCallbackHandler) rs -> action.accept(rs.getString(1)),
+                utc(now));
+    }
+}
@@ -1,9 +1,36 @@
 package com.damocles.fleet.fleetmanagementsystembackend.repository;
 
 import com.damocles.fleet.fleetmanagementsystembackend.domain.StatusHistory;
+import com.damocles.fleet.fleetmanagementsystembackend.dto.statusHistory.StatusHistoryDTO;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
 import java.util.List;
 
-public interface IStatusHistoryRepository extends JpaRepository<StatusHistory, Long> {
+public interface IStatusHistoryRepository extends JpaRepository<StatusHistory, Long>, IStatusHistoryWriteRepository {
     List<StatusHistory> findByTransport_IdOrderByChangedAtDesc(Long transportId);
+
+    // Keyset slice of a driver's timeline across all their transports in [from, to), newest first, strictly
+    // before (beforeAt, beforeId). One query, projected straight into the DTO.
+    @Query("""
+        SELECT new com.damocles.fleet.fleetmanagementsystembackend.dto.statusHistory.StatusHistoryDTO(
+            h.id, t.id, h.status, h.changedAt, u.id,
+            CASE WHEN u.id IS NULL THEN NULL ELSE CONCAT(u.firstName, ' ', u.lastName) END)
+        FROM StatusHistory h
+        JOIN h.transport t
+        LEFT JOIN h.changedBy u
+        WHERE t.driver.userId = :driverId
+        AND h.changedAt >= :from AND h.changedAt < :to
+        AND (h.changedAt < :beforeAt OR (h.changedAt = :beforeAt AND h.id < :beforeId))
+        ORDER BY h.changedAt DESC, h.id DESC
+    """)
+    List<StatusHistoryDTO> findDriverTimelineSlice(@Param("driverId") Long driverId,
+                                                   @Param("from") Instant from,
+                                                   @Param("to") Instant to,
+                                                   @Param("beforeAt") Instant beforeAt,
+                                                   @Param("beforeId") Long beforeId,
+                                                   Pageable pageable);
 }
@@ -0,0 +1,14 @@
+package com.damocles.fleet.fleetmanagementsystembackend.repository;
+
+import com.damocles.fleet.fleetmanagementsystembackend.domain.StatusHistory;
+import com.damocles.fleet.fleetmanagementsystembackend.dto.statusHistory.StatusHistoryEntry;
+
+import java.util.List;
+
+// Bulk write path: status_histories uses IDENTITY ids, which Hibernate never batches, so rows go through JDBC.
+public interface IStatusHistoryWriteRepository {
+
+    void insertAll(List<StatusHistory> histories);
+
+    void insertEntries(List<StatusHistoryEntry> entries);
+}
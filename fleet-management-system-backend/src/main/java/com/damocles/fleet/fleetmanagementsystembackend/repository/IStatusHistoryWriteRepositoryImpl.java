@@ -0,0 +1,50 @@
+package com.damocles.fleet.fleetmanagementsystembackend.repository;
+
+import com.damocles.fleet.fleetmanagementsystembackend.domain.StatusHistory;
+import com.damocles.fleet.fleetmanagementsystembackend.dto.statusHistory.StatusHistoryEntry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Types;
+import java.time.Instant;
+import java.util.List;
+
+import static com.damocles.fleet.fleetmanagementsystembackend.repository.JdbcBinding.setInstant;
+
+@RequiredArgsConstructor
+public class IStatusHistoryWriteRepositoryImpl implements IStatusHistoryWriteRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO status_histories (changed_at, changed_by, transport_id, status) VALUES (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    // Inserts all rows as one JDBC batch; ids are not read back.
+    public void insertAll(List<StatusHistory> histories) {
+        insertEntries(histories.stream()
+                .map(h -> new StatusHistoryEntry(
+                        h.getTransport().getId(),
+                        h.getStatus(),
+                        h.getChangedBy() != null ? h.getChangedBy().getId() : null,
+                        h.getChangedAt()))
+                .toList());
+    }
+
+    @Override
+    // Same batch, from foreign-key ids only; nothing is loaded to write a row.
+    public void insertEntries(List<StatusHistoryEntry> entries) {
+        if (entries.isEmpty()) return;
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, entries, entries.size(), (ps, e) -> {
+            setInstant(ps, 1, e.changedAt() != null ? e.changedAt() : Instant.now());
+            if (e.changedById() != null) {
+                ps.setLong(2, e.changedById());
+            } else {
+                ps.setNull(2, Types.BIGINT);
+            }
+            ps.setLong(3, e.transportId());
+            ps.setString(4, e.status().name());
+        });
+    }
+}
@@ -2,6 +2,7 @@ package com.damocles.fleet.fleetmanagementsystembackend.repository;
 
 
 import com.damocles.fleet.fleetmanagementsystembackend.domain.Trailer;
+import com.damocles.fleet.fleetmanagementsystembackend.domain.TrailerStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -12,21 +13,7 @@ import java.util.List;
 
 public interface ITrailerRepository extends JpaRepository<Trailer, Long> {
 
-    @Query("""
-    SELECT t
-    FROM Trailer t
-    WHERE t.trailerStatus = com.damocles.fleet.fleetmanagementsystembackend.domain.TrailerStatus.ACTIVE
-      AND NOT EXISTS (
-          SELECT tr FROM Transport tr
-          WHERE tr.trailer = t
-            AND tr.status IN (
-                com.damocles.fleet.fleetmanagementsystembackend.domain.TransportStatus.PLANNED,
-                com.damocles.fleet.fleetmanagementsystembackend.domain.TransportStatus.ACCEPTED,
-                com.damocles.fleet.fleetmanagementsystembackend.domain.TransportStatus.IN_PROGRESS
-            )
-      )
-""")
-    List<Trailer> findAvailable();
+    List<Trailer> findByTrailerStatus(TrailerStatus trailerStatus);
 
     @Query("""
         SELECT t FROM Trailer t
@@ -0,0 +1,23 @@
+package com.damocles.fleet.fleetmanagementsystembackend.repository;
+
+import com.damocles.fleet.fleetmanagementsystembackend.domain.Transport;
+import com.damocles.fleet.fleetmanagementsystembackend.dto.transport.TransportListRow;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+// List read path: selects TransportListRow columns only, so no entities enter the persistence context.
+public interface ITransportReadRepository {
+
+    Page<TransportListRow> findRows(Specification<Transport> spec, Pageable pageable);
+
+    List<TransportListRow> findRows(Specification<Transport> spec, Sort sort, Limit limit);
+
+    // Forward-only cursor over all matching rows; must be consumed and closed inside a transaction.
+    Stream<TransportListRow> streamRows(Specification<Transport> spec, Sort sort);
+}
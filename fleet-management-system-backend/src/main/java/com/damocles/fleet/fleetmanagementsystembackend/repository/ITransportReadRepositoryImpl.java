@@ -0,0 +1,110 @@
+package com.damocles.fleet.fleetmanagementsystembackend.repository;
+
+import com.damocles.fleet.fleetmanagementsystembackend.domain.Driver;
+import com.damocles.fleet.fleetmanagementsystembackend.domain.Trailer;
+import com.damocles.fleet.fleetmanagementsystembackend.domain.Transport;
+import com.damocles.fleet.fleetmanagementsystembackend.domain.Vehicle;
+import com.damocles.fleet.fleetmanagementsystembackend.dto.transport.TransportListRow;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.*;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+@RequiredArgsConstructor
+public class ITransportReadRepositoryImpl implements ITransportReadRepository {
+
+    static final int EXPORT_FETCH_SIZE = 500;
+
+    private final EntityManager entityManager;
+
+    @Override
+    // Returns one page of list rows; the count query runs only when the page is full.
+    public Page<TransportListRow> findRows(Specification<Transport> spec, Pageable pageable) {
+        TypedQuery<TransportListRow> query = rowQuery(spec, pageable.getSort());
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset());
+            query.setMaxResults(pageable.getPageSize());
+        }
+        return PageableExecutionUtils.getPage(query.getResultList(), pageable, () -> count(spec));
+    }
+
+    @Override
+    // Returns up to limit list rows in the given order, without a count query.
+    public List<TransportListRow> findRows(Specification<Transport> spec, Sort sort, Limit limit) {
+        TypedQuery<TransportListRow> query = rowQuery(spec, sort);
+        if (limit.isLimited()) {
+            query.setMaxResults(limit.max());
+        }
+        return query.getResultList();
+    }
+
+    @Override
+    // Streams list rows with a JDBC fetch size, so the driver holds one fetch at a time and no entities are managed.
+    public Stream<TransportListRow> streamRows(Specification<Transport> spec, Sort sort) {
+        return rowQuery(spec, sort)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, EXPORT_FETCH_SIZE)
+                .getResultStream();
+    }
+
+    private TypedQuery<TransportListRow> rowQuery(Specification<Transport> spec, Sort sort) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TransportListRow> cq = cb.createQuery(TransportListRow.class);
+        Root<Transport> root = cq.from(Transport.class);
+
+        Join<Transport, Trailer> trailer = root.join("trailer", JoinType.LEFT);
+        Join<Transport, Vehicle> vehicle = root.join("vehicle", JoinType.LEFT);
+        Join<Transport, Driver> driver = root.join("driver", JoinType.LEFT);
+
+        cq.select(cb.construct(TransportListRow.class,
+                root.get("id"),
+                root.get("contractualDueAt"),
+                root.get("plannedStartAt"),
+                root.get("plannedEndAt"),
+                root.get("actualStartAt"),
+                root.get("actualEndAt"),
+                root.get("plannedDistanceKm"),
+                root.get("actualDistanceKm"),
+                root.get("createdBy").get("id"),
+                trailer.get("id"),
+                trailer.get("licensePlate"),
+                trailer.get("name"),
+                vehicle.get("id"),
+                vehicle.get("licensePlate"),
+                vehicle.get("manufacturer"),
+                vehicle.get("model"),
+                root.get("status"),
+                root.get("pickupLocation").get("id"),
+                root.get("deliveryLocation").get("id"),
+                driver.get("userId")
+        ));
+
+        Predicate predicate = spec == null ? null : spec.toPredicate(root, cq, cb);
+        if (predicate != null) cq.where(predicate);
+        if (sort.isSorted()) cq.orderBy(QueryUtils.toOrders(sort, root, cb));
+
+        return entityManager.createQuery(cq);
+    }
+
+    private long count(Specification<Transport> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> cq = cb.createQuery(Long.class);
+        Root<Transport> root = cq.from(Transport.class);
+        cq.select(cb.count(root));
+
+        Predicate predicate = spec == null ? null : spec.toPredicate(root, cq, cb);
+        if (predicate != null) cq.where(predicate);
+
+        return entityManager.createQuery(cq).getSingleResult();
+    }
+}
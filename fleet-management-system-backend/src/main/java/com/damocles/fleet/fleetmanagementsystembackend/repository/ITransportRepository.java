@@ -2,14 +2,18 @@ package com.damocles.fleet.fleetmanagementsystembackend.repository;
 
 import com.damocles.fleet.fleetmanagementsystembackend.domain.Transport;
 import com.damocles.fleet.fleetmanagementsystembackend.domain.TransportStatus;
+import com.damocles.fleet.fleetmanagementsystembackend.dto.transport.TransportAssignment;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 
-public interface ITransportRepository extends JpaRepository<Transport, Long>, JpaSpecificationExecutor<Transport> {
+public interface ITransportRepository extends JpaRepository<Transport, Long>, JpaSpecificationExecutor<Transport>, ITransportReadRepository,
+        ITransportWriteRepository {
 
     // basic existence checks
     boolean existsByDriver_UserId(Long driverId);
@@ -20,52 +24,60 @@ public interface ITransportRepository extends JpaRepository<Transport, Long>, Jp
     boolean existsByDeliveryLocation_Id(Long locationId);
 
     // status-scoped existence checks
-    boolean existsByDriver_UserIdAndStatusAndIdNot(Long driverId, TransportStatus status, Long id);
     boolean existsByVehicle_IdAndStatus(Long vehicleId, TransportStatus status);
     boolean existsByTrailer_IdAndStatus(Long trailerId, TransportStatus status);
     boolean existsByVehicle_IdAndStatusIn(Long vehicleId, List<TransportStatus> statuses);
     boolean existsByTrailer_IdAndStatusIn(Long trailerId, List<TransportStatus> statuses);
 
-    @Query("""
-        SELECT COUNT(t) > 0
-        FROM Transport t
-        WHERE t.vehicle.id = :vehicleId
-          AND t.status IN (
-              com.damocles.fleet.fleetmanagementsystembackend.domain.TransportStatus.PLANNED,
-              com.damocles.fleet.fleetmanagementsystembackend.domain.TransportStatus.ACCEPTED,
-              com.damocles.fleet.fleetmanagementsystembackend.domain.TransportStatus.IN_PROGRESS
-          )
-    """)
-    boolean existsActiveTransportByVehicle(@Param("vehicleId") Long vehicleId);
+    // batch usage lookups: which of the given ids appear on at least one (matching) transport
+    @Query("SELECT DISTINCT t.driver.userId FROM Transport t WHERE t.driver.userId IN :ids")
+    Set<Long> findDriverIdsWithTransports(@Param("ids") Collection<Long> ids);
 
-    @Query("""
-        SELECT COUNT(t) > 0
-        FROM Transport t
-        WHERE t.driver.userId = :driverId
-          AND t.status IN (
-              com.damocles.fleet.fleetmanagementsystembackend.domain.TransportStatus.PLANNED,
-              com.damocles.fleet.fleetmanagementsystembackend.domain.TransportStatus.ACCEPTED,
-              com.damocles.fleet.fleetmanagementsystembackend.domain.TransportStatus.IN_PROGRESS
-          )
-    """)
-    boolean existsActiveTransportByDriver(@Param("driverId") Long driverId);
+    @Query("SELECT DISTINCT t.vehicle.id FROM Transport t WHERE t.vehicle.id IN :ids")
+    Set<Long> findVehicleIdsWithTransports(@Param("ids") Collection<Long> ids);
 
+    @Query("SELECT DISTINCT t.vehicle.id FROM Transport t WHERE t.vehicle.id IN :ids AND t.status IN :statuses")
+    Set<Long> findVehicleIdsWithStatusIn(@Param("ids") Collection<Long> ids,
+                                         @Param("statuses") Collection<TransportStatus> statuses);
+
+    @Query("SELECT DISTINCT t.trailer.id FROM Transport t WHERE t.trailer.id IN :ids")
+    Set<Long> findTrailerIdsWithTransports(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT DISTINCT t.trailer.id FROM Transport t WHERE t.trailer.id IN :ids AND t.status IN :statuses")
+    Set<Long> findTrailerIdsWithStatusIn(@Param("ids") Collection<Long> ids,
+                                         @Param("statuses") Collection<TransportStatus> statuses);
+
+    @Query("SELECT DISTINCT t.pickupLocation.id FROM Transport t WHERE t.pickupLocation.id IN :ids")
+    Set<Long> findPickupLocationIdsIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT DISTINCT t.deliveryLocation.id FROM Transport t WHERE t.deliveryLocation.id IN :ids")
+    Set<Long> findDeliveryLocationIdsIn(@Param("ids") Collection<Long> ids);
+
+    // Seed for ResourceAvailabilityRegistry: every transport that still holds its vehicle, trailer or driver.
     @Query("""
-        SELECT t FROM Transport t
-        WHERE t.driver.userId = :driverId
-        ORDER BY t.plannedStartAt DESC
+        SELECT new com.damocles.fleet.fleetmanagementsystembackend.dto.transport.TransportAssignment(
+            t.id, t.status, v.id, tr.id, d.userId, t.plannedStartAt, t.plannedEndAt)
+        FROM Transport t
+        LEFT JOIN t.vehicle v
+        LEFT JOIN t.trailer tr
+        LEFT JOIN t.driver d
+        WHERE t.status IN (
+            com.damocles.fleet.fleetmanagementsystembackend.domain.TransportStatus.PLANNED,
+            com.damocles.fleet.fleetmanagementsystembackend.domain.TransportStatus.ACCEPTED,
+            com.damocles.fleet.fleetmanagementsystembackend.domain.TransportStatus.IN_PROGRESS
+        )
     """)
-    List<Transport> findByDriver(@Param("driverId") Long driverId);
+    List<TransportAssignment> findActiveAssignments();
 
+    // Current assignment of the given transports, whatever their status; deleted ones are simply missing.
     @Query("""
-        SELECT COUNT(t) > 0
+        SELECT new com.damocles.fleet.fleetmanagementsystembackend.dto.transport.TransportAssignment(
+            t.id, t.status, v.id, tr.id, d.userId, t.plannedStartAt, t.plannedEndAt)
         FROM Transport t
-        WHERE t.trailer.id = :trailerId
-          AND t.status IN (
-              com.damocles.fleet.fleetmanagementsystembackend.domain.TransportStatus.PLANNED,
-              com.damocles.fleet.fleetmanagementsystembackend.domain.TransportStatus.ACCEPTED,
-              com.damocles.fleet.fleetmanagementsystembackend.domain.TransportStatus.IN_PROGRESS
-          )
+        LEFT JOIN t.vehicle v
+        LEFT JOIN t.trailer tr
+        LEFT JOIN t.driver d
+        WHERE t.id IN :ids
     """)
-    boolean existsActiveTransportByTrailer(@Param("trailerId") Long trailerId);
+    List<TransportAssignment> findAssignmentsByIds(@Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,12 @@
+package com.damocles.fleet.fleetmanagementsystembackend.repository;
+
+import com.damocles.fleet.fleetmanagementsystembackend.domain.Transport;
+
+import java.util.List;
+
+// Bulk write path for imports: transports use IDENTITY ids, which Hibernate never batches, so rows go through JDBC.
+public interface ITransportWriteRepository {
+
+    // Inserts all transports as one JDBC batch and sets the generated ids on them.
+    void insertAll(List<Transport> transports);
+}
@@ -0,0 +1,71 @@
+package com.damocles.fleet.fleetmanagementsystembackend.repository;
+
+import com.damocles.fleet.fleetmanagementsystembackend.domain.Transport;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.util.List;
+
+import static com.damocles.fleet.fleetmanagementsystembackend.repository.JdbcBinding.setInstant;
+
+@RequiredArgsConstructor
+public class ITransportWriteRepositoryImpl implements ITransportWriteRepository {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO transports (vehicle_id, driver_id, pickup_address_id, delivery_address_id, status,
+                                    created_by, trailer_id, contractual_due_at, planned_start_at, planned_end_at,
+                                    planned_distance_km)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void insertAll(List<Transport> transports) {
+        if (transports.isEmpty()) return;
+
+        jdbcTemplate.execute((ConnectionCallback<Void>) con -> {
+            try (PreparedStatement ps = con.prepareStatement(INSERT_SQL, new String[]{"id"})) {
+                for (Transport t : transports) {
+                    ps.setLong(1, t.getVehicle().getId());
+                    setId(ps, 2, t.getDriver() != null ? t.getDriver().getUserId() : null);
+                    ps.setLong(3, t.getPickupLocation().getId());
+                    ps.setLong(4, t.getDeliveryLocation().getId());
+                    ps.setString(5, t.getStatus().name());
+                    ps.setLong(6, t.getCreatedBy().getId());
+                    setId(ps, 7, t.getTrailer() != null ? t.getTrailer().getId() : null);
+                    setInstant(ps, 8, t.getContractualDueAt());
+                    setInstant(ps, 9, t.getPlannedStartAt());
+                    setInstant(ps, 10, t.getPlannedEndAt());
+                    setDecimal(ps, 11, t.getPlannedDistanceKm());
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+
+                try (ResultSet keys = ps.getGeneratedKeys()) {
+                    for (Transport t : transports) {
+                        if (!keys.next()) throw new SQLException("Missing generated id for imported transport");
+                        t.setId(keys.getLong(1));
+                    }
+                }
+            }
+            return null;
+        });
+    }
+
+    private static void setId(PreparedStatement ps, int index, Long id) throws SQLException {
+        if (id == null) ps.setNull(index, Types.BIGINT);
+        else ps.setLong(index, id);
+    }
+
+    private static void setDecimal(PreparedStatement ps, int index, BigDecimal value) throws SQLException {
+        if (value == null) ps.setNull(index, Types.NUMERIC);
+        else ps.setBigDecimal(index, value);
+    }
+}
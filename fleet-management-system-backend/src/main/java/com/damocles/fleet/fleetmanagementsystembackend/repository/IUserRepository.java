@@ -6,6 +6,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.*;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,6 +15,10 @@ public interface IUserRepository extends JpaRepository<User, Long>, JpaSpecifica
     boolean existsByEmailIgnoreCase(String email);
     Optional<User> findByEmailIgnoreCase(String email);
 
+    // which of the given lower-cased emails are taken, in one query
+    @Query("select lower(u.email) from User u where lower(u.email) in :emails")
+    List<String> findExistingEmails(@Param("emails") Collection<String> emails);
+
     // Full fetch (roles + account + driver)
     @EntityGraph(attributePaths = {"account", "driver"})
     @Query("SELECT u FROM User u WHERE u.id = :id")
@@ -1,6 +1,7 @@
 package com.damocles.fleet.fleetmanagementsystembackend.repository;
 
 import com.damocles.fleet.fleetmanagementsystembackend.domain.Vehicle;
+import com.damocles.fleet.fleetmanagementsystembackend.domain.VehicleStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -15,21 +16,7 @@ public interface IVehicleRepository extends JpaRepository<Vehicle, Long> {
 
     Optional<Vehicle> findByLicensePlate(String licensePlate);
 
-    @Query("""
-    SELECT v
-    FROM Vehicle v
-    WHERE v.vehicleStatus = com.damocles.fleet.fleetmanagementsystembackend.domain.VehicleStatus.ACTIVE
-      AND NOT EXISTS (
-            SELECT t FROM Transport t
-            WHERE t.vehicle = v
-              AND t.status IN (
-                  com.damocles.fleet.fleetmanagementsystembackend.domain.TransportStatus.PLANNED,
-                  com.damocles.fleet.fleetmanagementsystembackend.domain.TransportStatus.ACCEPTED,
-                  com.damocles.fleet.fleetmanagementsystembackend.domain.TransportStatus.IN_PROGRESS
-              )
-      )
-""")
-    List<Vehicle> findAvailable();
+    List<Vehicle> findByVehicleStatus(VehicleStatus vehicleStatus);
 
     @Query("""
         SELECT v FROM Vehicle v
@@ -0,0 +1,25 @@
+package com.damocles.fleet.fleetmanagementsystembackend.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+
+// Parameter binding for the JDBC write fragments. Instants go in as UTC OffsetDateTime, the way Hibernate binds
+// Instant, so rows written here read back exactly like the JPA-written ones.
+final class JdbcBinding {
+
+    private JdbcBinding() {
+    }
+
+    static OffsetDateTime utc(Instant at) {
+        return at == null ? null : at.atOffset(ZoneOffset.UTC);
+    }
+
+    static void setInstant(PreparedStatement ps, int index, Instant at) throws SQLException {
+        if (at == null) ps.setNull(index, Types.TIMESTAMP);
+        else ps.setObject(index, utc(at));
+    }
+}
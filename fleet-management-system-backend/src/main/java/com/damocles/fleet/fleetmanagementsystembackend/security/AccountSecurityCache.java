@@ -0,0 +1,56 @@
+package com.damocles.fleet.fleetmanagementsystembackend.security;
+
+import com.damocles.fleet.fleetmanagementsystembackend.domain.AccountStatus;
+import com.damocles.fleet.fleetmanagementsystembackend.dto.account.AccountSecurityRow;
+import com.damocles.fleet.fleetmanagementsystembackend.repository.IAccountRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+// Per-account status and roles for stateless request authentication, so an authenticated request costs no query
+// once the account is cached. AccountService and UserService invalidate an entry after committing a status, role or
+// account change; the epoch and TTL rules are LoginCache's.
+@Component
+public class AccountSecurityCache {
+
+    private final IAccountRepository accountRepository;
+    private final LoginCache<AccountSecurityState> states;
+
+    public AccountSecurityCache(
+            IAccountRepository accountRepository,
+            @Value("${security.account-cache.ttl-seconds:60}") long ttlSeconds,
+            @Value("${security.account-cache.max-size:10000}") int maxSize
+    ) {
+        this.accountRepository = accountRepository;
+        this.states = new LoginCache<>(ttlSeconds, maxSize, AccountSecurityState::loadedAtMillis);
+    }
+
+    // Current state of the account, or null when it does not exist.
+    public AccountSecurityState get(String login) {
+        return states.get(login, now -> load(login, now));
+    }
+
+    // Drops the account's entry once the surrounding transaction commits.
+    public void invalidateAfterCommit(String login) {
+        states.invalidateAfterCommit(login);
+    }
+
+    public void invalidate(String login) {
+        states.invalidate(login);
+    }
+
+    private AccountSecurityState load(String login, long now) {
+        List<AccountSecurityRow> rows = accountRepository.findSecurityRowsByLogin(login);
+        if (rows.isEmpty()) return null;
+
+        Set<String> roles = new HashSet<>();
+        for (AccountSecurityRow row : rows) {
+            if (row.role() != null) roles.add(row.role().name());
+        }
+        AccountSecurityRow first = rows.get(0);
+        return new AccountSecurityState(first.accountId(), first.status() == AccountStatus.ACTIVE, roles, now);
+    }
+}
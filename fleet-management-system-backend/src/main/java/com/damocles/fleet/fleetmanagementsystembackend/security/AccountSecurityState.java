@@ -0,0 +1,19 @@
+package com.damocles.fleet.fleetmanagementsystembackend.security;
+
+import java.util.List;
+import java.util.Set;
+
+// What request authentication needs to know about an account: whether it may sign in and its current roles.
+public record AccountSecurityState(Long accountId, boolean active, Set<String> roles, long loadedAtMillis) {
+
+    public AccountSecurityState {
+        roles = Set.copyOf(roles);
+    }
+
+    // A token is honoured while the account is active and the token carries exactly the account's current roles;
+    // after a role change the client has to log in again.
+    public boolean admits(VerifiedToken token) {
+        List<String> tokenRoles = token.roles();
+        return active && tokenRoles.size() == roles.size() && roles.containsAll(tokenRoles);
+    }
+}
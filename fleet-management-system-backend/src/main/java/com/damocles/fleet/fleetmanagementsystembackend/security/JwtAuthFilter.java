@@ -5,9 +5,11 @@ import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
@@ -17,12 +19,26 @@ import org.springframework.web.filter.OncePerRequestFilter;
 import java.io.IOException;
 
 @Component
-@RequiredArgsConstructor
 public class JwtAuthFilter extends OncePerRequestFilter {
 
     private final JwtService jwtService;
     private final UserDetailsService userDetailsService;
+    private final AccountSecurityCache accountSecurityCache;
+    // true: authorities come from the verified claims, checked against the cached account state;
+    // false: the account is loaded through the UserDetailsService on every request
+    private final boolean stateless;
 
+    public JwtAuthFilter(
+            JwtService jwtService,
+            UserDetailsService userDetailsService,
+            AccountSecurityCache accountSecurityCache,
+            @Value("${security.jwt.stateless:true}") boolean stateless
+    ) {
+        this.jwtService = jwtService;
+        this.userDetailsService = userDetailsService;
+        this.accountSecurityCache = accountSecurityCache;
+        this.stateless = stateless;
+    }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
@@ -36,17 +52,19 @@ public class JwtAuthFilter extends OncePerRequestFilter {
             String token = header.substring(7);
             try {
                 // black listed token
-                if (jwtService.isRevoked(token) || jwtService.isTokenExpired(token)) {
+                if (jwtService.isRevoked(token)) {
                     SecurityContextHolder.clearContext();
                     chain.doFilter(request, response);
                     return;
                 }
 
-                String username = jwtService.getSubject(token);
+                // signature and expiration are checked once per request (or served from the verified-token cache)
+                VerifiedToken verified = jwtService.verify(token);
+                String username = verified.subject();
                 if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                    UserDetails user = userDetailsService.loadUserByUsername(username);
+                    UserDetails user = stateless ? fromClaims(verified) : userDetailsService.loadUserByUsername(username);
 
-                    if (jwtService.isValid(token, user)) {
+                    if (jwtService.isValid(verified, user)) {
                         var auth = new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities());
                         auth.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                         SecurityContextHolder.getContext().setAuthentication(auth);
@@ -57,4 +75,14 @@ public class JwtAuthFilter extends OncePerRequestFilter {
             }
         chain.doFilter(request, response);
     }
+
+    // Principal built from the token alone, or null when the account is gone, disabled or its roles changed.
+    private UserDetails fromClaims(VerifiedToken verified) {
+        AccountSecurityState state = accountSecurityCache.get(verified.subject());
+        if (state == null || !state.admits(verified)) return null;
+
+        return new User(verified.subject(), "", verified.roles().stream()
+                .map(role -> new SimpleGrantedAuthority("ROLE_" + role))
+                .toList());
+    }
 }
@@ -4,6 +4,8 @@ import com.damocles.fleet.fleetmanagementsystembackend.domain.UserRole;
 import com.damocles.fleet.fleetmanagementsystembackend.repository.IAccountRepository;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
@@ -19,31 +21,38 @@ import java.time.temporal.ChronoUnit;
 import java.util.Collection;
 import java.util.List;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
 
 @Service
 public class JwtService {
-    private final String secret;
     private final long expMinutes;
     private final long refreshExpDays;
     private final IAccountRepository accountRepository;
+    // Built once: both are immutable and thread-safe.
+    private final SecretKey key;
+    private final JwtParser parser;
+    private final VerifiedTokenCache verifiedTokens;
+    private final TokenRevocationStore revocations;
 
     public JwtService(
             @Value("${security.jwt.secret}") String secret,
             @Value("${security.jwt.expiration-minutes}") long expMinutes,
             @Value("${security.jwt.refresh-expiration:7}") long refreshExpDays,
+            @Value("${security.jwt.verified-cache-size:10000}") int verifiedCacheSize,
+            TokenRevocationStore revocations,
             IAccountRepository accountRepository
     ) {
-        this.secret = secret;
         this.expMinutes = expMinutes;
         this.refreshExpDays = refreshExpDays;
         this.accountRepository = accountRepository;
+        // secret min. 256-bit for HS256
+        this.key = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser().verifyWith(key).build();
+        this.verifiedTokens = new VerifiedTokenCache(verifiedCacheSize);
+        this.revocations = revocations;
     }
-    private final Set<String> revokedTokens = ConcurrentHashMap.newKeySet();
 
     private SecretKey key() {
-        // secret min. 256-bit for HS256
-        return Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        return key;
     }
 
     // Builds an access token from Spring Security authorities.
@@ -86,38 +95,59 @@ public class JwtService {
 
     // Parses and verifies a signed token.
     public Jws<Claims> parse(String token) {
-        return Jwts.parser().verifyWith(key()).build().parseSignedClaims(token);
+        return parser.parseSignedClaims(token);
+    }
+
+    // Verifies signature and expiration once; repeated calls with the same token are served from the cache
+    // until it expires. Throws JwtException or IllegalArgumentException for an invalid token.
+    public VerifiedToken verify(String token) {
+        Instant now = Instant.now();
+        VerifiedToken cached = verifiedTokens.get(token, now);
+        if (cached != null) return cached;
+
+        Claims claims = parse(token).getPayload();
+        VerifiedToken verified = new VerifiedToken(
+                claims.getSubject(),
+                rolesOf(claims),
+                claims.getIssuedAt() != null ? claims.getIssuedAt().toInstant() : null,
+                claims.getExpiration() != null ? claims.getExpiration().toInstant() : null
+        );
+        verifiedTokens.put(token, verified, now);
+        return verified;
     }
 
     // Extracts the subject (login) from a token.
-    public String getSubject(String token) { return parse(token).getPayload().getSubject(); }
+    public String getSubject(String token) { return verify(token).subject(); }
 
     // Extracts role names from a token.
     public List<String> getRoles(String token) {
-        var claims = parse(token).getPayload();
-        var v = claims.get("roles");
-        if (v instanceof List<?> l) return l.stream().map(String::valueOf).toList();
-        return List.of();
+        return verify(token).roles();
     }
 
     // Checks whether a token is expired or invalid.
     public boolean isTokenExpired(String token) {
         try {
-            var exp = parse(token).getPayload().getExpiration().toInstant();
-            return exp.isBefore(Instant.now());
+            return verify(token).isExpiredAt(Instant.now());
         } catch (Exception e) {
             return true;
         }
     }
 
-    // Adds a token to the in-memory revocation list.
+    // Revokes a token for the rest of its lifetime; invalid or expired tokens are rejected anyway.
     public void revokeToken(String token) {
-        revokedTokens.add(token);
+        Instant expiresAt;
+        try {
+            expiresAt = verify(token).expiresAt();
+        } catch (JwtException | IllegalArgumentException e) {
+            return;
+        }
+        revocations.revoke(token, expiresAt != null ? expiresAt : Instant.now().plus(refreshExpDays, ChronoUnit.DAYS));
+        verifiedTokens.invalidate(token);
     }
 
     // Checks whether a token has been revoked.
     public boolean isRevoked(String token) {
-        return revokedTokens.contains(token);
+        return revocations.isRevoked(token);
     }
 
     // Validates refresh token expiration and role consistency.
@@ -127,10 +157,10 @@ public class JwtService {
             // Blacklist + expiration
             if (isTokenExpired(token) || isRevoked(token)) return false;
 
-            var claims = parse(token).getPayload();
+            VerifiedToken verified = verify(token);
 
-            String username = claims.getSubject();
-            List<String> tokenRoles = getRoles(token); // ADMIN
+            String username = verified.subject();
+            List<String> tokenRoles = verified.roles(); // ADMIN
 
             // Load account
             var acc = accountRepository.findByLoginIgnoreCase(username).orElse(null);
@@ -154,14 +184,25 @@ public class JwtService {
     public boolean isValid(String token, UserDetails user) {
         try {
             if (token == null || user == null) return false;
-            if (isRevoked(token) || isTokenExpired(token)) return false;
+            if (isRevoked(token)) return false;
 
-            // parse() checks the signature (on bad token -> exception)
-            String subject = getSubject(token);
-            return subject != null && subject.equalsIgnoreCase(user.getUsername());
+            // verify() checks the signature and expiration (on bad token -> exception)
+            return isValid(verify(token), user);
         } catch (Exception e) {
             return false;
         }
     }
+
+    // Checks that already verified claims are still live and belong to the user.
+    public boolean isValid(VerifiedToken token, UserDetails user) {
+        if (token == null || user == null || token.isExpiredAt(Instant.now())) return false;
+        return token.subject() != null && token.subject().equalsIgnoreCase(user.getUsername());
+    }
+
+    private static List<String> rolesOf(Claims claims) {
+        var v = claims.get("roles");
+        if (v instanceof List<?> l) return l.stream().map(String::valueOf).toList();
+        return List.of();
+    }
 }
 
@@ -0,0 +1,79 @@
+package com.damocles.fleet.fleetmanagementsystembackend.security;
+
+import com.damocles.fleet.fleetmanagementsystembackend.util.CacheEviction;
+import com.damocles.fleet.fleetmanagementsystembackend.util.TransactionHooks;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongFunction;
+import java.util.function.Predicate;
+import java.util.function.ToLongFunction;
+
+// Per-login entries behind AccountSecurityCache and PrincipalContextCache. Logins match case-insensitively.
+// Writers invalidate after commit; every invalidation bumps an epoch, and a load that started in an older epoch
+// returns what it read without caching it, so a load racing with a write cannot put the old state back. Entries
+// also expire after a TTL, so other instances, which never see the invalidation, converge too.
+class LoginCache<V> {
+
+    private final long ttlMillis;
+    private final int maxSize;
+    private final ToLongFunction<V> loadedAtMillis;
+
+    private final Map<String, V> entries = new ConcurrentHashMap<>();
+    private final AtomicLong epoch = new AtomicLong();
+
+    LoginCache(long ttlSeconds, int maxSize, ToLongFunction<V> loadedAtMillis) {
+        this.ttlMillis = ttlSeconds * 1000;
+        this.maxSize = maxSize;
+        this.loadedAtMillis = loadedAtMillis;
+    }
+
+    // Cached value for the login, or what loader returns for the current time; null when it does not exist.
+    V get(String login, LongFunction<V> loader) {
+        String key = key(login);
+        long now = System.currentTimeMillis();
+
+        V cached = entries.get(key);
+        if (cached != null && !expired(cached, now)) return cached;
+
+        long startedIn = epoch.get();
+        V loaded = loader.apply(now);
+        if (loaded == null) {
+            entries.remove(key);
+            return null;
+        }
+        if (epoch.get() == startedIn) {
+            CacheEviction.makeRoom(entries, maxSize, v -> expired(v, now));
+            entries.put(key, loaded);
+        }
+        return loaded;
+    }
+
+    void invalidate(String login) {
+        epoch.incrementAndGet();
+        entries.remove(key(login));
+    }
+
+    void invalidateIf(Predicate<V> matches) {
+        epoch.incrementAndGet();
+        entries.values().removeIf(matches);
+    }
+
+    void invalidateAfterCommit(String login) {
+        TransactionHooks.afterCommit(() -> invalidate(login));
+    }
+
+    void invalidateIfAfterCommit(Predicate<V> matches) {
+        TransactionHooks.afterCommit(() -> invalidateIf(matches));
+    }
+
+    private boolean expired(V value, long now) {
+        return now - loadedAtMillis.applyAsLong(value) >= ttlMillis;
+    }
+
+    private static String key(String login) {
+        return login.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,84 @@
+package com.damocles.fleet.fleetmanagementsystembackend.security;
+
+import com.damocles.fleet.fleetmanagementsystembackend.exception.TooManyRequestsException;
+import com.damocles.fleet.fleetmanagementsystembackend.util.StripedTokenBuckets;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+// Guards the BCrypt work behind /api/auth/login. An attempt first needs a token from both its client IP's bucket
+// (credential stuffing) and its login's bucket (guessing one password), and takes from neither unless both grant;
+// clientIp is the address Tomcat resolved from X-Forwarded-For of a trusted proxy. Then it runs on the shared
+// PasswordHashingPool, so password hashing can never take more than the cores, however many logins arrive.
+// Anything that does not fit is rejected at once with a Retry-After hint instead of queueing.
+@Component
+public class LoginThrottle {
+
+    private static final Duration BUSY_RETRY_AFTER = Duration.ofSeconds(1);
+
+    private final StripedTokenBuckets ipBuckets;
+    private final StripedTokenBuckets loginBuckets;
+    private final PasswordHashingPool hashingPool;
+
+    public LoginThrottle(
+            @Value("${security.login-throttle.per-ip.capacity:30}") int ipCapacity,
+            @Value("${security.login-throttle.per-ip.per-minute:30}") int ipPerMinute,
+            @Value("${security.login-throttle.per-login.capacity:10}") int loginCapacity,
+            @Value("${security.login-throttle.per-login.per-minute:5}") int loginPerMinute,
+            @Value("${security.login-throttle.max-keys:100000}") int maxKeys,
+            PasswordHashingPool hashingPool
+    ) {
+        this.ipBuckets = new StripedTokenBuckets(64, maxKeys, ipCapacity, ipPerMinute, 1, TimeUnit.MINUTES);
+        this.loginBuckets = new StripedTokenBuckets(64, maxKeys, loginCapacity, loginPerMinute, 1, TimeUnit.MINUTES);
+        this.hashingPool = hashingPool;
+    }
+
+    // Runs the login on the hashing pool once both buckets grant a token; throws TooManyRequestsException otherwise.
+    public <T> T run(String login, String clientIp, Supplier<T> attempt) {
+        long now = System.nanoTime();
+        String ipKey = "ip:" + clientIp;
+        take(ipBuckets, ipKey, now);
+        if (login != null) {
+            try {
+                take(loginBuckets, login.trim().toLowerCase(Locale.ROOT), now);
+            } catch (TooManyRequestsException e) {
+                // a refused attempt costs neither bucket, so one locked-out login cannot drain its IP's budget
+                ipBuckets.refund(ipKey);
+                throw e;
+            }
+        }
+
+        Future<T> result;
+        try {
+            result = hashingPool.submit(attempt::get);
+        } catch (RejectedExecutionException e) {
+            throw new TooManyRequestsException("Too many concurrent login attempts", BUSY_RETRY_AFTER);
+        }
+
+        try {
+            return result.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException re) throw re;
+            if (e.getCause() instanceof Error err) throw err;
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            result.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new TooManyRequestsException("Login interrupted", BUSY_RETRY_AFTER);
+        }
+    }
+
+    private static void take(StripedTokenBuckets buckets, String key, long now) {
+        long waitNanos = buckets.tryAcquire(key, now);
+        if (waitNanos > 0) {
+            throw new TooManyRequestsException("Too many login attempts", Duration.ofNanos(waitNanos));
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.damocles.fleet.fleetmanagementsystembackend.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+import java.util.UUID;
+
+// Picks the BCrypt cost for this host: times a few hashes at the minimum cost and takes the highest cost whose
+// projected time (each step doubles the work) still fits the latency budget. The minimum is a floor even when
+// the host is too slow for it, so weak hardware never weakens the stored hashes.
+@Slf4j
+public final class PasswordHashCalibrator {
+
+    private static final int SAMPLES = 3;
+
+    private PasswordHashCalibrator() {
+    }
+
+    public static int calibrate(Duration target, int minCost, int maxCost) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(minCost);
+        String sample = UUID.randomUUID().toString();
+        encoder.encode(sample); // warm-up
+
+        // best of a few runs, so a GC pause or a noisy neighbour does not drag the cost down
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < SAMPLES; i++) {
+            long start = System.nanoTime();
+            encoder.encode(sample);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+
+        int cost = pickCost(best, minCost, maxCost, target.toNanos());
+        log.info("BCrypt cost {} chosen: {} ms per hash at cost {}, budget {} ms",
+                cost, best / 1_000_000, minCost, target.toMillis());
+        return cost;
+    }
+
+    // Highest cost in [minCost, maxCost] whose projected hash time fits targetNanos.
+    static int pickCost(long nanosAtMinCost, int minCost, int maxCost, long targetNanos) {
+        int cost = minCost;
+        long projected = nanosAtMinCost;
+        while (cost < maxCost && projected * 2 <= targetNanos) {
+            projected *= 2;
+            cost++;
+        }
+        return cost;
+    }
+}
@@ -0,0 +1,97 @@
+package com.damocles.fleet.fleetmanagementsystembackend.security;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// The one pool that runs BCrypt, shared by logins (LoginThrottle) and bulk user provisioning: one thread per core
+// and a short bounded queue, so hashing never takes more than the cores whoever asks for it. A login that finds
+// the pool full is rejected at once; a bulk caller keeps at most half the threads' worth of hashes in flight and
+// waits for room, so a large import slows down instead of crowding logins out.
+@Component
+public class PasswordHashingPool {
+
+    private static final long BULK_RETRY_MILLIS = 10;
+
+    private final ThreadPoolExecutor executor;
+    private final Semaphore bulkPermits;
+
+    public PasswordHashingPool(
+            @Value("${security.password-hashing.threads:0}") int threads,
+            @Value("${security.password-hashing.queue:0}") int queue
+    ) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        int queueSize = queue > 0 ? queue : poolSize * 2;
+        AtomicInteger seq = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueSize),
+                r -> Thread.ofPlatform().name("password-hashing-" + seq.incrementAndGet()).daemon().unstarted(r),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.bulkPermits = new Semaphore(Math.max(1, poolSize / 2));
+    }
+
+    // Queues the task; throws RejectedExecutionException when every thread and queue slot is taken.
+    public <T> Future<T> submit(Callable<T> task) {
+        return executor.submit(task);
+    }
+
+    // Runs the tasks a few at a time and returns their results in order; the first failure cancels the rest.
+    public <T> List<T> invokeAll(List<Callable<T>> tasks) throws InterruptedException, ExecutionException {
+        List<Future<T>> futures = new ArrayList<>(tasks.size());
+        try {
+            for (Callable<T> task : tasks) {
+                futures.add(submitBulk(task));
+            }
+            List<T> results = new ArrayList<>(futures.size());
+            for (Future<T> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } finally {
+            futures.forEach(f -> f.cancel(true));
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    private <T> Future<T> submitBulk(Callable<T> task) throws InterruptedException {
+        bulkPermits.acquire();
+        // done() runs once whether the task completes, fails or is cancelled before it starts
+        FutureTask<T> future = new FutureTask<>(task) {
+            @Override
+            protected void done() {
+                bulkPermits.release();
+            }
+        };
+        while (true) {
+            try {
+                executor.execute(future);
+                return future;
+            } catch (RejectedExecutionException e) {
+                // logins filled the queue; they go first
+                try {
+                    Thread.sleep(BULK_RETRY_MILLIS);
+                } catch (InterruptedException ie) {
+                    future.cancel(false);
+                    throw ie;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.damocles.fleet.fleetmanagementsystembackend.security;
+
+import com.damocles.fleet.fleetmanagementsystembackend.repository.IAccountRepository;
+import com.damocles.fleet.fleetmanagementsystembackend.util.TransactionHooks;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+// Upgrades password hashes stored with a lower BCrypt cost than the current one. After a successful login the
+// raw password is handed to a single background thread, which hashes it at the current cost and swaps the
+// stored hash only if it is still the one the login verified. The queue is bounded: when it is full the upgrade
+// is dropped and simply happens on a later login. Backlog, upgrades and drops are exposed as metrics.
+@Slf4j
+@Component
+public class PasswordRehasher {
+
+    private final PasswordEncoder passwordEncoder;
+    private final IAccountRepository accountRepository;
+    private final ThreadPoolExecutor worker;
+    private final Set<Long> queued = ConcurrentHashMap.newKeySet();
+    private final Counter upgraded;
+    private final Counter dropped;
+
+    public PasswordRehasher(
+            PasswordEncoder passwordEncoder,
+            IAccountRepository accountRepository,
+            MeterRegistry meterRegistry,
+            @Value("${security.password.rehash-queue:1000}") int queueSize
+    ) {
+        this.passwordEncoder = passwordEncoder;
+        this.accountRepository = accountRepository;
+        this.worker = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueSize),
+                r -> Thread.ofPlatform().name("password-rehash").daemon().unstarted(r),
+                new ThreadPoolExecutor.AbortPolicy());
+
+        Gauge.builder("security.password.rehash.backlog", queued, Set::size).register(meterRegistry);
+        this.upgraded = Counter.builder("security.password.rehash.upgraded").register(meterRegistry);
+        this.dropped = Counter.builder("security.password.rehash.dropped").register(meterRegistry);
+    }
+
+    // Queues an upgrade when storedHash is weaker than the current cost; runs after the surrounding commit, so
+    // the login's own account update cannot write the old hash back.
+    public void upgradeIfNeeded(Long accountId, String storedHash, String rawPassword) {
+        if (accountId == null || storedHash == null || rawPassword == null) return;
+        if (!passwordEncoder.upgradeEncoding(storedHash)) return;
+
+        TransactionHooks.afterCommit(() -> enqueue(accountId, storedHash, rawPassword));
+    }
+
+    // Upgrades waiting to run, including the one in progress.
+    public int backlog() {
+        return queued.size();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        worker.shutdown();
+    }
+
+    private void enqueue(Long accountId, String storedHash, String rawPassword) {
+        if (!queued.add(accountId)) return;
+        try {
+            worker.execute(() -> upgrade(accountId, storedHash, rawPassword));
+        } catch (RejectedExecutionException e) {
+            queued.remove(accountId);
+            dropped.increment();
+        }
+    }
+
+    private void upgrade(Long accountId, String storedHash, String rawPassword) {
+        try {
+            String newHash = passwordEncoder.encode(rawPassword);
+            if (accountRepository.updatePasswordHashIfUnchanged(accountId, storedHash, newHash)) {
+                upgraded.increment();
+            }
+        } catch (DataAccessException e) {
+            log.warn("Password hash upgrade failed for account {}: {}", accountId, e.getMostSpecificCause().getMessage());
+        } finally {
+            queued.remove(accountId);
+        }
+    }
+}
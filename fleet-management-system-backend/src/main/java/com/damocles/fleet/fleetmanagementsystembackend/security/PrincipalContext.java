@@ -0,0 +1,12 @@
+package com.damocles.fleet.fleetmanagementsystembackend.security;
+
+import com.damocles.fleet.fleetmanagementsystembackend.dto.me.MeResponseDTO;
+
+// Who the caller is beyond the login: account, user and driver ids (driverId is null for non-drivers),
+// and the ready-made /api/me body.
+public record PrincipalContext(Long accountId, Long userId, Long driverId, MeResponseDTO me, long loadedAtMillis) {
+
+    public boolean isDriver() {
+        return driverId != null;
+    }
+}
@@ -0,0 +1,69 @@
+package com.damocles.fleet.fleetmanagementsystembackend.security;
+
+import com.damocles.fleet.fleetmanagementsystembackend.domain.Account;
+import com.damocles.fleet.fleetmanagementsystembackend.dto.me.MeResponseDTO;
+import com.damocles.fleet.fleetmanagementsystembackend.mapper.IMeMapper;
+import com.damocles.fleet.fleetmanagementsystembackend.repository.IAccountRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+
+// Per-login PrincipalContext, so /api/me and the "my ..." endpoints resolve the caller without queries once cached.
+// Account, user, driver and admin writes invalidate after commit, by login or by user id; the epoch and TTL rules
+// are LoginCache's.
+@Component
+public class PrincipalContextCache {
+
+    private final IAccountRepository accountRepository;
+    private final IMeMapper meMapper;
+    private final LoginCache<PrincipalContext> contexts;
+
+    public PrincipalContextCache(
+            IAccountRepository accountRepository,
+            IMeMapper meMapper,
+            @Value("${security.principal-cache.ttl-seconds:60}") long ttlSeconds,
+            @Value("${security.principal-cache.max-size:10000}") int maxSize
+    ) {
+        this.accountRepository = accountRepository;
+        this.meMapper = meMapper;
+        this.contexts = new LoginCache<>(ttlSeconds, maxSize, PrincipalContext::loadedAtMillis);
+    }
+
+    // Context of the account with this login, or null when it does not exist.
+    public PrincipalContext get(String login) {
+        return contexts.get(login, now -> accountRepository.findPrincipalByLoginIgnoreCase(login)
+                .map(acc -> toContext(acc, now))
+                .orElse(null));
+    }
+
+    // Drops the login's entry once the surrounding transaction commits.
+    public void invalidateAfterCommit(String login) {
+        contexts.invalidateAfterCommit(login);
+    }
+
+    // Drops whichever entry belongs to the user once the surrounding transaction commits.
+    public void invalidateUserAfterCommit(Long userId) {
+        contexts.invalidateIfAfterCommit(c -> Objects.equals(c.userId(), userId));
+    }
+
+    public void invalidate(String login) {
+        contexts.invalidate(login);
+    }
+
+    public void invalidateUser(Long userId) {
+        contexts.invalidateIf(c -> Objects.equals(c.userId(), userId));
+    }
+
+    private PrincipalContext toContext(Account acc, long now) {
+        var me = new MeResponseDTO(
+                true,
+                acc.getLogin(),
+                acc.getRoles().stream().map(Enum::name).sorted().toList(),
+                meMapper.toShort(acc)
+        );
+        var driver = acc.getUser().getDriver();
+        return new PrincipalContext(acc.getId(), acc.getUser().getId(),
+                driver != null ? driver.getUserId() : null, me, now);
+    }
+}
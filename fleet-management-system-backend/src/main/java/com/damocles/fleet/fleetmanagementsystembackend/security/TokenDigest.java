@@ -0,0 +1,29 @@
+package com.damocles.fleet.fleetmanagementsystembackend.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+// SHA-256 of a token: how caches and the revocation store refer to tokens without keeping them.
+final class TokenDigest {
+
+    private TokenDigest() {
+    }
+
+    static byte[] sha256(String token) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    static String hex(byte[] digest) {
+        return HexFormat.of().formatHex(digest);
+    }
+
+    static byte[] fromHex(String hex) {
+        return HexFormat.of().parseHex(hex);
+    }
+}
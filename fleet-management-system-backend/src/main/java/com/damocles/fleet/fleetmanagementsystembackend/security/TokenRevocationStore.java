@@ -0,0 +1,163 @@
+package com.damocles.fleet.fleetmanagementsystembackend.security;
+
+import com.damocles.fleet.fleetmanagementsystembackend.domain.RevokedToken;
+import com.damocles.fleet.fleetmanagementsystembackend.repository.IRevokedTokenRepository;
+import com.damocles.fleet.fleetmanagementsystembackend.util.BloomFilter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Revoked (logged-out) tokens, keyed by SHA-256 digest and kept only until the token would have expired anyway.
+// The revoked_tokens table is the source of truth shared by all instances; in front of it sit
+//  - a Bloom filter, so the common "not revoked" answer costs neither a map nor a DB lookup,
+//  - a bounded map of recent revocations bucketed by expiry minute, which the sweeper drops bucket by bucket.
+// A Bloom hit the map cannot answer (false positive, or a revocation the full map did not keep) goes to the DB.
+// Revocations made by other instances reach this one's filter on the next sync.
+@Slf4j
+@Component
+public class TokenRevocationStore {
+
+    private static final long BUCKET_MILLIS = Duration.ofMinutes(1).toMillis();
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+    // re-read window for sync, covering clock skew between instances
+    private static final Duration SYNC_OVERLAP = Duration.ofSeconds(30);
+
+    private final IRevokedTokenRepository repository;
+    private final int maxEntries;
+    private final long expectedRevocations;
+
+    private final Map<String, Long> expiries = new ConcurrentHashMap<>();
+    private final NavigableMap<Long, Set<String>> buckets = new ConcurrentSkipListMap<>();
+    private final AtomicInteger activeCount = new AtomicInteger();
+    private volatile BloomFilter filter;
+    // filter being rebuilt by the sweeper, which concurrent revocations must also reach
+    private volatile BloomFilter nextFilter;
+    private volatile Instant lastSync = Instant.EPOCH;
+
+    public TokenRevocationStore(
+            IRevokedTokenRepository repository,
+            @Value("${security.revocation.max-entries:100000}") int maxEntries,
+            @Value("${security.revocation.expected-revocations:100000}") long expectedRevocations
+    ) {
+        this.repository = repository;
+        this.maxEntries = maxEntries;
+        this.expectedRevocations = expectedRevocations;
+        this.filter = new BloomFilter(expectedRevocations, FALSE_POSITIVE_RATE);
+    }
+
+    // Process-local store without persistence, for tests and tools that run without a database.
+    public static TokenRevocationStore inMemory() {
+        return new TokenRevocationStore(null, 100_000, 100_000);
+    }
+
+    // Records the revocation until expiresAt; tokens that are already expired need none.
+    public void revoke(String token, Instant expiresAt) {
+        Instant now = Instant.now();
+        if (!expiresAt.isAfter(now)) return;
+
+        byte[] digest = TokenDigest.sha256(token);
+        String key = TokenDigest.hex(digest);
+        if (repository != null) {
+            repository.insertIfAbsent(key, expiresAt, now);
+        }
+        remember(key, digest, expiresAt.toEpochMilli());
+    }
+
+    public boolean isRevoked(String token) {
+        byte[] digest = TokenDigest.sha256(token);
+        if (!filter.mightContain(digest)) return false;
+
+        String key = TokenDigest.hex(digest);
+        Instant now = Instant.now();
+        Long expiresAt = expiries.get(key);
+        if (expiresAt != null) return expiresAt > now.toEpochMilli();
+
+        return repository != null && repository.existsByTokenDigestAndExpiresAtAfter(key, now);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    // Loads the revocations recorded before this instance started.
+    public void load() {
+        sweep();
+    }
+
+    @Scheduled(fixedDelayString = "${security.revocation.sync-interval-ms:10000}",
+            initialDelayString = "${security.revocation.sync-interval-ms:10000}")
+    // Picks up revocations recorded by other instances.
+    public void sync() {
+        if (repository == null) return;
+
+        Instant now = Instant.now();
+        Instant since = lastSync.minus(SYNC_OVERLAP);
+        for (RevokedToken row : repository.findByRevokedAtAfterAndExpiresAtAfter(since, now)) {
+            String key = row.getTokenDigest();
+            remember(key, TokenDigest.fromHex(key), row.getExpiresAt().toEpochMilli());
+        }
+        lastSync = now;
+    }
+
+    @Scheduled(fixedDelayString = "${security.revocation.sweep-interval-ms:60000}",
+            initialDelayString = "${security.revocation.sweep-interval-ms:60000}")
+    // Drops expired buckets and rows, then rebuilds the Bloom filter from what is still revoked,
+    // since a Bloom filter cannot forget.
+    public synchronized void sweep() {
+        Instant now = Instant.now();
+        var expired = buckets.headMap(now.toEpochMilli() / BUCKET_MILLIS);
+        expired.values().forEach(keys -> keys.forEach(k -> {
+            if (expiries.remove(k) != null) activeCount.decrementAndGet();
+        }));
+        expired.clear();
+
+        long live = activeCount.get();
+        if (repository != null) {
+            int deleted = repository.deleteExpired(now);
+            if (deleted > 0) log.debug("Swept {} expired token revocations", deleted);
+            live = Math.max(live, repository.count());
+        }
+
+        BloomFilter next = new BloomFilter(Math.max(expectedRevocations, 2 * live), FALSE_POSITIVE_RATE);
+        nextFilter = next;
+        expiries.keySet().forEach(k -> next.put(TokenDigest.fromHex(k)));
+        if (repository != null) {
+            repository.forEachActiveDigest(now, k -> next.put(TokenDigest.fromHex(k)));
+            lastSync = now;
+        }
+        filter = next;
+        nextFilter = null;
+    }
+
+    int size() {
+        return activeCount.get();
+    }
+
+    private void remember(String key, byte[] digest, long expiresAtMillis) {
+        // past the cap only the filter and the table know the token
+        if (activeCount.get() < maxEntries && expiries.putIfAbsent(key, expiresAtMillis) == null) {
+            activeCount.incrementAndGet();
+            buckets.computeIfAbsent(expiresAtMillis / BUCKET_MILLIS + 1, b -> ConcurrentHashMap.newKeySet()).add(key);
+        }
+
+        // The map entry goes first, so a sweep that publishes nextFilter after this point copies the key itself.
+        // A sweep that swaps the filters while the digest is being added is caught by the re-check and retried
+        // against the new filter, so the digest cannot end up in neither.
+        BloomFilter current;
+        do {
+            current = filter;
+            current.put(digest);
+            BloomFilter rebuilding = nextFilter;
+            if (rebuilding != null) rebuilding.put(digest);
+        } while (filter != current);
+    }
+}
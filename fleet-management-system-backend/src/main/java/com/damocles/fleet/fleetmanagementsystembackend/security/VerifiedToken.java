@@ -0,0 +1,16 @@
+package com.damocles.fleet.fleetmanagementsystembackend.security;
+
+import java.time.Instant;
+import java.util.List;
+
+// Claims of a token whose signature and expiration have already been checked.
+public record VerifiedToken(String subject, List<String> roles, Instant issuedAt, Instant expiresAt) {
+
+    public VerifiedToken {
+        roles = roles == null ? List.of() : List.copyOf(roles);
+    }
+
+    public boolean isExpiredAt(Instant now) {
+        return expiresAt != null && !now.isBefore(expiresAt);
+    }
+}
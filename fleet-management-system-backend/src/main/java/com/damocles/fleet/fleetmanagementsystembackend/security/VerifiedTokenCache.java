@@ -0,0 +1,52 @@
+package com.damocles.fleet.fleetmanagementsystembackend.security;
+
+import com.damocles.fleet.fleetmanagementsystembackend.util.CacheEviction;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Bounded map from a token's SHA-256 digest to its verified claims, so a client repeating the same bearer token
+// skips signature verification. Entries die with the token; when full, expired entries go first, then arbitrary ones.
+// Raw tokens are never kept as keys.
+class VerifiedTokenCache {
+
+    private final int maxSize;
+    private final Map<String, VerifiedToken> entries = new ConcurrentHashMap<>();
+
+    VerifiedTokenCache(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    // Cached claims of a still-valid token, or null.
+    VerifiedToken get(String token, Instant now) {
+        if (maxSize <= 0) return null;
+
+        String key = digest(token);
+        VerifiedToken cached = entries.get(key);
+        if (cached == null) return null;
+        if (cached.isExpiredAt(now)) {
+            entries.remove(key, cached);
+            return null;
+        }
+        return cached;
+    }
+
+    void put(String token, VerifiedToken verified, Instant now) {
+        if (maxSize <= 0) return;
+        CacheEviction.makeRoom(entries, maxSize, v -> v.isExpiredAt(now));
+        entries.put(digest(token), verified);
+    }
+
+    void invalidate(String token) {
+        entries.remove(digest(token));
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private static String digest(String token) {
+        return TokenDigest.hex(TokenDigest.sha256(token));
+    }
+}
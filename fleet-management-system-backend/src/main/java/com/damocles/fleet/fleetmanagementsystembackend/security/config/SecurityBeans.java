@@ -1,5 +1,10 @@
 package com.damocles.fleet.fleetmanagementsystembackend.security.config;
 
+import com.damocles.fleet.fleetmanagementsystembackend.security.MeteredPasswordEncoder;
+import com.damocles.fleet.fleetmanagementsystembackend.security.PasswordHashCalibrator;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -7,14 +12,24 @@ import org.springframework.security.config.annotation.authentication.configurati
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
-import java.util.ArrayList;
+import java.time.Duration;
 
 @Configuration
 public class SecurityBeans {
-    //Encoder BCrypt
+    //Encoder BCrypt: a fixed cost when configured, otherwise calibrated on this host against the latency budget
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder(10);
+    public PasswordEncoder passwordEncoder(
+            @Value("${security.password.bcrypt.cost:0}") int fixedCost,
+            @Value("${security.password.bcrypt.target-ms:250}") long targetMs,
+            @Value("${security.password.bcrypt.min-cost:10}") int minCost,
+            @Value("${security.password.bcrypt.max-cost:14}") int maxCost,
+            MeterRegistry meterRegistry
+    ) {
+        int cost = fixedCost > 0
+                ? fixedCost
+                : PasswordHashCalibrator.calibrate(Duration.ofMillis(targetMs), minCost, maxCost);
+        Gauge.builder("security.password.bcrypt.cost", () -> cost).register(meterRegistry);
+        return new MeteredPasswordEncoder(new BCryptPasswordEncoder(cost), meterRegistry);
     }
 
     //AuthenticationManager
@@ -2,6 +2,7 @@ package com.damocles.fleet.fleetmanagementsystembackend.security.config;
 
 import com.damocles.fleet.fleetmanagementsystembackend.config.CorsProperties;
 import com.damocles.fleet.fleetmanagementsystembackend.security.JwtAuthFilter;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -41,8 +42,12 @@ public class SecurityConfig {
 
                 // --- Endpoints permissions  ---
                 .authorizeHttpRequests(auth -> auth
+                        // async dispatch of streamed exports: the original request was already authorized
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         // public: login + register + health + errors
                         .requestMatchers("/api/auth/**", "/error","/actuator/health","/actuator/info").permitAll()
+                        // push channel: the handshake authenticates the token itself (TransportEventHandshakeInterceptor)
+                        .requestMatchers(HttpMethod.GET, "/api/ws/**").permitAll()
                         // DEV: temp for testing without jwt
                         // .requestMatchers("/api/**").permitAll()
 
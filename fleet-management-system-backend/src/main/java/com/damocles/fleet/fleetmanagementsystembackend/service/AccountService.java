@@ -10,6 +10,8 @@ import com.damocles.fleet.fleetmanagementsystembackend.exception.*;
 import com.damocles.fleet.fleetmanagementsystembackend.mapper.IAccountMapper;
 import com.damocles.fleet.fleetmanagementsystembackend.repository.IAccountRepository;
 import com.damocles.fleet.fleetmanagementsystembackend.repository.IUserRepository;
+import com.damocles.fleet.fleetmanagementsystembackend.security.AccountSecurityCache;
+import com.damocles.fleet.fleetmanagementsystembackend.security.PrincipalContextCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -26,6 +28,8 @@ public class AccountService implements IAccountService {
     private final IUserRepository userRepo;
     private final PasswordEncoder passwordEncoder;
     private final IAccountMapper mapper;
+    private final AccountSecurityCache accountSecurityCache;
+    private final PrincipalContextCache principalContextCache;
 
     @Override
     // Register a new account with user link and validation.
@@ -58,6 +62,7 @@ public class AccountService implements IAccountService {
         user.setAccount(acc);
 
         Account saved = accountRepo.save(acc);
+        principalContextCache.invalidateAfterCommit(login);
         return mapper.toResponse(saved);
     }
 
@@ -90,6 +95,8 @@ public class AccountService implements IAccountService {
         Account acc = accountRepo.findById(accountId)
                 .orElseThrow(() -> new NotFoundException("Account not found"));
         acc.setStatus(dto.status());
+        accountSecurityCache.invalidateAfterCommit(acc.getLogin());
+        principalContextCache.invalidateAfterCommit(acc.getLogin());
     }
 
     @Override
@@ -114,7 +121,10 @@ public class AccountService implements IAccountService {
     // Update last login timestamp.
     public void touchLastLogin(Long accountId) {
         accountRepo.findById(accountId)
-                .ifPresent(a -> a.setLastLoginAt(Instant.now()));
+                .ifPresent(a -> {
+                    a.setLastLoginAt(Instant.now());
+                    principalContextCache.invalidateAfterCommit(a.getLogin());
+                });
     }
 
     private String normalize(String value) {
@@ -141,5 +151,7 @@ public class AccountService implements IAccountService {
 
         acc.setRoles(dto.roles());
         accountRepo.save(acc);
+        accountSecurityCache.invalidateAfterCommit(acc.getLogin());
+        principalContextCache.invalidateAfterCommit(acc.getLogin());
     }
 }
@@ -12,6 +12,7 @@ import com.damocles.fleet.fleetmanagementsystembackend.mapper.IAccountMapper;
 import com.damocles.fleet.fleetmanagementsystembackend.mapper.IUserMapper;
 import com.damocles.fleet.fleetmanagementsystembackend.repository.IAccountRepository;
 import com.damocles.fleet.fleetmanagementsystembackend.repository.IUserRepository;
+import com.damocles.fleet.fleetmanagementsystembackend.security.PrincipalContextCache;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -30,6 +31,7 @@ public class AdminService implements IAdminService {
     private final PasswordEncoder passwordEncoder;
     private final IUserMapper userMapper;
     private final IAccountMapper accountMapper;
+    private final PrincipalContextCache principalContextCache;
 
     // Creates a new user with account credentials in a single transaction.
     @Override
@@ -81,6 +83,7 @@ public class AdminService implements IAdminService {
         savedUser.setAccount(acc);
 
         Account savedAcc = accountRepo.save(acc);
+        principalContextCache.invalidateAfterCommit(login);
 
         return new AdminCreateUserWithAccountResponseDTO(
                 userMapper.toResponse(savedUser),
@@ -5,6 +5,8 @@ import com.damocles.fleet.fleetmanagementsystembackend.dto.account.AccountRespon
 import com.damocles.fleet.fleetmanagementsystembackend.dto.auth.AuthResponse;
 import com.damocles.fleet.fleetmanagementsystembackend.repository.IAccountRepository;
 import com.damocles.fleet.fleetmanagementsystembackend.security.JwtService;
+import com.damocles.fleet.fleetmanagementsystembackend.security.PasswordRehasher;
+import com.damocles.fleet.fleetmanagementsystembackend.security.PrincipalContextCache;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -27,6 +29,8 @@ public class AuthService {
     private final JwtService jwtService;
     private final IAccountRepository accountRepository;
     private final LoginHistoryService loginHistoryService;
+    private final PrincipalContextCache principalContextCache;
+    private final PasswordRehasher passwordRehasher;
 
     // Authenticates user, records login attempt, and returns tokens + account summary.
     public AuthResponse login(String login, String password, HttpServletRequest request) {
@@ -37,6 +41,9 @@ public class AuthService {
                     .orElseThrow(() -> new UsernameNotFoundException("Account not found"));
 
             account.setLastLoginAt(Instant.now());
+            principalContextCache.invalidateAfterCommit(account.getLogin());
+            // a hash below the current cost is re-hashed in the background once this transaction commits
+            passwordRehasher.upgradeIfNeeded(account.getId(), account.getPasswordHash(), password);
 
             List<String> roles = account.getRoles().stream()
                     .map(Enum::name)
@@ -67,11 +74,8 @@ public class AuthService {
                     )
             );
         } catch (BadCredentialsException ex) {
-            accountRepository.findByLoginIgnoreCase(login).ifPresent(acc -> {
-                String ipHash = request.getRemoteAddr();
-                String userAgentHash = request.getHeader("User-Agent");
-                loginHistoryService.logAttempt(acc.getId(), "FAILURE", ipHash, userAgentHash);
-            });
+            // the writer resolves the login to its account, so a failed login costs no lookup here
+            loginHistoryService.logFailedAttempt(login, request.getRemoteAddr(), request.getHeader("User-Agent"));
             throw ex;
         }
     }
@@ -1,18 +1,22 @@
 package com.damocles.fleet.fleetmanagementsystembackend.service;
 import com.damocles.fleet.fleetmanagementsystembackend.domain.Cargo;
+import com.damocles.fleet.fleetmanagementsystembackend.domain.ChangeEntityType;
 import com.damocles.fleet.fleetmanagementsystembackend.domain.Transport;
 import com.damocles.fleet.fleetmanagementsystembackend.domain.TransportStatus;
 import com.damocles.fleet.fleetmanagementsystembackend.dto.cargo.CreateCargoRequest;
 import com.damocles.fleet.fleetmanagementsystembackend.dto.cargo.CargoDTO;
 import com.damocles.fleet.fleetmanagementsystembackend.dto.cargo.UpdateCargoRequest;
+import com.damocles.fleet.fleetmanagementsystembackend.dto.common.CursorSlice;
 import com.damocles.fleet.fleetmanagementsystembackend.exception.BusinessValidationException;
 import com.damocles.fleet.fleetmanagementsystembackend.exception.CargoNotFoundException;
 import com.damocles.fleet.fleetmanagementsystembackend.exception.NotFoundException;
 import com.damocles.fleet.fleetmanagementsystembackend.mapper.ICargoMapper;
 import com.damocles.fleet.fleetmanagementsystembackend.repository.ICargoRepository;
 import com.damocles.fleet.fleetmanagementsystembackend.repository.ITransportRepository;
+import com.damocles.fleet.fleetmanagementsystembackend.util.KeysetCursor;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -30,6 +34,8 @@ public class CargoService implements ICargoService {
     private final ICargoRepository cargoRepository;
     private final ITransportRepository transportRepository;
     private final ICargoMapper cargoMapper;
+    private final ChangeRecorder changeRecorder;
+    private final DriverSyncService driverSyncService;
 
     @Override
     // Returns all cargo records without filtering.
@@ -51,6 +57,22 @@ public class CargoService implements ICargoService {
         return cargoRepository.search(query, pageable).map(cargoMapper::toDto);
     }
 
+    // Keyset variant of searchCargos ordered by id; never runs a count query.
+    public CursorSlice<CargoDTO> searchCargosAfter(String q, String after, int size) {
+        String query = (q == null || q.isBlank()) ? null : q.trim().toLowerCase();
+        int limit = KeysetCursor.clampSize(size);
+        KeysetCursor cursor = KeysetCursor.decode(after);
+
+        List<Cargo> rows = cargoRepository.searchAfter(
+                query,
+                cursor == null ? null : cursor.id(),
+                PageRequest.of(0, limit + 1)
+        );
+
+        return CursorSlice.of(rows, limit, cargoMapper::toDto,
+                c -> KeysetCursor.encode(null, c.getId()));
+    }
+
     @Override
     // Lists all cargo assigned to a specific transport.
     public List<CargoDTO> getCargosByTransport(Long transportId) {
@@ -86,6 +108,7 @@ public class CargoService implements ICargoService {
         Cargo cargo = cargoMapper.toEntity(req);
         cargo.setTransport(transport);
         cargoRepository.save(cargo);
+        changeRecorder.upsert(ChangeEntityType.CARGO, cargo.getId());
         return cargoMapper.toDto(cargo);
     }
 
@@ -122,6 +145,7 @@ public class CargoService implements ICargoService {
         c.setPickupDate(nextPickup);
         c.setDeliveryDate(nextDelivery);
 
+        changeRecorder.upsert(ChangeEntityType.CARGO, c.getId());
         return cargoMapper.toDto(c);
     }
 
@@ -140,8 +164,12 @@ public class CargoService implements ICargoService {
                                 " and cannot be deleted after acceptance"
                 );
             }
+            if (transport.getDriver() != null) {
+                driverSyncService.recordCargoRemoved(transport.getDriver().getUserId(), transport.getId(), id);
+            }
         }
         cargoRepository.delete(c);
+        changeRecorder.delete(ChangeEntityType.CARGO, id);
     }
 
     // Returns cargo for all transports assigned to the driver.
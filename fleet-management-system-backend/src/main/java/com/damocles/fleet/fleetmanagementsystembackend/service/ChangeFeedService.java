@@ -0,0 +1,82 @@
+package com.damocles.fleet.fleetmanagementsystembackend.service;
+
+import com.damocles.fleet.fleetmanagementsystembackend.dto.change.ChangeFeedSlice;
+import com.damocles.fleet.fleetmanagementsystembackend.dto.change.ChangeRecordDTO;
+import com.damocles.fleet.fleetmanagementsystembackend.exception.ChangeFeedExpiredException;
+import com.damocles.fleet.fleetmanagementsystembackend.repository.IChangeLogRepository;
+import com.damocles.fleet.fleetmanagementsystembackend.util.KeysetCursor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Incremental sync over change_log: a consumer reads its full state once, takes the head cursor, and from then on
+// reads only what changed after it. The cursor carries the last seen seq and when it was issued; once that is
+// older than the retention window, entries the consumer never saw may be pruned and it has to resync (410).
+@Service
+@Transactional(readOnly = true)
+public class ChangeFeedService implements IChangeFeedService {
+
+    private final IChangeLogRepository changeLogRepository;
+    private final Duration retention;
+
+    public ChangeFeedService(
+            IChangeLogRepository changeLogRepository,
+            @Value("${app.change-log.retention:P30D}") Duration retention
+    ) {
+        this.changeLogRepository = changeLogRepository;
+        this.retention = retention;
+    }
+
+    @Override
+    // Changes after the cursor in commit order, at most one entry per entity (its latest in this slice).
+    // Without a cursor the feed starts at the oldest retained entry.
+    public ChangeFeedSlice getChanges(String after, int size) {
+        int limit = KeysetCursor.clampSize(size);
+        long afterSeq = afterSeq(KeysetCursor.decode(after));
+        Instant now = Instant.now();
+
+        List<ChangeRecordDTO> rows = changeLogRepository.findSlice(afterSeq, PageRequest.of(0, limit + 1));
+        boolean hasMore = rows.size() > limit;
+        List<ChangeRecordDTO> page = hasMore ? rows.subList(0, limit) : rows;
+        long lastSeq = page.isEmpty() ? afterSeq : page.get(page.size() - 1).seq();
+
+        return new ChangeFeedSlice(latestPerEntity(page), KeysetCursor.encode(now, lastSeq), hasMore);
+    }
+
+    @Override
+    // Cursor positioned after everything committed so far.
+    public String getHeadCursor() {
+        return KeysetCursor.encode(Instant.now(), changeLogRepository.findHeadSeq());
+    }
+
+    private long afterSeq(KeysetCursor cursor) {
+        if (cursor == null) return 0L;
+        Instant issuedAt;
+        try {
+            issuedAt = Instant.parse(cursor.key());
+        } catch (DateTimeParseException | NullPointerException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        if (issuedAt.isBefore(Instant.now().minus(retention))) throw new ChangeFeedExpiredException();
+        return cursor.id();
+    }
+
+    private static List<ChangeRecordDTO> latestPerEntity(List<ChangeRecordDTO> page) {
+        Map<String, ChangeRecordDTO> latest = new LinkedHashMap<>();
+        for (ChangeRecordDTO r : page) {
+            String key = r.type() + ":" + r.id();
+            latest.remove(key);
+            latest.put(key, r);
+        }
+        return new ArrayList<>(latest.values());
+    }
+}
@@ -0,0 +1,47 @@
+package com.damocles.fleet.fleetmanagementsystembackend.service;
+
+import com.damocles.fleet.fleetmanagementsystembackend.repository.IChangeLogRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+
+// Keeps change_log small: entries superseded by a newer one for the same entity are deleted once older than
+// compact-after (a consumer behind them still gets the newer entry), and everything older than retention is
+// deleted; ChangeFeedService turns cursors older than retention away, so no consumer silently misses a change.
+@Slf4j
+@Component
+public class ChangeLogCompaction {
+
+    private final IChangeLogRepository changeLogRepository;
+    private final Duration compactAfter;
+    private final Duration retention;
+
+    public ChangeLogCompaction(
+            IChangeLogRepository changeLogRepository,
+            @Value("${app.change-log.compact-after:PT1H}") Duration compactAfter,
+            @Value("${app.change-log.retention:P30D}") Duration retention
+    ) {
+        this.changeLogRepository = changeLogRepository;
+        this.compactAfter = compactAfter;
+        this.retention = retention;
+    }
+
+    @Scheduled(cron = "${app.change-log.compaction-cron:0 15 * * * *}", zone = "UTC")
+    // Compacts and prunes the change log.
+    public void compact() {
+        compact(Instant.now());
+    }
+
+    // Same, with now as the reference time.
+    public void compact(Instant now) {
+        int superseded = changeLogRepository.deleteSuperseded(now.minus(compactAfter));
+        int expired = changeLogRepository.deleteOlderThan(now.minus(retention));
+        if (superseded > 0 || expired > 0) {
+            log.info("Change log compaction removed {} superseded and {} expired entries", superseded, expired);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.damocles.fleet.fleetmanagementsystembackend.service;
+
+import com.damocles.fleet.fleetmanagementsystembackend.domain.ChangeEntityType;
+import com.damocles.fleet.fleetmanagementsystembackend.domain.ChangeLogEntry;
+import com.damocles.fleet.fleetmanagementsystembackend.domain.ChangeOperation;
+import com.damocles.fleet.fleetmanagementsystembackend.repository.IChangeLogRepository;
+import com.damocles.fleet.fleetmanagementsystembackend.util.TransactionBuffer;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+// Writes the change_log outbox in the transaction that made the change. Changes are collected per transaction,
+// one per entity (the last operation wins), and appended as one batch just before commit (TransactionBuffer), so
+// a rolled back change is never in the feed and a committed one always is. Outside a transaction the entry is
+// written at once. Once the changes are committed a ChangesCommittedEvent goes out, e.g. to end
+// RequestCoalescer's read sharing.
+@Component
+public class ChangeRecorder {
+
+    private final IChangeLogRepository changeLogRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionBuffer<ChangeLogEntry> pending;
+
+    public ChangeRecorder(IChangeLogRepository changeLogRepository, ApplicationEventPublisher eventPublisher) {
+        this.changeLogRepository = changeLogRepository;
+        this.eventPublisher = eventPublisher;
+        this.pending = new TransactionBuffer<>(e -> e.getEntityType() + ":" + e.getEntityId(),
+                this::append, this::committed);
+    }
+
+    public void upsert(ChangeEntityType type, Long id) {
+        record(type, id, ChangeOperation.UPSERT);
+    }
+
+    public void delete(ChangeEntityType type, Long id) {
+        record(type, id, ChangeOperation.DELETE);
+    }
+
+    private void record(ChangeEntityType type, Long id, ChangeOperation operation) {
+        if (id == null) return;
+        pending.add(ChangeLogEntry.builder()
+                .entityType(type)
+                .entityId(id)
+                .operation(operation)
+                .build());
+    }
+
+    private void append(List<ChangeLogEntry> entries) {
+        Instant now = Instant.now();
+        entries.forEach(e -> e.setChangedAt(now));
+        changeLogRepository.appendAll(entries);
+    }
+
+    private void committed(List<ChangeLogEntry> entries) {
+        Set<ChangeEntityType> types = EnumSet.noneOf(ChangeEntityType.class);
+        entries.forEach(e -> types.add(e.getEntityType()));
+        eventPublisher.publishEvent(new ChangesCommittedEvent(types));
+    }
+}
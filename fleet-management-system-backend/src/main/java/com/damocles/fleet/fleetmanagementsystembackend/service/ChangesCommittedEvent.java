@@ -0,0 +1,9 @@
+package com.damocles.fleet.fleetmanagementsystembackend.service;
+
+import com.damocles.fleet.fleetmanagementsystembackend.domain.ChangeEntityType;
+
+import java.util.Set;
+
+// Published by ChangeRecorder once the changes it recorded are committed; carries the entity types they touched.
+public record ChangesCommittedEvent(Set<ChangeEntityType> entityTypes) {
+}
@@ -1,8 +1,10 @@
 package com.damocles.fleet.fleetmanagementsystembackend.service;
 
+import com.damocles.fleet.fleetmanagementsystembackend.domain.ChangeEntityType;
 import com.damocles.fleet.fleetmanagementsystembackend.domain.Driver;
 import com.damocles.fleet.fleetmanagementsystembackend.domain.DriverStatus;
 import com.damocles.fleet.fleetmanagementsystembackend.domain.User;
+import com.damocles.fleet.fleetmanagementsystembackend.dto.common.CursorSlice;
 import com.damocles.fleet.fleetmanagementsystembackend.dto.driver.CreateDriverRequest;
 import com.damocles.fleet.fleetmanagementsystembackend.dto.driver.DriverDTO;
 import com.damocles.fleet.fleetmanagementsystembackend.dto.driver.UpdateDriverRequest;
@@ -15,13 +17,19 @@ import com.damocles.fleet.fleetmanagementsystembackend.repository.IDriverWorkLog
 import com.damocles.fleet.fleetmanagementsystembackend.repository.IDriverRepository;
 import com.damocles.fleet.fleetmanagementsystembackend.repository.ITransportRepository;
 import com.damocles.fleet.fleetmanagementsystembackend.repository.IUserRepository;
+import com.damocles.fleet.fleetmanagementsystembackend.security.PrincipalContextCache;
+import com.damocles.fleet.fleetmanagementsystembackend.util.BatchEnricher;
+import com.damocles.fleet.fleetmanagementsystembackend.util.KeysetCursor;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.Set;
 
 
 @Service
@@ -34,6 +42,9 @@ public class DriverService implements IDriverService {
     private final IDriverMapper driverMapper;
     private final ITransportRepository transportRepository;
     private final IDriverWorkLogRepository driverWorkLogRepository;
+    private final ResourceAvailabilityRegistry availabilityRegistry;
+    private final PrincipalContextCache principalContextCache;
+    private final ChangeRecorder changeRecorder;
 
     // Resolves a list of drivers by id with a defensive size limit.
     public List<DriverDTO> getDriversByIds(List<Long> ids) {
@@ -43,18 +54,13 @@ public class DriverService implements IDriverService {
             throw new BusinessValidationException("Too many ids (max 200)");
         }
 
-        return driverRepository.findAllById(ids).stream()
-                .map(this::enrichDriver)
-                .toList();
+        return enrichDrivers(driverRepository.findAllById(ids));
     }
 
     @Override
     // Returns all drivers without filtering.
     public List<DriverDTO> getAllDrivers() {
-        return driverRepository.findAll()
-                .stream()
-                .map(this::enrichDriver)
-                .toList();
+        return enrichDrivers(driverRepository.findAll());
     }
 
     @Override
@@ -83,6 +89,8 @@ public class DriverService implements IDriverService {
         driver.setUser(user);
 
         driverRepository.save(driver);
+        principalContextCache.invalidateUserAfterCommit(user.getId());
+        changeRecorder.upsert(ChangeEntityType.DRIVER, user.getId());
         return enrichDriver(driver);
     }
 
@@ -102,6 +110,7 @@ public class DriverService implements IDriverService {
         }
 
         driverMapper.updateDriverFromDto(req, driver);
+        changeRecorder.upsert(ChangeEntityType.DRIVER, userId);
         return enrichDriver(driver);
     }
 
@@ -117,12 +126,14 @@ public class DriverService implements IDriverService {
             throw new BusinessValidationException("Driver has work logs and cannot be deleted");
         }
         driverRepository.delete(driver);
+        principalContextCache.invalidateUserAfterCommit(driver.getUserId());
+        changeRecorder.delete(ChangeEntityType.DRIVER, driver.getUserId());
     }
 
-    // Returns drivers that are currently available.
-    public List<DriverDTO> getAvailableDrivers() {
-        return driverRepository.findAvailable()
-                .stream().map(driverMapper::toDto).toList();
+    // Returns usable drivers with no active booking, or none overlapping [from, to) when a window is given.
+    public List<DriverDTO> getAvailableDrivers(Instant from, Instant to) {
+        return enrichDrivers(availabilityRegistry.freeDrivers(
+                driverRepository.findByDriverStatus(DriverStatus.AVAILABLE), Driver::getUserId, from, to));
     }
 
     // Searches drivers by a free-text query with paging.
@@ -130,12 +141,27 @@ public class DriverService implements IDriverService {
         String query = (q == null || q.isBlank()) ? null : q.trim().toLowerCase();
 
         if (query == null) {
-            return driverRepository.findAll(pageable)
-                    .map(this::enrichDriver);
+            return BatchEnricher.page(driverRepository.findAll(pageable), this::enrichDrivers);
         }
 
-        return driverRepository.search(query, pageable)
-                .map(this::enrichDriver);
+        return BatchEnricher.page(driverRepository.search(query, pageable), this::enrichDrivers);
+    }
+
+    // Keyset variant of searchDrivers ordered by last name and id; never runs a count query.
+    public CursorSlice<DriverDTO> searchDriversAfter(String q, String after, int size) {
+        String query = (q == null || q.isBlank()) ? null : q.trim().toLowerCase();
+        int limit = KeysetCursor.clampSize(size);
+        KeysetCursor cursor = KeysetCursor.decode(after);
+
+        List<Driver> rows = driverRepository.searchAfter(
+                query,
+                cursor == null ? null : cursor.key(),
+                cursor == null ? null : cursor.id(),
+                PageRequest.of(0, limit + 1)
+        );
+
+        return CursorSlice.ofBatch(rows, limit, this::enrichDrivers,
+                d -> KeysetCursor.encode(d.getUser().getLastName(), d.getUserId()));
     }
 
     @Transactional
@@ -146,18 +172,34 @@ public class DriverService implements IDriverService {
 
         // Rule: driver cannot be AVAILABLE if he has active transport
         if (status == DriverStatus.AVAILABLE &&
-                transportRepository.existsActiveTransportByDriver(userId)) {
+                availabilityRegistry.activeTransportOfDriver(userId).isPresent()) {
             throw new BusinessValidationException("Driver is assigned to active transport");
         }
 
         driver.setDriverStatus(status);
+        changeRecorder.upsert(ChangeEntityType.DRIVER, userId);
         return enrichDriver(driver);
     }
 
     private DriverDTO enrichDriver(Driver driver) {
+        return enrichDrivers(List.of(driver)).get(0);
+    }
+
+    // Resolves usage flags for all drivers with one query per flag.
+    private List<DriverDTO> enrichDrivers(List<Driver> drivers) {
+        if (drivers.isEmpty()) return List.of();
+
+        List<Long> ids = BatchEnricher.ids(drivers, Driver::getUserId);
+        Set<Long> withTransports = BatchEnricher.inChunks(ids, transportRepository::findDriverIdsWithTransports);
+        Set<Long> withWorkLogs = BatchEnricher.inChunks(ids, driverWorkLogRepository::findDriverIdsWithWorkLogs);
+
+        return drivers.stream()
+                .map(d -> toDto(d, withTransports.contains(d.getUserId()), withWorkLogs.contains(d.getUserId())))
+                .toList();
+    }
+
+    private DriverDTO toDto(Driver driver, boolean hasTransports, boolean hasWorkLogs) {
         DriverDTO base = driverMapper.toDto(driver);
-        boolean hasTransports = transportRepository.existsByDriver_UserId(driver.getUserId());
-        boolean hasWorkLogs = driverWorkLogRepository.existsByDriver_UserId(driver.getUserId());
         return new DriverDTO(
                 base.userId(),
                 base.firstName(),
@@ -0,0 +1,165 @@
+package com.damocles.fleet.fleetmanagementsystembackend.service;
+
+import com.damocles.fleet.fleetmanagementsystembackend.domain.Cargo;
+import com.damocles.fleet.fleetmanagementsystembackend.domain.ChangeEntityType;
+import com.damocles.fleet.fleetmanagementsystembackend.domain.DriverSyncTombstone;
+import com.damocles.fleet.fleetmanagementsystembackend.domain.Transport;
+import com.damocles.fleet.fleetmanagementsystembackend.dto.cargo.CargoDTO;
+import com.damocles.fleet.fleetmanagementsystembackend.dto.driver.DriverSyncDTO;
+import com.damocles.fleet.fleetmanagementsystembackend.dto.driver.SyncTombstoneDTO;
+import com.damocles.fleet.fleetmanagementsystembackend.dto.transport.TransportDTO;
+import com.damocles.fleet.fleetmanagementsystembackend.mapper.ITransportMapper;
+import com.damocles.fleet.fleetmanagementsystembackend.repository.ICargoRepository;
+import com.damocles.fleet.fleetmanagementsystembackend.repository.IChangeLogRepository;
+import com.damocles.fleet.fleetmanagementsystembackend.repository.IDriverSyncTombstoneRepository;
+import com.damocles.fleet.fleetmanagementsystembackend.repository.ITransportRepository;
+import com.damocles.fleet.fleetmanagementsystembackend.util.KeysetCursor;
+import com.damocles.fleet.fleetmanagementsystembackend.util.TransportSpecifications;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+// Delta sync for the driver app, driven by change_log. The watermark is the change_log head seq at the time of
+// the previous sync; since seq order is commit order, a sync reads the driver's transports and cargo with an
+// entry after it, plus the tombstones of rows that left the driver's view and have one too. Nothing committed
+// later can show up behind the watermark. A watermark older than the change_log retention may point past pruned
+// entries, so it gets a full snapshot instead.
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class DriverSyncService implements IDriverSyncService {
+
+    private static final Sort SYNC_SORT = Sort.by(Sort.Direction.DESC, "plannedStartAt");
+    // a removal is stamped before its transaction commits, so it can be a little older than the watermark
+    // that first has to report it
+    private static final Duration PRUNE_GRACE = Duration.ofHours(1);
+
+    private final ITransportRepository transportRepository;
+    private final ICargoRepository cargoRepository;
+    private final IDriverSyncTombstoneRepository tombstoneRepository;
+    private final IChangeLogRepository changeLogRepository;
+    private final ITransportMapper transportMapper;
+    private final Duration retention;
+
+    public DriverSyncService(
+            ITransportRepository transportRepository,
+            ICargoRepository cargoRepository,
+            IDriverSyncTombstoneRepository tombstoneRepository,
+            IChangeLogRepository changeLogRepository,
+            ITransportMapper transportMapper,
+            @Value("${app.change-log.retention:P30D}") Duration retention
+    ) {
+        this.transportRepository = transportRepository;
+        this.cargoRepository = cargoRepository;
+        this.tombstoneRepository = tombstoneRepository;
+        this.changeLogRepository = changeLogRepository;
+        this.transportMapper = transportMapper;
+        this.retention = retention;
+    }
+
+    @Override
+    // Transports and cargo changed for the driver since the watermark, and what to drop; without a usable
+    // watermark the complete state with full set.
+    public DriverSyncDTO sync(Long driverId, String since) {
+        Instant now = Instant.now();
+        // read before the rows, so whatever commits in between is reported (again) next time rather than never
+        long head = changeLogRepository.findHeadSeq();
+        Long afterSeq = afterSeq(KeysetCursor.decode(since), now);
+        boolean full = afterSeq == null;
+
+        List<TransportDTO> transports = transportRepository.findRows(
+                        Specification.allOf(
+                                TransportSpecifications.hasDriver(driverId),
+                                TransportSpecifications.changedAfter(afterSeq)),
+                        SYNC_SORT,
+                        Limit.unlimited())
+                .stream()
+                .map(transportMapper::toDto)
+                .toList();
+        // a cargo edit records a CARGO entry only, so this runs even when no transport changed
+        List<CargoDTO> cargos = cargoRepository.findForDriverChangedAfter(driverId, afterSeq);
+        List<SyncTombstoneDTO> removed = full
+                ? List.of()
+                : stillRemoved(tombstoneRepository.findForDriverChangedAfter(driverId, afterSeq), transports, cargos);
+
+        return new DriverSyncDTO(KeysetCursor.encode(now, head), full, transports, cargos, removed);
+    }
+
+    @Transactional
+    // Records that the transport and its cargo left the driver's view (deleted or reassigned).
+    public void recordTransportRemoved(Long driverId, Transport transport) {
+        if (driverId == null) return;
+        Instant now = Instant.now();
+        List<DriverSyncTombstone> tombstones = new ArrayList<>();
+        tombstones.add(tombstone(driverId, ChangeEntityType.TRANSPORT, transport.getId(), transport.getId(), now));
+        for (Cargo c : transport.getCargos()) {
+            tombstones.add(tombstone(driverId, ChangeEntityType.CARGO, c.getId(), transport.getId(), now));
+        }
+        tombstoneRepository.saveAll(tombstones);
+    }
+
+    @Transactional
+    // Records that a cargo of one of the driver's transports was deleted.
+    public void recordCargoRemoved(Long driverId, Long transportId, Long cargoId) {
+        if (driverId == null) return;
+        tombstoneRepository.save(tombstone(driverId, ChangeEntityType.CARGO, cargoId, transportId, Instant.now()));
+    }
+
+    @Scheduled(cron = "${app.driver-sync.prune-cron:0 45 * * * *}", zone = "UTC")
+    // Deletes tombstones no incremental sync can ask for any more.
+    public void pruneTombstones() {
+        int pruned = tombstoneRepository.deleteOlderThan(Instant.now().minus(retention).minus(PRUNE_GRACE));
+        if (pruned > 0) log.info("Driver sync pruning removed {} tombstones", pruned);
+    }
+
+    // Seq to sync after, or null for a full snapshot (no watermark, or one issued before the retention window).
+    private Long afterSeq(KeysetCursor cursor, Instant now) {
+        if (cursor == null) return null;
+        Instant issuedAt;
+        try {
+            issuedAt = Instant.parse(cursor.key());
+        } catch (DateTimeParseException | NullPointerException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        return issuedAt.isBefore(now.minus(retention)) ? null : cursor.id();
+    }
+
+    private static DriverSyncTombstone tombstone(Long driverId, ChangeEntityType type, Long id, Long transportId,
+                                                 Instant at) {
+        return DriverSyncTombstone.builder()
+                .driverId(driverId)
+                .entityType(type)
+                .entityId(id)
+                .transportId(transportId)
+                .removedAt(at)
+                .build();
+    }
+
+    // A row removed and then handed back to the driver within the window is sent as an upsert only.
+    private static List<SyncTombstoneDTO> stillRemoved(List<SyncTombstoneDTO> tombstones,
+                                                       List<TransportDTO> transports, List<CargoDTO> cargos) {
+        if (tombstones.isEmpty()) return tombstones;
+        Set<Long> transportIds = new HashSet<>();
+        transports.forEach(t -> transportIds.add(t.id()));
+        Set<Long> cargoIds = new HashSet<>();
+        cargos.forEach(c -> cargoIds.add(c.id()));
+        return tombstones.stream()
+                .filter(x -> x.type() == ChangeEntityType.TRANSPORT
+                        ? !transportIds.contains(x.id())
+                        : !cargoIds.contains(x.id()))
+                .toList();
+    }
+}
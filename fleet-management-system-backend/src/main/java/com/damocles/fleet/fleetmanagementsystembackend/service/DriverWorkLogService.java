@@ -1,5 +1,6 @@
 package com.damocles.fleet.fleetmanagementsystembackend.service;
 import com.damocles.fleet.fleetmanagementsystembackend.domain.ActivityType;
+import com.damocles.fleet.fleetmanagementsystembackend.domain.ChangeEntityType;
 import com.damocles.fleet.fleetmanagementsystembackend.domain.Driver;
 import com.damocles.fleet.fleetmanagementsystembackend.domain.DriverWorkLog;
 import com.damocles.fleet.fleetmanagementsystembackend.domain.Transport;
@@ -25,6 +26,7 @@ public class DriverWorkLogService implements IDriverWorkLogService {
     private final IDriverRepository driverRepository;
     private final ITransportRepository transportRepository;
     private final IDriverWorkLogMapper mapper;
+    private final ChangeRecorder changeRecorder;
 
     @Override
     // Returns all work log entries.
@@ -80,6 +82,7 @@ public class DriverWorkLogService implements IDriverWorkLogService {
         log.setActivityType(type);
 
         driverWorkLogRepository.save(log);
+        changeRecorder.upsert(ChangeEntityType.WORK_LOG, log.getId());
         return mapper.toDto(log);
     }
 
@@ -104,6 +107,7 @@ public class DriverWorkLogService implements IDriverWorkLogService {
         log.setDriver(driver);
         log.setTransport(transport);
         log.setActivityType(type);
+        changeRecorder.upsert(ChangeEntityType.WORK_LOG, log.getId());
         return mapper.toDto(log);
     }
 
@@ -113,6 +117,7 @@ public class DriverWorkLogService implements IDriverWorkLogService {
         DriverWorkLog log = driverWorkLogRepository.findById(id)
                 .orElseThrow(() -> new DriverWorkLogNotFoundException(id));
         driverWorkLogRepository.delete(log);
+        changeRecorder.delete(ChangeEntityType.WORK_LOG, id);
     }
 
     private void validateDates(java.time.Instant start, java.time.Instant end) {
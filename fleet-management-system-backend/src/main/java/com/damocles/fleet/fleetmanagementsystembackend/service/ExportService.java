@@ -0,0 +1,71 @@
+package com.damocles.fleet.fleetmanagementsystembackend.service;
+
+import com.damocles.fleet.fleetmanagementsystembackend.domain.TransportStatus;
+import com.damocles.fleet.fleetmanagementsystembackend.dto.cargo.CargoDTO;
+import com.damocles.fleet.fleetmanagementsystembackend.dto.driverWorkLog.DriverWorkLogDTO;
+import com.damocles.fleet.fleetmanagementsystembackend.dto.loginHistory.LoginHistoryDTO;
+import com.damocles.fleet.fleetmanagementsystembackend.dto.transport.TransportDTO;
+import com.damocles.fleet.fleetmanagementsystembackend.mapper.ITransportMapper;
+import com.damocles.fleet.fleetmanagementsystembackend.repository.ICargoRepository;
+import com.damocles.fleet.fleetmanagementsystembackend.repository.IDriverWorkLogRepository;
+import com.damocles.fleet.fleetmanagementsystembackend.repository.ILoginHistoryRepository;
+import com.damocles.fleet.fleetmanagementsystembackend.repository.ITransportRepository;
+import com.damocles.fleet.fleetmanagementsystembackend.util.ExportFormat;
+import com.damocles.fleet.fleetmanagementsystembackend.util.RecordExportWriter;
+import com.damocles.fleet.fleetmanagementsystembackend.util.TransportSpecifications;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Instant;
+import java.util.stream.Stream;
+
+// Full-table exports. Each one reads a DTO projection through a forward-only cursor inside a read-only
+// transaction (PostgreSQL only honours the fetch size with autocommit off) and writes rows as they arrive.
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ExportService {
+
+    private final ITransportRepository transportRepository;
+    private final ICargoRepository cargoRepository;
+    private final IDriverWorkLogRepository driverWorkLogRepository;
+    private final ILoginHistoryRepository loginHistoryRepository;
+    private final ITransportMapper transportMapper;
+    private final RecordExportWriter writer;
+
+    // Same filters as TransportService.search, newest planned start first.
+    public long exportTransports(TransportStatus status, Long driverId, Long vehicleId, Instant from, Instant to,
+                                 String q, ExportFormat format, OutputStream out) throws IOException {
+        var spec = TransportSpecifications.withFilters(status, driverId, vehicleId, from, to, q);
+        var sort = Sort.by(Sort.Order.desc("plannedStartAt"), Sort.Order.desc("id"));
+
+        try (Stream<TransportDTO> rows = transportRepository.streamRows(spec, sort).map(transportMapper::toDto)) {
+            return writer.write(rows, TransportDTO.class, format, out);
+        }
+    }
+
+    // Same free-text filter as CargoService.searchCargos.
+    public long exportCargos(String q, ExportFormat format, OutputStream out) throws IOException {
+        String query = (q == null || q.isBlank()) ? null : q.trim().toLowerCase();
+
+        try (Stream<CargoDTO> rows = cargoRepository.streamExport(query)) {
+            return writer.write(rows, CargoDTO.class, format, out);
+        }
+    }
+
+    public long exportWorkLogs(ExportFormat format, OutputStream out) throws IOException {
+        try (Stream<DriverWorkLogDTO> rows = driverWorkLogRepository.streamExport()) {
+            return writer.write(rows, DriverWorkLogDTO.class, format, out);
+        }
+    }
+
+    public long exportLoginHistories(ExportFormat format, OutputStream out) throws IOException {
+        try (Stream<LoginHistoryDTO> rows = loginHistoryRepository.streamExport()) {
+            return writer.write(rows, LoginHistoryDTO.class, format, out);
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.damocles.fleet.fleetmanagementsystembackend.service;
+
+import com.damocles.fleet.fleetmanagementsystembackend.dto.change.ChangeFeedSlice;
+
+public interface IChangeFeedService {
+
+    ChangeFeedSlice getChanges(String after, int size);
+
+    String getHeadCursor();
+}
@@ -4,6 +4,7 @@ import com.damocles.fleet.fleetmanagementsystembackend.dto.driver.CreateDriverRe
 import com.damocles.fleet.fleetmanagementsystembackend.dto.driver.DriverDTO;
 import com.damocles.fleet.fleetmanagementsystembackend.dto.driver.UpdateDriverRequest;
 
+import java.time.Instant;
 import java.util.List;
 
 public interface IDriverService {
@@ -11,6 +12,6 @@ public interface IDriverService {
     DriverDTO getDriverById(Long id);
     DriverDTO createDriver(CreateDriverRequest req);
     DriverDTO updateDriver(Long id, UpdateDriverRequest req);
-    List<DriverDTO> getAvailableDrivers();
+    List<DriverDTO> getAvailableDrivers(Instant from, Instant to);
     void deleteDriver(Long id);
 }
\ No newline at end of file
@@ -0,0 +1,8 @@
+package com.damocles.fleet.fleetmanagementsystembackend.service;
+
+import com.damocles.fleet.fleetmanagementsystembackend.dto.driver.DriverSyncDTO;
+
+public interface IDriverSyncService {
+
+    DriverSyncDTO sync(Long driverId, String since);
+}
@@ -1,10 +1,12 @@
 package com.damocles.fleet.fleetmanagementsystembackend.service;
+import com.damocles.fleet.fleetmanagementsystembackend.dto.common.CursorSlice;
 import com.damocles.fleet.fleetmanagementsystembackend.dto.loginHistory.LoginHistoryDTO;
 
-import java.util.List;
+import java.time.Instant;
 public interface ILoginHistoryService {
-    List<LoginHistoryDTO> getAllHistories();
-    List<LoginHistoryDTO> getHistoriesByAccount(Long accountId);
+    CursorSlice<LoginHistoryDTO> getHistories(Instant from, Instant to, String after, int size);
+    CursorSlice<LoginHistoryDTO> getHistoriesByAccount(Long accountId, Instant from, Instant to, String after, int size);
     LoginHistoryDTO getHistoryById(Long id);
     void logAttempt(Long accountId, String result, String ip, String userAgent);
+    void logFailedAttempt(String login, String ip, String userAgent);
 }
@@ -5,6 +5,7 @@ import com.damocles.fleet.fleetmanagementsystembackend.dto.trailer.TrailerDTO;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.time.Instant;
 import java.util.List;
 
 public interface ITrailerService{
@@ -13,6 +14,6 @@ public interface ITrailerService{
     TrailerDTO getTrailerById(Long id);
     TrailerDTO createTrailer(CreateTrailerRequest req);
     TrailerDTO updateTrailer(Long id, CreateTrailerRequest req);
-    List<TrailerDTO> getAvailableTrailers();
+    List<TrailerDTO> getAvailableTrailers(Instant from, Instant to);
     void deleteTrailer(Long id);
 }
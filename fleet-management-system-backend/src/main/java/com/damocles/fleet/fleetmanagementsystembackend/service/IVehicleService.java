@@ -7,6 +7,7 @@ import com.damocles.fleet.fleetmanagementsystembackend.dto.vehicle.VehicleDTO;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.time.Instant;
 import java.util.List;
 
 public interface IVehicleService {
@@ -16,7 +17,7 @@ public interface IVehicleService {
     VehicleDTO getVehicleById(Long id);
     VehicleDTO createVehicle(CreateVehicleRequest req);
     VehicleDTO updateVehicle(Long id, CreateVehicleRequest req);
-    List<VehicleDTO> getAvailableVehicles();
+    List<VehicleDTO> getAvailableVehicles(Instant from, Instant to);
     void deleteVehicle(Long id);
     VehicleDTO updateStatus(Long id, VehicleStatus status);
 
@@ -7,6 +7,7 @@ import com.damocles.fleet.fleetmanagementsystembackend.exception.LocationNotFoun
 import com.damocles.fleet.fleetmanagementsystembackend.mapper.ILocationMapper;
 import com.damocles.fleet.fleetmanagementsystembackend.repository.ILocationRepository;
 import com.damocles.fleet.fleetmanagementsystembackend.repository.ITransportRepository;
+import com.damocles.fleet.fleetmanagementsystembackend.util.BatchEnricher;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -14,6 +15,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
@@ -27,10 +29,7 @@ public class LocationService implements ILocationService {
     @Override
     // Returns all locations with usage flags.
     public List<LocationDTO> getAllLocations() {
-        return locationRepository.findAll()
-                .stream()
-                .map(this::enrichLocation)
-                .toList();
+        return enrichLocations(locationRepository.findAll());
     }
 
     // Searches locations by free-text query with paging.
@@ -38,12 +37,10 @@ public class LocationService implements ILocationService {
         String query = (q == null || q.isBlank()) ? null : q.trim().toLowerCase();
 
         if (query == null) {
-            return locationRepository.findAll(pageable)
-                    .map(this::enrichLocation);
+            return BatchEnricher.page(locationRepository.findAll(pageable), this::enrichLocations);
         }
 
-        return locationRepository.searchPage(query, pageable)
-                .map(this::enrichLocation);
+        return BatchEnricher.page(locationRepository.searchPage(query, pageable), this::enrichLocations);
     }
 
     @Override
@@ -112,15 +109,28 @@ public class LocationService implements ILocationService {
     @Override
     // Searches locations without pagination for quick lookup lists.
     public List<LocationDTO> search(String location) {
-        return locationRepository.search(location).stream()
-                .map(this::enrichLocation)
-                .toList();
+        return enrichLocations(locationRepository.search(location));
     }
 
     private LocationDTO enrichLocation(Location loc) {
+        return enrichLocations(List.of(loc)).get(0);
+    }
+
+    // Resolves usage flags for all locations with one query per flag.
+    private List<LocationDTO> enrichLocations(List<Location> locations) {
+        if (locations.isEmpty()) return List.of();
+
+        List<Long> ids = BatchEnricher.ids(locations, Location::getId);
+        Set<Long> pickups = BatchEnricher.inChunks(ids, transportRepository::findPickupLocationIdsIn);
+        Set<Long> deliveries = BatchEnricher.inChunks(ids, transportRepository::findDeliveryLocationIdsIn);
+
+        return locations.stream()
+                .map(l -> toDto(l, pickups.contains(l.getId()), deliveries.contains(l.getId())))
+                .toList();
+    }
+
+    private LocationDTO toDto(Location loc, boolean usedAsPickup, boolean usedAsDelivery) {
         LocationDTO base = locationMapper.toDto(loc);
-        boolean usedAsPickup = transportRepository.existsByPickupLocation_Id(loc.getId());
-        boolean usedAsDelivery = transportRepository.existsByDeliveryLocation_Id(loc.getId());
         boolean usedInTransport = usedAsPickup || usedAsDelivery;
         return new LocationDTO(
                 base.id(),
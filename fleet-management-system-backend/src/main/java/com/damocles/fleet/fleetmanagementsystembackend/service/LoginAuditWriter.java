@@ -0,0 +1,196 @@
+package com.damocles.fleet.fleetmanagementsystembackend.service;
+
+import com.damocles.fleet.fleetmanagementsystembackend.dto.loginHistory.LoginAttempt;
+import com.damocles.fleet.fleetmanagementsystembackend.repository.ILoginHistoryRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// Takes login attempts off the login path: logins enqueue into a bounded queue and one background thread writes
+// login_histories in JDBC batches, flushing when a batch is full or its oldest attempt has waited max-delay.
+// When the queue is full a login waits up to offer-timeout (backpressure), then the overflow policy applies:
+// CALLER_RUNS writes that attempt on the login thread, DROP discards and counts it. Stopping the application
+// drains and writes whatever is still queued. With async disabled every attempt is written on the caller.
+@Slf4j
+@Component
+public class LoginAuditWriter implements SmartLifecycle {
+
+    public enum OverflowPolicy { CALLER_RUNS, DROP }
+
+    private final ILoginHistoryRepository loginHistoryRepository;
+    private final boolean async;
+    private final int batchSize;
+    private final long maxDelayMillis;
+    private final long offerTimeoutMillis;
+    private final OverflowPolicy overflowPolicy;
+
+    private final BlockingQueue<LoginAttempt> queue;
+    private final AtomicLong dropped = new AtomicLong();
+    // queued or taken by the worker but not yet written
+    private final AtomicLong unwritten = new AtomicLong();
+    private volatile boolean running;
+    // held shared by submit() and exclusively by stop(), so nothing is queued after the final drain
+    private final ReadWriteLock accepting = new ReentrantReadWriteLock();
+    private Thread worker;
+
+    public LoginAuditWriter(
+            ILoginHistoryRepository loginHistoryRepository,
+            @Value("${security.login-audit.async:true}") boolean async,
+            @Value("${security.login-audit.queue-capacity:10000}") int queueCapacity,
+            @Value("${security.login-audit.batch-size:200}") int batchSize,
+            @Value("${security.login-audit.max-delay-ms:500}") long maxDelayMillis,
+            @Value("${security.login-audit.offer-timeout-ms:20}") long offerTimeoutMillis,
+            @Value("${security.login-audit.overflow:CALLER_RUNS}") OverflowPolicy overflowPolicy
+    ) {
+        this.loginHistoryRepository = loginHistoryRepository;
+        this.async = async;
+        this.batchSize = batchSize;
+        this.maxDelayMillis = maxDelayMillis;
+        this.offerTimeoutMillis = offerTimeoutMillis;
+        this.overflowPolicy = overflowPolicy;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    }
+
+    // Queues the attempt for writing; returns false when it was dropped.
+    public boolean submit(LoginAttempt attempt) {
+        // the running check and the offer happen under the read lock, so stop() cannot drain in between
+        boolean direct;
+        accepting.readLock().lock();
+        try {
+            direct = !async || !running;
+            if (!direct) {
+                unwritten.incrementAndGet();
+                try {
+                    if (queue.offer(attempt, offerTimeoutMillis, TimeUnit.MILLISECONDS)) return true;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                unwritten.decrementAndGet();
+            }
+        } finally {
+            accepting.readLock().unlock();
+        }
+
+        if (direct || overflowPolicy == OverflowPolicy.CALLER_RUNS) {
+            write(List.of(attempt));
+            return true;
+        }
+        long total = dropped.incrementAndGet();
+        // one warning per thousand, so a storm does not also flood the log
+        if (total % 1000 == 1) log.warn("Login audit queue full, {} attempts dropped so far", total);
+        return false;
+    }
+
+    // Writes what is queued on the calling thread and waits (up to 10s) for the batch the worker holds.
+    public void flush() {
+        List<LoginAttempt> batch = new ArrayList<>();
+        while (queue.drainTo(batch, batchSize) > 0) {
+            writeQueued(batch);
+        }
+        long deadline = System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(10);
+        while (unwritten.get() > 0 && System.currentTimeMillis() < deadline) {
+            try {
+                Thread.sleep(5);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    public long droppedCount() {
+        return dropped.get();
+    }
+
+    public int pending() {
+        return queue.size();
+    }
+
+    @Override
+    public void start() {
+        if (!async || running) return;
+        running = true;
+        worker = Thread.ofPlatform().name("login-audit-writer").daemon().start(this::run);
+    }
+
+    @Override
+    // Stops accepting into the queue, lets the worker finish its batch, then writes the rest.
+    public void stop() {
+        accepting.writeLock().lock();
+        try {
+            if (!running) return;
+            running = false;
+        } finally {
+            accepting.writeLock().unlock();
+        }
+        worker.interrupt();
+        try {
+            worker.join(TimeUnit.SECONDS.toMillis(10));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // Stopped before the default phase, i.e. while the DataSource is still open.
+    @Override
+    public int getPhase() {
+        return Integer.MAX_VALUE - 1000;
+    }
+
+    private void run() {
+        List<LoginAttempt> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                LoginAttempt first = queue.poll(maxDelayMillis, TimeUnit.MILLISECONDS);
+                if (first == null) continue;
+
+                batch.add(first);
+                long deadline = System.currentTimeMillis() + maxDelayMillis;
+                while (batch.size() < batchSize) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                    long wait = deadline - System.currentTimeMillis();
+                    if (batch.size() >= batchSize || wait <= 0) break;
+
+                    LoginAttempt next = queue.poll(wait, TimeUnit.MILLISECONDS);
+                    if (next == null) break;
+                    batch.add(next);
+                }
+                writeQueued(batch);
+            } catch (InterruptedException e) {
+                // interrupted by stop(): write what was already taken, stop() drains the rest
+                if (!batch.isEmpty()) writeQueued(batch);
+            }
+        }
+    }
+
+    private void writeQueued(List<LoginAttempt> batch) {
+        write(batch);
+        unwritten.addAndGet(-batch.size());
+        batch.clear();
+    }
+
+    private void write(List<LoginAttempt> batch) {
+        try {
+            loginHistoryRepository.insertAll(batch);
+        } catch (RuntimeException e) {
+            // the audit must never break logins; the batch is lost but reported
+            log.error("Failed to write {} login history rows", batch.size(), e);
+        }
+    }
+}
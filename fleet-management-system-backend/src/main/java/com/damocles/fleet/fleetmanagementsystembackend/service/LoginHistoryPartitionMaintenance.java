@@ -0,0 +1,72 @@
+package com.damocles.fleet.fleetmanagementsystembackend.service;
+
+import com.damocles.fleet.fleetmanagementsystembackend.repository.ILoginHistoryRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+// Keeps the monthly login_histories partitions from V20 in shape: creates the current month and the next
+// months-ahead ones before rows arrive, and drops whole partitions older than retention-months instead of
+// deleting rows. Does nothing when the table is not partitioned; retention-months <= 0 keeps everything.
+@Slf4j
+@Component
+public class LoginHistoryPartitionMaintenance {
+
+    private final ILoginHistoryRepository loginHistoryRepository;
+    private final int retentionMonths;
+    private final int monthsAhead;
+
+    public LoginHistoryPartitionMaintenance(
+            ILoginHistoryRepository loginHistoryRepository,
+            @Value("${security.login-history.retention-months:12}") int retentionMonths,
+            @Value("${security.login-history.partitions-ahead:3}") int monthsAhead
+    ) {
+        this.loginHistoryRepository = loginHistoryRepository;
+        this.retentionMonths = retentionMonths;
+        this.monthsAhead = monthsAhead;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${security.login-history.maintenance-cron:0 30 3 * * *}", zone = "UTC")
+    // Creates upcoming partitions and drops expired ones.
+    public void maintain() {
+        maintain(YearMonth.now(ZoneOffset.UTC));
+    }
+
+    // Same, for the given current month.
+    public void maintain(YearMonth current) {
+        if (!loginHistoryRepository.isPartitioned()) return;
+
+        List<YearMonth> existing = loginHistoryRepository.findMonthlyPartitions();
+        Set<YearMonth> present = new HashSet<>(existing);
+
+        for (int i = 0; i <= monthsAhead; i++) {
+            YearMonth month = current.plusMonths(i);
+            if (present.contains(month)) continue;
+            try {
+                loginHistoryRepository.createMonthlyPartition(month);
+            } catch (DataAccessException e) {
+                // e.g. the default partition already holds rows for that month; they stay there
+                log.warn("Could not create login_histories partition for {}: {}", month, e.getMostSpecificCause().getMessage());
+            }
+        }
+
+        if (retentionMonths <= 0) return;
+        YearMonth oldestKept = current.minusMonths(retentionMonths);
+        for (YearMonth month : existing) {
+            if (!month.isBefore(oldestKept)) break;
+            loginHistoryRepository.dropMonthlyPartition(month);
+            log.info("Dropped login_histories partition for {}", month);
+        }
+    }
+}
@@ -1,17 +1,19 @@
 package com.damocles.fleet.fleetmanagementsystembackend.service;
-import com.damocles.fleet.fleetmanagementsystembackend.domain.Account;
 import com.damocles.fleet.fleetmanagementsystembackend.domain.LoginHistory;
+import com.damocles.fleet.fleetmanagementsystembackend.dto.common.CursorSlice;
+import com.damocles.fleet.fleetmanagementsystembackend.dto.loginHistory.LoginAttempt;
 import com.damocles.fleet.fleetmanagementsystembackend.dto.loginHistory.LoginHistoryDTO;
 import com.damocles.fleet.fleetmanagementsystembackend.exception.LoginHistoryNotFoundException;
-import com.damocles.fleet.fleetmanagementsystembackend.exception.NotFoundException;
 import com.damocles.fleet.fleetmanagementsystembackend.mapper.ILoginHistoryMapper;
-import com.damocles.fleet.fleetmanagementsystembackend.repository.IAccountRepository;
 import com.damocles.fleet.fleetmanagementsystembackend.repository.ILoginHistoryRepository;
+import com.damocles.fleet.fleetmanagementsystembackend.util.KeysetCursor;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
+import java.time.format.DateTimeParseException;
 import java.util.List;
 
 @Service
@@ -19,26 +21,27 @@ import java.util.List;
 @Transactional
 public class LoginHistoryService implements ILoginHistoryService {
 
+    // Open bounds of the [from, to) window; kept non-null so the queries stay prunable.
+    private static final Instant NO_LOWER_BOUND = Instant.EPOCH;
+    private static final Instant NO_UPPER_BOUND = Instant.parse("9999-12-31T00:00:00Z");
+
     private final ILoginHistoryRepository loginHistoryRepository;
-    private final IAccountRepository accountRepository;
     private final ILoginHistoryMapper mapper;
+    private final LoginAuditWriter loginAuditWriter;
 
     @Override
-    // Returns all login history entries.
-    public List<LoginHistoryDTO> getAllHistories() {
-        return loginHistoryRepository.findAll()
-                .stream()
-                .map(mapper::toDto)
-                .toList();
+    @Transactional(readOnly = true)
+    // Keyset slice of all login histories in [from, to), newest first.
+    public CursorSlice<LoginHistoryDTO> getHistories(Instant from, Instant to, String after, int size) {
+        return slice(null, from, to, after, size);
     }
 
     @Override
-    // Lists login histories for a given account.
-    public List<LoginHistoryDTO> getHistoriesByAccount(Long accountId) {
-        return loginHistoryRepository.findByAccount_IdOrderByLoggedAtDesc(accountId)
-                .stream()
-                .map(mapper::toDto)
-                .toList();
+    @Transactional(readOnly = true)
+    // Keyset slice of one account's login histories in [from, to), newest first.
+    public CursorSlice<LoginHistoryDTO> getHistoriesByAccount(Long accountId, Instant from, Instant to,
+                                                              String after, int size) {
+        return slice(accountId, from, to, after, size);
     }
 
     @Override
@@ -50,19 +53,41 @@ public class LoginHistoryService implements ILoginHistoryService {
     }
 
     @Override
-    // Records a login attempt with basic context details.
+    // Records a login attempt with basic context details; written asynchronously by LoginAuditWriter.
     public void logAttempt(Long accountId, String result, String ip, String userAgent) {
-        Account account = accountRepository.findById(accountId)
-                .orElseThrow(() -> new NotFoundException("Account not found: " + accountId));
+        loginAuditWriter.submit(LoginAttempt.ofAccount(accountId, result, ip, userAgent));
+    }
+
+    @Override
+    // Records a failed attempt by login; attempts for unknown logins are not recorded.
+    public void logFailedAttempt(String login, String ip, String userAgent) {
+        if (login == null || login.isBlank()) return;
+        loginAuditWriter.submit(LoginAttempt.ofLogin(login, "FAILURE", ip, userAgent));
+    }
+
+    private CursorSlice<LoginHistoryDTO> slice(Long accountId, Instant from, Instant to, String after, int size) {
+        int limit = KeysetCursor.clampSize(size);
+        KeysetCursor cursor = KeysetCursor.decode(after);
+        Instant lower = from != null ? from : NO_LOWER_BOUND;
+        Instant upper = to != null ? to : NO_UPPER_BOUND;
 
-        LoginHistory history = LoginHistory.builder()
-                .account(account)
-                .loggedAt(Instant.now())
-                .ip(ip)
-                .userAgent(userAgent)
-                .result(result)
-                .build();
+        // the first slice starts right below the upper bound
+        Instant afterAt = cursor == null ? upper : parseCursorInstant(cursor.key());
+        Long afterId = cursor == null ? Long.MIN_VALUE : cursor.id();
+
+        var page = PageRequest.of(0, limit + 1);
+        List<LoginHistoryDTO> rows = accountId == null
+                ? loginHistoryRepository.findSlice(lower, upper, afterAt, afterId, page)
+                : loginHistoryRepository.findAccountSlice(accountId, lower, upper, afterAt, afterId, page);
+        return CursorSlice.of(rows, limit, h -> h, h -> KeysetCursor.encode(h.loggedAt(), h.id()));
+    }
 
-        loginHistoryRepository.save(history);
+    private Instant parseCursorInstant(String key) {
+        if (key == null) throw new IllegalArgumentException("Invalid cursor");
+        try {
+            return Instant.parse(key);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
     }
 }
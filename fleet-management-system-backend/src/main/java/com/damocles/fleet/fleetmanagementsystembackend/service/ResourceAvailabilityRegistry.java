@@ -0,0 +1,260 @@
+package com.damocles.fleet.fleetmanagementsystembackend.service;
+
+import com.damocles.fleet.fleetmanagementsystembackend.domain.Transport;
+import com.damocles.fleet.fleetmanagementsystembackend.domain.TransportStatus;
+import com.damocles.fleet.fleetmanagementsystembackend.dto.transport.TransportAssignment;
+import com.damocles.fleet.fleetmanagementsystembackend.repository.ITransportRepository;
+import com.damocles.fleet.fleetmanagementsystembackend.util.IntervalIndex;
+import com.damocles.fleet.fleetmanagementsystembackend.util.TransactionHooks;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static com.damocles.fleet.fleetmanagementsystembackend.util.IntervalIndex.lowerBound;
+import static com.damocles.fleet.fleetmanagementsystembackend.util.IntervalIndex.upperBound;
+
+// In-process view of which vehicles, trailers and drivers are booked by a PLANNED, ACCEPTED or IN_PROGRESS transport,
+// and for which planned window. Seeded at startup, updated after commit and reconciled with the database
+// periodically, so availability lists never query transports. It only sees this instance's commits in between, so
+// it is a hint: a booking it reports is re-read from the database before a request is rejected for it, and the V18
+// exclusion constraints remain the final guard against bookings it misses.
+@Service
+public class ResourceAvailabilityRegistry {
+
+    public static final Set<TransportStatus> ACTIVE_STATUSES =
+            EnumSet.of(TransportStatus.PLANNED, TransportStatus.ACCEPTED, TransportStatus.IN_PROGRESS);
+
+    private final ITransportRepository transportRepository;
+    // refresh reads in its own transaction, so a caller's uncommitted (and possibly rolled back) change to a
+    // transport is never taken for committed state
+    private final TransactionTemplate committedRead;
+
+    private final Map<Long, TransportAssignment> activeTransports = new ConcurrentHashMap<>();
+    private final Map<Long, IntervalIndex> vehicleBookings = new ConcurrentHashMap<>();
+    private final Map<Long, IntervalIndex> trailerBookings = new ConcurrentHashMap<>();
+    private final Map<Long, IntervalIndex> driverBookings = new ConcurrentHashMap<>();
+
+    public ResourceAvailabilityRegistry(ITransportRepository transportRepository,
+                                        PlatformTransactionManager transactionManager) {
+        this.transportRepository = transportRepository;
+        this.committedRead = new TransactionTemplate(transactionManager);
+        this.committedRead.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.committedRead.setReadOnly(true);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    // Brings the registry in line with the transports table. Entries are replaced one by one rather than
+    // cleared, so concurrent checks never see an empty registry while it runs.
+    public synchronized void seed() {
+        Map<Long, TransportAssignment> current = transportRepository.findActiveAssignments().stream()
+                .collect(Collectors.toMap(TransportAssignment::transportId, Function.identity()));
+        List.copyOf(activeTransports.keySet()).stream()
+                .filter(id -> !current.containsKey(id))
+                .forEach(this::release);
+        current.values().forEach(this::record);
+    }
+
+    @Scheduled(fixedDelayString = "${app.availability.reseed-ms:300000}",
+            initialDelayString = "${app.availability.reseed-ms:300000}")
+    // Picks up changes committed by other instances or by direct SQL.
+    public void reseed() {
+        seed();
+    }
+
+    // Some active transport booking the vehicle, if any; confirmed against the database.
+    public Optional<TransportAssignment> activeTransportOfVehicle(Long vehicleId) {
+        return activeTransportOf(vehicleBookings, vehicleId);
+    }
+
+    // Some active transport booking the trailer, if any; confirmed against the database.
+    public Optional<TransportAssignment> activeTransportOfTrailer(Long trailerId) {
+        return activeTransportOf(trailerBookings, trailerId);
+    }
+
+    // Some active transport booking the driver (by user id), if any; confirmed against the database.
+    public Optional<TransportAssignment> activeTransportOfDriver(Long driverId) {
+        return activeTransportOf(driverBookings, driverId);
+    }
+
+    // True when no other active transport books the vehicle within [from, to); null bounds are open-ended.
+    // A conflict is confirmed against the database before false is returned.
+    public boolean isVehicleFree(Long vehicleId, Instant from, Instant to, Long exceptTransportId) {
+        return isFree(vehicleBookings, vehicleId, from, to, exceptTransportId);
+    }
+
+    public boolean isTrailerFree(Long trailerId, Instant from, Instant to, Long exceptTransportId) {
+        return isFree(trailerBookings, trailerId, from, to, exceptTransportId);
+    }
+
+    public boolean isDriverFree(Long driverId, Instant from, Instant to, Long exceptTransportId) {
+        return isFree(driverBookings, driverId, from, to, exceptTransportId);
+    }
+
+    // True when the driver holds an IN_PROGRESS transport other than the given one; confirmed against the database.
+    public boolean driverHasOtherTransportInProgress(Long driverId, Long exceptTransportId) {
+        if (!hasOtherInProgress(driverId, exceptTransportId)) return false;
+        refresh(driverBookings.get(driverId));
+        return hasOtherInProgress(driverId, exceptTransportId);
+    }
+
+    // Keeps the candidates with no booking in [from, to); with both bounds null, the ones with no booking at all.
+    public <T> List<T> freeVehicles(Collection<T> candidates, Function<T, Long> idOf, Instant from, Instant to) {
+        return free(vehicleBookings, candidates, idOf, from, to);
+    }
+
+    public <T> List<T> freeTrailers(Collection<T> candidates, Function<T, Long> idOf, Instant from, Instant to) {
+        return free(trailerBookings, candidates, idOf, from, to);
+    }
+
+    public <T> List<T> freeDrivers(Collection<T> candidates, Function<T, Long> idOf, Instant from, Instant to) {
+        return free(driverBookings, candidates, idOf, from, to);
+    }
+
+    // Applies the transport's current assignment once the surrounding transaction commits.
+    public void recordAfterCommit(Transport transport) {
+        TransportAssignment assignment = new TransportAssignment(
+                transport.getId(),
+                transport.getStatus(),
+                transport.getVehicle() != null ? transport.getVehicle().getId() : null,
+                transport.getTrailer() != null ? transport.getTrailer().getId() : null,
+                transport.getDriver() != null ? transport.getDriver().getUserId() : null,
+                transport.getPlannedStartAt(),
+                transport.getPlannedEndAt()
+        );
+        TransactionHooks.afterCommit(() -> record(assignment));
+    }
+
+    // Frees everything a deleted transport held once the surrounding transaction commits.
+    public void releaseAfterCommit(Long transportId) {
+        TransactionHooks.afterCommit(() -> release(transportId));
+    }
+
+    // Replaces whatever the transport booked before with its new assignment.
+    public synchronized void record(TransportAssignment assignment) {
+        release(assignment.transportId());
+        if (!ACTIVE_STATUSES.contains(assignment.status())) return;
+
+        long start = lowerBound(assignment.plannedStartAt());
+        long end = upperBound(assignment.plannedEndAt());
+
+        activeTransports.put(assignment.transportId(), assignment);
+        book(vehicleBookings, assignment.vehicleId(), assignment.transportId(), start, end);
+        book(trailerBookings, assignment.trailerId(), assignment.transportId(), start, end);
+        book(driverBookings, assignment.driverId(), assignment.transportId(), start, end);
+    }
+
+    public synchronized void release(Long transportId) {
+        TransportAssignment previous = activeTransports.remove(transportId);
+        if (previous == null) return;
+
+        unbook(vehicleBookings, previous.vehicleId(), transportId);
+        unbook(trailerBookings, previous.trailerId(), transportId);
+        unbook(driverBookings, previous.driverId(), transportId);
+    }
+
+    private Optional<TransportAssignment> activeTransportOf(Map<Long, IntervalIndex> bookings, Long resourceId) {
+        IntervalIndex index = resourceId == null ? null : bookings.get(resourceId);
+        if (index == null) return Optional.empty();
+
+        refresh(index);
+        index = bookings.get(resourceId);
+        if (index == null) return Optional.empty();
+        return index.owners()
+                .mapToObj(activeTransports::get)
+                .filter(Objects::nonNull)
+                .findFirst();
+    }
+
+    private boolean isFree(Map<Long, IntervalIndex> bookings, Long resourceId,
+                           Instant from, Instant to, Long exceptTransportId) {
+        if (isFreeLocally(bookings, resourceId, from, to, exceptTransportId)) return true;
+        refresh(bookings.get(resourceId));
+        return isFreeLocally(bookings, resourceId, from, to, exceptTransportId);
+    }
+
+    private boolean isFreeLocally(Map<Long, IntervalIndex> bookings, Long resourceId,
+                                  Instant from, Instant to, Long exceptTransportId) {
+        IntervalIndex index = resourceId == null ? null : bookings.get(resourceId);
+        if (index == null) return true;
+
+        return exceptTransportId == null
+                ? !index.overlaps(lowerBound(from), upperBound(to))
+                : !index.overlaps(lowerBound(from), upperBound(to), exceptTransportId);
+    }
+
+    private boolean hasOtherInProgress(Long driverId, Long exceptTransportId) {
+        IntervalIndex bookings = driverId == null ? null : driverBookings.get(driverId);
+        if (bookings == null) return false;
+
+        return bookings.owners()
+                .filter(id -> exceptTransportId == null || id != exceptTransportId)
+                .mapToObj(activeTransports::get)
+                .anyMatch(a -> a != null && a.status() == TransportStatus.IN_PROGRESS);
+    }
+
+    // Re-reads the transports booking one resource and applies what the database has committed about them.
+    private void refresh(IntervalIndex index) {
+        if (index == null) return;
+        List<Long> ids = index.owners().distinct().boxed().toList();
+        Map<Long, TransportAssignment> current = committedRead.execute(status ->
+                transportRepository.findAssignmentsByIds(ids).stream()
+                        .collect(Collectors.toMap(TransportAssignment::transportId, Function.identity())));
+        synchronized (this) {
+            for (Long id : ids) {
+                TransportAssignment assignment = current.get(id);
+                if (assignment == null) release(id);
+                else record(assignment);
+            }
+        }
+    }
+
+    private <T> List<T> free(Map<Long, IntervalIndex> bookings, Collection<T> candidates,
+                             Function<T, Long> idOf, Instant from, Instant to) {
+        if (from == null && to == null) {
+            return candidates.stream()
+                    .filter(c -> !bookings.containsKey(idOf.apply(c)))
+                    .toList();
+        }
+
+        long lo = lowerBound(from);
+        long hi = upperBound(to);
+        return candidates.stream()
+                .filter(c -> {
+                    IntervalIndex index = bookings.get(idOf.apply(c));
+                    return index == null || !index.overlaps(lo, hi);
+                })
+                .toList();
+    }
+
+    private void book(Map<Long, IntervalIndex> bookings, Long resourceId, Long transportId, long start, long end) {
+        if (resourceId == null) return;
+        bookings.compute(resourceId, (k, index) ->
+                (index == null ? IntervalIndex.EMPTY : index).with(transportId, start, end));
+    }
+
+    private void unbook(Map<Long, IntervalIndex> bookings, Long resourceId, Long transportId) {
+        if (resourceId == null) return;
+        bookings.computeIfPresent(resourceId, (k, index) -> {
+            IntervalIndex rest = index.without(transportId);
+            return rest.isEmpty() ? null : rest;
+        });
+    }
+}
@@ -0,0 +1,26 @@
+package com.damocles.fleet.fleetmanagementsystembackend.service;
+
+import com.damocles.fleet.fleetmanagementsystembackend.domain.TransportStatus;
+import com.damocles.fleet.fleetmanagementsystembackend.dto.statusHistory.StatusHistoryEntry;
+import com.damocles.fleet.fleetmanagementsystembackend.repository.IStatusHistoryRepository;
+import com.damocles.fleet.fleetmanagementsystembackend.util.TransactionBuffer;
+import org.springframework.stereotype.Component;
+
+// Append-only writer for status_histories. Rows reference the transport and the changing user by id, so
+// nothing is loaded to write them, and every row appended in a transaction goes in as one JDBC batch just
+// before it commits (TransactionBuffer). A failing insert still rolls the transaction back. Rows appended in a
+// transaction are not visible to queries in that same transaction. Outside a transaction a row is written
+// immediately.
+@Component
+public class StatusHistoryAppender {
+
+    private final TransactionBuffer<StatusHistoryEntry> pending;
+
+    public StatusHistoryAppender(IStatusHistoryRepository statusHistoryRepository) {
+        this.pending = new TransactionBuffer<>(statusHistoryRepository::insertEntries);
+    }
+
+    public void append(Long transportId, TransportStatus status, Long changedById) {
+        pending.add(StatusHistoryEntry.now(transportId, status, changedById));
+    }
+}
@@ -1,4 +1,5 @@
 package com.damocles.fleet.fleetmanagementsystembackend.service;
+import com.damocles.fleet.fleetmanagementsystembackend.domain.ChangeEntityType;
 import com.damocles.fleet.fleetmanagementsystembackend.domain.TransportStatus;
 import com.damocles.fleet.fleetmanagementsystembackend.domain.Trailer;
 import com.damocles.fleet.fleetmanagementsystembackend.domain.TrailerStatus;
@@ -10,13 +11,16 @@ import com.damocles.fleet.fleetmanagementsystembackend.exception.TrailerNotFound
 import com.damocles.fleet.fleetmanagementsystembackend.mapper.ITrailerMapper;
 import com.damocles.fleet.fleetmanagementsystembackend.repository.ITrailerRepository;
 import com.damocles.fleet.fleetmanagementsystembackend.repository.ITransportRepository;
+import com.damocles.fleet.fleetmanagementsystembackend.util.BatchEnricher;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
@@ -26,14 +30,13 @@ public class TrailerService implements ITrailerService {
     private final ITrailerRepository trailerRepository;
     private final ITrailerMapper trailerMapper;
     private final ITransportRepository transportRepository;
+    private final ResourceAvailabilityRegistry availabilityRegistry;
+    private final ChangeRecorder changeRecorder;
 
     @Override
     // Returns all trailers with assignment flags.
     public List<TrailerDTO> getAllTrailers() {
-        return trailerRepository.findAll()
-                .stream()
-                .map(this::enrichTrailer)
-                .toList();
+        return enrichTrailers(trailerRepository.findAll());
     }
 
     @Override
@@ -42,10 +45,10 @@ public class TrailerService implements ITrailerService {
         String query = (q == null || q.isBlank()) ? null : q.trim().toLowerCase();
 
         if (query == null) {
-            return trailerRepository.findAll(pageable).map(this::enrichTrailer);
+            return BatchEnricher.page(trailerRepository.findAll(pageable), this::enrichTrailers);
         }
 
-        return trailerRepository.search(query, pageable).map(this::enrichTrailer);
+        return BatchEnricher.page(trailerRepository.search(query, pageable), this::enrichTrailers);
     }
 
     @Override
@@ -61,6 +64,7 @@ public class TrailerService implements ITrailerService {
     public TrailerDTO createTrailer(CreateTrailerRequest req) {
         Trailer trailer = trailerMapper.toEntity(req);
         trailerRepository.save(trailer);
+        changeRecorder.upsert(ChangeEntityType.TRAILER, trailer.getId());
         return enrichTrailer(trailer);
     }
 
@@ -70,16 +74,15 @@ public class TrailerService implements ITrailerService {
         Trailer trailer = trailerRepository.findById(id)
                 .orElseThrow(() -> new TrailerNotFoundException(id));
         trailerMapper.updateTrailerFromDto(req, trailer);
+        changeRecorder.upsert(ChangeEntityType.TRAILER, id);
         return enrichTrailer(trailer);
     }
 
     @Override
-    // Returns trailers that are currently available.
-    public List<TrailerDTO> getAvailableTrailers() {
-        return trailerRepository.findAvailable()
-                .stream()
-                .map(this::enrichTrailer)
-                .toList();
+    // Returns usable trailers with no active booking, or none overlapping [from, to) when a window is given.
+    public List<TrailerDTO> getAvailableTrailers(Instant from, Instant to) {
+        return enrichTrailers(availabilityRegistry.freeTrailers(
+                trailerRepository.findByTrailerStatus(TrailerStatus.ACTIVE), Trailer::getId, from, to));
     }
 
     @Override
@@ -91,6 +94,7 @@ public class TrailerService implements ITrailerService {
             throw new BusinessValidationException("Trailer is assigned to a transport and cannot be deleted");
         }
         trailerRepository.delete(trailer);
+        changeRecorder.delete(ChangeEntityType.TRAILER, id);
     }
 
     @Transactional
@@ -107,16 +111,32 @@ public class TrailerService implements ITrailerService {
         }
 
         t.setTrailerStatus(status);
+        changeRecorder.upsert(ChangeEntityType.TRAILER, id);
         return enrichTrailer(t);
     }
 
     private TrailerDTO enrichTrailer(Trailer t) {
-        TrailerDTO base = trailerMapper.toDto(t);
-        boolean assigned = transportRepository.existsByTrailer_Id(t.getId());
-        boolean inProgress = transportRepository.existsByTrailer_IdAndStatusIn(
-                t.getId(),
+        return enrichTrailers(List.of(t)).get(0);
+    }
+
+    // Resolves assignment flags for all trailers with one query per flag.
+    private List<TrailerDTO> enrichTrailers(List<Trailer> trailers) {
+        if (trailers.isEmpty()) return List.of();
+
+        List<Long> ids = BatchEnricher.ids(trailers, Trailer::getId);
+        Set<Long> assigned = BatchEnricher.inChunks(ids, transportRepository::findTrailerIdsWithTransports);
+        Set<Long> inProgress = BatchEnricher.inChunks(ids, chunk -> transportRepository.findTrailerIdsWithStatusIn(
+                chunk,
                 List.of(TransportStatus.ACCEPTED, TransportStatus.IN_PROGRESS)
-        );
+        ));
+
+        return trailers.stream()
+                .map(t -> toDto(t, assigned.contains(t.getId()), inProgress.contains(t.getId())))
+                .toList();
+    }
+
+    private TrailerDTO toDto(Trailer t, boolean assigned, boolean inProgress) {
+        TrailerDTO base = trailerMapper.toDto(t);
         return new TrailerDTO(
                 base.id(),
                 base.name(),
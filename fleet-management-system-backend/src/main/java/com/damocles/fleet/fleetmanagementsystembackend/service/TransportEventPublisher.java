@@ -0,0 +1,54 @@
+package com.damocles.fleet.fleetmanagementsystembackend.service;
+
+import com.damocles.fleet.fleetmanagementsystembackend.dto.transport.TransportEvent;
+import com.damocles.fleet.fleetmanagementsystembackend.dto.transport.TransportEventBatch;
+import com.damocles.fleet.fleetmanagementsystembackend.util.TransactionHooks;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// Collects transport events once their transaction commits, for the push channel to drain in batches. The queue
+// is bounded: when it is full the event is dropped (app.push.dropped-events) and the next batch asks clients to
+// resync, so a burst nobody drains cannot grow the heap.
+@Component
+public class TransportEventPublisher {
+
+    private final BlockingQueue<TransportEvent> queue;
+    private final AtomicBoolean overflowed = new AtomicBoolean();
+    private final Counter droppedEvents;
+
+    public TransportEventPublisher(
+            MeterRegistry meterRegistry,
+            @Value("${app.push.queue-capacity:10000}") int queueCapacity
+    ) {
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        Gauge.builder("app.push.pending-events", queue, BlockingQueue::size).register(meterRegistry);
+        this.droppedEvents = Counter.builder("app.push.dropped-events").register(meterRegistry);
+    }
+
+    // Queues the event after the surrounding commit; a rolled back change is never pushed.
+    public void publishAfterCommit(TransportEvent event) {
+        TransactionHooks.afterCommit(() -> offer(event));
+    }
+
+    // Everything queued so far, oldest first.
+    public TransportEventBatch drain() {
+        List<TransportEvent> events = new ArrayList<>(queue.size());
+        queue.drainTo(events);
+        return new TransportEventBatch(events, overflowed.getAndSet(false));
+    }
+
+    private void offer(TransportEvent event) {
+        if (queue.offer(event)) return;
+        overflowed.set(true);
+        droppedEvents.increment();
+    }
+}
@@ -0,0 +1,306 @@
+package com.damocles.fleet.fleetmanagementsystembackend.service;
+
+import com.damocles.fleet.fleetmanagementsystembackend.domain.*;
+import com.damocles.fleet.fleetmanagementsystembackend.dto.transport.CreateTransportRequest;
+import com.damocles.fleet.fleetmanagementsystembackend.dto.transport.TransportImportError;
+import com.damocles.fleet.fleetmanagementsystembackend.dto.transport.TransportImportReport;
+import com.damocles.fleet.fleetmanagementsystembackend.exception.NotFoundException;
+import com.damocles.fleet.fleetmanagementsystembackend.repository.*;
+import com.damocles.fleet.fleetmanagementsystembackend.util.IntervalIndex;
+import com.damocles.fleet.fleetmanagementsystembackend.util.TransportImportReader;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static com.damocles.fleet.fleetmanagementsystembackend.util.IntervalIndex.lowerBound;
+import static com.damocles.fleet.fleetmanagementsystembackend.util.IntervalIndex.upperBound;
+
+// Bulk transport import. The upload is read in chunks of CHUNK_SIZE lines; each chunk resolves its vehicle, trailer,
+// driver and location ids with one query per type, applies the createTransport rules and inserts the accepted
+// transports and their PLANNED history rows as JDBC batches in its own transaction.
+@Service
+@RequiredArgsConstructor
+public class TransportImportService {
+
+    public static final int MAX_REPORTED_ERRORS = 1000;
+    private static final int CHUNK_SIZE = 1000;
+
+    private final ITransportRepository transportRepository;
+    private final IStatusHistoryRepository statusHistoryRepository;
+    private final IUserRepository userRepository;
+    private final IVehicleRepository vehicleRepository;
+    private final ITrailerRepository trailerRepository;
+    private final IDriverRepository driverRepository;
+    private final ILocationRepository locationRepository;
+    private final ResourceAvailabilityRegistry availabilityRegistry;
+    private final ChangeRecorder changeRecorder;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final PlatformTransactionManager transactionManager;
+
+    // Imports every valid line as a PLANNED transport; invalid lines are reported and skipped.
+    public TransportImportReport importTransports(InputStream body, TransportImportReader.Format format,
+                                                  Long createdByUserId) {
+        User creator = userRepository.findById(createdByUserId)
+                .orElseThrow(() -> new NotFoundException("User id not found: " + createdByUserId));
+
+        var reader = new TransportImportReader(
+                new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8)), format, objectMapper);
+        var run = new ImportRun(creator);
+
+        List<TransportImportReader.Line> chunk = new ArrayList<>(CHUNK_SIZE);
+        for (var line = reader.next(); line != null; line = reader.next()) {
+            chunk.add(line);
+            if (chunk.size() == CHUNK_SIZE) {
+                run.importChunk(chunk);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) run.importChunk(chunk);
+
+        return run.report();
+    }
+
+    // State of one import: id lookups shared by all chunks, counters and the reported errors.
+    private final class ImportRun {
+
+        private final User creator;
+        private final TransactionTemplate tx = new TransactionTemplate(transactionManager);
+
+        private final Lookup<Vehicle> vehicles = new Lookup<>(vehicleRepository::findAllById, Vehicle::getId);
+        private final Lookup<Trailer> trailers = new Lookup<>(trailerRepository::findAllById, Trailer::getId);
+        private final Lookup<Driver> drivers = new Lookup<>(driverRepository::findAllById, Driver::getUserId);
+        private final Lookup<Location> locations = new Lookup<>(locationRepository::findAllById, Location::getId);
+
+        // Bookings of the chunk being validated; earlier chunks are already in the availability registry.
+        private final Map<Long, IntervalIndex> pendingVehicles = new HashMap<>();
+        private final Map<Long, IntervalIndex> pendingTrailers = new HashMap<>();
+        private final Map<Long, IntervalIndex> pendingDrivers = new HashMap<>();
+
+        private final List<TransportImportError> errors = new ArrayList<>();
+        private long imported;
+        private long rejected;
+
+        ImportRun(User creator) {
+            this.creator = creator;
+        }
+
+        void importChunk(List<TransportImportReader.Line> chunk) {
+            resolveIds(chunk);
+
+            List<Transport> accepted = new ArrayList<>(chunk.size());
+            List<Long> acceptedLines = new ArrayList<>(chunk.size());
+            for (var line : chunk) {
+                String error = line.error() != null ? line.error() : validate(line.request());
+                if (error != null) {
+                    reject(line.number(), error);
+                    continue;
+                }
+                Transport t = toTransport(line.request());
+                book(t, accepted.size());
+                accepted.add(t);
+                acceptedLines.add(line.number());
+            }
+
+            try {
+                insert(accepted);
+                imported += accepted.size();
+            } catch (DataAccessException e) {
+                // e.g. a V18 exclusion constraint hit by a concurrent writer; the whole chunk rolled back
+                String message = "Batch insert failed: " + NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+                acceptedLines.forEach(n -> reject(n, message));
+            } finally {
+                pendingVehicles.clear();
+                pendingTrailers.clear();
+                pendingDrivers.clear();
+            }
+        }
+
+        TransportImportReport report() {
+            return new TransportImportReport(imported, rejected, List.copyOf(errors));
+        }
+
+        private void resolveIds(List<TransportImportReader.Line> chunk) {
+            List<CreateTransportRequest> requests = chunk.stream()
+                    .map(TransportImportReader.Line::request)
+                    .filter(Objects::nonNull)
+                    .toList();
+
+            vehicles.resolve(requests, CreateTransportRequest::vehicleId);
+            trailers.resolve(requests, CreateTransportRequest::trailerId);
+            drivers.resolve(requests, CreateTransportRequest::driverId);
+            locations.resolve(requests, CreateTransportRequest::pickupLocationId, CreateTransportRequest::deliveryLocationId);
+        }
+
+        // Same rules and messages as TransportService.createTransport, answered from the lookups.
+        private String validate(CreateTransportRequest req) {
+            Set<ConstraintViolation<CreateTransportRequest>> violations = validator.validate(req);
+            if (!violations.isEmpty()) {
+                return violations.stream()
+                        .map(ConstraintViolation::getMessage)
+                        .sorted()
+                        .collect(Collectors.joining("; "));
+            }
+
+            Instant start = req.plannedStartAt();
+            Instant end = req.plannedEndAt();
+            if (start != null && end != null && end.isBefore(start)) {
+                return "Planned end must be after planned start";
+            }
+
+            Vehicle vehicle = vehicles.get(req.vehicleId());
+            if (vehicle == null) return "Vehicle not found: " + req.vehicleId();
+            if (vehicle.getVehicleStatus() != VehicleStatus.ACTIVE) return "Vehicle is not ACTIVE";
+            if (!availabilityRegistry.isVehicleFree(vehicle.getId(), start, end, null)
+                    || overlapsPending(pendingVehicles, vehicle.getId(), start, end)) {
+                return "Vehicle is already booked for an overlapping planned window";
+            }
+
+            if (req.trailerId() != null) {
+                Trailer trailer = trailers.get(req.trailerId());
+                if (trailer == null) return "Trailer not found: " + req.trailerId();
+                if (trailer.getTrailerStatus() != TrailerStatus.ACTIVE) return "Trailer is not ACTIVE";
+                if (!availabilityRegistry.isTrailerFree(trailer.getId(), start, end, null)
+                        || overlapsPending(pendingTrailers, trailer.getId(), start, end)) {
+                    return "Trailer is already booked for an overlapping planned window";
+                }
+            }
+
+            if (req.driverId() != null) {
+                Driver driver = drivers.get(req.driverId());
+                if (driver == null) return "Driver not found: " + req.driverId();
+                if (driver.getDriverStatus() != DriverStatus.AVAILABLE) return "Driver is not AVAILABLE";
+                if (!availabilityRegistry.isDriverFree(driver.getUserId(), start, end, null)
+                        || overlapsPending(pendingDrivers, driver.getUserId(), start, end)) {
+                    return "Driver is already booked for an overlapping planned window";
+                }
+            }
+
+            if (locations.get(req.pickupLocationId()) == null) {
+                return "Pickup location not found: " + req.pickupLocationId();
+            }
+            if (locations.get(req.deliveryLocationId()) == null) {
+                return "Delivery location not found: " + req.deliveryLocationId();
+            }
+            return null;
+        }
+
+        private Transport toTransport(CreateTransportRequest req) {
+            return Transport.builder()
+                    .contractualDueAt(req.contractualDueAt())
+                    .plannedStartAt(req.plannedStartAt())
+                    .plannedEndAt(req.plannedEndAt())
+                    .plannedDistanceKm(req.plannedDistanceKm())
+                    .createdBy(creator)
+                    .vehicle(vehicles.get(req.vehicleId()))
+                    .trailer(req.trailerId() != null ? trailers.get(req.trailerId()) : null)
+                    .driver(req.driverId() != null ? drivers.get(req.driverId()) : null)
+                    .pickupLocation(locations.get(req.pickupLocationId()))
+                    .deliveryLocation(locations.get(req.deliveryLocationId()))
+                    .status(TransportStatus.PLANNED)
+                    .build();
+        }
+
+        private void insert(List<Transport> accepted) {
+            if (accepted.isEmpty()) return;
+
+            Instant now = Instant.now();
+            tx.executeWithoutResult(status -> {
+                transportRepository.insertAll(accepted);
+                statusHistoryRepository.insertAll(accepted.stream()
+                        .map(t -> StatusHistory.builder()
+                                .transport(t)
+                                .status(TransportStatus.PLANNED)
+                                .changedBy(creator)
+                                .changedAt(now)
+                                .build())
+                        .toList());
+                accepted.forEach(availabilityRegistry::recordAfterCommit);
+                accepted.forEach(t -> changeRecorder.upsert(ChangeEntityType.TRANSPORT, t.getId()));
+            });
+        }
+
+        // Books the transport in the chunk-local indexes; ids are not assigned yet, so the position stands in.
+        private void book(Transport t, long position) {
+            long start = lowerBound(t.getPlannedStartAt());
+            long end = upperBound(t.getPlannedEndAt());
+            pendingVehicles.merge(t.getVehicle().getId(), IntervalIndex.EMPTY.with(position, start, end),
+                    (a, b) -> a.with(position, start, end));
+            if (t.getTrailer() != null) {
+                pendingTrailers.merge(t.getTrailer().getId(), IntervalIndex.EMPTY.with(position, start, end),
+                        (a, b) -> a.with(position, start, end));
+            }
+            if (t.getDriver() != null) {
+                pendingDrivers.merge(t.getDriver().getUserId(), IntervalIndex.EMPTY.with(position, start, end),
+                        (a, b) -> a.with(position, start, end));
+            }
+        }
+
+        private boolean overlapsPending(Map<Long, IntervalIndex> pending, Long resourceId, Instant from, Instant to) {
+            IntervalIndex index = pending.get(resourceId);
+            return index != null && index.overlaps(lowerBound(from), upperBound(to));
+        }
+
+        private void reject(long line, String message) {
+            rejected++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new TransportImportError(line, message));
+            }
+        }
+    }
+
+    // Id -> entity cache filled with one findAllById per chunk for the ids not asked for yet.
+    private static final class Lookup<T> {
+
+        private final Function<Collection<Long>, List<T>> loader;
+        private final Function<T, Long> idOf;
+        private final Map<Long, T> found = new HashMap<>();
+        private final Set<Long> asked = new HashSet<>();
+
+        Lookup(Function<Collection<Long>, List<T>> loader, Function<T, Long> idOf) {
+            this.loader = loader;
+            this.idOf = idOf;
+        }
+
+        @SafeVarargs
+        final void resolve(List<CreateTransportRequest> requests, Function<CreateTransportRequest, Long>... ids) {
+            Set<Long> missing = new HashSet<>();
+            for (var req : requests) {
+                for (var id : ids) {
+                    Long value = id.apply(req);
+                    if (value != null && !asked.contains(value)) missing.add(value);
+                }
+            }
+            if (missing.isEmpty()) return;
+
+            asked.addAll(missing);
+            loader.apply(missing).forEach(e -> found.put(idOf.apply(e), e));
+        }
+
+        T get(Long id) {
+            return id == null ? null : found.get(id);
+        }
+    }
+}
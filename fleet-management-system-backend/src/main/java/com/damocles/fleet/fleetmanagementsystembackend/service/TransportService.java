@@ -1,27 +1,42 @@
 package com.damocles.fleet.fleetmanagementsystembackend.service;
 
 import com.damocles.fleet.fleetmanagementsystembackend.domain.*;
+import com.damocles.fleet.fleetmanagementsystembackend.dto.common.CursorSlice;
 import com.damocles.fleet.fleetmanagementsystembackend.dto.statusHistory.StatusHistoryDTO;
+import com.damocles.fleet.fleetmanagementsystembackend.dto.transport.BatchStatusChangeResult;
 import com.damocles.fleet.fleetmanagementsystembackend.dto.transport.CreateTransportRequest;
 import com.damocles.fleet.fleetmanagementsystembackend.dto.transport.TransportDTO;
 import com.damocles.fleet.fleetmanagementsystembackend.dto.transport.TransportDetailsDTO;
+import com.damocles.fleet.fleetmanagementsystembackend.dto.transport.TransportEvent;
+import com.damocles.fleet.fleetmanagementsystembackend.dto.transport.TransportListRow;
+import com.damocles.fleet.fleetmanagementsystembackend.dto.transport.TransportStatusChange;
 import com.damocles.fleet.fleetmanagementsystembackend.exception.BusinessValidationException;
 import com.damocles.fleet.fleetmanagementsystembackend.exception.NotFoundException;
 import com.damocles.fleet.fleetmanagementsystembackend.exception.TransportNotFoundException;
 import com.damocles.fleet.fleetmanagementsystembackend.mapper.IStatusHistoryMapper;
 import com.damocles.fleet.fleetmanagementsystembackend.mapper.ITransportMapper;
 import com.damocles.fleet.fleetmanagementsystembackend.repository.*;
+import com.damocles.fleet.fleetmanagementsystembackend.security.PrincipalContextCache;
+import com.damocles.fleet.fleetmanagementsystembackend.util.KeysetCursor;
 import com.damocles.fleet.fleetmanagementsystembackend.util.TransportSpecifications;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -33,12 +48,22 @@ public class TransportService implements ITransportService {
     private final IVehicleRepository vehicleRepository;
     private final ITrailerRepository trailerRepository;
     private final ILocationRepository locationRepository;
-    private final IAccountRepository accountRepository;
+    private final PrincipalContextCache principalContextCache;
     private final IDriverRepository driverRepository;
 
     private final ITransportMapper transportMapper;
     private final IStatusHistoryRepository statusHistoryRepository;
     private final IStatusHistoryMapper statusHistoryMapper;
+    private final ResourceAvailabilityRegistry availabilityRegistry;
+    private final StatusHistoryAppender statusHistoryAppender;
+    private final TransportEventPublisher eventPublisher;
+    private final ChangeRecorder changeRecorder;
+    private final DriverSyncService driverSyncService;
+
+    // Open bounds of the timeline window; kept non-null so the slice query stays a plain range scan.
+    private static final Instant TIMELINE_START = Instant.EPOCH;
+    private static final Instant TIMELINE_END = Instant.parse("9999-12-31T00:00:00Z");
+    private static final Sort KEYSET_SORT = Sort.by(Sort.Order.desc("plannedStartAt"), Sort.Order.desc("id"));
 
     // ------------------------------
     // Basic CRUD
@@ -47,7 +72,7 @@ public class TransportService implements ITransportService {
     @Override
     // Returns all transports without filtering.
     public List<TransportDTO> getAllTransports() {
-        return transportRepository.findAll()
+        return transportRepository.findRows(null, Sort.unsorted(), Limit.unlimited())
                 .stream()
                 .map(transportMapper::toDto)
                 .toList();
@@ -71,12 +96,12 @@ public class TransportService implements ITransportService {
     // Creates a planned transport and writes initial status history.
     public TransportDTO createTransport(CreateTransportRequest req, Long createdByUserId) {
         validatePlannedDates(req);
-        var user = userRepository.findById(createdByUserId)
-                .orElseThrow(() -> new NotFoundException("User id not found: " + createdByUserId));
+        // the caller is authenticated, so the user exists; a reference is enough for the FK
+        var user = userRepository.getReferenceById(createdByUserId);
 
-        validateVehicleAvailable(req.vehicleId());
-        validateTrailerAvailable(req.trailerId());
-        validateDriverAvailable(req.driverId());
+        validateVehicleAvailable(req.vehicleId(), req.plannedStartAt(), req.plannedEndAt(), null);
+        validateTrailerAvailable(req.trailerId(), req.plannedStartAt(), req.plannedEndAt(), null);
+        validateDriverAvailable(req.driverId(), req.plannedStartAt(), req.plannedEndAt(), null);
 
         var transport = transportMapper.toEntity(req);
 
@@ -109,7 +134,10 @@ public class TransportService implements ITransportService {
 
         var saved = transportRepository.save(transport);
 
-        saveHistory(saved, saved.getStatus(), user);
+        statusHistoryAppender.append(saved.getId(), saved.getStatus(), createdByUserId);
+        availabilityRegistry.recordAfterCommit(saved);
+        eventPublisher.publishAfterCommit(TransportEvent.created(saved.getId(), saved.getStatus(), driverIdOf(saved)));
+        changeRecorder.upsert(ChangeEntityType.TRANSPORT, saved.getId());
 
         return transportMapper.toDto(saved);
     }
@@ -148,7 +176,7 @@ public class TransportService implements ITransportService {
         // vehicle: validation only on change
         Long oldVehicleId = transport.getVehicle() != null ? transport.getVehicle().getId() : null;
         if (req.vehicleId() != null && !req.vehicleId().equals(oldVehicleId)) {
-            validateVehicleAvailable(req.vehicleId());
+            validateVehicleAvailable(req.vehicleId(), transport.getPlannedStartAt(), transport.getPlannedEndAt(), id);
             var vehicle = vehicleRepository.findById(req.vehicleId())
                     .orElseThrow(() -> new NotFoundException("Vehicle not found: " + req.vehicleId()));
             transport.setVehicle(vehicle);
@@ -159,7 +187,7 @@ public class TransportService implements ITransportService {
         if (req.trailerId() == null) {
             transport.setTrailer(null);
         } else if (!req.trailerId().equals(oldTrailerId)) {
-            validateTrailerAvailable(req.trailerId());
+            validateTrailerAvailable(req.trailerId(), transport.getPlannedStartAt(), transport.getPlannedEndAt(), id);
             var trailer = trailerRepository.findById(req.trailerId())
                     .orElseThrow(() -> new NotFoundException("Trailer not found: " + req.trailerId()));
             transport.setTrailer(trailer);
@@ -177,8 +205,14 @@ public class TransportService implements ITransportService {
         transport.setPickupLocation(pickup);
         transport.setDeliveryLocation(delivery);
 
+        // the planned window may have moved even when the resources did not
+        validateBookedWindow(transport);
+
         //driver not assigned here on purpose
         //assigning driver via assignDriver
+        transportRepository.flush();
+        availabilityRegistry.recordAfterCommit(transport);
+        changeRecorder.upsert(ChangeEntityType.TRANSPORT, transport.getId());
         return transportMapper.toDto(transport);
     }
 
@@ -190,7 +224,12 @@ public class TransportService implements ITransportService {
         if (t.getStatus() != TransportStatus.PLANNED) {
             throw new BusinessValidationException("Only PLANNED transports can be deleted");
         }
+        driverSyncService.recordTransportRemoved(driverIdOf(t), t);
         transportRepository.delete(t);
+        availabilityRegistry.releaseAfterCommit(id);
+        changeRecorder.delete(ChangeEntityType.TRANSPORT, id);
+        // the cargos are removed with the transport by cascade, so each gets its own delete entry
+        t.getCargos().forEach(c -> changeRecorder.delete(ChangeEntityType.CARGO, c.getId()));
     }
 
     @Override
@@ -203,19 +242,30 @@ public class TransportService implements ITransportService {
             throw new BusinessValidationException("Driver can be assigned only in PLANNED status");
         }
 
-        validateDriverAvailable(driverId);
+        validateDriverAvailable(driverId, transport.getPlannedStartAt(), transport.getPlannedEndAt(), transportId);
 
         var driver = driverRepository.findById(driverId)
                 .orElseThrow(() -> new NotFoundException("Driver not found: " + driverId));
 
+        Long previousDriverId = driverIdOf(transport);
+        if (previousDriverId != null && !previousDriverId.equals(driverId)) {
+            driverSyncService.recordTransportRemoved(previousDriverId, transport);
+        }
         transport.setDriver(driver);
+        availabilityRegistry.recordAfterCommit(transport);
+        eventPublisher.publishAfterCommit(
+                TransportEvent.assigned(transportId, transport.getStatus(), driverId, previousDriverId));
+        changeRecorder.upsert(ChangeEntityType.TRANSPORT, transportId);
 
         return transportMapper.toDto(transport);
     }
 
     // Lists transports assigned to a driver.
     public List<TransportDTO> getTransportsForDriver(Long driverId) {
-        return transportRepository.findByDriver(driverId)
+        return transportRepository.findRows(
+                        TransportSpecifications.hasDriver(driverId),
+                        Sort.by(Sort.Direction.DESC, "plannedStartAt"),
+                        Limit.unlimited())
                 .stream()
                 .map(transportMapper::toDto)
                 .toList();
@@ -227,6 +277,56 @@ public class TransportService implements ITransportService {
         var t = transportRepository.findById(id)
                 .orElseThrow(() -> new TransportNotFoundException(id));
 
+        applyAdminStatus(t, next);
+
+        // History
+        statusHistoryAppender.append(t.getId(), next, changedByUserId);
+        availabilityRegistry.recordAfterCommit(t);
+        eventPublisher.publishAfterCommit(TransportEvent.statusChanged(t.getId(), next, driverIdOf(t)));
+        changeRecorder.upsert(ChangeEntityType.TRANSPORT, t.getId());
+
+        return transportMapper.toDto(t);
+    }
+
+    // Applies many admin/dispatcher status changes in one transaction; an invalid item is reported, not thrown.
+    // One query loads the transports, updates flush as one batch and history rows go in as one JDBC batch.
+    public List<BatchStatusChangeResult> changeStatusesByAdmin(List<TransportStatusChange> changes, Long changedByUserId) {
+        List<Long> ids = changes.stream().map(TransportStatusChange::id).distinct().toList();
+        Map<Long, Transport> byId = transportRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Transport::getId, Function.identity()));
+
+        List<BatchStatusChangeResult> results = new ArrayList<>(changes.size());
+        List<Transport> changed = new ArrayList<>();
+        for (TransportStatusChange change : changes) {
+            Transport t = byId.get(change.id());
+            if (t == null) {
+                results.add(BatchStatusChangeResult.rejected(change.id(), change.status(),
+                        "Transport not found: " + change.id()));
+                continue;
+            }
+            try {
+                applyAdminStatus(t, change.status());
+            } catch (BusinessValidationException e) {
+                results.add(BatchStatusChangeResult.rejected(change.id(), change.status(), e.getMessage()));
+                continue;
+            }
+            statusHistoryAppender.append(t.getId(), change.status(), changedByUserId);
+            eventPublisher.publishAfterCommit(TransportEvent.statusChanged(t.getId(), change.status(), driverIdOf(t)));
+            changeRecorder.upsert(ChangeEntityType.TRANSPORT, t.getId());
+            changed.add(t);
+            results.add(BatchStatusChangeResult.applied(change.id(), change.status()));
+        }
+
+        transportRepository.flush();
+        changed.stream()
+                .distinct()
+                .forEach(availabilityRegistry::recordAfterCommit);
+
+        return results;
+    }
+
+    // Admin/dispatcher transition rules shared by the single and batch endpoints.
+    private void applyAdminStatus(Transport t, TransportStatus next) {
         TransportStatus current = t.getStatus();
 
         // blocking status change if the transport is in FINISHED state
@@ -260,11 +360,6 @@ public class TransportService implements ITransportService {
                 next == TransportStatus.REJECTED) && t.getActualEndAt() == null) {
             t.setActualEndAt(Instant.now());
         }
-
-        // History
-        saveHistory(t, next, changedByUserId);
-
-        return transportMapper.toDto(t);
     }
 
     private void ensureTransition(TransportStatus current, TransportStatus next) {
@@ -293,7 +388,7 @@ public class TransportService implements ITransportService {
     // Driver accepts a planned transport.
     public TransportDTO acceptTransport(Long id, Long driverId) {
         // Business rule: a driver can have only one in-progress transport.
-        if (transportRepository.existsByDriver_UserIdAndStatusAndIdNot(driverId, TransportStatus.IN_PROGRESS, id)) {
+        if (availabilityRegistry.driverHasOtherTransportInProgress(driverId, id)) {
             throw new BusinessValidationException("Driver already has a transport in progress");
         }
         var t = changeStatus(id, driverId, TransportStatus.ACCEPTED);
@@ -318,7 +413,7 @@ public class TransportService implements ITransportService {
         }
 
         if (next == TransportStatus.ACCEPTED
-                && transportRepository.existsByDriver_UserIdAndStatusAndIdNot(driverId, TransportStatus.IN_PROGRESS, id)) {
+                && availabilityRegistry.driverHasOtherTransportInProgress(driverId, id)) {
             throw new BusinessValidationException("Driver already has a transport in progress");
         }
 
@@ -334,6 +429,10 @@ public class TransportService implements ITransportService {
 
     //utility
 
+    private static Long driverIdOf(Transport t) {
+        return t.getDriver() != null ? t.getDriver().getUserId() : null;
+    }
+
     private Transport validateDriverOwnership(Long transportId, Long driverId) {
         var t = transportRepository.findById(transportId)
                 .orElseThrow(() -> new TransportNotFoundException(transportId));
@@ -344,23 +443,24 @@ public class TransportService implements ITransportService {
         return t;
     }
 
-    // Resolves user id for a given account login.
+    // Resolves user id for a given account login (cached per login).
     public Long getUserIdByAccountLogin(String login) {
-        var acc = accountRepository.findByLoginIgnoreCase(login)
-                .orElseThrow(() -> new BusinessValidationException("Account not found"));
-        return acc.getUser().getId();
+        var principal = principalContextCache.get(login);
+        if (principal == null)
+            throw new BusinessValidationException("Account not found");
+        return principal.userId();
     }
 
-    // Resolves driver id for a given account login.
+    // Resolves driver id for a given account login (cached per login).
     public Long getDriverIdByAccountLogin(String login) {
-        var acc = accountRepository.findByLoginIgnoreCase(login)
-                .orElseThrow(() -> new BusinessValidationException("Account not found"));
+        var principal = principalContextCache.get(login);
+        if (principal == null)
+            throw new BusinessValidationException("Account not found");
 
-        var driver = acc.getUser().getDriver();
-        if (driver == null)
+        if (!principal.isDriver())
             throw new BusinessValidationException("User is not a driver");
 
-        return driver.getUserId();
+        return principal.driverId();
     }
 
     private Transport changeStatus(Long transportId, Long driverId, TransportStatus next) {
@@ -369,12 +469,6 @@ public class TransportService implements ITransportService {
 
         ensureTransition(current, next);
 
-        if (next == TransportStatus.IN_PROGRESS) {
-            if (transportRepository.existsByDriver_UserIdAndStatusAndIdNot(driverId, TransportStatus.IN_PROGRESS, transportId)) {
-                throw new BusinessValidationException("Driver already has a transport in progress");
-            }
-        }
-
         t.setStatus(next);
 
         if (next == TransportStatus.IN_PROGRESS && t.getActualStartAt() == null) {
@@ -385,7 +479,13 @@ public class TransportService implements ITransportService {
             t.setActualEndAt(Instant.now());
         }
 
-        saveHistory(t, next, driverId);
+        // ux_transport_driver_in_progress guards a second IN_PROGRESS; flush so it fails here, not at commit.
+        transportRepository.flush();
+
+        statusHistoryAppender.append(t.getId(), next, driverId);
+        availabilityRegistry.recordAfterCommit(t);
+        eventPublisher.publishAfterCommit(TransportEvent.statusChanged(t.getId(), next, driverId));
+        changeRecorder.upsert(ChangeEntityType.TRANSPORT, t.getId());
 
         return t;
     }
@@ -420,7 +520,7 @@ public class TransportService implements ITransportService {
         // vehicle: validation only on change
         Long oldVehicleId = transport.getVehicle() != null ? transport.getVehicle().getId() : null;
         if (req.vehicleId() != null && !req.vehicleId().equals(oldVehicleId)) {
-            validateVehicleAvailable(req.vehicleId());
+            validateVehicleAvailable(req.vehicleId(), transport.getPlannedStartAt(), transport.getPlannedEndAt(), id);
             var vehicle = vehicleRepository.findById(req.vehicleId())
                     .orElseThrow(() -> new NotFoundException("Vehicle not found: " + req.vehicleId()));
             transport.setVehicle(vehicle);
@@ -431,7 +531,7 @@ public class TransportService implements ITransportService {
         if (req.trailerId() == null) {
             transport.setTrailer(null);
         } else if (!req.trailerId().equals(oldTrailerId)) {
-            validateTrailerAvailable(req.trailerId());
+            validateTrailerAvailable(req.trailerId(), transport.getPlannedStartAt(), transport.getPlannedEndAt(), id);
             var trailer = trailerRepository.findById(req.trailerId())
                     .orElseThrow(() -> new NotFoundException("Trailer not found: " + req.trailerId()));
             transport.setTrailer(trailer);
@@ -449,46 +549,36 @@ public class TransportService implements ITransportService {
         transport.setPickupLocation(pickup);
         transport.setDeliveryLocation(delivery);
 
+        // the planned window may have moved even when the resources did not
+        validateBookedWindow(transport);
+
         //driver not assigned here on purpose
         //assigning driver via assignDriver
+        transportRepository.flush();
+        availabilityRegistry.recordAfterCommit(transport);
+        changeRecorder.upsert(ChangeEntityType.TRANSPORT, transport.getId());
         return transportMapper.toDto(transport);
     }
 
-    // --- history helper ---
-
-    private void saveHistory(Transport transport, TransportStatus status, Long userId) {
-        User changer = null;
-        if (userId != null) {
-            changer = userRepository.findById(userId).orElse(null);
-        }
-        saveHistory(transport, status, changer);
-    }
-
-    private void saveHistory(Transport transport, TransportStatus status, User changer) {
-        StatusHistory history = StatusHistory.builder()
-                .transport(transport)
-                .status(status)
-                .changedBy(changer)
-                .build();
-
-        statusHistoryRepository.save(history);
-    }
-
-
-
-    // Returns timeline entries for all transports of a driver.
-    public List<StatusHistoryDTO> getTimelineForDriver(Long driverId) {
-
-        var transports = transportRepository.findByDriver(driverId);
-
-        if (transports.isEmpty())
-            return List.of();
-
-        return transports.stream()
-                .flatMap(t -> statusHistoryRepository.findByTransport_IdOrderByChangedAtDesc(t.getId()).stream())
-                .sorted((a, b) -> a.getChangedAt().compareTo(b.getChangedAt()))
-                .map(statusHistoryMapper::toDto)
-                .toList();
+    @Transactional(readOnly = true)
+    // Keyset slice of the status timeline across all of a driver's transports in [from, to), newest first;
+    // one query for the slice instead of one per transport.
+    public CursorSlice<StatusHistoryDTO> getTimelineForDriver(Long driverId, Instant from, Instant to,
+                                                              String after, int size) {
+        int limit = KeysetCursor.clampSize(size);
+        KeysetCursor cursor = KeysetCursor.decode(after);
+        Instant lower = from != null ? from : TIMELINE_START;
+        Instant upper = to != null ? to : TIMELINE_END;
+
+        // the first slice starts right below the upper bound
+        Instant beforeAt = cursor == null ? upper : parseCursorInstant(cursor.key());
+        if (beforeAt == null) throw new IllegalArgumentException("Invalid cursor");
+        Long beforeId = cursor == null ? Long.MIN_VALUE : cursor.id();
+
+        List<StatusHistoryDTO> rows = statusHistoryRepository.findDriverTimelineSlice(
+                driverId, lower, upper, beforeAt, beforeId, PageRequest.of(0, limit + 1));
+
+        return CursorSlice.of(rows, limit, h -> h, h -> KeysetCursor.encode(h.changedAt(), h.id()));
     }
 
     // Searches transports using optional filters and pagination.
@@ -503,12 +593,46 @@ public class TransportService implements ITransportService {
     ) {
         var spec = TransportSpecifications.withFilters(status, driverId, vehicleId, from, to, q);
 
-        return transportRepository.findAll(spec, pageable)
+        return transportRepository.findRows(spec, pageable)
                 .map(transportMapper::toDto);
     }
 
+    // Keyset variant of search ordered by plannedStartAt DESC, id DESC; reads size + 1 rows and never counts.
+    public CursorSlice<TransportDTO> searchAfter(
+            TransportStatus status,
+            Long driverId,
+            Long vehicleId,
+            Instant from,
+            Instant to,
+            String q,
+            String after,
+            int size
+    ) {
+        int limit = KeysetCursor.clampSize(size);
+        KeysetCursor cursor = KeysetCursor.decode(after);
+        Instant afterStart = cursor == null ? null : parseCursorInstant(cursor.key());
+
+        var spec = TransportSpecifications.withFilters(status, driverId, vehicleId, from, to, q)
+                .and(TransportSpecifications.startedBefore(afterStart, cursor == null ? null : cursor.id()));
+
+        List<TransportListRow> rows = transportRepository.findRows(spec, KEYSET_SORT, Limit.of(limit + 1));
+
+        return CursorSlice.of(rows, limit, transportMapper::toDto,
+                row -> KeysetCursor.encode(row.plannedStartAt(), row.id()));
+    }
+
+    private Instant parseCursorInstant(String key) {
+        if (key == null) return null;
+        try {
+            return Instant.parse(key);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
 
-    private void validateVehicleAvailable(Long vehicleId) {
+
+    // transportId is the transport being edited (its own booking is ignored), or null on create.
+    private void validateVehicleAvailable(Long vehicleId, Instant start, Instant end, Long transportId) {
         if (vehicleId == null) return;
 
         var vehicle = vehicleRepository.findById(vehicleId)
@@ -518,12 +642,12 @@ public class TransportService implements ITransportService {
             throw new BusinessValidationException("Vehicle is not ACTIVE");
         }
 
-        if (transportRepository.existsActiveTransportByVehicle(vehicleId)) {
-            throw new BusinessValidationException("Vehicle is already assigned to an active transport");
+        if (!availabilityRegistry.isVehicleFree(vehicleId, start, end, transportId)) {
+            throw new BusinessValidationException("Vehicle is already booked for an overlapping planned window");
         }
     }
 
-    private void validateTrailerAvailable(Long trailerId) {
+    private void validateTrailerAvailable(Long trailerId, Instant start, Instant end, Long transportId) {
         if (trailerId == null) return;
 
         var trailer = trailerRepository.findById(trailerId)
@@ -533,12 +657,12 @@ public class TransportService implements ITransportService {
             throw new BusinessValidationException("Trailer is not ACTIVE");
         }
 
-        if (transportRepository.existsActiveTransportByTrailer(trailerId)) {
-            throw new BusinessValidationException("Trailer is already assigned to an active transport");
+        if (!availabilityRegistry.isTrailerFree(trailerId, start, end, transportId)) {
+            throw new BusinessValidationException("Trailer is already booked for an overlapping planned window");
         }
     }
 
-    private void validateDriverAvailable(Long driverId) {
+    private void validateDriverAvailable(Long driverId, Instant start, Instant end, Long transportId) {
         if (driverId == null) return;
 
         var driver = driverRepository.findById(driverId)
@@ -548,8 +672,24 @@ public class TransportService implements ITransportService {
             throw new BusinessValidationException("Driver is not AVAILABLE");
         }
 
-        if (transportRepository.existsActiveTransportByDriver(driverId)) {
-            throw new BusinessValidationException("Driver already has an active transport");
+        if (!availabilityRegistry.isDriverFree(driverId, start, end, transportId)) {
+            throw new BusinessValidationException("Driver is already booked for an overlapping planned window");
+        }
+    }
+
+    // Re-checks the resources a transport already holds against its (possibly edited) planned window.
+    private void validateBookedWindow(Transport t) {
+        Instant start = t.getPlannedStartAt();
+        Instant end = t.getPlannedEndAt();
+
+        if (t.getVehicle() != null && !availabilityRegistry.isVehicleFree(t.getVehicle().getId(), start, end, t.getId())) {
+            throw new BusinessValidationException("Vehicle is already booked for an overlapping planned window");
+        }
+        if (t.getTrailer() != null && !availabilityRegistry.isTrailerFree(t.getTrailer().getId(), start, end, t.getId())) {
+            throw new BusinessValidationException("Trailer is already booked for an overlapping planned window");
+        }
+        if (t.getDriver() != null && !availabilityRegistry.isDriverFree(t.getDriver().getUserId(), start, end, t.getId())) {
+            throw new BusinessValidationException("Driver is already booked for an overlapping planned window");
         }
     }
 
@@ -0,0 +1,269 @@
+package com.damocles.fleet.fleetmanagementsystembackend.service;
+
+import com.damocles.fleet.fleetmanagementsystembackend.domain.Account;
+import com.damocles.fleet.fleetmanagementsystembackend.domain.AccountStatus;
+import com.damocles.fleet.fleetmanagementsystembackend.domain.ChangeEntityType;
+import com.damocles.fleet.fleetmanagementsystembackend.domain.Driver;
+import com.damocles.fleet.fleetmanagementsystembackend.domain.DriverStatus;
+import com.damocles.fleet.fleetmanagementsystembackend.domain.User;
+import com.damocles.fleet.fleetmanagementsystembackend.domain.UserRole;
+import com.damocles.fleet.fleetmanagementsystembackend.dto.admin.AdminBulkProvisionReport;
+import com.damocles.fleet.fleetmanagementsystembackend.dto.admin.AdminBulkUserResult;
+import com.damocles.fleet.fleetmanagementsystembackend.dto.admin.AdminBulkUserRow;
+import com.damocles.fleet.fleetmanagementsystembackend.repository.IAccountRepository;
+import com.damocles.fleet.fleetmanagementsystembackend.repository.IUserRepository;
+import com.damocles.fleet.fleetmanagementsystembackend.security.PasswordHashingPool;
+import com.damocles.fleet.fleetmanagementsystembackend.util.UserProvisioningCsvReader;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.stream.Collectors;
+
+// Bulk version of AdminService.createUserWithAccount. The whole batch is checked against existing emails and
+// logins with one query each, passwords are BCrypt-hashed in parallel on the shared PasswordHashingPool, and
+// the accepted rows' users, accounts, roles and drivers go in as JDBC batches in one transaction.
+// Rows with DRIVER among their roles also get a drivers row.
+@Slf4j
+@Service
+public class UserProvisioningService {
+
+    public static final int MAX_ROWS = 5000;
+
+    // e.g. a concurrent request took one of the emails or logins after the uniqueness check
+    static final String BATCH_CONFLICT_MESSAGE =
+            "Email or login was taken by a concurrent request; no rows of this batch were created";
+    static final String BATCH_FAILED_MESSAGE = "Batch could not be saved; no rows of this batch were created";
+
+    private final IUserRepository userRepository;
+    private final IAccountRepository accountRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final Validator validator;
+    private final TransactionTemplate tx;
+    private final PasswordHashingPool hashingPool;
+    private final ChangeRecorder changeRecorder;
+
+    public UserProvisioningService(
+            IUserRepository userRepository,
+            IAccountRepository accountRepository,
+            PasswordEncoder passwordEncoder,
+            Validator validator,
+            PlatformTransactionManager transactionManager,
+            PasswordHashingPool hashingPool,
+            ChangeRecorder changeRecorder
+    ) {
+        this.userRepository = userRepository;
+        this.accountRepository = accountRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.validator = validator;
+        this.tx = new TransactionTemplate(transactionManager);
+        this.hashingPool = hashingPool;
+        this.changeRecorder = changeRecorder;
+    }
+
+    // Provisions every valid row of a CSV body; unparseable rows are reported like invalid ones.
+    public AdminBulkProvisionReport provisionCsv(InputStream body) {
+        var reader = new UserProvisioningCsvReader(
+                new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8)));
+        return provision(reader.readAll(MAX_ROWS));
+    }
+
+    // Provisions every valid row; the others are reported with the reason and skipped.
+    public AdminBulkProvisionReport provisionUsers(List<AdminBulkUserRow> rows) {
+        if (rows.size() > MAX_ROWS) {
+            throw new IllegalArgumentException("Bulk provisioning accepts at most " + MAX_ROWS + " rows");
+        }
+        List<UserProvisioningCsvReader.Line> lines = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            lines.add(new UserProvisioningCsvReader.Line(i + 1, rows.get(i), null));
+        }
+        return provision(lines);
+    }
+
+    private AdminBulkProvisionReport provision(List<UserProvisioningCsvReader.Line> lines) {
+        String[] errors = new String[lines.size()];
+        for (int i = 0; i < lines.size(); i++) {
+            var line = lines.get(i);
+            errors[i] = line.error() != null ? line.error() : validate(line.value());
+        }
+        rejectDuplicates(lines, errors);
+
+        List<Integer> accepted = new ArrayList<>();
+        for (int i = 0; i < lines.size(); i++) {
+            if (errors[i] == null) accepted.add(i);
+        }
+
+        List<Account> accounts = toAccounts(lines, accepted, hashAll(lines, accepted));
+        try {
+            if (!accounts.isEmpty()) tx.executeWithoutResult(status -> insert(accounts));
+        } catch (DataAccessException e) {
+            // the whole batch rolled back; the rows get a stable reason, the driver's message stays in the log
+            log.warn("Bulk provisioning of {} users rolled back", accounts.size(), e);
+            String message = e instanceof DataIntegrityViolationException
+                    ? BATCH_CONFLICT_MESSAGE
+                    : BATCH_FAILED_MESSAGE;
+            accepted.forEach(i -> errors[i] = message);
+            accounts.clear();
+        }
+
+        return report(lines, errors, accepted, accounts);
+    }
+
+    // Runs inside the batch transaction, so the drivers' change entries commit (or roll back) with the rows.
+    private void insert(List<Account> accounts) {
+        accountRepository.insertAllWithUsers(accounts);
+        for (Account acc : accounts) {
+            Driver driver = acc.getUser().getDriver();
+            if (driver != null) changeRecorder.upsert(ChangeEntityType.DRIVER, driver.getUserId());
+        }
+    }
+
+    // Same rules as AdminService.createUserWithAccount, minus the uniqueness checks.
+    private String validate(AdminBulkUserRow row) {
+        if (row == null) return "Row is empty";
+
+        Set<ConstraintViolation<AdminBulkUserRow>> violations = validator.validate(row);
+        if (violations.isEmpty()) return null;
+
+        return violations.stream()
+                .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
+    // Rejects rows whose email or login is taken, or repeats an earlier row's, with one query per column.
+    private void rejectDuplicates(List<UserProvisioningCsvReader.Line> lines, String[] errors) {
+        Set<String> emails = new HashSet<>();
+        Set<String> logins = new HashSet<>();
+        for (int i = 0; i < lines.size(); i++) {
+            if (errors[i] != null) continue;
+            emails.add(key(lines.get(i).value().email()));
+            logins.add(key(lines.get(i).value().login()));
+        }
+        if (emails.isEmpty()) return;
+
+        Set<String> takenEmails = new HashSet<>(userRepository.findExistingEmails(emails));
+        Set<String> takenLogins = new HashSet<>(accountRepository.findExistingLogins(logins));
+        Set<String> batchEmails = new HashSet<>();
+        Set<String> batchLogins = new HashSet<>();
+
+        for (int i = 0; i < lines.size(); i++) {
+            if (errors[i] != null) continue;
+            AdminBulkUserRow row = lines.get(i).value();
+            String email = key(row.email());
+            String login = key(row.login());
+
+            if (takenEmails.contains(email)) {
+                errors[i] = "Email already in use: " + row.email().trim();
+            } else if (takenLogins.contains(login)) {
+                errors[i] = "Login already exists: " + row.login().trim();
+            } else if (batchEmails.contains(email)) {
+                errors[i] = "Email repeated in this batch: " + row.email().trim();
+            } else if (batchLogins.contains(login)) {
+                errors[i] = "Login repeated in this batch: " + row.login().trim();
+            } else {
+                batchEmails.add(email);
+                batchLogins.add(login);
+            }
+        }
+    }
+
+    // BCrypt hashes of the accepted rows' passwords, in the order of accepted, computed on the hashing pool.
+    private List<String> hashAll(List<UserProvisioningCsvReader.Line> lines, List<Integer> accepted) {
+        List<Callable<String>> tasks = accepted.stream()
+                .map(i -> lines.get(i).value().password())
+                .<Callable<String>>map(password -> () -> passwordEncoder.encode(password))
+                .toList();
+
+        try {
+            return hashingPool.invokeAll(tasks);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException re) throw re;
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Password hashing interrupted", e);
+        }
+    }
+
+    private List<Account> toAccounts(List<UserProvisioningCsvReader.Line> lines, List<Integer> accepted,
+                                     List<String> hashes) {
+        Instant now = Instant.now();
+        List<Account> accounts = new ArrayList<>(accepted.size());
+        for (int k = 0; k < accepted.size(); k++) {
+            AdminBulkUserRow row = lines.get(accepted.get(k)).value();
+
+            User user = User.builder()
+                    .firstName(row.firstName())
+                    .middleName(row.middleName())
+                    .lastName(row.lastName())
+                    .email(row.email().trim())
+                    .phone(row.phone())
+                    .birthDate(row.birthDate())
+                    .build();
+
+            if (row.roles().contains(UserRole.DRIVER)) {
+                user.setDriver(Driver.builder()
+                        .user(user)
+                        .driverLicenseNumber(row.driverLicenseNumber())
+                        .driverLicenseCategory(row.driverLicenseCategory())
+                        .driverLicenseExpiryDate(row.driverLicenseExpiryDate())
+                        .driverStatus(DriverStatus.AVAILABLE)
+                        .build());
+            }
+
+            Account acc = Account.builder()
+                    .login(row.login().trim())
+                    .passwordHash(hashes.get(k))
+                    .createdAt(now)
+                    .status(row.status() != null ? row.status() : AccountStatus.ACTIVE)
+                    .roles(row.roles())
+                    .user(user)
+                    .build();
+            user.setAccount(acc);
+            accounts.add(acc);
+        }
+        return accounts;
+    }
+
+    private AdminBulkProvisionReport report(List<UserProvisioningCsvReader.Line> lines, String[] errors,
+                                            List<Integer> accepted, List<Account> accounts) {
+        Account[] created = new Account[lines.size()];
+        for (int k = 0; k < accounts.size(); k++) {
+            created[accepted.get(k)] = accounts.get(k);
+        }
+
+        List<AdminBulkUserResult> results = new ArrayList<>(lines.size());
+        for (int i = 0; i < lines.size(); i++) {
+            var line = lines.get(i);
+            String login = line.value() != null ? line.value().login() : null;
+            Account acc = created[i];
+            results.add(acc != null
+                    ? new AdminBulkUserResult(line.row(), acc.getLogin(), acc.getUser().getId(), acc.getId(), null)
+                    : new AdminBulkUserResult(line.row(), login, null, null, errors[i]));
+        }
+        return new AdminBulkProvisionReport(accounts.size(), lines.size() - accounts.size(), results);
+    }
+
+    private static String key(String value) {
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -1,5 +1,6 @@
 package com.damocles.fleet.fleetmanagementsystembackend.service;
 
+import com.damocles.fleet.fleetmanagementsystembackend.domain.ChangeEntityType;
 import com.damocles.fleet.fleetmanagementsystembackend.domain.User;
 import com.damocles.fleet.fleetmanagementsystembackend.dto.user.UserCreateDTO;
 import com.damocles.fleet.fleetmanagementsystembackend.dto.user.UserResponseDTO;
@@ -11,6 +12,8 @@ import com.damocles.fleet.fleetmanagementsystembackend.repository.IDriverWorkLog
 import com.damocles.fleet.fleetmanagementsystembackend.repository.IDriverRepository;
 import com.damocles.fleet.fleetmanagementsystembackend.repository.ITransportRepository;
 import com.damocles.fleet.fleetmanagementsystembackend.repository.IUserRepository;
+import com.damocles.fleet.fleetmanagementsystembackend.security.AccountSecurityCache;
+import com.damocles.fleet.fleetmanagementsystembackend.security.PrincipalContextCache;
 import jakarta.transaction.Transactional;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -34,6 +37,9 @@ public class UserService implements IUserService {
     private final ITransportRepository transportRepository;
     private final IDriverWorkLogRepository DriverWorkLogRepository;
     private final IUserMapper mapper;
+    private final PrincipalContextCache principalContextCache;
+    private final AccountSecurityCache accountSecurityCache;
+    private final ChangeRecorder changeRecorder;
 
 
     @Override
@@ -89,6 +95,9 @@ public class UserService implements IUserService {
             }
         }
 
+        // a driver's name and contacts are part of the driver lists
+        if (u.getDriver() != null) changeRecorder.upsert(ChangeEntityType.DRIVER, u.getDriver().getUserId());
+        principalContextCache.invalidateUserAfterCommit(id);
         return mapper.toResponse(u);
     }
 
@@ -110,13 +119,17 @@ public class UserService implements IUserService {
             }
 
             driverRepository.delete(user.getDriver());
+            changeRecorder.delete(ChangeEntityType.DRIVER, driverId);
         }
 
         if (user.getAccount() != null) {
             accountRepository.delete(user.getAccount());
+            // stateless authentication must stop accepting the account's tokens right away
+            accountSecurityCache.invalidateAfterCommit(user.getAccount().getLogin());
         }
 
         IUserRepository.delete(user);
+        principalContextCache.invalidateUserAfterCommit(id);
     }
 
     // --- helpers ---
@@ -1,5 +1,6 @@
 package com.damocles.fleet.fleetmanagementsystembackend.service;
 
+import com.damocles.fleet.fleetmanagementsystembackend.domain.ChangeEntityType;
 import com.damocles.fleet.fleetmanagementsystembackend.domain.TransportStatus;
 import com.damocles.fleet.fleetmanagementsystembackend.domain.Vehicle;
 import com.damocles.fleet.fleetmanagementsystembackend.domain.VehicleStatus;
@@ -12,13 +13,16 @@ import com.damocles.fleet.fleetmanagementsystembackend.exception.VehicleNotFound
 import com.damocles.fleet.fleetmanagementsystembackend.mapper.IVehicleMapper;
 import com.damocles.fleet.fleetmanagementsystembackend.repository.ITransportRepository;
 import com.damocles.fleet.fleetmanagementsystembackend.repository.IVehicleRepository;
+import com.damocles.fleet.fleetmanagementsystembackend.util.BatchEnricher;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
@@ -28,14 +32,13 @@ public class VehicleService implements IVehicleService {
     private final IVehicleRepository vehicleRepository;
     private final IVehicleMapper vehicleMapper;
     private final ITransportRepository transportRepository;
+    private final ResourceAvailabilityRegistry availabilityRegistry;
+    private final ChangeRecorder changeRecorder;
 
     @Override
     // Returns all vehicles with assignment flags.
     public List<VehicleDTO> getAllVehicles() {
-        return vehicleRepository.findAll()
-                .stream()
-                .map(this::enrichVehicle)
-                .toList();
+        return enrichVehicles(vehicleRepository.findAll());
     }
 
     @Override
@@ -44,10 +47,10 @@ public class VehicleService implements IVehicleService {
         String query = (q == null || q.isBlank()) ? null : q.trim().toLowerCase();
 
         if (query == null) {
-            return vehicleRepository.findAll(pageable).map(this::enrichVehicle);
+            return BatchEnricher.page(vehicleRepository.findAll(pageable), this::enrichVehicles);
         }
 
-        return vehicleRepository.search(query, pageable).map(this::enrichVehicle);
+        return BatchEnricher.page(vehicleRepository.search(query, pageable), this::enrichVehicles);
     }
 
     @Override
@@ -66,6 +69,7 @@ public class VehicleService implements IVehicleService {
         }
         Vehicle vehicle = vehicleMapper.toEntity(req);
         vehicleRepository.save(vehicle);
+        changeRecorder.upsert(ChangeEntityType.VEHICLE, vehicle.getId());
         return enrichVehicle(vehicle);
     }
 
@@ -81,6 +85,7 @@ public class VehicleService implements IVehicleService {
         }
 
         vehicleMapper.updateVehicleFromDto(req, v);
+        changeRecorder.upsert(ChangeEntityType.VEHICLE, id);
         return enrichVehicle(v);
     }
 
@@ -93,12 +98,13 @@ public class VehicleService implements IVehicleService {
             throw new BusinessValidationException("Vehicle is assigned to a transport and cannot be deleted");
         }
         vehicleRepository.delete(v);
+        changeRecorder.delete(ChangeEntityType.VEHICLE, id);
     }
     @Override
-    // Returns vehicles that are currently available.
-    public List<VehicleDTO> getAvailableVehicles() {
-        return vehicleRepository.findAvailable()
-                .stream().map(this::enrichVehicle).toList();
+    // Returns usable vehicles with no active booking, or none overlapping [from, to) when a window is given.
+    public List<VehicleDTO> getAvailableVehicles(Instant from, Instant to) {
+        return enrichVehicles(availabilityRegistry.freeVehicles(
+                vehicleRepository.findByVehicleStatus(VehicleStatus.ACTIVE), Vehicle::getId, from, to));
     }
 
     @Transactional
@@ -115,6 +121,7 @@ public class VehicleService implements IVehicleService {
         }
 
         v.setVehicleStatus(status);
+        changeRecorder.upsert(ChangeEntityType.VEHICLE, vehicleId);
         return enrichVehicle(v);
     }
 
@@ -126,18 +133,31 @@ public class VehicleService implements IVehicleService {
             throw new BusinessValidationException("Too many ids (max 200)");
         }
 
-        return vehicleRepository.findAllById(ids).stream()
-                .map(this::enrichVehicle)
-                .toList();
+        return enrichVehicles(vehicleRepository.findAllById(ids));
     }
 
     private VehicleDTO enrichVehicle(Vehicle v) {
-        VehicleDTO base = vehicleMapper.toDto(v);
-        boolean assigned = transportRepository.existsByVehicle_Id(v.getId());
-        boolean inProgress = transportRepository.existsByVehicle_IdAndStatusIn(
-                v.getId(),
+        return enrichVehicles(List.of(v)).get(0);
+    }
+
+    // Resolves assignment flags for all vehicles with one query per flag.
+    private List<VehicleDTO> enrichVehicles(List<Vehicle> vehicles) {
+        if (vehicles.isEmpty()) return List.of();
+
+        List<Long> ids = BatchEnricher.ids(vehicles, Vehicle::getId);
+        Set<Long> assigned = BatchEnricher.inChunks(ids, transportRepository::findVehicleIdsWithTransports);
+        Set<Long> inProgress = BatchEnricher.inChunks(ids, chunk -> transportRepository.findVehicleIdsWithStatusIn(
+                chunk,
                 List.of(TransportStatus.ACCEPTED, TransportStatus.IN_PROGRESS)
-        );
+        ));
+
+        return vehicles.stream()
+                .map(v -> toDto(v, assigned.contains(v.getId()), inProgress.contains(v.getId())))
+                .toList();
+    }
+
+    private VehicleDTO toDto(Vehicle v, boolean assigned, boolean inProgress) {
+        VehicleDTO base = vehicleMapper.toDto(v);
         return new VehicleDTO(
                 base.id(),
                 base.manufacturer(),
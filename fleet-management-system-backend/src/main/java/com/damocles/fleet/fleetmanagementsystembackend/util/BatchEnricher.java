@@ -0,0 +1,36 @@
+package com.damocles.fleet.fleetmanagementsystembackend.util;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+// Maps a whole page of entities in one call so usage flags can be resolved with one query per flag
+// instead of exists queries per row.
+public class BatchEnricher {
+
+    // Upper bound for one IN list; keeps bind parameters and distinct query plans bounded for large pages.
+    static final int CHUNK_SIZE = 500;
+
+    public static <E, D> Page<D> page(Page<E> page, Function<List<E>, List<D>> enrich) {
+        return new PageImpl<>(enrich.apply(page.getContent()), page.getPageable(), page.getTotalElements());
+    }
+
+    public static <E> List<Long> ids(Collection<E> rows, Function<E, Long> id) {
+        return rows.stream().map(id).distinct().toList();
+    }
+
+    // Runs an IN-list lookup over ids in chunks of at most CHUNK_SIZE and merges the results.
+    public static Set<Long> inChunks(List<Long> ids, Function<List<Long>, Set<Long>> lookup) {
+        if (ids.size() <= CHUNK_SIZE) return lookup.apply(ids);
+        Set<Long> found = new HashSet<>();
+        for (int from = 0; from < ids.size(); from += CHUNK_SIZE) {
+            found.addAll(lookup.apply(ids.subList(from, Math.min(from + CHUNK_SIZE, ids.size()))));
+        }
+        return found;
+    }
+}
@@ -0,0 +1,23 @@
+package com.damocles.fleet.fleetmanagementsystembackend.util;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.function.Predicate;
+
+// Size bound shared by the in-process caches. When a cache is full, expired entries go first, then arbitrary ones
+// until a tenth of the capacity is free, so a cache at its limit does not evict on every put.
+public class CacheEviction {
+
+    // Makes room for one more entry when entries has reached maxSize.
+    public static <K, V> void makeRoom(Map<K, V> entries, int maxSize, Predicate<V> expired) {
+        if (entries.size() < maxSize) return;
+        entries.values().removeIf(expired);
+
+        int target = maxSize - Math.max(1, maxSize / 10);
+        Iterator<K> keys = entries.keySet().iterator();
+        while (entries.size() > target && keys.hasNext()) {
+            keys.next();
+            keys.remove();
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.damocles.fleet.fleetmanagementsystembackend.util;
+
+import org.springframework.http.MediaType;
+
+import java.nio.charset.StandardCharsets;
+
+public enum ExportFormat {
+    NDJSON(MediaType.APPLICATION_NDJSON, "ndjson"),
+    CSV(new MediaType("text", "csv", StandardCharsets.UTF_8), "csv");
+
+    private final MediaType mediaType;
+    private final String extension;
+
+    ExportFormat(MediaType mediaType, String extension) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+
+    public MediaType mediaType() {
+        return mediaType;
+    }
+
+    public String extension() {
+        return extension;
+    }
+
+    // Parses the format request parameter case-insensitively.
+    public static ExportFormat of(String value) {
+        for (ExportFormat f : values()) {
+            if (f.name().equalsIgnoreCase(value)) return f;
+        }
+        throw new IllegalArgumentException("Unsupported export format: " + value);
+    }
+}
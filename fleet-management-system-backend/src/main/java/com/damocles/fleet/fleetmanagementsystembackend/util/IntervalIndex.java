@@ -0,0 +1,112 @@
+package com.damocles.fleet.fleetmanagementsystembackend.util;
+
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.stream.LongStream;
+
+// Immutable set of half-open [start, end) intervals in epoch millis, each tagged with an owner id.
+// Intervals are kept sorted by start next to a running maximum of their ends, so "does anything overlap
+// [from, to)" is one binary search. Writers build a new index (copy-on-write) and readers never lock;
+// sized for the handful of bookings a single vehicle, trailer or driver carries.
+public final class IntervalIndex {
+
+    public static final IntervalIndex EMPTY = new IntervalIndex(new long[0], new long[0], new long[0]);
+
+    private final long[] starts;
+    private final long[] ends;
+    private final long[] owners;
+    private final long[] maxEnds;
+
+    private IntervalIndex(long[] starts, long[] ends, long[] owners) {
+        this.starts = starts;
+        this.ends = ends;
+        this.owners = owners;
+        this.maxEnds = new long[starts.length];
+
+        long max = Long.MIN_VALUE;
+        for (int i = 0; i < starts.length; i++) {
+            // An empty interval [x, x) overlaps nothing, matching Postgres' empty tstzrange.
+            if (ends[i] > starts[i]) max = Math.max(max, ends[i]);
+            maxEnds[i] = max;
+        }
+    }
+
+    // Returns a copy with the interval added after any existing interval with the same start.
+    public IntervalIndex with(long owner, long start, long end) {
+        int at = firstStartAfter(start);
+        return new IntervalIndex(insert(starts, at, start), insert(ends, at, end), insert(owners, at, owner));
+    }
+
+    // Returns a copy without the owner's intervals.
+    public IntervalIndex without(long owner) {
+        int kept = 0;
+        long[] s = new long[starts.length];
+        long[] e = new long[starts.length];
+        long[] o = new long[starts.length];
+        for (int i = 0; i < starts.length; i++) {
+            if (owners[i] == owner) continue;
+            s[kept] = starts[i];
+            e[kept] = ends[i];
+            o[kept] = owners[i];
+            kept++;
+        }
+        if (kept == starts.length) return this;
+        if (kept == 0) return EMPTY;
+        return new IntervalIndex(Arrays.copyOf(s, kept), Arrays.copyOf(e, kept), Arrays.copyOf(o, kept));
+    }
+
+    // Null bounds are unbounded, like tsrange(NULL, NULL) in the V18 constraints.
+    public static long lowerBound(Instant at) {
+        return at == null ? Long.MIN_VALUE : at.toEpochMilli();
+    }
+
+    public static long upperBound(Instant at) {
+        return at == null ? Long.MAX_VALUE : at.toEpochMilli();
+    }
+
+    public boolean isEmpty() {
+        return starts.length == 0;
+    }
+
+    public LongStream owners() {
+        return Arrays.stream(owners);
+    }
+
+    // True when some interval shares at least one instant with [from, to).
+    public boolean overlaps(long from, long to) {
+        if (to <= from) return false;
+
+        int last = firstStartAfter(to - 1) - 1;
+        return last >= 0 && maxEnds[last] > from;
+    }
+
+    // Same as overlaps(from, to) but ignores the given owner, e.g. the transport being edited.
+    public boolean overlaps(long from, long to, long exceptOwner) {
+        if (!overlaps(from, to)) return false;
+
+        for (int i = 0; i < starts.length && starts[i] < to; i++) {
+            if (owners[i] != exceptOwner && ends[i] > starts[i] && ends[i] > from) return true;
+        }
+        return false;
+    }
+
+    // Index of the first interval whose start is greater than value.
+    private int firstStartAfter(long value) {
+        int lo = 0;
+        int hi = starts.length;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (starts[mid] <= value) lo = mid + 1;
+            else hi = mid;
+        }
+        return lo;
+    }
+
+    private static long[] insert(long[] source, int at, long value) {
+        long[] copy = new long[source.length + 1];
+        System.arraycopy(source, 0, copy, 0, at);
+        copy[at] = value;
+        System.arraycopy(source, at, copy, at + 1, source.length - at);
+        return copy;
+    }
+}
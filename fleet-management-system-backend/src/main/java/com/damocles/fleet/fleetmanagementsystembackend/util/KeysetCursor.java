@@ -0,0 +1,36 @@
+package com.damocles.fleet.fleetmanagementsystembackend.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+// Opaque keyset pagination token: sort key of the last returned row plus its id.
+public record KeysetCursor(String key, Long id) {
+
+    public static final int MAX_SIZE = 200;
+
+    private static final char SEPARATOR = '|';
+
+    public static String encode(Object key, Long id) {
+        String raw = (key == null ? "" : key.toString()) + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // Returns null for a missing token (first slice).
+    public static KeysetCursor decode(String token) {
+        if (token == null || token.isBlank()) return null;
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int sep = raw.lastIndexOf(SEPARATOR);
+            if (sep < 0) throw new IllegalArgumentException();
+            String key = raw.substring(0, sep);
+            return new KeysetCursor(key.isEmpty() ? null : key, Long.valueOf(raw.substring(sep + 1)));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+    }
+
+    public static int clampSize(int size) {
+        return Math.max(1, Math.min(size, MAX_SIZE));
+    }
+}
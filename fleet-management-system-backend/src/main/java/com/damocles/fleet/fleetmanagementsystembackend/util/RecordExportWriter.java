@@ -0,0 +1,93 @@
+package com.damocles.fleet.fleetmanagementsystembackend.util;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.RecordComponent;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+// Writes a stream of DTO records to an output stream one row at a time, as NDJSON or as CSV with a header
+// made of the record component names. Nothing but the current row is held, so heap use is flat.
+@Component
+@RequiredArgsConstructor
+public class RecordExportWriter {
+
+    private final ObjectMapper objectMapper;
+
+    // Returns the number of rows written.
+    public <T extends Record> long write(Stream<T> rows, Class<T> type, ExportFormat format, OutputStream out)
+            throws IOException {
+        return format == ExportFormat.CSV ? writeCsv(rows, type, out) : writeNdjson(rows, out);
+    }
+
+    private long writeNdjson(Stream<?> rows, OutputStream out) throws IOException {
+        // per-row flushes would turn every line into its own socket write
+        ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        long count = 0;
+        try (JsonGenerator gen = objectMapper.getFactory().createGenerator(out)) {
+            gen.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            gen.setRootValueSeparator(null);
+            for (Iterator<?> it = rows.iterator(); it.hasNext(); count++) {
+                writer.writeValue(gen, it.next());
+                gen.writeRaw('\n');
+            }
+        }
+        return count;
+    }
+
+    private <T extends Record> long writeCsv(Stream<T> rows, Class<T> type, OutputStream out) throws IOException {
+        RecordComponent[] components = type.getRecordComponents();
+        Method[] accessors = new Method[components.length];
+
+        Writer w = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        for (int i = 0; i < components.length; i++) {
+            accessors[i] = components[i].getAccessor();
+            if (i > 0) w.write(',');
+            w.write(components[i].getName());
+        }
+        w.write('\n');
+
+        long count = 0;
+        for (Iterator<T> it = rows.iterator(); it.hasNext(); count++) {
+            T row = it.next();
+            for (int i = 0; i < accessors.length; i++) {
+                if (i > 0) w.write(',');
+                w.write(csvCell(value(accessors[i], row)));
+            }
+            w.write('\n');
+        }
+        w.flush();
+        return count;
+    }
+
+    private static Object value(Method accessor, Object row) {
+        try {
+            return accessor.invoke(row);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException("Cannot read " + accessor.getName() + " for export", e);
+        }
+    }
+
+    // Quotes a cell only when it holds a comma, quote or line break. Text that a spreadsheet would run as a
+    // formula (leading =, +, -, @, tab or carriage return) is prefixed with ' so it opens as plain text.
+    private static String csvCell(Object value) {
+        if (value == null) return "";
+        String s = value.toString();
+        if (value instanceof CharSequence && !s.isEmpty() && "=+-@\t\r".indexOf(s.charAt(0)) >= 0) s = "'" + s;
+        if (s.indexOf(',') < 0 && s.indexOf('"') < 0 && s.indexOf('\n') < 0 && s.indexOf('\r') < 0) return s;
+        return '"' + s.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,110 @@
+package com.damocles.fleet.fleetmanagementsystembackend.util;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+// Runs at most one computation per key at a time: callers arriving while it runs wait for it and share its
+// result (or exception). A finished result is also handed out for reuseNanos afterwards; 0 shares in-flight
+// work only. invalidate() starts a new generation: later callers neither join nor reuse anything started
+// before it. Failures are never reused.
+public final class SingleFlight<K> {
+
+    public enum Outcome { LEADER, JOINED, REUSED }
+
+    private final ConcurrentHashMap<K, Flight> flights = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+    private final long reuseNanos;
+    private final int maxEntries;
+    private final BiConsumer<K, Outcome> listener;
+
+    public SingleFlight(long reuseNanos, int maxEntries, BiConsumer<K, Outcome> listener) {
+        this.reuseNanos = Math.max(0, reuseNanos);
+        this.maxEntries = maxEntries;
+        this.listener = listener;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <V> V execute(K key, Supplier<V> loader) {
+        long gen = generation.get();
+        Flight mine = new Flight(gen);
+
+        while (true) {
+            Flight existing = flights.putIfAbsent(key, mine);
+            if (existing == null) break;
+            long now = System.nanoTime();
+            if (existing.usable(gen, now, reuseNanos)) {
+                listener.accept(key, existing.isDone() ? Outcome.REUSED : Outcome.JOINED);
+                return (V) join(existing.result);
+            }
+            if (flights.replace(key, existing, mine)) break;
+        }
+
+        if (flights.size() > maxEntries) prune();
+        listener.accept(key, Outcome.LEADER);
+        try {
+            V value = loader.get();
+            mine.finish(value);
+            if (reuseNanos == 0) flights.remove(key, mine);
+            return value;
+        } catch (RuntimeException | Error e) {
+            flights.remove(key, mine);
+            mine.result.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    // Makes everything computed or started so far unavailable to later callers.
+    public void invalidate() {
+        generation.incrementAndGet();
+        flights.clear();
+    }
+
+    // Keys with a computation running or a result still reusable.
+    public int size() {
+        return flights.size();
+    }
+
+    private void prune() {
+        long now = System.nanoTime();
+        long gen = generation.get();
+        flights.values().removeIf(f -> !f.usable(gen, now, reuseNanos));
+    }
+
+    private static Object join(CompletableFuture<Object> result) {
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException re) throw re;
+            if (e.getCause() instanceof Error err) throw err;
+            throw e;
+        }
+    }
+
+    private static final class Flight {
+        final CompletableFuture<Object> result = new CompletableFuture<>();
+        final long generation;
+        volatile long finishedAt;
+
+        Flight(long generation) {
+            this.generation = generation;
+        }
+
+        void finish(Object value) {
+            finishedAt = System.nanoTime();
+            result.complete(value);
+        }
+
+        boolean isDone() {
+            return result.isDone();
+        }
+
+        boolean usable(long currentGeneration, long now, long reuseNanos) {
+            if (generation != currentGeneration || result.isCompletedExceptionally()) return false;
+            return !result.isDone() || now - finishedAt < reuseNanos;
+        }
+    }
+}
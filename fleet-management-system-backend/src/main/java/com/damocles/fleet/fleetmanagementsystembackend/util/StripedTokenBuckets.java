@@ -0,0 +1,94 @@
+package com.damocles.fleet.fleetmanagementsystembackend.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// Token buckets keyed by string (a login, a client IP), refilled continuously at a fixed rate.
+// Keys are spread over lock stripes so unrelated keys never contend; each stripe keeps its buckets in
+// access order and evicts the least recently used one when it reaches its share of maxKeys. An evicted
+// bucket comes back full, so eviction only ever errs towards letting a request through.
+public final class StripedTokenBuckets {
+
+    private final Stripe[] stripes;
+    private final double capacity;
+    private final double tokensPerNano;
+
+    public StripedTokenBuckets(int stripes, int maxKeys, int capacity, int refillTokens, long refillPeriod, TimeUnit unit) {
+        int count = Integer.highestOneBit(Math.max(1, stripes)); // power of two, rounded down
+        int perStripe = Math.max(1, maxKeys / count);
+        this.stripes = new Stripe[count];
+        for (int i = 0; i < count; i++) {
+            this.stripes[i] = new Stripe(perStripe);
+        }
+        this.capacity = capacity;
+        this.tokensPerNano = (double) refillTokens / unit.toNanos(refillPeriod);
+    }
+
+    // Takes a token for the key; returns 0 when granted, otherwise the nanos until a token is available.
+    public long tryAcquire(String key, long nowNanos) {
+        Stripe stripe = stripes[spread(key.hashCode()) & (stripes.length - 1)];
+        synchronized (stripe) {
+            Bucket bucket = stripe.buckets.get(key);
+            if (bucket == null) {
+                bucket = new Bucket(capacity, nowNanos);
+                stripe.buckets.put(key, bucket);
+            } else {
+                bucket.tokens = Math.min(capacity, bucket.tokens + (nowNanos - bucket.refilledAt) * tokensPerNano);
+                bucket.refilledAt = nowNanos;
+            }
+
+            if (bucket.tokens >= 1) {
+                bucket.tokens -= 1;
+                return 0;
+            }
+            return (long) Math.ceil((1 - bucket.tokens) / tokensPerNano);
+        }
+    }
+
+    // Returns a token taken by tryAcquire for a request that was then refused elsewhere.
+    public void refund(String key) {
+        Stripe stripe = stripes[spread(key.hashCode()) & (stripes.length - 1)];
+        synchronized (stripe) {
+            Bucket bucket = stripe.buckets.get(key);
+            if (bucket != null) bucket.tokens = Math.min(capacity, bucket.tokens + 1);
+        }
+    }
+
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.buckets.size();
+            }
+        }
+        return size;
+    }
+
+    private static int spread(int h) {
+        return h ^ (h >>> 16);
+    }
+
+    private static final class Stripe {
+        final Map<String, Bucket> buckets;
+
+        Stripe(int maxKeys) {
+            this.buckets = new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Bucket> eldest) {
+                    return size() > maxKeys;
+                }
+            };
+        }
+    }
+
+    private static final class Bucket {
+        double tokens;
+        long refilledAt;
+
+        Bucket(double tokens, long refilledAt) {
+            this.tokens = tokens;
+            this.refilledAt = refilledAt;
+        }
+    }
+}
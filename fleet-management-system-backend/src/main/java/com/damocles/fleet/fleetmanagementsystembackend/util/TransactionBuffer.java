@@ -0,0 +1,80 @@
+package com.damocles.fleet.fleetmanagementsystembackend.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+// Collects the items written in a transaction and flushes them in one call just before it commits, so a service
+// call's rows go in as one JDBC batch and a failing flush still rolls the transaction back. The buffer lives in the
+// transaction's own synchronization, so a suspended outer transaction keeps its items. With a key, an item replaces
+// the buffered one with the same key and moves to the end. Outside a transaction every item is flushed at once.
+public class TransactionBuffer<T> {
+
+    private final Function<T, Object> key;
+    private final Consumer<List<T>> flush;
+    private final Consumer<List<T>> afterCommit;
+
+    // Keeps every item, in the order added.
+    public TransactionBuffer(Consumer<List<T>> flush) {
+        this(null, flush, items -> { });
+    }
+
+    // Keeps the last item per key; afterCommit gets the flushed items once they are committed.
+    public TransactionBuffer(Function<T, Object> key, Consumer<List<T>> flush, Consumer<List<T>> afterCommit) {
+        this.key = key;
+        this.flush = flush;
+        this.afterCommit = afterCommit;
+    }
+
+    public void add(T item) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            flush.accept(List.of(item));
+            afterCommit.accept(List.of(item));
+            return;
+        }
+        pending().add(item);
+    }
+
+    private Pending pending() {
+        for (TransactionSynchronization sync : TransactionSynchronizationManager.getSynchronizations()) {
+            if (sync instanceof TransactionBuffer<?>.Pending p && p.owner() == this) {
+                @SuppressWarnings("unchecked")
+                Pending own = (Pending) p;
+                return own;
+            }
+        }
+        Pending created = new Pending();
+        TransactionSynchronizationManager.registerSynchronization(created);
+        return created;
+    }
+
+    private final class Pending implements TransactionSynchronization {
+        private final Map<Object, T> items = new LinkedHashMap<>();
+
+        TransactionBuffer<T> owner() {
+            return TransactionBuffer.this;
+        }
+
+        void add(T item) {
+            Object k = key != null ? key.apply(item) : new Object();
+            // re-insert so a replaced item moves to the position of its last change
+            items.remove(k);
+            items.put(k, item);
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            flush.accept(List.copyOf(items.values()));
+        }
+
+        @Override
+        public void afterCommit() {
+            afterCommit.accept(List.copyOf(items.values()));
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.damocles.fleet.fleetmanagementsystembackend.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// Side effects that must only follow a committed write: cache invalidations, in-memory bookkeeping, pushes.
+public class TransactionHooks {
+
+    // Runs the action once the surrounding transaction commits, never on rollback; at once outside a transaction.
+    public static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
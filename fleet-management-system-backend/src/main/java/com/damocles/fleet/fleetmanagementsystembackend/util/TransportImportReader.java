@@ -0,0 +1,168 @@
+package com.damocles.fleet.fleetmanagementsystembackend.util;
+
+import com.damocles.fleet.fleetmanagementsystembackend.dto.transport.CreateTransportRequest;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// Reads transport import rows one line at a time, so an upload is never held in memory.
+// CSV needs a header naming CreateTransportRequest fields; NDJSON carries one CreateTransportRequest object per line.
+public final class TransportImportReader {
+
+    public enum Format { CSV, NDJSON }
+
+    // One input line: either a parsed request or the reason it could not be parsed.
+    public record Line(long number, CreateTransportRequest request, String error) {}
+
+    private static final Set<String> CSV_COLUMNS = Set.of(
+            "contractualDueAt", "plannedStartAt", "plannedEndAt", "plannedDistanceKm",
+            "trailerId", "vehicleId", "pickupLocationId", "deliveryLocationId", "driverId");
+
+    private final BufferedReader reader;
+    private final Format format;
+    private final ObjectMapper objectMapper;
+    private final Map<String, Integer> columns = new HashMap<>();
+    private long lineNumber;
+
+    public TransportImportReader(BufferedReader reader, Format format, ObjectMapper objectMapper) {
+        this.reader = reader;
+        this.format = format;
+        this.objectMapper = objectMapper;
+        if (format == Format.CSV) readHeader();
+    }
+
+    // Next non-blank line, or null at the end of input.
+    public Line next() {
+        String raw;
+        do {
+            raw = readLine();
+            if (raw == null) return null;
+        } while (raw.isBlank());
+
+        try {
+            return new Line(lineNumber, format == Format.CSV ? fromCsv(raw) : fromJson(raw), null);
+        } catch (IllegalArgumentException e) {
+            return new Line(lineNumber, null, e.getMessage());
+        }
+    }
+
+    private void readHeader() {
+        String header = readLine();
+        if (header == null) throw new IllegalArgumentException("CSV import is empty");
+
+        List<String> names = split(header.startsWith("\uFEFF") ? header.substring(1) : header);
+        for (int i = 0; i < names.size(); i++) {
+            String name = names.get(i).trim();
+            if (!CSV_COLUMNS.contains(name)) {
+                throw new IllegalArgumentException("Unknown CSV column: " + name);
+            }
+            columns.put(name, i);
+        }
+    }
+
+    private CreateTransportRequest fromCsv(String raw) {
+        List<String> values = split(raw);
+        return new CreateTransportRequest(
+                instant(values, "contractualDueAt"),
+                instant(values, "plannedStartAt"),
+                instant(values, "plannedEndAt"),
+                decimal(values, "plannedDistanceKm"),
+                id(values, "trailerId"),
+                id(values, "vehicleId"),
+                id(values, "pickupLocationId"),
+                id(values, "deliveryLocationId"),
+                id(values, "driverId")
+        );
+    }
+
+    private CreateTransportRequest fromJson(String raw) {
+        try {
+            return objectMapper.readValue(raw, CreateTransportRequest.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Invalid JSON: " + e.getOriginalMessage());
+        }
+    }
+
+    private String value(List<String> values, String column) {
+        Integer at = columns.get(column);
+        if (at == null || at >= values.size()) return null;
+        String v = values.get(at).trim();
+        return v.isEmpty() ? null : v;
+    }
+
+    private Instant instant(List<String> values, String column) {
+        String v = value(values, column);
+        try {
+            return v == null ? null : Instant.parse(v);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid value for " + column + ": " + v);
+        }
+    }
+
+    private BigDecimal decimal(List<String> values, String column) {
+        String v = value(values, column);
+        try {
+            return v == null ? null : new BigDecimal(v);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid value for " + column + ": " + v);
+        }
+    }
+
+    private Long id(List<String> values, String column) {
+        String v = value(values, column);
+        try {
+            return v == null ? null : Long.valueOf(v);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid value for " + column + ": " + v);
+        }
+    }
+
+    // Splits one CSV record on commas outside double quotes; "" inside quotes is a literal quote.
+    static List<String> split(String raw) {
+        List<String> out = new ArrayList<>();
+        StringBuilder cell = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < raw.length(); i++) {
+            char c = raw.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < raw.length() && raw.charAt(i + 1) == '"') {
+                    cell.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    cell.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                out.add(cell.toString());
+                cell.setLength(0);
+            } else {
+                cell.append(c);
+            }
+        }
+        out.add(cell.toString());
+        return out;
+    }
+
+    private String readLine() {
+        try {
+            String raw = reader.readLine();
+            if (raw != null) lineNumber++;
+            return raw;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
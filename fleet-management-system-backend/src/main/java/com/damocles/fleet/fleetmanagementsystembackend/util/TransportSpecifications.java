@@ -1,14 +1,16 @@
 package com.damocles.fleet.fleetmanagementsystembackend.util;
 
+import com.damocles.fleet.fleetmanagementsystembackend.domain.ChangeEntityType;
+import com.damocles.fleet.fleetmanagementsystembackend.domain.ChangeLogEntry;
 import com.damocles.fleet.fleetmanagementsystembackend.domain.Transport;
+import com.damocles.fleet.fleetmanagementsystembackend.domain.TransportSearch;
 import com.damocles.fleet.fleetmanagementsystembackend.domain.TransportStatus;
-import jakarta.persistence.criteria.JoinType;
 import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.time.Instant;
-import java.util.ArrayList;
-import java.util.List;
 
 public class TransportSpecifications {
 
@@ -39,6 +41,21 @@ public class TransportSpecifications {
                 driverId == null ? null : cb.equal(root.get("driver").get("userId"), driverId);
     }
 
+    // Transports with a change_log entry after afterSeq; an ix_change_log_entity probe per candidate row.
+    public static Specification<Transport> changedAfter(Long afterSeq) {
+        return (root, query, cb) -> {
+            if (afterSeq == null) return null;
+
+            Subquery<Integer> changed = query.subquery(Integer.class);
+            Root<ChangeLogEntry> entry = changed.from(ChangeLogEntry.class);
+            changed.select(cb.literal(1))
+                    .where(cb.equal(entry.get("entityType"), ChangeEntityType.TRANSPORT),
+                            cb.equal(entry.get("entityId"), root.get("id")),
+                            cb.greaterThan(entry.<Long>get("seq"), afterSeq));
+            return cb.exists(changed);
+        };
+    }
+
     public static Specification<Transport> hasVehicle(Long vehicleId) {
         return (root, query, cb) ->
                 vehicleId == null ? null : cb.equal(root.get("vehicle").get("id"), vehicleId);
@@ -58,53 +75,56 @@ public class TransportSpecifications {
         };
     }
 
+    // Keyset predicate for ORDER BY plannedStartAt DESC, id DESC (PostgreSQL puts NULLs first when descending).
+    // A null afterId means the first slice; a null afterStart means the last row had no planned start. The
+    // redundant plannedStartAt <= afterStart bound is what lets the index scan start at the cursor; the OR alone
+    // is only a filter.
+    public static Specification<Transport> startedBefore(Instant afterStart, Long afterId) {
+        return (root, query, cb) -> {
+            if (afterId == null) return null;
+
+            var start = root.<Instant>get("plannedStartAt");
+            var id = root.<Long>get("id");
+
+            if (afterStart == null) {
+                return cb.or(
+                        cb.and(cb.isNull(start), cb.lessThan(id, afterId)),
+                        cb.isNotNull(start)
+                );
+            }
+
+            return cb.and(
+                    cb.lessThanOrEqualTo(start, afterStart),
+                    cb.or(
+                            cb.lessThan(start, afterStart),
+                            cb.and(cb.equal(start, afterStart), cb.lessThan(id, afterId))
+                    )
+            );
+        };
+    }
+
+    // Matches the free-text term against the trigger-maintained transport_search document
+    // (trigram index) instead of joining driver, vehicle, trailer and both locations.
     public static Specification<Transport> matchesQuery(String q) {
         return (root, query, cb) -> {
             if (q == null || q.trim().isEmpty()) return null;
 
-            query.distinct(true);
-
             String term = q.trim().toLowerCase();
-            String like = "%" + term + "%";
-            List<Predicate> predicates = new ArrayList<>();
+
+            Subquery<Long> matching = query.subquery(Long.class);
+            Root<TransportSearch> search = matching.from(TransportSearch.class);
+            matching.select(search.get("transportId"))
+                    .where(cb.like(search.get("document"), "%" + term + "%"));
+
+            Predicate inDocument = root.get("id").in(matching);
 
             if (term.matches("\\d+")) {
                 try {
-                    predicates.add(cb.equal(root.get("id"), Long.valueOf(term)));
+                    return cb.or(cb.equal(root.get("id"), Long.valueOf(term)), inDocument);
                 } catch (NumberFormatException ignored) {
                 }
             }
-
-            predicates.add(cb.like(cb.lower(root.get("status").as(String.class)), like));
-
-            var driverJoin = root.join("driver", JoinType.LEFT);
-            var userJoin = driverJoin.join("user", JoinType.LEFT);
-            predicates.add(cb.like(cb.lower(cb.coalesce(userJoin.get("firstName"), "")), like));
-            predicates.add(cb.like(cb.lower(cb.coalesce(userJoin.get("lastName"), "")), like));
-            predicates.add(cb.like(cb.lower(cb.coalesce(userJoin.get("email"), "")), like));
-
-            var vehicleJoin = root.join("vehicle", JoinType.LEFT);
-            predicates.add(cb.like(cb.lower(cb.coalesce(vehicleJoin.get("licensePlate"), "")), like));
-            predicates.add(cb.like(cb.lower(cb.coalesce(vehicleJoin.get("manufacturer"), "")), like));
-            predicates.add(cb.like(cb.lower(cb.coalesce(vehicleJoin.get("model"), "")), like));
-
-            var trailerJoin = root.join("trailer", JoinType.LEFT);
-            predicates.add(cb.like(cb.lower(cb.coalesce(trailerJoin.get("licensePlate"), "")), like));
-            predicates.add(cb.like(cb.lower(cb.coalesce(trailerJoin.get("name"), "")), like));
-
-            var pickupJoin = root.join("pickupLocation", JoinType.LEFT);
-            predicates.add(cb.like(cb.lower(cb.coalesce(pickupJoin.get("city"), "")), like));
-            predicates.add(cb.like(cb.lower(cb.coalesce(pickupJoin.get("street"), "")), like));
-            predicates.add(cb.like(cb.lower(cb.coalesce(pickupJoin.get("postcode"), "")), like));
-            predicates.add(cb.like(cb.lower(cb.coalesce(pickupJoin.get("country"), "")), like));
-
-            var deliveryJoin = root.join("deliveryLocation", JoinType.LEFT);
-            predicates.add(cb.like(cb.lower(cb.coalesce(deliveryJoin.get("city"), "")), like));
-            predicates.add(cb.like(cb.lower(cb.coalesce(deliveryJoin.get("street"), "")), like));
-            predicates.add(cb.like(cb.lower(cb.coalesce(deliveryJoin.get("postcode"), "")), like));
-            predicates.add(cb.like(cb.lower(cb.coalesce(deliveryJoin.get("country"), "")), like));
-
-            return cb.or(predicates.toArray(new Predicate[0]));
+            return inDocument;
         };
     }
 }
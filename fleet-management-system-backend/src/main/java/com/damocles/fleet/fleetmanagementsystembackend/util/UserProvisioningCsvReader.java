@@ -0,0 +1,138 @@
+package com.damocles.fleet.fleetmanagementsystembackend.util;
+
+import com.damocles.fleet.fleetmanagementsystembackend.domain.AccountStatus;
+import com.damocles.fleet.fleetmanagementsystembackend.domain.UserRole;
+import com.damocles.fleet.fleetmanagementsystembackend.dto.admin.AdminBulkUserRow;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+// Reads bulk provisioning rows from CSV with a header naming AdminBulkUserRow fields.
+// Roles are separated by '|', e.g. "DRIVER|DISPATCHER"; dates are ISO (yyyy-MM-dd).
+public final class UserProvisioningCsvReader {
+
+    // One data row (1-based, header excluded): either a parsed row or the reason it could not be parsed.
+    public record Line(long row, AdminBulkUserRow value, String error) {}
+
+    private static final Set<String> CSV_COLUMNS = Set.of(
+            "firstName", "middleName", "lastName", "email", "phone", "birthDate",
+            "login", "password", "roles", "status",
+            "driverLicenseNumber", "driverLicenseCategory", "driverLicenseExpiryDate");
+
+    private final BufferedReader reader;
+    private final Map<String, Integer> columns = new HashMap<>();
+    private long row;
+
+    public UserProvisioningCsvReader(BufferedReader reader) {
+        this.reader = reader;
+        readHeader();
+    }
+
+    // Every non-blank row up to maxRows; throws IllegalArgumentException when there are more.
+    public List<Line> readAll(int maxRows) {
+        List<Line> lines = new ArrayList<>();
+        for (String raw = readLine(); raw != null; raw = readLine()) {
+            if (raw.isBlank()) continue;
+            if (lines.size() == maxRows) {
+                throw new IllegalArgumentException("Bulk provisioning accepts at most " + maxRows + " rows");
+            }
+            row++;
+            try {
+                lines.add(new Line(row, parse(TransportImportReader.split(raw)), null));
+            } catch (IllegalArgumentException e) {
+                lines.add(new Line(row, null, e.getMessage()));
+            }
+        }
+        return lines;
+    }
+
+    private void readHeader() {
+        String header = readLine();
+        if (header == null) throw new IllegalArgumentException("CSV import is empty");
+
+        List<String> names = TransportImportReader.split(header.startsWith("\uFEFF") ? header.substring(1) : header);
+        for (int i = 0; i < names.size(); i++) {
+            String name = names.get(i).trim();
+            if (!CSV_COLUMNS.contains(name)) {
+                throw new IllegalArgumentException("Unknown CSV column: " + name);
+            }
+            columns.put(name, i);
+        }
+    }
+
+    private AdminBulkUserRow parse(List<String> values) {
+        return new AdminBulkUserRow(
+                value(values, "firstName"),
+                value(values, "middleName"),
+                value(values, "lastName"),
+                value(values, "email"),
+                value(values, "phone"),
+                date(values, "birthDate"),
+                value(values, "login"),
+                value(values, "password"),
+                roles(values),
+                status(values),
+                value(values, "driverLicenseNumber"),
+                value(values, "driverLicenseCategory"),
+                date(values, "driverLicenseExpiryDate")
+        );
+    }
+
+    private String value(List<String> values, String column) {
+        Integer at = columns.get(column);
+        if (at == null || at >= values.size()) return null;
+        String v = values.get(at).trim();
+        return v.isEmpty() ? null : v;
+    }
+
+    private LocalDate date(List<String> values, String column) {
+        String v = value(values, column);
+        try {
+            return v == null ? null : LocalDate.parse(v);
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid value for " + column + ": " + v);
+        }
+    }
+
+    private Set<UserRole> roles(List<String> values) {
+        String v = value(values, "roles");
+        if (v == null) return null;
+
+        Set<UserRole> roles = EnumSet.noneOf(UserRole.class);
+        for (String role : v.split("\\|")) {
+            if (role.isBlank()) continue;
+            try {
+                roles.add(UserRole.valueOf(role.trim().toUpperCase(Locale.ROOT)));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Invalid value for roles: " + role.trim());
+            }
+        }
+        return roles;
+    }
+
+    private AccountStatus status(List<String> values) {
+        String v = value(values, "status");
+        try {
+            return v == null ? null : AccountStatus.valueOf(v.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid value for status: " + v);
+        }
+    }
+
+    private String readLine() {
+        try {
+            return reader.readLine();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
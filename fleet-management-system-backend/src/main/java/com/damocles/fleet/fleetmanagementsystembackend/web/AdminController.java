@@ -1,14 +1,20 @@
 package com.damocles.fleet.fleetmanagementsystembackend.web;
 
+import com.damocles.fleet.fleetmanagementsystembackend.dto.admin.AdminBulkProvisionReport;
+import com.damocles.fleet.fleetmanagementsystembackend.dto.admin.AdminBulkUserRow;
 import com.damocles.fleet.fleetmanagementsystembackend.dto.admin.AdminCreateUserWithAccountDTO;
 import com.damocles.fleet.fleetmanagementsystembackend.dto.admin.AdminCreateUserWithAccountResponseDTO;
 import com.damocles.fleet.fleetmanagementsystembackend.service.AdminService;
+import com.damocles.fleet.fleetmanagementsystembackend.service.UserProvisioningService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.InputStream;
+import java.util.List;
 
 
 @RestController
@@ -17,6 +23,7 @@ import org.springframework.web.bind.annotation.*;
 public class AdminController {
 
     private final AdminService adminService;
+    private final UserProvisioningService userProvisioningService;
 
     @PostMapping("/users-with-account")
     @PreAuthorize("hasRole('ADMIN')")
@@ -27,4 +34,18 @@ public class AdminController {
     ) {
         return adminService.createUserWithAccount(dto);
     }
+
+    @PostMapping(value = "/users-with-account/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @PreAuthorize("hasRole('ADMIN')")
+    // Create many users with accounts from a JSON array; rows are validated one by one and reported per row.
+    public AdminBulkProvisionReport provisionUsers(@RequestBody List<AdminBulkUserRow> rows) {
+        return userProvisioningService.provisionUsers(rows);
+    }
+
+    @PostMapping(value = "/users-with-account/bulk", consumes = "text/csv")
+    @PreAuthorize("hasRole('ADMIN')")
+    // Same as above from a CSV body with a header row.
+    public AdminBulkProvisionReport provisionUsersCsv(InputStream body) {
+        return userProvisioningService.provisionCsv(body);
+    }
 }
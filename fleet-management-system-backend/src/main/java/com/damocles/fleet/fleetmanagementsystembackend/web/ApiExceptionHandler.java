@@ -3,6 +3,7 @@ package com.damocles.fleet.fleetmanagementsystembackend.web;
 import com.damocles.fleet.fleetmanagementsystembackend.exception.*;
 import com.damocles.fleet.fleetmanagementsystembackend.util.ApiError;
 import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.*;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.authentication.DisabledException;
@@ -20,11 +21,22 @@ public class ApiExceptionHandler {
     // Exception -> HTTP status mapping:
     // - NotFoundException (+ *NotFoundException): 404
     // - ConflictException / BusinessValidationException / TransportNotActiveException: 409
+    // - DataIntegrityViolationException on a V17/V18 booking constraint: 409 (others fall back to 500)
     // - InvalidCredentialsException / AuthenticationException: 401
     // - ForbiddenException / AccessDeniedException / DisabledException: 403
     // - MethodArgumentNotValidException / IllegalArgumentException: 400
+    // - TooManyRequestsException: 429 with Retry-After
+    // - ChangeFeedExpiredException: 410
     // - Fallback Exception: 500
 
+    // Booking constraints from V17/V18 -> the message TransportService's pre-checks raise for the same rule.
+    private static final Map<String, String> BOOKING_CONSTRAINT_MESSAGES = Map.of(
+            "ux_transport_driver_in_progress", "Driver already has a transport in progress",
+            "ex_transport_vehicle_window", "Vehicle is already booked for an overlapping planned window",
+            "ex_transport_trailer_window", "Trailer is already booked for an overlapping planned window",
+            "ex_transport_driver_window", "Driver is already booked for an overlapping planned window"
+    );
+
     // =========================
     // Helpers
     // =========================
@@ -63,6 +75,17 @@ public class ApiExceptionHandler {
         return build(HttpStatus.CONFLICT, ex.getMessage(), req);
     }
 
+    // 409 when a concurrent write lost the race on a booking constraint
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<ApiError> integrity(DataIntegrityViolationException ex, HttpServletRequest req) {
+        String detail = String.valueOf(ex.getMostSpecificCause().getMessage());
+        return BOOKING_CONSTRAINT_MESSAGES.entrySet().stream()
+                .filter(e -> detail.contains(e.getKey()))
+                .findFirst()
+                .map(e -> conflict(new BusinessValidationException(e.getValue()), req))
+                .orElseGet(() -> other(ex, req));
+    }
+
     // =========================
     // 403
     // =========================
@@ -86,6 +109,26 @@ public class ApiExceptionHandler {
     }
 
 
+    // =========================
+    // 429 (login throttling)
+    // =========================
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<ApiError> tooManyRequests(TooManyRequestsException ex, HttpServletRequest req) {
+        long seconds = Math.max(1, (ex.getRetryAfter().toMillis() + 999) / 1000);
+        HttpStatus status = HttpStatus.TOO_MANY_REQUESTS;
+        return ResponseEntity.status(status)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(seconds))
+                .body(ApiError.of(status.value(), status.getReasonPhrase(), ex.getMessage(), req.getRequestURI()));
+    }
+
+    // =========================
+    // 410 (change feed cursor past retention)
+    // =========================
+    @ExceptionHandler(ChangeFeedExpiredException.class)
+    public ResponseEntity<ApiError> gone(ChangeFeedExpiredException ex, HttpServletRequest req) {
+        return build(HttpStatus.GONE, ex.getMessage(), req);
+    }
+
     // =========================
     // 400 (validation @Valid)
     // =========================
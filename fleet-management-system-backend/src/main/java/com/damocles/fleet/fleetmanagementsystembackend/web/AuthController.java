@@ -2,6 +2,7 @@ package com.damocles.fleet.fleetmanagementsystembackend.web;
 
 import com.damocles.fleet.fleetmanagementsystembackend.dto.auth.AuthResponse;
 import com.damocles.fleet.fleetmanagementsystembackend.dto.account.AccountLoginDTO;
+import com.damocles.fleet.fleetmanagementsystembackend.security.LoginThrottle;
 import com.damocles.fleet.fleetmanagementsystembackend.service.AuthService;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
@@ -17,13 +18,14 @@ import java.util.Map;
 public class AuthController {
 
     private final AuthService authService;
-
+    private final LoginThrottle loginThrottle;
 
     @PostMapping("/login")
-    // Authenticate user and return access/refresh tokens plus account summary.
+    // Authenticate user and return access/refresh tokens plus account summary; throttled per IP and login (429).
     public ResponseEntity<?> login(@RequestBody @Valid AccountLoginDTO request, HttpServletRequest httpRequest) {
         try {
-            AuthResponse response = authService.login(request.login(), request.password(), httpRequest);
+            AuthResponse response = loginThrottle.run(request.login(), httpRequest.getRemoteAddr(),
+                    () -> authService.login(request.login(), request.password(), httpRequest));
             return ResponseEntity.ok(response);
         } catch (org.springframework.security.authentication.BadCredentialsException ex) {
             return ResponseEntity.status(401).body(Map.of("error", "Invalid credentials"));
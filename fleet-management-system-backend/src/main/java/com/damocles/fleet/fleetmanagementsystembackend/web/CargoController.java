@@ -2,10 +2,13 @@ package com.damocles.fleet.fleetmanagementsystembackend.web;
 
 
 import com.damocles.fleet.fleetmanagementsystembackend.dto.cargo.CargoDTO;
+import com.damocles.fleet.fleetmanagementsystembackend.dto.common.CursorSlice;
 import com.damocles.fleet.fleetmanagementsystembackend.dto.cargo.CreateCargoForTransportRequest;
 import com.damocles.fleet.fleetmanagementsystembackend.dto.cargo.CreateCargoRequest;
 import com.damocles.fleet.fleetmanagementsystembackend.dto.cargo.UpdateCargoRequest;
 import com.damocles.fleet.fleetmanagementsystembackend.service.CargoService;
+import com.damocles.fleet.fleetmanagementsystembackend.service.ExportService;
+import com.damocles.fleet.fleetmanagementsystembackend.util.ExportFormat;
 import lombok.RequiredArgsConstructor;
 import jakarta.validation.Valid;
 import org.springframework.data.domain.Page;
@@ -13,6 +16,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -22,6 +26,7 @@ import java.util.List;
 public class CargoController {
 
     private final CargoService cargoService;
+    private final ExportService exportService;
 
     @GetMapping
     @PreAuthorize("hasAnyRole('ADMIN','DISPATCHER')")
@@ -33,6 +38,28 @@ public class CargoController {
         return cargoService.searchCargos(q, pageable);
     }
 
+    @GetMapping("/cursor")
+    @PreAuthorize("hasAnyRole('ADMIN','DISPATCHER')")
+    // Scroll cargos with optional search using an opaque cursor.
+    public CursorSlice<CargoDTO> scroll(
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "50") int size
+    ) {
+        return cargoService.searchCargosAfter(q, after, size);
+    }
+
+    @GetMapping("/export")
+    @PreAuthorize("hasAnyRole('ADMIN','DISPATCHER')")
+    // Export cargos matching the search as NDJSON or CSV, streamed row by row.
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(required = false) String q,
+            @RequestParam(defaultValue = "ndjson") String format
+    ) {
+        var fmt = ExportFormat.of(format);
+        return StreamingExports.attachment("cargos", fmt, out -> exportService.exportCargos(q, fmt, out));
+    }
+
     @GetMapping("/{id}")
     @PreAuthorize("hasAnyRole('ADMIN','DISPATCHER')")
     // Get cargo by id.
@@ -0,0 +1,33 @@
+package com.damocles.fleet.fleetmanagementsystembackend.web;
+
+import com.damocles.fleet.fleetmanagementsystembackend.dto.change.ChangeFeedSlice;
+import com.damocles.fleet.fleetmanagementsystembackend.service.IChangeFeedService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/changes")
+@RequiredArgsConstructor
+@PreAuthorize("hasAnyRole('ADMIN','DISPATCHER')")
+public class ChangeFeedController {
+
+    private final IChangeFeedService changeFeedService;
+
+    @GetMapping
+    // Changes to transports, cargos, work logs, vehicles, trailers and drivers after the cursor, oldest first.
+    public ChangeFeedSlice getChanges(
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "200") int size
+    ) {
+        return changeFeedService.getChanges(after, size);
+    }
+
+    @GetMapping("/head")
+    // Cursor for "everything up to now"; take it right before a full read, then follow the feed from it.
+    public Map<String, String> getHead() {
+        return Map.of("cursor", changeFeedService.getHeadCursor());
+    }
+}
@@ -1,24 +1,29 @@
 package com.damocles.fleet.fleetmanagementsystembackend.web;
 
 import com.damocles.fleet.fleetmanagementsystembackend.dto.cargo.CargoDTO;
+import com.damocles.fleet.fleetmanagementsystembackend.dto.common.CursorSlice;
 import com.damocles.fleet.fleetmanagementsystembackend.dto.driver.CreateDriverRequest;
 import com.damocles.fleet.fleetmanagementsystembackend.dto.driver.DriverDTO;
+import com.damocles.fleet.fleetmanagementsystembackend.dto.driver.DriverSyncDTO;
 import com.damocles.fleet.fleetmanagementsystembackend.dto.driver.UpdateDriverRequest;
 import com.damocles.fleet.fleetmanagementsystembackend.dto.driver.UpdateDriverStatusRequest;
 import com.damocles.fleet.fleetmanagementsystembackend.dto.statusHistory.StatusHistoryDTO;
 import com.damocles.fleet.fleetmanagementsystembackend.dto.transport.TransportDTO;
 import com.damocles.fleet.fleetmanagementsystembackend.service.CargoService;
 import com.damocles.fleet.fleetmanagementsystembackend.service.DriverService;
+import com.damocles.fleet.fleetmanagementsystembackend.service.DriverSyncService;
 import com.damocles.fleet.fleetmanagementsystembackend.service.TransportService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.Instant;
 import java.util.List;
 
 @RestController
@@ -29,6 +34,8 @@ public class DriverController {
     private final DriverService driverService;
     private final CargoService cargoService;
     private final TransportService transportService;
+    private final DriverSyncService driverSyncService;
+    private final RequestCoalescer requestCoalescer;
 
     @GetMapping
     @PreAuthorize("hasAnyRole('ADMIN', 'DISPATCHER')")
@@ -40,6 +47,17 @@ public class DriverController {
         return driverService.searchDrivers(q, pageable);
     }
 
+    @GetMapping("/cursor")
+    @PreAuthorize("hasAnyRole('ADMIN', 'DISPATCHER')")
+    // Scroll drivers by last name with optional search using an opaque cursor.
+    public CursorSlice<DriverDTO> scrollDrivers(
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "50") int size
+    ) {
+        return driverService.searchDriversAfter(q, after, size);
+    }
+
     @GetMapping("/{id}")
     @PreAuthorize("hasAnyRole('ADMIN', 'DISPATCHER')")
     // Get driver by id.
@@ -79,9 +97,15 @@ public class DriverController {
 
     @GetMapping("/available")
     @PreAuthorize("hasAnyRole('ADMIN','DISPATCHER')")
-    // List available drivers.
-    public List<DriverDTO> available() {
-        return driverService.getAvailableDrivers();
+    // List available drivers, optionally for a planned window.
+    public List<DriverDTO> available(
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to
+    ) {
+        return requestCoalescer.coalesce("drivers/available",
+                () -> driverService.getAvailableDrivers(from, to), from, to);
     }
 
     @PatchMapping("/{id}/status")
@@ -102,12 +126,31 @@ public class DriverController {
         return cargoService.getCargosForDriver(driverId);
     }
 
+    @GetMapping("/my-sync")
+    @PreAuthorize("hasRole('DRIVER')")
+    // Driver view: transports and cargo changed since the watermark of the previous sync, plus removals.
+    public DriverSyncDTO mySync(
+            Authentication auth,
+            @RequestParam(required = false) String since
+    ) {
+        Long driverId = transportService.getDriverIdByAccountLogin(auth.getName());
+        return driverSyncService.sync(driverId, since);
+    }
+
     @GetMapping("/my-transports/timeline")
     @PreAuthorize("hasRole('DRIVER')")
-    // Driver view: timeline for current driver's transports.
-    public List<StatusHistoryDTO> myTimeline(Authentication auth) {
+    // Driver view: timeline for current driver's transports, newest first, scrolled with an opaque cursor.
+    public CursorSlice<StatusHistoryDTO> myTimeline(
+            Authentication auth,
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "50") int size
+    ) {
         Long driverId = transportService.getDriverIdByAccountLogin(auth.getName());
-        return transportService.getTimelineForDriver(driverId);
+        return transportService.getTimelineForDriver(driverId, from, to, after, size);
     }
 
     //Show me my transports
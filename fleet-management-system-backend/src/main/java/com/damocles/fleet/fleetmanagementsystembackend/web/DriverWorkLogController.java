@@ -4,13 +4,16 @@ import com.damocles.fleet.fleetmanagementsystembackend.dto.driverWorkLog.CreateD
 import com.damocles.fleet.fleetmanagementsystembackend.dto.driverWorkLog.DriverWorkLogDTO;
 import com.damocles.fleet.fleetmanagementsystembackend.exception.ForbiddenException;
 import com.damocles.fleet.fleetmanagementsystembackend.service.DriverWorkLogService;
+import com.damocles.fleet.fleetmanagementsystembackend.service.ExportService;
 import com.damocles.fleet.fleetmanagementsystembackend.service.TransportService;
+import com.damocles.fleet.fleetmanagementsystembackend.util.ExportFormat;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -21,6 +24,7 @@ public class DriverWorkLogController {
 
     private final DriverWorkLogService service;
     private final TransportService transportService;
+    private final ExportService exportService;
 
     @GetMapping
     @PreAuthorize("hasAnyRole('ADMIN','DISPATCHER')")
@@ -29,6 +33,14 @@ public class DriverWorkLogController {
         return service.getAllLogs();
     }
 
+    @GetMapping("/export")
+    @PreAuthorize("hasAnyRole('ADMIN','DISPATCHER')")
+    // Export all work log entries as NDJSON or CSV, streamed row by row.
+    public ResponseEntity<StreamingResponseBody> export(@RequestParam(defaultValue = "ndjson") String format) {
+        var fmt = ExportFormat.of(format);
+        return StreamingExports.attachment("work-logs", fmt, out -> exportService.exportWorkLogs(fmt, out));
+    }
+
     @GetMapping("/{id}")
     @PreAuthorize("hasAnyRole('ADMIN','DISPATCHER','DRIVER')")
     // Get a work log entry by id (driver restricted to own entries).
@@ -1,14 +1,21 @@
 package com.damocles.fleet.fleetmanagementsystembackend.web;
 
+import com.damocles.fleet.fleetmanagementsystembackend.dto.common.CursorSlice;
 import com.damocles.fleet.fleetmanagementsystembackend.dto.loginHistory.LoginHistoryDTO;
 import com.damocles.fleet.fleetmanagementsystembackend.exception.NotFoundException;
-import com.damocles.fleet.fleetmanagementsystembackend.repository.IAccountRepository;
+import com.damocles.fleet.fleetmanagementsystembackend.security.PrincipalContextCache;
+import com.damocles.fleet.fleetmanagementsystembackend.service.ExportService;
 import com.damocles.fleet.fleetmanagementsystembackend.service.LoginHistoryService;
+import com.damocles.fleet.fleetmanagementsystembackend.util.ExportFormat;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.Instant;
 import java.util.List;
 
 @RestController
@@ -17,26 +24,50 @@ import java.util.List;
 public class LoginHistoryController {
 
     private final LoginHistoryService service;
-    private final IAccountRepository accountRepository;
+    private final PrincipalContextCache principalContextCache;
+    private final ExportService exportService;
 
     @GetMapping
     @PreAuthorize("hasRole('ADMIN')")
-    // List login histories.
-    public List<LoginHistoryDTO> getAll() {
-        return service.getAllHistories();
+    // Scroll login histories in [from, to), newest first, with an opaque cursor.
+    public CursorSlice<LoginHistoryDTO> getAll(
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "50") int size
+    ) {
+        return service.getHistories(from, to, after, size);
+    }
+
+    @GetMapping("/export")
+    @PreAuthorize("hasRole('ADMIN')")
+    // Export all login histories as NDJSON or CSV, streamed row by row.
+    public ResponseEntity<StreamingResponseBody> export(@RequestParam(defaultValue = "ndjson") String format) {
+        var fmt = ExportFormat.of(format);
+        return StreamingExports.attachment("login-histories", fmt, out -> exportService.exportLoginHistories(fmt, out));
     }
 
     @GetMapping("/me")
     @PreAuthorize("isAuthenticated()")
-    // List login histories for the current account.
-    public List<LoginHistoryDTO> getMy(Authentication auth) {
+    // Scroll login histories of the current account, newest first.
+    public CursorSlice<LoginHistoryDTO> getMy(
+            Authentication auth,
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "50") int size
+    ) {
         if (auth == null || !auth.isAuthenticated()) {
-            return List.of();
+            return new CursorSlice<>(List.of(), size, false, null);
         }
 
-        var account = accountRepository.findByLoginIgnoreCase(auth.getName())
-                .orElseThrow(() -> new NotFoundException("Account not found: " + auth.getName()));
-        return service.getHistoriesByAccount(account.getId());
+        var principal = principalContextCache.get(auth.getName());
+        if (principal == null) throw new NotFoundException("Account not found: " + auth.getName());
+        return service.getHistoriesByAccount(principal.accountId(), from, to, after, size);
     }
 
     @GetMapping("/{id}")
@@ -48,8 +79,16 @@ public class LoginHistoryController {
 
     @GetMapping("/account/{accountId}")
     @PreAuthorize("hasRole('ADMIN')")
-    // List login histories for an account.
-    public List<LoginHistoryDTO> getByAccount(@PathVariable Long accountId) {
-        return service.getHistoriesByAccount(accountId);
+    // Scroll login histories of an account, newest first.
+    public CursorSlice<LoginHistoryDTO> getByAccount(
+            @PathVariable Long accountId,
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "50") int size
+    ) {
+        return service.getHistoriesByAccount(accountId, from, to, after, size);
     }
 }
@@ -1,22 +1,18 @@
 package com.damocles.fleet.fleetmanagementsystembackend.web;
 
 import com.damocles.fleet.fleetmanagementsystembackend.dto.me.MeResponseDTO;
-import com.damocles.fleet.fleetmanagementsystembackend.mapper.IMeMapper;
-import com.damocles.fleet.fleetmanagementsystembackend.repository.IAccountRepository;
+import com.damocles.fleet.fleetmanagementsystembackend.security.PrincipalContextCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.stream.Collectors;
-
 @RestController
 @RequestMapping("/api")
 @RequiredArgsConstructor
 public class MeController {
 
-    private final IAccountRepository accountRepository;
-    private final IMeMapper meMapper;
+    private final PrincipalContextCache principalContextCache;
 
     @GetMapping("/me")
     // Return current authenticated user info.
@@ -25,24 +21,12 @@ public class MeController {
             return ResponseEntity.status(401).body(MeResponseDTO.unauthenticated());
         }
 
-        var acc = accountRepository.findWithUserByLoginIgnoreCase(auth.getName())
-                .orElse(null);
-        if (acc == null) {
+        // cached per login, built from account + user with roles ADMIN, DISPATCHER, DRIVER
+        var principal = principalContextCache.get(auth.getName());
+        if (principal == null) {
             return ResponseEntity.status(404).body(MeResponseDTO.unauthenticated());
         }
 
-        // role from entity Account.roles
-        var roles = acc.getRoles().stream()
-                .map(Enum::name)   // ADMIN, DISPATCHER, DRIVER
-                .toList();
-
-        var dto = new MeResponseDTO(
-                true,
-                auth.getName(),
-                roles,
-                meMapper.toShort(acc)
-        );
-
-        return ResponseEntity.ok(dto);
+        return ResponseEntity.ok(principal.me());
     }
 }
@@ -0,0 +1,95 @@
+package com.damocles.fleet.fleetmanagementsystembackend.web;
+
+import com.damocles.fleet.fleetmanagementsystembackend.service.ChangesCommittedEvent;
+import com.damocles.fleet.fleetmanagementsystembackend.util.SingleFlight;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Pageable;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+// Coalesces identical concurrent reads on hot list endpoints (the "available" lists, the transport list), so a
+// shift-start burst of N dispatchers costs one set of queries instead of N. Requests are identical when they
+// hit the same endpoint with the same normalized parameters and the same set of roles. Every committed change
+// to fleet data ends the sharing (ChangesCommittedEvent, sent before the writing request responds), so a caller
+// never gets data from before a write it has seen complete. Outcomes are counted in http.server.requests.coalesced (endpoint, outcome=leader|joined|reused).
+@Component
+public class RequestCoalescer {
+
+    private final SingleFlight<Key> flights;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+
+    public RequestCoalescer(
+            MeterRegistry meterRegistry,
+            @Value("${app.coalescing.enabled:true}") boolean enabled,
+            @Value("${app.coalescing.reuse-ms:0}") long reuseMs,
+            @Value("${app.coalescing.max-entries:1000}") int maxEntries
+    ) {
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.flights = new SingleFlight<>(reuseMs * 1_000_000L, maxEntries, this::record);
+    }
+
+    // Returns the result of loader, shared with every identical request running at the same time.
+    public <V> V coalesce(String endpoint, Supplier<V> loader, Object... params) {
+        if (!enabled) return loader.get();
+        return flights.execute(new Key(endpoint, roleScope(), normalize(params)), loader);
+    }
+
+    @EventListener
+    // Ends the sharing once ChangeRecorder's changes are committed.
+    public void onChangesCommitted(ChangesCommittedEvent event) {
+        invalidate();
+    }
+
+    public void invalidate() {
+        flights.invalidate();
+    }
+
+    private void record(Key key, SingleFlight.Outcome outcome) {
+        Counter.builder("http.server.requests.coalesced")
+                .tag("endpoint", key.endpoint())
+                .tag("outcome", outcome.name().toLowerCase(Locale.ROOT))
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private static String roleScope() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        if (auth == null) return "";
+        return auth.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .sorted()
+                .collect(Collectors.joining(","));
+    }
+
+    private static List<Object> normalize(Object[] params) {
+        List<Object> normalized = new ArrayList<>(params.length);
+        for (Object p : params) {
+            if (p instanceof String s) {
+                normalized.add(s.isBlank() ? null : s.trim());
+            } else if (p instanceof Pageable pageable) {
+                normalized.add(pageable.isPaged()
+                        ? pageable.getPageNumber() + ":" + pageable.getPageSize() + ":" + pageable.getSort()
+                        : "unpaged:" + pageable.getSort());
+            } else {
+                normalized.add(p);
+            }
+        }
+        return normalized;
+    }
+
+    private record Key(String endpoint, String roleScope, List<Object> params) {
+    }
+}
@@ -0,0 +1,25 @@
+package com.damocles.fleet.fleetmanagementsystembackend.web;
+
+import com.damocles.fleet.fleetmanagementsystembackend.util.ExportFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+// Wraps an export body as a downloadable attachment; the body runs on the MVC async executor.
+final class StreamingExports {
+
+    private StreamingExports() {
+    }
+
+    static ResponseEntity<StreamingResponseBody> attachment(String baseName, ExportFormat format,
+                                                            StreamingResponseBody body) {
+        return ResponseEntity.ok()
+                .contentType(format.mediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(baseName + "." + format.extension())
+                        .build()
+                        .toString())
+                .body(body);
+    }
+}
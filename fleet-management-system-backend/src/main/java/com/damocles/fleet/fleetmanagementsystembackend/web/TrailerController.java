@@ -8,10 +8,12 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.Instant;
 import java.util.List;
 
 @RestController
@@ -20,6 +22,7 @@ import java.util.List;
 public class TrailerController {
 
     private final TrailerService trailerService;
+    private final RequestCoalescer requestCoalescer;
 
     @GetMapping
     @PreAuthorize("hasAnyRole('ADMIN','DISPATCHER')")
@@ -62,9 +65,15 @@ public class TrailerController {
 
     @GetMapping("/available")
     @PreAuthorize("hasAnyRole('ADMIN','DISPATCHER')")
-    // List available trailers.
-    public List<TrailerDTO> getAvailable() {
-        return trailerService.getAvailableTrailers();
+    // List available trailers, optionally for a planned window.
+    public List<TrailerDTO> getAvailable(
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to
+    ) {
+        return requestCoalescer.coalesce("trailers/available",
+                () -> trailerService.getAvailableTrailers(from, to), from, to);
     }
 
     @PatchMapping("/{id}/status")
@@ -1,21 +1,33 @@
 package com.damocles.fleet.fleetmanagementsystembackend.web;
 import com.damocles.fleet.fleetmanagementsystembackend.domain.TransportStatus;
+import com.damocles.fleet.fleetmanagementsystembackend.dto.common.CursorSlice;
+import com.damocles.fleet.fleetmanagementsystembackend.dto.transport.BatchStatusChangeRequest;
+import com.damocles.fleet.fleetmanagementsystembackend.dto.transport.BatchStatusChangeResult;
 import com.damocles.fleet.fleetmanagementsystembackend.dto.transport.CreateTransportRequest;
 import com.damocles.fleet.fleetmanagementsystembackend.dto.transport.TransportDTO;
 import com.damocles.fleet.fleetmanagementsystembackend.dto.transport.TransportDetailsDTO;
+import com.damocles.fleet.fleetmanagementsystembackend.dto.transport.TransportImportReport;
 import com.damocles.fleet.fleetmanagementsystembackend.dto.transport.UpdateTransportStatusRequest;
+import com.damocles.fleet.fleetmanagementsystembackend.service.ExportService;
+import com.damocles.fleet.fleetmanagementsystembackend.service.TransportImportService;
 import com.damocles.fleet.fleetmanagementsystembackend.service.TransportService;
+import com.damocles.fleet.fleetmanagementsystembackend.util.ExportFormat;
+import com.damocles.fleet.fleetmanagementsystembackend.util.TransportImportReader;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.InputStream;
 import java.time.Instant;
 import java.util.List;
 
@@ -25,6 +37,9 @@ import java.util.List;
 public class TransportController  {
 
     private final TransportService transportService;
+    private final TransportImportService transportImportService;
+    private final ExportService exportService;
+    private final RequestCoalescer requestCoalescer;
 
     @GetMapping("/{id}")
     @PreAuthorize("hasAnyRole('ADMIN','DISPATCHER')")
@@ -46,6 +61,19 @@ public class TransportController  {
         return transportService.adminUpdateTransport(id, req);
     }
 
+    @PostMapping(value = "/import", consumes = {"text/csv", MediaType.APPLICATION_NDJSON_VALUE})
+    @PreAuthorize("hasAnyRole('ADMIN','DISPATCHER')")
+    // Bulk import transports from a CSV or NDJSON body, read line by line as it arrives.
+    public TransportImportReport importTransports(InputStream body,
+                                                  @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+                                                  Authentication auth) {
+        Long userId = transportService.getUserIdByAccountLogin(auth.getName());
+        var format = MediaType.parseMediaType(contentType).isCompatibleWith(MediaType.APPLICATION_NDJSON)
+                ? TransportImportReader.Format.NDJSON
+                : TransportImportReader.Format.CSV;
+        return transportImportService.importTransports(body, format, userId);
+    }
+
     // ADMIN/DISPATCHER - create
     @PostMapping
     @PreAuthorize("hasAnyRole('ADMIN','DISPATCHER')")
@@ -90,6 +118,17 @@ public class TransportController  {
         return changeStatusForAuth(id, req.status(), auth);
     }
 
+    @PatchMapping("/status:batch")
+    @PreAuthorize("hasAnyRole('ADMIN','DISPATCHER')")
+    // Change status of many transports at once (admin/dispatcher); returns one result per item.
+    public List<BatchStatusChangeResult> updateStatusBatch(
+            Authentication auth,
+            @Valid @RequestBody BatchStatusChangeRequest req
+    ) {
+        Long userId = transportService.getUserIdByAccountLogin(auth.getName());
+        return transportService.changeStatusesByAdmin(req.changes(), userId);
+    }
+
 
     @GetMapping
     @PreAuthorize("hasAnyRole('ADMIN','DISPATCHER')")
@@ -105,8 +144,47 @@ public class TransportController  {
             @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
             Pageable pageable
     ) {
-        return transportService.search(status, driverId, vehicleId, from, to, q, pageable);
+        return requestCoalescer.coalesce("transports",
+                () -> transportService.search(status, driverId, vehicleId, from, to, q, pageable),
+                status, driverId, vehicleId, from, to, q, pageable);
+    }
+
+    @GetMapping("/cursor")
+    @PreAuthorize("hasAnyRole('ADMIN','DISPATCHER')")
+    // Scroll transports by filters with an opaque cursor instead of page numbers.
+    public CursorSlice<TransportDTO> scrollTransports(
+            @RequestParam(required = false) TransportStatus status,
+            @RequestParam(required = false) Long driverId,
+            @RequestParam(required = false) Long vehicleId,
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "50") int size
+    ) {
+        return transportService.searchAfter(status, driverId, vehicleId, from, to, q, after, size);
     }
+    @GetMapping("/export")
+    @PreAuthorize("hasAnyRole('ADMIN','DISPATCHER')")
+    // Export transports matching the list filters as NDJSON or CSV, streamed row by row.
+    public ResponseEntity<StreamingResponseBody> exportTransports(
+            @RequestParam(required = false) TransportStatus status,
+            @RequestParam(required = false) Long driverId,
+            @RequestParam(required = false) Long vehicleId,
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
+            @RequestParam(defaultValue = "ndjson") String format
+    ) {
+        var fmt = ExportFormat.of(format);
+        return StreamingExports.attachment("transports", fmt, out ->
+                exportService.exportTransports(status, driverId, vehicleId, from, to, q, fmt, out));
+    }
+
     //Show me transports of selected driver
     //This is not logically duplicated endpoint it serves different view
     // but the underlying logic is the same and is dependent on user role
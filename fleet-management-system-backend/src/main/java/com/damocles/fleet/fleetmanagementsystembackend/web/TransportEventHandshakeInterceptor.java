@@ -0,0 +1,85 @@
+package com.damocles.fleet.fleetmanagementsystembackend.web;
+
+import com.damocles.fleet.fleetmanagementsystembackend.security.AccountSecurityCache;
+import com.damocles.fleet.fleetmanagementsystembackend.security.AccountSecurityState;
+import com.damocles.fleet.fleetmanagementsystembackend.security.JwtService;
+import com.damocles.fleet.fleetmanagementsystembackend.security.PrincipalContext;
+import com.damocles.fleet.fleetmanagementsystembackend.security.PrincipalContextCache;
+import com.damocles.fleet.fleetmanagementsystembackend.security.VerifiedToken;
+import io.jsonwebtoken.JwtException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.server.HandshakeInterceptor;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.util.Map;
+
+// Authenticates the push channel handshake. Browsers cannot set headers on a WebSocket, so the access token comes
+// as the access_token query parameter and gets the same checks as JwtAuthFilter: signature, expiry, revocation and
+// the account's current state. Admins and dispatchers subscribe to every transport; drivers only to their own.
+@Component
+@RequiredArgsConstructor
+public class TransportEventHandshakeInterceptor implements HandshakeInterceptor {
+
+    static final String STAFF = "push.staff";
+    static final String DRIVER_ID = "push.driverId";
+    static final String TOKEN = "push.token";
+    static final String VERIFIED = "push.verified";
+
+    private final JwtService jwtService;
+    private final AccountSecurityCache accountSecurityCache;
+    private final PrincipalContextCache principalContextCache;
+
+    @Override
+    public boolean beforeHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                                   WebSocketHandler wsHandler, Map<String, Object> attributes) {
+        String token = UriComponentsBuilder.fromUri(request.getURI()).build()
+                .getQueryParams().getFirst("access_token");
+        VerifiedToken verified = verify(token);
+        if (verified == null) {
+            response.setStatusCode(HttpStatus.UNAUTHORIZED);
+            return false;
+        }
+
+        if (verified.roles().contains("ADMIN") || verified.roles().contains("DISPATCHER")) {
+            attributes.put(STAFF, true);
+        } else {
+            PrincipalContext principal = verified.roles().contains("DRIVER")
+                    ? principalContextCache.get(verified.subject())
+                    : null;
+            if (principal == null || !principal.isDriver()) {
+                response.setStatusCode(HttpStatus.FORBIDDEN);
+                return false;
+            }
+            attributes.put(STAFF, false);
+            attributes.put(DRIVER_ID, principal.driverId());
+        }
+        // kept so every flush can re-check revocation and the account's state (TransportEventSocketHandler)
+        attributes.put(TOKEN, token);
+        attributes.put(VERIFIED, verified);
+        return true;
+    }
+
+    @Override
+    public void afterHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                               WebSocketHandler wsHandler, Exception exception) {
+    }
+
+    // The verified token, or null when it is missing, invalid, revoked or no longer matches the account.
+    private VerifiedToken verify(String token) {
+        if (token == null || token.isBlank()) return null;
+        try {
+            if (jwtService.isRevoked(token)) return null;
+            VerifiedToken verified = jwtService.verify(token);
+            if (verified.subject() == null) return null;
+            AccountSecurityState state = accountSecurityCache.get(verified.subject());
+            return state != null && state.admits(verified) ? verified : null;
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package com.damocles.fleet.fleetmanagementsystembackend.web;
+
+import com.damocles.fleet.fleetmanagementsystembackend.dto.transport.TransportEvent;
+import com.damocles.fleet.fleetmanagementsystembackend.dto.transport.TransportEventBatch;
+import com.damocles.fleet.fleetmanagementsystembackend.security.AccountSecurityCache;
+import com.damocles.fleet.fleetmanagementsystembackend.security.AccountSecurityState;
+import com.damocles.fleet.fleetmanagementsystembackend.security.JwtService;
+import com.damocles.fleet.fleetmanagementsystembackend.security.VerifiedToken;
+import com.damocles.fleet.fleetmanagementsystembackend.service.TransportEventPublisher;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+import org.springframework.web.socket.handler.SessionLimitExceededException;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Push channel for transport changes (/api/ws/transports). Every flush-ms the events committed since the last
+// flush go out as one message per subscriber: staff get all of them, a driver only those about their transports.
+// Sends run on the handler's own bounded sender pool, never on the shared scheduler thread, and each connection
+// has a bounded send buffer and send time limit; a client that cannot keep up is disconnected
+// (app.push.dropped-consumers) instead of holding messages for everyone. Every flush re-checks each connection's
+// token like JwtAuthFilter does: it ends when the token expires or is revoked, or when the account is disabled
+// or its roles change.
+@Slf4j
+@Component
+public class TransportEventSocketHandler extends TextWebSocketHandler {
+
+    private final TransportEventPublisher publisher;
+    private final ObjectMapper objectMapper;
+    private final JwtService jwtService;
+    private final AccountSecurityCache accountSecurityCache;
+    private final int sendTimeLimitMs;
+    private final int bufferSizeLimit;
+    private final Map<String, Subscriber> subscribers = new ConcurrentHashMap<>();
+    private final Counter droppedConsumers;
+    private final ThreadPoolExecutor senders;
+
+    public TransportEventSocketHandler(
+            TransportEventPublisher publisher,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            JwtService jwtService,
+            AccountSecurityCache accountSecurityCache,
+            @Value("${app.push.send-time-limit-ms:5000}") int sendTimeLimitMs,
+            @Value("${app.push.buffer-size-limit:262144}") int bufferSizeLimit,
+            @Value("${app.push.sender-threads:4}") int senderThreads,
+            @Value("${app.push.send-queue:10000}") int sendQueue
+    ) {
+        this.publisher = publisher;
+        this.objectMapper = objectMapper;
+        this.jwtService = jwtService;
+        this.accountSecurityCache = accountSecurityCache;
+        this.sendTimeLimitMs = sendTimeLimitMs;
+        this.bufferSizeLimit = bufferSizeLimit;
+        Gauge.builder("app.push.sessions", subscribers, Map::size).register(meterRegistry);
+        this.droppedConsumers = Counter.builder("app.push.dropped-consumers").register(meterRegistry);
+
+        AtomicInteger seq = new AtomicInteger();
+        this.senders = new ThreadPoolExecutor(senderThreads, senderThreads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(sendQueue),
+                r -> Thread.ofPlatform().name("push-sender-" + seq.incrementAndGet()).daemon().unstarted(r),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) {
+        Map<String, Object> attrs = session.getAttributes();
+        WebSocketSession bounded = new ConcurrentWebSocketSessionDecorator(session, sendTimeLimitMs, bufferSizeLimit,
+                ConcurrentWebSocketSessionDecorator.OverflowStrategy.TERMINATE);
+        subscribers.put(session.getId(), new Subscriber(
+                bounded,
+                Boolean.TRUE.equals(attrs.get(TransportEventHandshakeInterceptor.STAFF)),
+                (Long) attrs.get(TransportEventHandshakeInterceptor.DRIVER_ID),
+                (String) attrs.get(TransportEventHandshakeInterceptor.TOKEN),
+                (VerifiedToken) attrs.get(TransportEventHandshakeInterceptor.VERIFIED)));
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+        subscribers.remove(session.getId());
+    }
+
+    @Scheduled(fixedDelayString = "${app.push.flush-ms:200}")
+    // Hands what was committed since the last flush to the sender pool; one serialization per audience, not per
+    // connection.
+    public void flush() {
+        TransportEventBatch batch = publisher.drain();
+        if (subscribers.isEmpty()) return;
+
+        Instant now = Instant.now();
+        Map<Long, TextMessage> byAudience = new HashMap<>();
+        for (Subscriber subscriber : subscribers.values()) {
+            String rejected = rejection(subscriber, now);
+            if (rejected != null) {
+                close(subscriber, CloseStatus.POLICY_VIOLATION.withReason(rejected));
+                continue;
+            }
+            if (!batch.hasContent()) continue;
+
+            // staff share the null key, each driver has their own
+            Long audience = subscriber.staff() ? null : subscriber.driverId();
+            TextMessage message = byAudience.computeIfAbsent(audience, a -> toMessage(batch, a));
+            if (message != null) dispatch(subscriber, message);
+        }
+    }
+
+    // Connections currently subscribed.
+    public int sessionCount() {
+        return subscribers.size();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        senders.shutdown();
+    }
+
+    // Why the connection's token no longer holds, or null while it does; the same checks as JwtAuthFilter.
+    private String rejection(Subscriber subscriber, Instant now) {
+        VerifiedToken token = subscriber.token();
+        if (token == null || subscriber.rawToken() == null) return "Not authenticated";
+        if (token.isExpiredAt(now)) return "Token expired";
+        if (jwtService.isRevoked(subscriber.rawToken())) return "Token revoked";
+        AccountSecurityState state = accountSecurityCache.get(token.subject());
+        return state != null && state.admits(token) ? null : "Account changed";
+    }
+
+    // The part of the batch this audience may see (null = staff), or null when there is nothing for it.
+    private TextMessage toMessage(TransportEventBatch batch, Long driverId) {
+        List<TransportEvent> events = driverId == null
+                ? batch.events()
+                : batch.events().stream().filter(e -> e.concernsDriver(driverId)).toList();
+        if (events.isEmpty() && !batch.resync()) return null;
+        try {
+            return new TextMessage(objectMapper.writeValueAsString(new TransportEventBatch(events, batch.resync())));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot serialize transport events", e);
+        }
+    }
+
+    // A blocked socket holds one sender thread at most: the decorator buffers further messages for that session
+    // until its limits close it. With every sender busy and the queue full the connection is dropped; the client
+    // reconnects and resyncs.
+    private void dispatch(Subscriber subscriber, TextMessage message) {
+        try {
+            senders.execute(() -> send(subscriber, message));
+        } catch (RejectedExecutionException e) {
+            droppedConsumers.increment();
+            close(subscriber, CloseStatus.SERVICE_OVERLOAD);
+        }
+    }
+
+    private void send(Subscriber subscriber, TextMessage message) {
+        try {
+            subscriber.session().sendMessage(message);
+        } catch (SessionLimitExceededException e) {
+            // the decorator already closed the session
+            subscribers.remove(subscriber.session().getId());
+            droppedConsumers.increment();
+        } catch (IOException | IllegalStateException e) {
+            close(subscriber, CloseStatus.SERVER_ERROR);
+        }
+    }
+
+    // Unsubscribes at once; the close frame goes out on the sender pool like any other write.
+    private void close(Subscriber subscriber, CloseStatus status) {
+        subscribers.remove(subscriber.session().getId());
+        try {
+            senders.execute(() -> closeSession(subscriber, status));
+        } catch (RejectedExecutionException e) {
+            closeSession(subscriber, status);
+        }
+    }
+
+    private void closeSession(Subscriber subscriber, CloseStatus status) {
+        try {
+            subscriber.session().close(status);
+        } catch (IOException e) {
+            log.debug("Closing push session {} failed: {}", subscriber.session().getId(), e.getMessage());
+        }
+    }
+
+    private record Subscriber(WebSocketSession session, boolean staff, Long driverId,
+                              String rawToken, VerifiedToken token) {
+    }
+}
@@ -8,10 +8,12 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.Instant;
 import java.util.List;
 
 @RestController
@@ -20,6 +22,7 @@ import java.util.List;
 public class VehicleController {
 
     private final IVehicleService vehicleService;
+    private final RequestCoalescer requestCoalescer;
 
     @GetMapping
     @PreAuthorize("hasAnyRole('ADMIN', 'DISPATCHER')")
@@ -68,9 +71,15 @@ public class VehicleController {
 
     @GetMapping("/available")
     @PreAuthorize("hasAnyRole('ADMIN','DISPATCHER')")
-    // List available vehicles.
-    public List<VehicleDTO> available() {
-        return vehicleService.getAvailableVehicles();
+    // List available vehicles, optionally for a planned window.
+    public List<VehicleDTO> available(
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to
+    ) {
+        return requestCoalescer.coalesce("vehicles/available",
+                () -> vehicleService.getAvailableVehicles(from, to), from, to);
     }
 
     @PatchMapping("/{id}/status")
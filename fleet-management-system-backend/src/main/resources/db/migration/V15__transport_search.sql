@@ -0,0 +1,119 @@
+-- Denormalized search document per transport, kept current by triggers so the
+-- transport list can filter by free text without joining five tables.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE TABLE transport_search
+(
+    transport_id BIGINT PRIMARY KEY,
+    document     TEXT NOT NULL,
+
+    CONSTRAINT fk_transport_search_transport
+        FOREIGN KEY (transport_id) REFERENCES transports (id) ON DELETE CASCADE
+);
+
+CREATE INDEX ix_transport_search_document_trgm
+    ON transport_search USING gin (document gin_trgm_ops);
+
+-- Lookups used by the reference triggers below.
+CREATE INDEX IF NOT EXISTS ix_transport_trailer ON transports (trailer_id);
+CREATE INDEX IF NOT EXISTS ix_transport_pickup ON transports (pickup_address_id);
+CREATE INDEX IF NOT EXISTS ix_transport_delivery ON transports (delivery_address_id);
+
+-- Fields are separated by a newline so a search term never matches across two fields.
+CREATE OR REPLACE FUNCTION transport_search_refresh(p_ids BIGINT[]) RETURNS void
+    LANGUAGE sql AS
+$$
+INSERT INTO transport_search (transport_id, document)
+SELECT t.id,
+       lower(concat_ws(E'\n',
+                       t.status,
+                       u.first_name, u.last_name, u.email,
+                       v.license_plate, v.manufacturer, v.model,
+                       tr.license_plate, tr.name,
+                       pl.city, pl.street, pl.postcode, pl.country,
+                       dl.city, dl.street, dl.postcode, dl.country))
+FROM transports t
+         LEFT JOIN users u ON u.id = t.driver_id
+         LEFT JOIN vehicles v ON v.id = t.vehicle_id
+         LEFT JOIN trailers tr ON tr.id = t.trailer_id
+         LEFT JOIN locations pl ON pl.id = t.pickup_address_id
+         LEFT JOIN locations dl ON dl.id = t.delivery_address_id
+WHERE t.id = ANY (p_ids)
+ON CONFLICT (transport_id) DO UPDATE SET document = EXCLUDED.document;
+$$;
+
+-- Statement-level so batch inserts and updates refresh all rows in one pass.
+CREATE OR REPLACE FUNCTION transport_search_on_transports() RETURNS trigger
+    LANGUAGE plpgsql AS
+$$
+BEGIN
+    PERFORM transport_search_refresh(ARRAY(SELECT id FROM changed_rows));
+    RETURN NULL;
+END
+$$;
+
+CREATE TRIGGER trg_transport_search_insert
+    AFTER INSERT ON transports
+    REFERENCING NEW TABLE AS changed_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION transport_search_on_transports();
+
+CREATE TRIGGER trg_transport_search_update
+    AFTER UPDATE ON transports
+    REFERENCING NEW TABLE AS changed_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION transport_search_on_transports();
+
+-- Re-renders documents of transports pointing at a renamed vehicle, trailer, driver or location.
+CREATE OR REPLACE FUNCTION transport_search_on_reference() RETURNS trigger
+    LANGUAGE plpgsql AS
+$$
+BEGIN
+    IF TG_TABLE_NAME = 'vehicles' THEN
+        PERFORM transport_search_refresh(ARRAY(SELECT id FROM transports WHERE vehicle_id = NEW.id));
+    ELSIF TG_TABLE_NAME = 'trailers' THEN
+        PERFORM transport_search_refresh(ARRAY(SELECT id FROM transports WHERE trailer_id = NEW.id));
+    ELSIF TG_TABLE_NAME = 'users' THEN
+        PERFORM transport_search_refresh(ARRAY(SELECT id FROM transports WHERE driver_id = NEW.id));
+    ELSIF TG_TABLE_NAME = 'locations' THEN
+        PERFORM transport_search_refresh(ARRAY(
+                SELECT id FROM transports WHERE pickup_address_id = NEW.id
+                UNION
+                SELECT id FROM transports WHERE delivery_address_id = NEW.id));
+    END IF;
+    RETURN NULL;
+END
+$$;
+
+CREATE TRIGGER trg_transport_search_vehicle
+    AFTER UPDATE ON vehicles
+    FOR EACH ROW
+    WHEN (OLD.license_plate IS DISTINCT FROM NEW.license_plate
+        OR OLD.manufacturer IS DISTINCT FROM NEW.manufacturer
+        OR OLD.model IS DISTINCT FROM NEW.model)
+EXECUTE FUNCTION transport_search_on_reference();
+
+CREATE TRIGGER trg_transport_search_trailer
+    AFTER UPDATE ON trailers
+    FOR EACH ROW
+    WHEN (OLD.license_plate IS DISTINCT FROM NEW.license_plate
+        OR OLD.name IS DISTINCT FROM NEW.name)
+EXECUTE FUNCTION transport_search_on_reference();
+
+-- Drivers carry no searchable text; their names live on users and reassignment updates transports.
+CREATE TRIGGER trg_transport_search_user
+    AFTER UPDATE ON users
+    FOR EACH ROW
+    WHEN (OLD.first_name IS DISTINCT FROM NEW.first_name
+        OR OLD.last_name IS DISTINCT FROM NEW.last_name
+        OR OLD.email IS DISTINCT FROM NEW.email)
+EXECUTE FUNCTION transport_search_on_reference();
+
+CREATE TRIGGER trg_transport_search_location
+    AFTER UPDATE ON locations
+    FOR EACH ROW
+    WHEN (OLD.city IS DISTINCT FROM NEW.city
+        OR OLD.street IS DISTINCT FROM NEW.street
+        OR OLD.postcode IS DISTINCT FROM NEW.postcode
+        OR OLD.country IS DISTINCT FROM NEW.country)
+EXECUTE FUNCTION transport_search_on_reference();
+
+SELECT transport_search_refresh(ARRAY(SELECT id FROM transports));
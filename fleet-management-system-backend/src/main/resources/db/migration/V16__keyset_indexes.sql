@@ -0,0 +1,3 @@
+-- Composite (sort column, id) indexes backing the cursor list endpoints.
+CREATE INDEX IF NOT EXISTS ix_transport_planned_start_id ON transports (planned_start_at, id);
+CREATE INDEX IF NOT EXISTS ix_user_last_name_id ON users (last_name, id);
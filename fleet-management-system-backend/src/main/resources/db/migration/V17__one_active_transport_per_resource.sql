@@ -0,0 +1,51 @@
+-- One active transport per resource, enforced by the database instead of check-then-act queries.
+-- Violations are reported by ApiExceptionHandler under the index name.
+-- A driver may have several planned or accepted transports but only one IN_PROGRESS.
+
+-- Legacy data may already break these rules, and CREATE UNIQUE INDEX would then fail with a bare duplicate key
+-- error. Report the conflicting transports instead. Cleanup: for each listed resource keep one transport active
+-- and finish or cancel the others (UPDATE transports SET status = 'CANCELLED' WHERE id IN (...)), then rerun.
+DO $$
+DECLARE
+    conflicts TEXT;
+BEGIN
+    SELECT string_agg(format('%s %s: transports %s', kind, resource_id, ids), '; ')
+    INTO conflicts
+    FROM (
+        SELECT 'driver' AS kind, driver_id AS resource_id, string_agg(id::text, ',' ORDER BY id) AS ids
+        FROM transports
+        WHERE status = 'IN_PROGRESS' AND driver_id IS NOT NULL
+        GROUP BY driver_id
+        HAVING count(*) > 1
+        UNION ALL
+        SELECT 'vehicle', vehicle_id, string_agg(id::text, ',' ORDER BY id)
+        FROM transports
+        WHERE status IN ('PLANNED', 'ACCEPTED', 'IN_PROGRESS') AND vehicle_id IS NOT NULL
+        GROUP BY vehicle_id
+        HAVING count(*) > 1
+        UNION ALL
+        SELECT 'trailer', trailer_id, string_agg(id::text, ',' ORDER BY id)
+        FROM transports
+        WHERE status IN ('PLANNED', 'ACCEPTED', 'IN_PROGRESS') AND trailer_id IS NOT NULL
+        GROUP BY trailer_id
+        HAVING count(*) > 1
+        LIMIT 50
+    ) c;
+
+    IF conflicts IS NOT NULL THEN
+        RAISE EXCEPTION 'V17: active transports share a resource (first 50 shown): %', conflicts
+            USING HINT = 'Keep one active transport per listed resource, finish or cancel the others, then rerun.';
+    END IF;
+END $$;
+
+CREATE UNIQUE INDEX IF NOT EXISTS ux_transport_driver_in_progress
+    ON transports (driver_id)
+    WHERE status = 'IN_PROGRESS';
+
+CREATE UNIQUE INDEX IF NOT EXISTS ux_transport_vehicle_active
+    ON transports (vehicle_id)
+    WHERE status IN ('PLANNED', 'ACCEPTED', 'IN_PROGRESS');
+
+CREATE UNIQUE INDEX IF NOT EXISTS ux_transport_trailer_active
+    ON transports (trailer_id)
+    WHERE status IN ('PLANNED', 'ACCEPTED', 'IN_PROGRESS');
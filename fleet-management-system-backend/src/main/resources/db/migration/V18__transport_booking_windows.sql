@@ -0,0 +1,65 @@
+-- Bookings are planned windows: a vehicle, trailer or driver may carry several active transports
+-- as long as their [planned_start_at, planned_end_at) ranges do not overlap; a missing bound is open-ended.
+-- The columns are TIMESTAMP (UTC), so the ranges are tsrange: tstzrange would need a non-immutable cast.
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+-- Active transports whose windows already overlap would make ADD CONSTRAINT fail with a bare conflicting key
+-- error. Report them instead. V17 leaves at most one active transport per vehicle and trailer, so in practice these
+-- are drivers with overlapping PLANNED or ACCEPTED transports. Cleanup: move the planned window of one transport
+-- in each listed pair, or cancel it (UPDATE transports SET status = 'CANCELLED' WHERE id IN (...)), then rerun.
+DO $$
+DECLARE
+    conflicts TEXT;
+BEGIN
+    SELECT string_agg(format('%s %s: transports %s and %s', kind, resource_id, first_id, second_id), '; ')
+    INTO conflicts
+    FROM (
+        SELECT 'vehicle' AS kind, a.vehicle_id AS resource_id, a.id AS first_id, b.id AS second_id
+        FROM transports a
+        JOIN transports b ON b.vehicle_id = a.vehicle_id AND b.id > a.id
+        WHERE a.status IN ('PLANNED', 'ACCEPTED', 'IN_PROGRESS')
+          AND b.status IN ('PLANNED', 'ACCEPTED', 'IN_PROGRESS')
+          AND tsrange(a.planned_start_at, a.planned_end_at, '[)') && tsrange(b.planned_start_at, b.planned_end_at, '[)')
+        UNION ALL
+        SELECT 'trailer', a.trailer_id, a.id, b.id
+        FROM transports a
+        JOIN transports b ON b.trailer_id = a.trailer_id AND b.id > a.id
+        WHERE a.status IN ('PLANNED', 'ACCEPTED', 'IN_PROGRESS')
+          AND b.status IN ('PLANNED', 'ACCEPTED', 'IN_PROGRESS')
+          AND tsrange(a.planned_start_at, a.planned_end_at, '[)') && tsrange(b.planned_start_at, b.planned_end_at, '[)')
+        UNION ALL
+        SELECT 'driver', a.driver_id, a.id, b.id
+        FROM transports a
+        JOIN transports b ON b.driver_id = a.driver_id AND b.id > a.id
+        WHERE a.status IN ('PLANNED', 'ACCEPTED', 'IN_PROGRESS')
+          AND b.status IN ('PLANNED', 'ACCEPTED', 'IN_PROGRESS')
+          AND tsrange(a.planned_start_at, a.planned_end_at, '[)') && tsrange(b.planned_start_at, b.planned_end_at, '[)')
+        LIMIT 50
+    ) c;
+
+    IF conflicts IS NOT NULL THEN
+        RAISE EXCEPTION 'V18: active transports overlap on a resource (first 50 shown): %', conflicts
+            USING HINT = 'Move or cancel one transport of each listed pair, then rerun.';
+    END IF;
+END $$;
+
+-- Replaced by the window constraints below; the driver keeps one IN_PROGRESS transport at a time.
+DROP INDEX IF EXISTS ux_transport_vehicle_active;
+DROP INDEX IF EXISTS ux_transport_trailer_active;
+
+ALTER TABLE transports
+    ADD CONSTRAINT ex_transport_vehicle_window
+        EXCLUDE USING gist (
+            vehicle_id WITH =,
+            tsrange(planned_start_at, planned_end_at, '[)') WITH &&
+        ) WHERE (status IN ('PLANNED', 'ACCEPTED', 'IN_PROGRESS')),
+    ADD CONSTRAINT ex_transport_trailer_window
+        EXCLUDE USING gist (
+            trailer_id WITH =,
+            tsrange(planned_start_at, planned_end_at, '[)') WITH &&
+        ) WHERE (status IN ('PLANNED', 'ACCEPTED', 'IN_PROGRESS')),
+    ADD CONSTRAINT ex_transport_driver_window
+        EXCLUDE USING gist (
+            driver_id WITH =,
+            tsrange(planned_start_at, planned_end_at, '[)') WITH &&
+        ) WHERE (status IN ('PLANNED', 'ACCEPTED', 'IN_PROGRESS'));
@@ -0,0 +1,11 @@
+-- Logged-out tokens, shared by all instances and kept across restarts.
+-- Keyed by the hex SHA-256 digest of the token, so raw tokens are never stored;
+-- a row is useless once the token itself expires and is then swept.
+CREATE TABLE IF NOT EXISTS revoked_tokens (
+    token_digest VARCHAR(64) PRIMARY KEY,
+    expires_at   TIMESTAMP NOT NULL,
+    revoked_at   TIMESTAMP NOT NULL DEFAULT now()
+);
+
+CREATE INDEX IF NOT EXISTS ix_revoked_token_expires_at ON revoked_tokens (expires_at);
+CREATE INDEX IF NOT EXISTS ix_revoked_token_revoked_at ON revoked_tokens (revoked_at);
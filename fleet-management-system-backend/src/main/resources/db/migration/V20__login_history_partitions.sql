@@ -0,0 +1,52 @@
+-- login_histories becomes range-partitioned by month on logged_at, so retention drops whole partitions
+-- (LoginHistoryPartitionMaintenance) instead of deleting rows. Partitions are named login_histories_YYYY_MM;
+-- the maintenance job keeps a few months ahead created, and the default partition only catches stragglers.
+-- The primary key has to include the partition key, so logged_at becomes NOT NULL.
+
+ALTER TABLE login_histories RENAME TO login_histories_legacy;
+ALTER INDEX login_histories_pkey RENAME TO login_histories_legacy_pkey;
+ALTER INDEX IF EXISTS ix_login_history_account RENAME TO ix_login_history_account_legacy;
+
+CREATE TABLE login_histories
+(
+    id         BIGINT       NOT NULL DEFAULT nextval('login_histories_id_seq'),
+    account_id BIGINT       NOT NULL,
+    logged_at  TIMESTAMP    NOT NULL,
+    ip         VARCHAR(255),
+    user_agent VARCHAR(255),
+    result     VARCHAR(20),
+
+    CONSTRAINT pk_login_histories PRIMARY KEY (id, logged_at),
+    CONSTRAINT fk_login_history_account
+        FOREIGN KEY (account_id) REFERENCES accounts (id) ON DELETE CASCADE
+) PARTITION BY RANGE (logged_at);
+
+CREATE TABLE login_histories_default PARTITION OF login_histories DEFAULT;
+
+-- one partition per month from the oldest row up to three months ahead
+DO $$
+DECLARE
+    month_start DATE := date_trunc('month', COALESCE((SELECT min(logged_at) FROM login_histories_legacy), now()))::date;
+    last_month  DATE := (date_trunc('month', now()) + INTERVAL '3 months')::date;
+BEGIN
+    WHILE month_start <= last_month LOOP
+        EXECUTE format('CREATE TABLE %I PARTITION OF login_histories FOR VALUES FROM (%L) TO (%L)',
+                       'login_histories_' || to_char(month_start, 'YYYY_MM'),
+                       month_start,
+                       (month_start + INTERVAL '1 month')::date);
+        month_start := (month_start + INTERVAL '1 month')::date;
+    END LOOP;
+END $$;
+
+-- rows without a timestamp predate V14; they go to the default partition and are never dropped by retention
+INSERT INTO login_histories (id, account_id, logged_at, ip, user_agent, result)
+SELECT id, account_id, COALESCE(logged_at, TIMESTAMP '1970-01-01'), ip, user_agent, result
+FROM login_histories_legacy;
+
+ALTER SEQUENCE login_histories_id_seq OWNED BY login_histories.id;
+DROP TABLE login_histories_legacy;
+
+-- per-account history, newest first (keyset on logged_at, id)
+CREATE INDEX ix_login_history_account ON login_histories (account_id, logged_at, id);
+-- time-range scans across all accounts; rows arrive in logged_at order, which is what BRIN needs
+CREATE INDEX ix_login_history_logged_at_brin ON login_histories USING brin (logged_at);
@@ -0,0 +1,7 @@
+-- The driver timeline reads a driver's status histories newest first, keyset on (changed_at, id), in one query
+-- over the driver's transports (ix_transport_driver). With changed_at and id in the index, each per-transport
+-- scan applies the [from, to) window and the keyset bound inside the index instead of on heap rows. PostgreSQL
+-- still reads every remaining row of every transport and then sorts them; the sort is a bounded top-N heapsort,
+-- so memory stays at the slice size, but the rows read grow with the driver's history below the cursor.
+DROP INDEX IF EXISTS ix_status_history_transport;
+CREATE INDEX ix_status_history_transport ON status_histories (transport_id, changed_at, id);
@@ -0,0 +1,18 @@
+-- Transactional outbox behind GET /api/changes: one row per changed transport, cargo, work log, vehicle, trailer
+-- or driver, written in the transaction that changed it. Rows are inserted under a transaction-level advisory
+-- lock right before commit, so seq order is commit order and a reader never sees seq N+1 before seq N.
+CREATE TABLE IF NOT EXISTS change_log (
+    seq         BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    entity_type VARCHAR(20) NOT NULL,
+    entity_id   BIGINT      NOT NULL,
+    operation   VARCHAR(10) NOT NULL,
+    changed_at  TIMESTAMP   NOT NULL,
+    CONSTRAINT ck_change_log_entity_type
+        CHECK (entity_type IN ('TRANSPORT', 'CARGO', 'WORK_LOG', 'VEHICLE', 'TRAILER', 'DRIVER')),
+    CONSTRAINT ck_change_log_operation CHECK (operation IN ('UPSERT', 'DELETE'))
+);
+
+-- compaction finds the newer entry for the same entity
+CREATE INDEX IF NOT EXISTS ix_change_log_entity ON change_log (entity_type, entity_id, seq);
+-- retention deletes by age
+CREATE INDEX IF NOT EXISTS ix_change_log_changed_at ON change_log (changed_at);
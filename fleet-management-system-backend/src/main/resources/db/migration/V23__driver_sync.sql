@@ -0,0 +1,21 @@
+-- Delta sync for the driver app (GET /api/drivers/my-sync): a transport is stamped whenever it or one of its
+-- cargos changes, so "what changed for driver D since W" is one range scan on (driver_id, updated_at).
+-- Existing rows are stamped with the migration time; a client's first sync is a full one anyway.
+ALTER TABLE transports ADD COLUMN IF NOT EXISTS updated_at TIMESTAMP NOT NULL DEFAULT NOW();
+ALTER TABLE cargos ADD COLUMN IF NOT EXISTS updated_at TIMESTAMP NOT NULL DEFAULT NOW();
+
+CREATE INDEX IF NOT EXISTS ix_transport_driver_updated ON transports (driver_id, updated_at);
+
+-- A row that left a driver's view (deleted, or reassigned to another driver) can no longer be found through
+-- driver_id, so the removal is kept here for the driver until the sync retention has passed.
+CREATE TABLE IF NOT EXISTS driver_sync_tombstones (
+    id          BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    driver_id   BIGINT      NOT NULL,
+    entity_type VARCHAR(20) NOT NULL,
+    entity_id   BIGINT      NOT NULL,
+    removed_at  TIMESTAMP   NOT NULL,
+    CONSTRAINT ck_driver_sync_tombstones_entity_type CHECK (entity_type IN ('TRANSPORT', 'CARGO'))
+);
+
+CREATE INDEX IF NOT EXISTS ix_driver_sync_tombstones_driver ON driver_sync_tombstones (driver_id, removed_at);
+CREATE INDEX IF NOT EXISTS ix_driver_sync_tombstones_removed_at ON driver_sync_tombstones (removed_at);
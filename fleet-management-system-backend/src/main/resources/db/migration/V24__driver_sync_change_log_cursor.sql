@@ -0,0 +1,15 @@
+-- Driver sync reads from change_log instead of updated_at: a tombstone is reported once its row, or the transport
+-- it belonged to, has an entry after the client's watermark. Reassignment records an entry for the transport
+-- only, so cargo tombstones keep their transport's id.
+ALTER TABLE driver_sync_tombstones ADD COLUMN IF NOT EXISTS transport_id BIGINT;
+
+UPDATE driver_sync_tombstones SET transport_id = entity_id WHERE entity_type = 'TRANSPORT' AND transport_id IS NULL;
+UPDATE driver_sync_tombstones x SET transport_id = c.transport_id
+FROM cargos c
+WHERE x.entity_type = 'CARGO' AND x.transport_id IS NULL AND c.id = x.entity_id;
+
+-- The updated_at stamps and their index from V23 were the previous sync watermark and have no reader left;
+-- transports are still found per driver through ix_transport_driver.
+DROP INDEX IF EXISTS ix_transport_driver_updated;
+ALTER TABLE transports DROP COLUMN IF EXISTS updated_at;
+ALTER TABLE cargos DROP COLUMN IF EXISTS updated_at;
@@ -1,17 +1,21 @@
 package com.damocles.fleet.fleetmanagementsystembackend.account;
 
 import com.damocles.fleet.fleetmanagementsystembackend.domain.Account;
+import com.damocles.fleet.fleetmanagementsystembackend.domain.AccountStatus;
 import com.damocles.fleet.fleetmanagementsystembackend.domain.User;
 import com.damocles.fleet.fleetmanagementsystembackend.domain.UserRole;
 import com.damocles.fleet.fleetmanagementsystembackend.dto.account.AccountChangePasswordDTO;
 import com.damocles.fleet.fleetmanagementsystembackend.dto.account.AccountRolesUpdateDTO;
 import com.damocles.fleet.fleetmanagementsystembackend.dto.account.AccountRegisterDTO;
+import com.damocles.fleet.fleetmanagementsystembackend.dto.account.AccountStatusUpdateDTO;
 import com.damocles.fleet.fleetmanagementsystembackend.exception.BusinessValidationException;
 import com.damocles.fleet.fleetmanagementsystembackend.exception.ConflictException;
 import com.damocles.fleet.fleetmanagementsystembackend.exception.ForbiddenException;
 import com.damocles.fleet.fleetmanagementsystembackend.mapper.IAccountMapper;
 import com.damocles.fleet.fleetmanagementsystembackend.repository.IAccountRepository;
 import com.damocles.fleet.fleetmanagementsystembackend.repository.IUserRepository;
+import com.damocles.fleet.fleetmanagementsystembackend.security.AccountSecurityCache;
+import com.damocles.fleet.fleetmanagementsystembackend.security.PrincipalContextCache;
 import com.damocles.fleet.fleetmanagementsystembackend.service.AccountService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -23,7 +27,9 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import java.util.Optional;
 import java.util.Set;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -33,12 +39,15 @@ class AccountServiceTest {
     @Mock IUserRepository userRepo;
     @Mock PasswordEncoder passwordEncoder;
     @Mock IAccountMapper mapper;
+    @Mock AccountSecurityCache accountSecurityCache;
+    @Mock PrincipalContextCache principalContextCache;
 
     private AccountService service;
 
     @BeforeEach
     void setUp() {
-        service = new AccountService(accountRepo, userRepo, passwordEncoder, mapper);
+        service = new AccountService(accountRepo, userRepo, passwordEncoder, mapper, accountSecurityCache,
+                principalContextCache);
     }
 
     @Test
@@ -93,4 +102,17 @@ class AccountServiceTest {
 
         assertThrows(BusinessValidationException.class, () -> service.updateRoles(1L, dto));
     }
+
+    @Test
+    void updateStatus_invalidates_cached_security_state() {
+        Account acc = new Account();
+        acc.setLogin("dispatcher");
+        acc.setStatus(AccountStatus.ACTIVE);
+        when(accountRepo.findById(1L)).thenReturn(Optional.of(acc));
+
+        service.updateStatus(1L, new AccountStatusUpdateDTO(AccountStatus.INACTIVE));
+
+        assertEquals(AccountStatus.INACTIVE, acc.getStatus());
+        verify(accountSecurityCache).invalidateAfterCommit("dispatcher");
+    }
 }
@@ -6,6 +6,8 @@ import com.damocles.fleet.fleetmanagementsystembackend.exception.BusinessValidat
 import com.damocles.fleet.fleetmanagementsystembackend.mapper.ITrailerMapper;
 import com.damocles.fleet.fleetmanagementsystembackend.repository.ITrailerRepository;
 import com.damocles.fleet.fleetmanagementsystembackend.repository.ITransportRepository;
+import com.damocles.fleet.fleetmanagementsystembackend.service.ChangeRecorder;
+import com.damocles.fleet.fleetmanagementsystembackend.service.ResourceAvailabilityRegistry;
 import com.damocles.fleet.fleetmanagementsystembackend.service.TrailerService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -24,12 +26,15 @@ class TrailerServiceTest {
     @Mock ITrailerRepository trailerRepository;
     @Mock ITrailerMapper trailerMapper;
     @Mock ITransportRepository transportRepository;
+    @Mock ResourceAvailabilityRegistry availabilityRegistry;
+    @Mock ChangeRecorder changeRecorder;
 
     private TrailerService service;
 
     @BeforeEach
     void setUp() {
-        service = new TrailerService(trailerRepository, trailerMapper, transportRepository);
+        service = new TrailerService(trailerRepository, trailerMapper, transportRepository, availabilityRegistry,
+                changeRecorder);
     }
 
     @Test
@@ -1,31 +1,51 @@
 package com.damocles.fleet.fleetmanagementsystembackend.assets;
 
+import com.damocles.fleet.fleetmanagementsystembackend.domain.Transport;
+import com.damocles.fleet.fleetmanagementsystembackend.domain.TransportStatus;
+import com.damocles.fleet.fleetmanagementsystembackend.domain.Vehicle;
 import com.damocles.fleet.fleetmanagementsystembackend.domain.VehicleStatus;
 import com.damocles.fleet.fleetmanagementsystembackend.dto.vehicle.CreateVehicleRequest;
+import com.damocles.fleet.fleetmanagementsystembackend.dto.vehicle.VehicleDTO;
+import com.damocles.fleet.fleetmanagementsystembackend.repository.ILocationRepository;
+import com.damocles.fleet.fleetmanagementsystembackend.repository.ITrailerRepository;
 import com.damocles.fleet.fleetmanagementsystembackend.repository.ITransportRepository;
+import com.damocles.fleet.fleetmanagementsystembackend.repository.IUserRepository;
 import com.damocles.fleet.fleetmanagementsystembackend.repository.IVehicleRepository;
 import com.damocles.fleet.fleetmanagementsystembackend.service.VehicleService;
 import com.damocles.fleet.fleetmanagementsystembackend.support.AbstractPostgresIT;
+import com.damocles.fleet.fleetmanagementsystembackend.support.TestDataFactory;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.PageRequest;
 
+import java.time.Instant;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class VehicleServiceIT extends AbstractPostgresIT {
 
     @Autowired VehicleService service;
     @Autowired IVehicleRepository vehicleRepository;
     @Autowired ITransportRepository transportRepository;
+    @Autowired ITrailerRepository trailerRepository;
+    @Autowired ILocationRepository locationRepository;
+    @Autowired IUserRepository userRepository;
+    @Autowired TestDataFactory dataFactory;
 
     @AfterEach
     void clean() {
         transportRepository.deleteAll();
         vehicleRepository.deleteAll();
+        trailerRepository.deleteAll();
+        locationRepository.deleteAll();
+        userRepository.deleteAll();
     }
 
     @Test
@@ -47,4 +67,38 @@ class VehicleServiceIT extends AbstractPostgresIT {
         var updated = service.updateStatus(created.id(), VehicleStatus.IN_SERVICE);
         assertEquals(VehicleStatus.IN_SERVICE, updated.vehicleStatus());
     }
+
+    @Test
+    void search_page_resolves_assignment_flags_per_vehicle() {
+        var idle = dataFactory.createVehicle("PL-FLAG-IDLE");
+        var planned = dataFactory.createVehicle("PL-FLAG-PLANNED");
+        var running = dataFactory.createVehicle("PL-FLAG-RUNNING");
+        saveTransport(planned, TransportStatus.PLANNED);
+        saveTransport(running, TransportStatus.IN_PROGRESS);
+
+        Map<Long, VehicleDTO> byId = service.searchVehicles("pl-flag", PageRequest.of(0, 10))
+                .stream()
+                .collect(Collectors.toMap(VehicleDTO::id, v -> v));
+
+        assertEquals(3, byId.size());
+        assertFalse(byId.get(idle.getId()).assignedToTransport());
+        assertTrue(byId.get(planned.getId()).assignedToTransport());
+        assertFalse(byId.get(planned.getId()).inProgressAssigned());
+        assertTrue(byId.get(running.getId()).assignedToTransport());
+        assertTrue(byId.get(running.getId()).inProgressAssigned());
+    }
+
+    private void saveTransport(Vehicle vehicle, TransportStatus status) {
+        transportRepository.save(Transport.builder()
+                .createdBy(dataFactory.createUser(null))
+                .vehicle(vehicle)
+                .trailer(dataFactory.createTrailer("TR-" + vehicle.getLicensePlate()))
+                .pickupLocation(dataFactory.createLocation(null))
+                .deliveryLocation(dataFactory.createLocation(null))
+                .plannedStartAt(Instant.now())
+                .status(status)
+                .cargos(new ArrayList<>())
+                .statusHistories(new ArrayList<>())
+                .build());
+    }
 }
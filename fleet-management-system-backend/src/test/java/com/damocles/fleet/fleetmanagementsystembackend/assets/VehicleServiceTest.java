@@ -6,6 +6,8 @@ import com.damocles.fleet.fleetmanagementsystembackend.exception.BusinessValidat
 import com.damocles.fleet.fleetmanagementsystembackend.mapper.IVehicleMapper;
 import com.damocles.fleet.fleetmanagementsystembackend.repository.ITransportRepository;
 import com.damocles.fleet.fleetmanagementsystembackend.repository.IVehicleRepository;
+import com.damocles.fleet.fleetmanagementsystembackend.service.ChangeRecorder;
+import com.damocles.fleet.fleetmanagementsystembackend.service.ResourceAvailabilityRegistry;
 import com.damocles.fleet.fleetmanagementsystembackend.service.VehicleService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -24,12 +26,15 @@ class VehicleServiceTest {
     @Mock IVehicleRepository vehicleRepository;
     @Mock IVehicleMapper vehicleMapper;
     @Mock ITransportRepository transportRepository;
+    @Mock ResourceAvailabilityRegistry availabilityRegistry;
+    @Mock ChangeRecorder changeRecorder;
 
     private VehicleService service;
 
     @BeforeEach
     void setUp() {
-        service = new VehicleService(vehicleRepository, vehicleMapper, transportRepository);
+        service = new VehicleService(vehicleRepository, vehicleMapper, transportRepository, availabilityRegistry,
+                changeRecorder);
     }
 
     @Test
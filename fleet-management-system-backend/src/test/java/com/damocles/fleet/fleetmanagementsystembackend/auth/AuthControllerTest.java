@@ -2,7 +2,10 @@ package com.damocles.fleet.fleetmanagementsystembackend.auth;
 
 import com.damocles.fleet.fleetmanagementsystembackend.dto.account.AccountLoginDTO;
 import com.damocles.fleet.fleetmanagementsystembackend.dto.auth.AuthResponse;
+import com.damocles.fleet.fleetmanagementsystembackend.security.AccountSecurityCache;
 import com.damocles.fleet.fleetmanagementsystembackend.security.JwtService;
+import com.damocles.fleet.fleetmanagementsystembackend.security.LoginThrottle;
+import com.damocles.fleet.fleetmanagementsystembackend.security.PasswordHashingPool;
 import com.damocles.fleet.fleetmanagementsystembackend.service.AuthService;
 import com.damocles.fleet.fleetmanagementsystembackend.web.AuthController;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -10,6 +13,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
@@ -19,10 +23,12 @@ import java.util.Map;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(AuthController.class)
+@Import({LoginThrottle.class, PasswordHashingPool.class})
 @AutoConfigureMockMvc(addFilters = false)
 class AuthControllerTest {
 
@@ -31,6 +37,7 @@ class AuthControllerTest {
 
     @MockitoBean AuthService authService;
     @MockitoBean JwtService jwtService;
+    @MockitoBean AccountSecurityCache accountSecurityCache;
 
     @Test
     void login_success_shouldReturnTokens() throws Exception {
@@ -63,6 +70,30 @@ class AuthControllerTest {
                 .andExpect(status().isUnauthorized());
     }
 
+    @Test
+    void login_flood_forOneLogin_shouldReturn429WithRetryAfter() throws Exception {
+        when(authService.login(org.mockito.ArgumentMatchers.eq("flood"), org.mockito.ArgumentMatchers.any(), org.mockito.ArgumentMatchers.any()))
+                .thenThrow(new BadCredentialsException("bad"));
+
+        // per-login bucket holds 10 attempts
+        for (int i = 0; i < 10; i++) {
+            mvc.perform(post("/api/auth/login")
+                            .contentType("application/json")
+                            .content("""
+                                    {"login":"flood","password":"wrong"}
+                                    """))
+                    .andExpect(status().isUnauthorized());
+        }
+
+        mvc.perform(post("/api/auth/login")
+                        .contentType("application/json")
+                        .content("""
+                                {"login":"flood","password":"wrong"}
+                                """))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().exists("Retry-After"));
+    }
+
     @Test
     void refresh_invalidToken_shouldReturn401() throws Exception {
         when(authService.refresh("bad")).thenReturn(null);
@@ -2,8 +2,12 @@ package com.damocles.fleet.fleetmanagementsystembackend.auth;
 
 import com.damocles.fleet.fleetmanagementsystembackend.domain.UserRole;
 import com.damocles.fleet.fleetmanagementsystembackend.repository.IAccountRepository;
+import com.damocles.fleet.fleetmanagementsystembackend.repository.IRevokedTokenRepository;
 import com.damocles.fleet.fleetmanagementsystembackend.repository.IUserRepository;
+import com.damocles.fleet.fleetmanagementsystembackend.security.PasswordRehasher;
+import com.damocles.fleet.fleetmanagementsystembackend.security.TokenRevocationStore;
 import com.damocles.fleet.fleetmanagementsystembackend.support.AbstractPostgresIT;
+import com.damocles.fleet.fleetmanagementsystembackend.support.AuthTestUtils;
 import com.damocles.fleet.fleetmanagementsystembackend.support.TestDataFactory;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -11,10 +15,15 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.util.Set;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
@@ -28,9 +37,12 @@ class AuthFlowIT extends AbstractPostgresIT {
     @Autowired TestDataFactory dataFactory;
     @Autowired IAccountRepository accountRepository;
     @Autowired IUserRepository userRepository;
+    @Autowired IRevokedTokenRepository revokedTokenRepository;
+    @Autowired PasswordRehasher passwordRehasher;
 
     @AfterEach
     void clean() {
+        revokedTokenRepository.deleteAll();
         accountRepository.deleteAll();
         userRepository.deleteAll();
     }
@@ -75,4 +87,49 @@ class AuthFlowIT extends AbstractPostgresIT {
                         .header("Authorization", "Bearer " + accessToken))
                 .andExpect(status().isUnauthorized());
     }
+
+    @Test
+    void logout_is_persisted_and_seen_by_a_fresh_store() throws Exception {
+        dataFactory.createAccount("admin", "pass123", Set.of(UserRole.ADMIN));
+        String accessToken = AuthTestUtils.loginAndGetToken(mvc, om, "admin", "pass123");
+
+        mvc.perform(post("/api/auth/logout")
+                        .header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isOk());
+        // a second logout with the same token is a no-op
+        mvc.perform(post("/api/auth/logout")
+                        .header("Authorization", "Bearer " + accessToken))
+                .andExpect(status().isOk());
+
+        var revoked = revokedTokenRepository.findAll();
+        assertEquals(1, revoked.size());
+        assertEquals(64, revoked.get(0).getTokenDigest().length());
+
+        // what a restarted instance or another replica would load
+        var restarted = new TokenRevocationStore(revokedTokenRepository, 100, 100);
+        restarted.load();
+        assertTrue(restarted.isRevoked(accessToken));
+    }
+
+    @Test
+    void login_upgrades_a_weaker_stored_hash_in_the_background() throws Exception {
+        var account = dataFactory.createAccount("legacy", "pass123", Set.of(UserRole.DISPATCHER));
+        String weak = new BCryptPasswordEncoder(4).encode("pass123");
+        account.setPasswordHash(weak);
+        accountRepository.save(account);
+
+        AuthTestUtils.loginAndGetToken(mvc, om, "legacy", "pass123");
+
+        String stored = weak;
+        long deadline = System.nanoTime() + 10_000_000_000L;
+        while (stored.equals(weak) && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+            stored = accountRepository.findByLoginIgnoreCase("legacy").orElseThrow().getPasswordHash();
+        }
+        assertTrue(stored.startsWith("$2a$10$"), stored);
+        assertEquals(0, passwordRehasher.backlog());
+
+        // the upgraded hash still accepts the same password
+        assertNotNull(AuthTestUtils.loginAndGetToken(mvc, om, "legacy", "pass123"));
+    }
 }
@@ -7,6 +7,8 @@ import com.damocles.fleet.fleetmanagementsystembackend.domain.UserRole;
 import com.damocles.fleet.fleetmanagementsystembackend.dto.auth.AuthResponse;
 import com.damocles.fleet.fleetmanagementsystembackend.repository.IAccountRepository;
 import com.damocles.fleet.fleetmanagementsystembackend.security.JwtService;
+import com.damocles.fleet.fleetmanagementsystembackend.security.PasswordRehasher;
+import com.damocles.fleet.fleetmanagementsystembackend.security.PrincipalContextCache;
 import com.damocles.fleet.fleetmanagementsystembackend.service.AuthService;
 import com.damocles.fleet.fleetmanagementsystembackend.service.LoginHistoryService;
 import jakarta.servlet.http.HttpServletRequest;
@@ -44,13 +46,16 @@ class AuthServiceTest {
     @Mock JwtService jwtService;
     @Mock IAccountRepository accountRepository;
     @Mock LoginHistoryService loginHistoryService;
+    @Mock PrincipalContextCache principalContextCache;
+    @Mock PasswordRehasher passwordRehasher;
     @Mock HttpServletRequest httpRequest;
 
     private AuthService service;
 
     @BeforeEach
     void setUp() {
-        service = new AuthService(authManager, jwtService, accountRepository, loginHistoryService);
+        service = new AuthService(authManager, jwtService, accountRepository, loginHistoryService,
+                principalContextCache, passwordRehasher);
     }
 
     @Test
@@ -65,6 +70,7 @@ class AuthServiceTest {
         account.setCreatedAt(Instant.now());
         account.setUser(user);
         account.setRoles(Set.of(UserRole.ADMIN));
+        account.setPasswordHash("$2a$04$stored");
 
         when(authManager.authenticate(any()))
                 .thenReturn(new UsernamePasswordAuthenticationToken("admin", "x"));
@@ -81,20 +87,19 @@ class AuthServiceTest {
         assertEquals("access", response.accessToken());
         assertEquals("refresh", response.refreshToken());
         verify(loginHistoryService).logAttempt(10L, "SUCCESS", "127.0.0.1", "UA");
+        verify(passwordRehasher).upgradeIfNeeded(10L, "$2a$04$stored", "pass");
     }
 
     @Test
-    void login_bad_credentials_logs_failure_when_account_exists() {
+    void login_bad_credentials_logs_failure_by_login_without_account_lookup() {
         when(authManager.authenticate(any())).thenThrow(new BadCredentialsException("bad"));
-        when(accountRepository.findByLoginIgnoreCase("admin"))
-                .thenReturn(Optional.of(new Account() {{
-                    setId(77L);
-                }}));
         when(httpRequest.getRemoteAddr()).thenReturn("127.0.0.1");
         when(httpRequest.getHeader("User-Agent")).thenReturn("UA");
 
         assertThrows(BadCredentialsException.class, () -> service.login("admin", "bad", httpRequest));
-        verify(loginHistoryService).logAttempt(77L, "FAILURE", "127.0.0.1", "UA");
+        verify(loginHistoryService).logFailedAttempt("admin", "127.0.0.1", "UA");
+        verify(accountRepository, never()).findByLoginIgnoreCase(any());
+        verify(passwordRehasher, never()).upgradeIfNeeded(any(), any(), any());
     }
 
     @Test
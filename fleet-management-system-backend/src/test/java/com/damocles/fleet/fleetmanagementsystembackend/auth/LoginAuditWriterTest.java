@@ -0,0 +1,103 @@
+package com.damocles.fleet.fleetmanagementsystembackend.auth;
+
+import com.damocles.fleet.fleetmanagementsystembackend.dto.loginHistory.LoginAttempt;
+import com.damocles.fleet.fleetmanagementsystembackend.repository.ILoginHistoryRepository;
+import com.damocles.fleet.fleetmanagementsystembackend.service.LoginAuditWriter;
+import com.damocles.fleet.fleetmanagementsystembackend.service.LoginAuditWriter.OverflowPolicy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+
+@ExtendWith(MockitoExtension.class)
+class LoginAuditWriterTest {
+
+    @Mock ILoginHistoryRepository repository;
+
+    private LoginAuditWriter writer;
+
+    @AfterEach
+    void stop() {
+        if (writer != null) writer.stop();
+    }
+
+    @Test
+    void attempts_are_written_in_batches_of_at_most_batch_size() {
+        List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+        doAnswer(inv -> batchSizes.add(inv.<List<?>>getArgument(0).size())).when(repository).insertAll(anyList());
+        writer = new LoginAuditWriter(repository, true, 100, 3, 50, 20, OverflowPolicy.CALLER_RUNS);
+        writer.start();
+
+        for (long i = 0; i < 7; i++) {
+            assertTrue(writer.submit(LoginAttempt.ofAccount(i, "SUCCESS", "127.0.0.1", "UA")));
+        }
+        writer.flush();
+
+        assertEquals(7, batchSizes.stream().mapToInt(Integer::intValue).sum());
+        assertTrue(batchSizes.stream().allMatch(size -> size <= 3));
+        assertEquals(0, writer.pending());
+    }
+
+    @Test
+    void full_queue_drops_under_drop_policy_and_stop_writes_the_rest() throws Exception {
+        CountDownLatch taken = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+        doAnswer(inv -> {
+            taken.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return batchSizes.add(inv.<List<?>>getArgument(0).size());
+        }).when(repository).insertAll(anyList());
+        writer = new LoginAuditWriter(repository, true, 1, 10, 10, 1, OverflowPolicy.DROP);
+        writer.start();
+
+        // the worker takes the first attempt and blocks writing it; the second fills the queue
+        assertTrue(writer.submit(LoginAttempt.ofLogin("driver", "FAILURE", null, null)));
+        assertTrue(taken.await(5, TimeUnit.SECONDS));
+        assertTrue(writer.submit(LoginAttempt.ofLogin("driver", "FAILURE", null, null)));
+        assertFalse(writer.submit(LoginAttempt.ofLogin("driver", "FAILURE", null, null)));
+        assertEquals(1, writer.droppedCount());
+
+        release.countDown();
+        writer.stop();
+
+        assertEquals(2, batchSizes.stream().mapToInt(Integer::intValue).sum());
+    }
+
+    @Test
+    void attempts_submitted_while_stopping_are_all_written() throws Exception {
+        AtomicInteger written = new AtomicInteger();
+        doAnswer(inv -> written.addAndGet(inv.<List<?>>getArgument(0).size())).when(repository).insertAll(anyList());
+        writer = new LoginAuditWriter(repository, true, 10_000, 50, 10, 20, OverflowPolicy.CALLER_RUNS);
+        writer.start();
+
+        int perThread = 2_000;
+        List<Thread> submitters = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            submitters.add(Thread.ofPlatform().start(() -> {
+                for (long i = 0; i < perThread; i++) {
+                    writer.submit(LoginAttempt.ofAccount(i, "SUCCESS", null, null));
+                }
+            }));
+        }
+        writer.stop();
+        for (Thread submitter : submitters) submitter.join();
+
+        assertEquals(4 * perThread, written.get());
+        assertEquals(0, writer.pending());
+    }
+}
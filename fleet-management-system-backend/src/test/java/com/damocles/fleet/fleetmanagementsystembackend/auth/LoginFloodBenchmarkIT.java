@@ -0,0 +1,142 @@
+package com.damocles.fleet.fleetmanagementsystembackend.auth;
+
+import com.damocles.fleet.fleetmanagementsystembackend.domain.UserRole;
+import com.damocles.fleet.fleetmanagementsystembackend.repository.IAccountRepository;
+import com.damocles.fleet.fleetmanagementsystembackend.repository.IUserRepository;
+import com.damocles.fleet.fleetmanagementsystembackend.support.AbstractPostgresIT;
+import com.damocles.fleet.fleetmanagementsystembackend.support.TestDataFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.TestPropertySource;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Opt-in load test: latency of an authenticated GET before and during a flood of bad logins.
+// The per-IP bucket is opened wide so the flood reaches BCrypt and only the hashing pool protects the cores;
+// rejected attempts must come back as 429 rather than queue.
+// Run with: mvn test -Dtest=LoginFloodBenchmarkIT -Dbenchmark=true [-Dbenchmark.flooders=64]
+@Slf4j
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+@TestPropertySource(properties = {
+        "security.login-throttle.per-ip.capacity=1000000",
+        "security.login-throttle.per-ip.per-minute=1000000",
+        "security.login-throttle.per-login.capacity=10",
+        "security.login-throttle.per-login.per-minute=5"
+})
+class LoginFloodBenchmarkIT extends AbstractPostgresIT {
+
+    private static final int SAMPLES = 500;
+
+    @LocalServerPort int port;
+    @Autowired ObjectMapper om;
+    @Autowired TestDataFactory dataFactory;
+    @Autowired IAccountRepository accountRepository;
+    @Autowired IUserRepository userRepository;
+
+    private final HttpClient http = HttpClient.newHttpClient();
+
+    @AfterEach
+    void clean() {
+        accountRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void authenticated_latency_stays_flat_during_login_flood() throws Exception {
+        dataFactory.createAccount("bench-admin", "pass123", Set.of(UserRole.ADMIN));
+        for (int i = 0; i < 50; i++) {
+            dataFactory.createAccount("bench-victim-" + i, "pass123", Set.of(UserRole.DRIVER));
+        }
+        String token = login("bench-admin", "pass123");
+
+        long[] baseline = sampleMe(token);
+
+        int flooders = Integer.getInteger("benchmark.flooders", 64);
+        AtomicBoolean flooding = new AtomicBoolean(true);
+        Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+        ExecutorService pool = Executors.newFixedThreadPool(flooders);
+        for (int t = 0; t < flooders; t++) {
+            int thread = t;
+            pool.submit(() -> {
+                int n = 0;
+                while (flooding.get()) {
+                    String victim = "bench-victim-" + (thread * 31 + n++) % 50;
+                    int status = post("/api/auth/login",
+                            "{\"login\":\"" + victim + "\",\"password\":\"wrong\"}").statusCode();
+                    statuses.computeIfAbsent(status, s -> new LongAdder()).increment();
+                }
+                return null;
+            });
+        }
+        Thread.sleep(2_000);
+
+        long[] duringFlood = sampleMe(token);
+        flooding.set(false);
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(30, TimeUnit.SECONDS));
+
+        log.info(String.format("GET /api/me baseline     p50=%6.2fms p99=%6.2fms", p(baseline, 50), p(baseline, 99)));
+        log.info(String.format("GET /api/me during flood p50=%6.2fms p99=%6.2fms",
+                p(duringFlood, 50), p(duringFlood, 99)));
+        log.info("login responses by status: {}", statuses);
+
+        assertTrue(statuses.containsKey(429), "flood should be throttled");
+        assertEquals(Set.of(401, 429), statuses.keySet());
+    }
+
+    private long[] sampleMe(String token) throws Exception {
+        long[] nanos = new long[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/me"))
+                    .header("Authorization", "Bearer " + token)
+                    .GET()
+                    .build();
+            long start = System.nanoTime();
+            HttpResponse<String> response = http.send(request, HttpResponse.BodyHandlers.ofString());
+            nanos[i] = System.nanoTime() - start;
+            assertEquals(200, response.statusCode());
+        }
+        Arrays.sort(nanos);
+        return nanos;
+    }
+
+    private String login(String login, String password) throws Exception {
+        HttpResponse<String> response = post("/api/auth/login",
+                "{\"login\":\"" + login + "\",\"password\":\"" + password + "\"}");
+        assertEquals(200, response.statusCode());
+        return om.readTree(response.body()).get("accessToken").asText();
+    }
+
+    private HttpResponse<String> post(String path, String json) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+        return http.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private double p(long[] sortedNanos, int percentile) {
+        int idx = Math.min(sortedNanos.length - 1, (int) Math.ceil(percentile / 100.0 * sortedNanos.length) - 1);
+        return sortedNanos[idx] / 1_000_000.0;
+    }
+}
@@ -0,0 +1,83 @@
+package com.damocles.fleet.fleetmanagementsystembackend.auth;
+
+import com.damocles.fleet.fleetmanagementsystembackend.exception.TooManyRequestsException;
+import com.damocles.fleet.fleetmanagementsystembackend.security.LoginThrottle;
+import com.damocles.fleet.fleetmanagementsystembackend.security.PasswordHashingPool;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LoginThrottleTest {
+
+    @Test
+    void login_bucket_rejects_once_empty_but_other_logins_pass() {
+        var throttle = new LoginThrottle(100, 100, 2, 1, 1000, new PasswordHashingPool(2, 2));
+
+        assertEquals("ok", throttle.run("Admin", "10.0.0.1", () -> "ok"));
+        assertEquals("ok", throttle.run("admin ", "10.0.0.2", () -> "ok"));
+
+        var ex = assertThrows(TooManyRequestsException.class, () -> throttle.run("admin", "10.0.0.3", () -> "ok"));
+        assertTrue(ex.getRetryAfter().toSeconds() > 0);
+        assertEquals("ok", throttle.run("dispatcher", "10.0.0.1", () -> "ok"));
+    }
+
+    @Test
+    void ip_bucket_limits_attempts_across_logins() {
+        var throttle = new LoginThrottle(3, 1, 100, 100, 1000, new PasswordHashingPool(2, 2));
+
+        for (int i = 0; i < 3; i++) {
+            String login = "user" + i;
+            throttle.run(login, "10.0.0.9", () -> login);
+        }
+
+        assertThrows(TooManyRequestsException.class, () -> throttle.run("user9", "10.0.0.9", () -> "ok"));
+    }
+
+    @Test
+    void attempt_refused_by_the_login_bucket_keeps_the_ip_token() {
+        var throttle = new LoginThrottle(2, 1, 1, 1, 1000, new PasswordHashingPool(2, 2));
+
+        throttle.run("admin", "10.0.0.9", () -> "ok");
+        assertThrows(TooManyRequestsException.class, () -> throttle.run("admin", "10.0.0.9", () -> "ok"));
+
+        assertEquals("ok", throttle.run("dispatcher", "10.0.0.9", () -> "ok"));
+    }
+
+    @Test
+    void saturated_hashing_pool_rejects_immediately() throws Exception {
+        var throttle = new LoginThrottle(100, 100, 100, 100, 1000, new PasswordHashingPool(1, 1));
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        // one attempt occupies the only hashing thread, a second one fills the queue
+        var running = CompletableFuture.supplyAsync(() -> throttle.run("a", "10.0.0.1", () -> {
+            started.countDown();
+            await(release);
+            return "a";
+        }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        var queued = CompletableFuture.supplyAsync(() -> throttle.run("b", "10.0.0.1", () -> "b"));
+        Thread.sleep(100);
+
+        var ex = assertThrows(TooManyRequestsException.class, () -> throttle.run("c", "10.0.0.1", () -> "c"));
+        assertEquals(1, ex.getRetryAfter().toSeconds());
+
+        release.countDown();
+        assertEquals("a", running.get(5, TimeUnit.SECONDS));
+        assertEquals("b", queued.get(5, TimeUnit.SECONDS));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
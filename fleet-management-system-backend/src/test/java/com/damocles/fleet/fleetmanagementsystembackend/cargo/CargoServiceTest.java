@@ -11,6 +11,8 @@ import com.damocles.fleet.fleetmanagementsystembackend.mapper.ICargoMapper;
 import com.damocles.fleet.fleetmanagementsystembackend.repository.ICargoRepository;
 import com.damocles.fleet.fleetmanagementsystembackend.repository.ITransportRepository;
 import com.damocles.fleet.fleetmanagementsystembackend.service.CargoService;
+import com.damocles.fleet.fleetmanagementsystembackend.service.ChangeRecorder;
+import com.damocles.fleet.fleetmanagementsystembackend.service.DriverSyncService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -30,12 +32,15 @@ class CargoServiceTest {
     @Mock ICargoRepository cargoRepository;
     @Mock ITransportRepository transportRepository;
     @Mock ICargoMapper cargoMapper;
+    @Mock ChangeRecorder changeRecorder;
+    @Mock DriverSyncService driverSyncService;
 
     private CargoService service;
 
     @BeforeEach
     void setUp() {
-        service = new CargoService(cargoRepository, transportRepository, cargoMapper);
+        service = new CargoService(cargoRepository, transportRepository, cargoMapper, changeRecorder,
+                driverSyncService);
     }
 
     @Test
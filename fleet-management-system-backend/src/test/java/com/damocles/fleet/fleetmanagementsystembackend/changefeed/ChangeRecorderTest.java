@@ -0,0 +1,83 @@
+package com.damocles.fleet.fleetmanagementsystembackend.changefeed;
+
+import com.damocles.fleet.fleetmanagementsystembackend.domain.ChangeEntityType;
+import com.damocles.fleet.fleetmanagementsystembackend.domain.ChangeLogEntry;
+import com.damocles.fleet.fleetmanagementsystembackend.domain.ChangeOperation;
+import com.damocles.fleet.fleetmanagementsystembackend.repository.IChangeLogRepository;
+import com.damocles.fleet.fleetmanagementsystembackend.service.ChangeRecorder;
+import com.damocles.fleet.fleetmanagementsystembackend.service.ChangesCommittedEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ChangeRecorderTest {
+
+    @Mock IChangeLogRepository changeLogRepository;
+    @Mock ApplicationEventPublisher eventPublisher;
+    @InjectMocks ChangeRecorder recorder;
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void one_entry_per_entity_is_appended_before_commit_and_the_last_operation_wins() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        recorder.upsert(ChangeEntityType.TRANSPORT, 1L);
+        recorder.upsert(ChangeEntityType.CARGO, 1L);
+        recorder.upsert(ChangeEntityType.TRANSPORT, 1L);
+        recorder.delete(ChangeEntityType.CARGO, 1L);
+        verify(changeLogRepository, never()).appendAll(anyList());
+
+        List<TransactionSynchronization> syncs = TransactionSynchronizationManager.getSynchronizations();
+        assertEquals(1, syncs.size());
+        syncs.get(0).beforeCommit(false);
+
+        ArgumentCaptor<List<ChangeLogEntry>> batch = ArgumentCaptor.forClass(List.class);
+        verify(changeLogRepository).appendAll(batch.capture());
+        List<ChangeLogEntry> entries = batch.getValue();
+        assertEquals(List.of(ChangeEntityType.TRANSPORT, ChangeEntityType.CARGO),
+                entries.stream().map(ChangeLogEntry::getEntityType).toList());
+        assertEquals(ChangeOperation.DELETE, entries.get(1).getOperation());
+        entries.forEach(e -> assertNotNull(e.getChangedAt()));
+        verify(eventPublisher, never()).publishEvent(any());
+
+        syncs.get(0).afterCommit();
+        verify(eventPublisher).publishEvent(
+                new ChangesCommittedEvent(Set.of(ChangeEntityType.TRANSPORT, ChangeEntityType.CARGO)));
+    }
+
+    @Test
+    void outside_a_transaction_the_entry_is_written_at_once() {
+        recorder.delete(ChangeEntityType.VEHICLE, 7L);
+
+        verify(changeLogRepository).appendAll(argThat(entries -> entries.size() == 1
+                && entries.get(0).getEntityId() == 7L
+                && entries.get(0).getOperation() == ChangeOperation.DELETE));
+        verify(eventPublisher).publishEvent(new ChangesCommittedEvent(Set.of(ChangeEntityType.VEHICLE)));
+    }
+}
@@ -1,11 +1,19 @@
 package com.damocles.fleet.fleetmanagementsystembackend.driver;
 
+import com.damocles.fleet.fleetmanagementsystembackend.domain.Cargo;
 import com.damocles.fleet.fleetmanagementsystembackend.domain.Driver;
+import com.damocles.fleet.fleetmanagementsystembackend.domain.StatusHistory;
+import com.damocles.fleet.fleetmanagementsystembackend.domain.Transport;
+import com.damocles.fleet.fleetmanagementsystembackend.domain.TransportStatus;
 import com.damocles.fleet.fleetmanagementsystembackend.domain.UserRole;
+import com.damocles.fleet.fleetmanagementsystembackend.dto.cargo.UpdateCargoRequest;
 import com.damocles.fleet.fleetmanagementsystembackend.repository.*;
+import com.damocles.fleet.fleetmanagementsystembackend.service.CargoService;
+import com.damocles.fleet.fleetmanagementsystembackend.service.TransportService;
 import com.damocles.fleet.fleetmanagementsystembackend.support.AbstractPostgresIT;
 import com.damocles.fleet.fleetmanagementsystembackend.support.AuthTestUtils;
 import com.damocles.fleet.fleetmanagementsystembackend.support.TestDataFactory;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
@@ -14,8 +22,14 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Set;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
@@ -38,9 +52,13 @@ class DriverControllerIT extends AbstractPostgresIT {
     @Autowired IVehicleRepository vehicleRepository;
     @Autowired ITrailerRepository trailerRepository;
     @Autowired ILocationRepository locationRepository;
+    @Autowired IDriverSyncTombstoneRepository tombstoneRepository;
+    @Autowired TransportService transportService;
+    @Autowired CargoService cargoService;
 
     @AfterEach
     void clean() {
+        tombstoneRepository.deleteAll();
         statusHistoryRepository.deleteAll();
         cargoRepository.deleteAll();
         transportRepository.deleteAll();
@@ -100,4 +118,188 @@ class DriverControllerIT extends AbstractPostgresIT {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.content").isArray());
     }
+
+    @Test
+    void driver_cursor_scrolls_without_overlap() throws Exception {
+        dataFactory.createAccount("admin", "pass123", Set.of(UserRole.ADMIN));
+        for (int i = 0; i < 3; i++) {
+            dataFactory.createDriver(dataFactory.createUser("cursor-driver-" + i), "LIC-CUR-" + i);
+        }
+        String adminToken = AuthTestUtils.loginAndGetToken(mvc, om, "admin", "pass123");
+
+        var first = om.readTree(mvc.perform(get("/api/drivers/cursor")
+                        .header("Authorization", "Bearer " + adminToken)
+                        .param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(2))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andReturn().getResponse().getContentAsString());
+
+        mvc.perform(get("/api/drivers/cursor")
+                        .header("Authorization", "Bearer " + adminToken)
+                        .param("size", "2")
+                        .param("after", first.get("nextCursor").asText()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.hasNext").value(false))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    void driver_cursor_rejects_malformed_token() throws Exception {
+        dataFactory.createAccount("admin", "pass123", Set.of(UserRole.ADMIN));
+        String adminToken = AuthTestUtils.loginAndGetToken(mvc, om, "admin", "pass123");
+
+        mvc.perform(get("/api/drivers/cursor")
+                        .header("Authorization", "Bearer " + adminToken)
+                        .param("after", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void my_timeline_merges_all_my_transports_newest_first_in_slices() throws Exception {
+        var driverAcc = dataFactory.createAccount("timeline-driver", "pass123", Set.of(UserRole.DRIVER));
+        Driver driver = dataFactory.createDriver(driverAcc.getUser(), "LIC-TL-1");
+        Driver other = dataFactory.createDriver(dataFactory.createUser("timeline-other"), "LIC-TL-2");
+
+        Transport first = transportOf(driver, "PL-TL-1");
+        Transport second = transportOf(driver, "PL-TL-2");
+        Transport foreign = transportOf(other, "PL-TL-3");
+
+        Instant t0 = Instant.parse("2026-03-01T08:00:00Z");
+        statusHistoryRepository.insertAll(List.of(
+                history(first, TransportStatus.PLANNED, t0),
+                history(second, TransportStatus.PLANNED, t0.plusSeconds(60)),
+                history(first, TransportStatus.ACCEPTED, t0.plusSeconds(120)),
+                history(second, TransportStatus.ACCEPTED, t0.plusSeconds(120)),
+                history(foreign, TransportStatus.PLANNED, t0.plusSeconds(150)),
+                history(first, TransportStatus.IN_PROGRESS, t0.plusSeconds(180))
+        ));
+
+        List<Long> expected = statusHistoryRepository.findAll().stream()
+                .filter(h -> !h.getTransport().getId().equals(foreign.getId()))
+                .sorted(Comparator.comparing(StatusHistory::getChangedAt).thenComparing(StatusHistory::getId).reversed())
+                .map(StatusHistory::getId)
+                .toList();
+
+        String token = AuthTestUtils.loginAndGetToken(mvc, om, "timeline-driver", "pass123");
+        List<Long> scrolled = new ArrayList<>();
+        String after = null;
+        do {
+            var req = get("/api/drivers/my-transports/timeline")
+                    .header("Authorization", "Bearer " + token)
+                    .param("size", "2");
+            if (after != null) req.param("after", after);
+
+            JsonNode slice = om.readTree(mvc.perform(req)
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString());
+            slice.get("content").forEach(h -> scrolled.add(h.get("id").asLong()));
+            after = slice.get("hasNext").asBoolean() ? slice.get("nextCursor").asText() : null;
+        } while (after != null);
+
+        assertEquals(5, scrolled.size());
+        assertEquals(expected, scrolled);
+
+        mvc.perform(get("/api/drivers/my-transports/timeline")
+                        .header("Authorization", "Bearer " + token)
+                        .param("from", t0.plusSeconds(60).toString())
+                        .param("to", t0.plusSeconds(180).toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(3))
+                .andExpect(jsonPath("$.content[2].status").value("PLANNED"))
+                .andExpect(jsonPath("$.content[2].transportId").value(second.getId()));
+    }
+
+    @Test
+    void my_sync_returns_full_state_first_then_removals_since_the_watermark() throws Exception {
+        var driverAcc = dataFactory.createAccount("sync-driver", "pass123", Set.of(UserRole.DRIVER));
+        Driver driver = dataFactory.createDriver(driverAcc.getUser(), "LIC-SY-1");
+        Driver other = dataFactory.createDriver(dataFactory.createUser("sync-other"), "LIC-SY-2");
+
+        Transport kept = transportOf(driver, "PL-SY-1");
+        Transport dropped = transportOf(driver, "PL-SY-2");
+        transportOf(other, "PL-SY-3");
+        cargoRepository.save(Cargo.builder().transport(kept).cargoDescription("pallets").build());
+
+        String token = AuthTestUtils.loginAndGetToken(mvc, om, "sync-driver", "pass123");
+        JsonNode first = om.readTree(mvc.perform(get("/api/drivers/my-sync")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.full").value(true))
+                .andExpect(jsonPath("$.transports.length()").value(2))
+                .andExpect(jsonPath("$.cargos.length()").value(1))
+                .andExpect(jsonPath("$.cargos[0].transportId").value(kept.getId()))
+                .andExpect(jsonPath("$.removed.length()").value(0))
+                .andReturn().getResponse().getContentAsString());
+
+        transportService.deleteTransport(dropped.getId());
+
+        JsonNode delta = om.readTree(mvc.perform(get("/api/drivers/my-sync")
+                        .header("Authorization", "Bearer " + token)
+                        .param("since", first.get("watermark").asText()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.full").value(false))
+                .andExpect(jsonPath("$.removed.length()").value(1))
+                .andExpect(jsonPath("$.removed[0].type").value("TRANSPORT"))
+                .andExpect(jsonPath("$.removed[0].id").value(dropped.getId()))
+                .andReturn().getResponse().getContentAsString());
+        delta.get("transports").forEach(t -> assertNotEquals(dropped.getId().longValue(), t.get("id").asLong()));
+
+        // nothing changed since the second sync, so nothing comes back
+        mvc.perform(get("/api/drivers/my-sync")
+                        .header("Authorization", "Bearer " + token)
+                        .param("since", delta.get("watermark").asText()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.full").value(false))
+                .andExpect(jsonPath("$.transports.length()").value(0))
+                .andExpect(jsonPath("$.cargos.length()").value(0))
+                .andExpect(jsonPath("$.removed.length()").value(0));
+    }
+
+    @Test
+    void my_sync_returns_a_cargo_edit_that_left_its_transport_unchanged() throws Exception {
+        var driverAcc = dataFactory.createAccount("sync-cargo", "pass123", Set.of(UserRole.DRIVER));
+        Driver driver = dataFactory.createDriver(driverAcc.getUser(), "LIC-SY-3");
+        Transport transport = transportOf(driver, "PL-SY-4");
+        Cargo cargo = cargoRepository.save(Cargo.builder().transport(transport).cargoDescription("pallets").build());
+
+        String token = AuthTestUtils.loginAndGetToken(mvc, om, "sync-cargo", "pass123");
+        JsonNode first = om.readTree(mvc.perform(get("/api/drivers/my-sync")
+                        .header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.full").value(true))
+                .andReturn().getResponse().getContentAsString());
+
+        cargoService.updateCargo(cargo.getId(), new UpdateCargoRequest("crates", null, null, null, null));
+
+        mvc.perform(get("/api/drivers/my-sync")
+                        .header("Authorization", "Bearer " + token)
+                        .param("since", first.get("watermark").asText()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.full").value(false))
+                .andExpect(jsonPath("$.transports.length()").value(0))
+                .andExpect(jsonPath("$.cargos.length()").value(1))
+                .andExpect(jsonPath("$.cargos[0].id").value(cargo.getId()))
+                .andExpect(jsonPath("$.cargos[0].cargoDescription").value("crates"));
+    }
+
+    private Transport transportOf(Driver driver, String plate) {
+        return transportRepository.save(Transport.builder()
+                .createdBy(dataFactory.createUser(null))
+                .driver(driver)
+                .vehicle(dataFactory.createVehicle(plate))
+                .trailer(dataFactory.createTrailer("TR-" + plate))
+                .pickupLocation(dataFactory.createLocation(null))
+                .deliveryLocation(dataFactory.createLocation(null))
+                .plannedStartAt(Instant.now())
+                .status(TransportStatus.PLANNED)
+                .cargos(new ArrayList<>())
+                .statusHistories(new ArrayList<>())
+                .build());
+    }
+
+    private static StatusHistory history(Transport transport, TransportStatus status, Instant at) {
+        return StatusHistory.builder().transport(transport).status(status).changedAt(at).build();
+    }
 }
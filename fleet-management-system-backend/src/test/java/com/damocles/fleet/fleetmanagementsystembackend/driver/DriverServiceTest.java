@@ -2,19 +2,26 @@ package com.damocles.fleet.fleetmanagementsystembackend.driver;
 
 import com.damocles.fleet.fleetmanagementsystembackend.domain.Driver;
 import com.damocles.fleet.fleetmanagementsystembackend.domain.DriverStatus;
+import com.damocles.fleet.fleetmanagementsystembackend.domain.TransportStatus;
+import com.damocles.fleet.fleetmanagementsystembackend.dto.transport.TransportAssignment;
 import com.damocles.fleet.fleetmanagementsystembackend.exception.BusinessValidationException;
 import com.damocles.fleet.fleetmanagementsystembackend.mapper.IDriverMapper;
 import com.damocles.fleet.fleetmanagementsystembackend.repository.IDriverRepository;
 import com.damocles.fleet.fleetmanagementsystembackend.repository.IDriverWorkLogRepository;
 import com.damocles.fleet.fleetmanagementsystembackend.repository.ITransportRepository;
 import com.damocles.fleet.fleetmanagementsystembackend.repository.IUserRepository;
+import com.damocles.fleet.fleetmanagementsystembackend.security.PrincipalContextCache;
+import com.damocles.fleet.fleetmanagementsystembackend.service.ChangeRecorder;
 import com.damocles.fleet.fleetmanagementsystembackend.service.DriverService;
+import com.damocles.fleet.fleetmanagementsystembackend.service.ResourceAvailabilityRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.stream.LongStream;
 
@@ -29,17 +36,25 @@ class DriverServiceTest {
     @Mock IDriverMapper driverMapper;
     @Mock ITransportRepository transportRepository;
     @Mock IDriverWorkLogRepository driverWorkLogRepository;
+    @Mock PrincipalContextCache principalContextCache;
+    @Mock ChangeRecorder changeRecorder;
+    @Mock PlatformTransactionManager transactionManager;
 
+    private ResourceAvailabilityRegistry availabilityRegistry;
     private DriverService service;
 
     @BeforeEach
     void setUp() {
+        availabilityRegistry = new ResourceAvailabilityRegistry(transportRepository, transactionManager);
         service = new DriverService(
                 driverRepository,
                 userRepository,
                 driverMapper,
                 transportRepository,
-                driverWorkLogRepository
+                driverWorkLogRepository,
+                availabilityRegistry,
+                principalContextCache,
+                changeRecorder
         );
     }
 
@@ -55,7 +70,9 @@ class DriverServiceTest {
         driver.setUserId(10L);
 
         when(driverRepository.findByUserId(10L)).thenReturn(Optional.of(driver));
-        when(transportRepository.existsActiveTransportByDriver(10L)).thenReturn(true);
+        var assignment = new TransportAssignment(5L, TransportStatus.PLANNED, null, null, 10L, null, null);
+        availabilityRegistry.record(assignment);
+        when(transportRepository.findAssignmentsByIds(List.of(5L))).thenReturn(List.of(assignment));
 
         assertThrows(BusinessValidationException.class, () -> service.updateStatus(10L, DriverStatus.AVAILABLE));
     }
@@ -0,0 +1,138 @@
+package com.damocles.fleet.fleetmanagementsystembackend.loginhistory;
+
+import com.damocles.fleet.fleetmanagementsystembackend.domain.Account;
+import com.damocles.fleet.fleetmanagementsystembackend.domain.LoginHistory;
+import com.damocles.fleet.fleetmanagementsystembackend.domain.UserRole;
+import com.damocles.fleet.fleetmanagementsystembackend.dto.loginHistory.LoginAttempt;
+import com.damocles.fleet.fleetmanagementsystembackend.repository.IAccountRepository;
+import com.damocles.fleet.fleetmanagementsystembackend.repository.ILoginHistoryRepository;
+import com.damocles.fleet.fleetmanagementsystembackend.repository.IUserRepository;
+import com.damocles.fleet.fleetmanagementsystembackend.support.AbstractPostgresIT;
+import com.damocles.fleet.fleetmanagementsystembackend.support.AuthTestUtils;
+import com.damocles.fleet.fleetmanagementsystembackend.support.TestDataFactory;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@AutoConfigureMockMvc
+class LoginHistoryControllerIT extends AbstractPostgresIT {
+
+    private static final Instant JAN = Instant.parse("2026-01-01T00:00:00Z");
+    private static final Instant FEB = Instant.parse("2026-02-01T00:00:00Z");
+
+    @Autowired MockMvc mvc;
+    @Autowired ObjectMapper om;
+    @Autowired TestDataFactory dataFactory;
+    @Autowired IAccountRepository accountRepository;
+    @Autowired IUserRepository userRepository;
+    @Autowired ILoginHistoryRepository loginHistoryRepository;
+
+    @AfterEach
+    void clean() {
+        loginHistoryRepository.deleteAll();
+        accountRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void my_history_scrolls_newest_first_without_overlap() throws Exception {
+        Account auditor = dataFactory.createAccount("auditor", "pass123", Set.of(UserRole.DISPATCHER));
+        List<LoginHistory> seeded = seed(auditor);
+        String token = AuthTestUtils.loginAndGetToken(mvc, om, "auditor", "pass123");
+
+        // entries sharing a timestamp are ordered by id
+        List<Long> expected = seeded.stream()
+                .sorted(Comparator.comparing(LoginHistory::getLoggedAt).thenComparing(LoginHistory::getId).reversed())
+                .map(LoginHistory::getId)
+                .toList();
+
+        List<Long> scrolled = new ArrayList<>();
+        String after = null;
+        do {
+            var req = get("/api/login-histories/me")
+                    .header("Authorization", "Bearer " + token)
+                    .param("to", FEB.toString())
+                    .param("size", "2");
+            if (after != null) req.param("after", after);
+
+            JsonNode slice = om.readTree(mvc.perform(req)
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString());
+            slice.get("content").forEach(h -> scrolled.add(h.get("id").asLong()));
+            after = slice.get("hasNext").asBoolean() ? slice.get("nextCursor").asText() : null;
+        } while (after != null);
+
+        assertEquals(expected, scrolled);
+    }
+
+    @Test
+    void time_window_is_from_inclusive_to_exclusive() throws Exception {
+        Account auditor = dataFactory.createAccount("auditor", "pass123", Set.of(UserRole.DISPATCHER));
+        seed(auditor);
+        String token = AuthTestUtils.loginAndGetToken(mvc, om, "auditor", "pass123");
+
+        mvc.perform(get("/api/login-histories/me")
+                        .header("Authorization", "Bearer " + token)
+                        .param("from", JAN.plus(2, ChronoUnit.HOURS).toString())
+                        .param("to", JAN.plus(4, ChronoUnit.HOURS).toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(3))
+                .andExpect(jsonPath("$.hasNext").value(false));
+
+        // without a window the login just made comes first
+        mvc.perform(get("/api/login-histories/me")
+                        .header("Authorization", "Bearer " + token)
+                        .param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].result").value("SUCCESS"))
+                .andExpect(jsonPath("$.hasNext").value(true));
+    }
+
+    @Test
+    void admin_scrolls_one_account_and_rejects_malformed_cursor() throws Exception {
+        Account auditor = dataFactory.createAccount("auditor", "pass123", Set.of(UserRole.DISPATCHER));
+        seed(auditor);
+        dataFactory.createAccount("admin", "pass123", Set.of(UserRole.ADMIN));
+        String adminToken = AuthTestUtils.loginAndGetToken(mvc, om, "admin", "pass123");
+
+        mvc.perform(get("/api/login-histories/account/{id}", auditor.getId())
+                        .header("Authorization", "Bearer " + adminToken)
+                        .param("size", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(5))
+                .andExpect(jsonPath("$.content[0].accountLogin").value("auditor"))
+                .andExpect(jsonPath("$.hasNext").value(false));
+
+        mvc.perform(get("/api/login-histories")
+                        .header("Authorization", "Bearer " + adminToken)
+                        .param("after", "not-a-cursor"))
+                .andExpect(status().isBadRequest());
+    }
+
+    // Five January entries at +1h..+4h, two of them at the same instant.
+    private List<LoginHistory> seed(Account account) {
+        List<LoginAttempt> attempts = new ArrayList<>();
+        for (int hour : new int[]{1, 2, 3, 3, 4}) {
+            attempts.add(new LoginAttempt(account.getId(), null, JAN.plus(hour, ChronoUnit.HOURS),
+                    hour == 2 ? "FAILURE" : "SUCCESS", "10.0.0." + hour, "IT"));
+        }
+        loginHistoryRepository.insertAll(attempts);
+        return loginHistoryRepository.findByAccount_Id(account.getId());
+    }
+}
@@ -0,0 +1,79 @@
+package com.damocles.fleet.fleetmanagementsystembackend.loginhistory;
+
+import com.damocles.fleet.fleetmanagementsystembackend.repository.ILoginHistoryRepository;
+import com.damocles.fleet.fleetmanagementsystembackend.service.LoginHistoryPartitionMaintenance;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class LoginHistoryPartitionMaintenanceTest {
+
+    private static final YearMonth NOW = YearMonth.of(2026, 10);
+
+    @Mock ILoginHistoryRepository repository;
+
+    @Test
+    void creates_missing_months_ahead_and_drops_expired_ones() {
+        when(repository.isPartitioned()).thenReturn(true);
+        when(repository.findMonthlyPartitions()).thenReturn(List.of(
+                YearMonth.of(2025, 8), YearMonth.of(2025, 9), YearMonth.of(2025, 10),
+                YearMonth.of(2026, 10), YearMonth.of(2026, 11)));
+
+        new LoginHistoryPartitionMaintenance(repository, 12, 3).maintain(NOW);
+
+        InOrder order = inOrder(repository);
+        order.verify(repository).createMonthlyPartition(YearMonth.of(2026, 12));
+        order.verify(repository).createMonthlyPartition(YearMonth.of(2027, 1));
+        order.verify(repository).dropMonthlyPartition(YearMonth.of(2025, 8));
+        order.verify(repository).dropMonthlyPartition(YearMonth.of(2025, 9));
+        verify(repository, never()).dropMonthlyPartition(YearMonth.of(2025, 10));
+    }
+
+    @Test
+    void failed_create_does_not_stop_the_rest() {
+        when(repository.isPartitioned()).thenReturn(true);
+        when(repository.findMonthlyPartitions()).thenReturn(List.of());
+        doThrow(new DataIntegrityViolationException("default partition holds rows"))
+                .when(repository).createMonthlyPartition(NOW);
+
+        new LoginHistoryPartitionMaintenance(repository, 12, 1).maintain(NOW);
+
+        verify(repository).createMonthlyPartition(NOW.plusMonths(1));
+    }
+
+    @Test
+    void non_positive_retention_keeps_everything() {
+        when(repository.isPartitioned()).thenReturn(true);
+        when(repository.findMonthlyPartitions()).thenReturn(List.of(YearMonth.of(2000, 1), NOW));
+
+        new LoginHistoryPartitionMaintenance(repository, 0, 0).maintain(NOW);
+
+        verify(repository, never()).dropMonthlyPartition(any());
+        verify(repository, never()).createMonthlyPartition(any());
+    }
+
+    @Test
+    void plain_table_is_left_alone() {
+        when(repository.isPartitioned()).thenReturn(false);
+
+        new LoginHistoryPartitionMaintenance(repository, 12, 3).maintain(NOW);
+
+        verify(repository).isPartitioned();
+        verifyNoMoreInteractions(repository);
+    }
+}
@@ -0,0 +1,107 @@
+package com.damocles.fleet.fleetmanagementsystembackend.security;
+
+import com.damocles.fleet.fleetmanagementsystembackend.domain.UserRole;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import jakarta.servlet.FilterChain;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+// Opt-in per-request overhead of JwtAuthFilter: the legacy path (five verifications with a fresh key and parser
+// each) against the parse-once filter, with a cold and a warm verified-token cache. The user lookup is a constant
+// lambda so only token handling is measured.
+// Run with: mvn test -Dtest=JwtAuthFilterBenchmarkIT -Dbenchmark=true [-Dbenchmark.requests=200000]
+@Slf4j
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class JwtAuthFilterBenchmarkIT {
+
+    private static final String SECRET = "12345678901234567890123456789012";
+    private static final int WARMUP = 20_000;
+
+    private final UserDetails admin = User.withUsername("admin").password("x").authorities("ROLE_ADMIN").build();
+    private final UserDetailsService uds = username -> admin;
+    private final FilterChain chain = (req, res) -> { };
+
+    @AfterEach
+    void clear() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void parse_once_filter_reports_overhead_against_legacy_path() throws Exception {
+        int requests = Integer.getInteger("benchmark.requests", 200_000);
+
+        JwtService uncached = new JwtService(SECRET, 60, 7, 0, TokenRevocationStore.inMemory(), null);
+        JwtService cached = new JwtService(SECRET, 60, 7, 10_000,
+                TokenRevocationStore.inMemory(), null);
+        String token = cached.generateToken("admin", Set.of(UserRole.ADMIN));
+
+        long[] legacy = time(requests, () -> legacyRequest(token));
+        long[] cold = time(requests, () -> filterRequest(new JwtAuthFilter(uncached, uds, null, false), token));
+        JwtAuthFilter warmFilter = new JwtAuthFilter(cached, uds, null, false);
+        long[] warm = time(requests, () -> filterRequest(warmFilter, token));
+
+        report("legacy (5 parses)", legacy);
+        report("parse once, no cache", cold);
+        report("parse once, cached", warm);
+    }
+
+    // What the filter did before: isTokenExpired, getSubject, then isValid repeating both, each rebuilding
+    // the key and the parser.
+    private void legacyRequest(String token) {
+        for (int i = 0; i < 5; i++) {
+            var key = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+            Jwts.parser().verifyWith(key).build().parseSignedClaims(token);
+        }
+        uds.loadUserByUsername("admin");
+    }
+
+    private void filterRequest(JwtAuthFilter filter, String token) throws Exception {
+        SecurityContextHolder.clearContext();
+        var request = new MockHttpServletRequest("GET", "/api/transports");
+        request.addHeader("Authorization", "Bearer " + token);
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+        assertNotNull(SecurityContextHolder.getContext().getAuthentication());
+    }
+
+    private long[] time(int requests, Call call) throws Exception {
+        for (int i = 0; i < WARMUP; i++) call.run();
+
+        long[] nanos = new long[requests];
+        for (int i = 0; i < requests; i++) {
+            long start = System.nanoTime();
+            call.run();
+            nanos[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(nanos);
+        return nanos;
+    }
+
+    private void report(String label, long[] sortedNanos) {
+        log.info(String.format("%-22s p50=%7.2fus p99=%7.2fus", label, p(sortedNanos, 50), p(sortedNanos, 99)));
+    }
+
+    private double p(long[] sortedNanos, int percentile) {
+        int idx = Math.min(sortedNanos.length - 1, (int) Math.ceil(percentile / 100.0 * sortedNanos.length) - 1);
+        return sortedNanos[idx] / 1_000.0;
+    }
+
+    @FunctionalInterface
+    private interface Call {
+        void run() throws Exception;
+    }
+}
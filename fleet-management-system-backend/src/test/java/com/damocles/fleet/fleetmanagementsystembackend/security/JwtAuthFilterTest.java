@@ -2,6 +2,7 @@ package com.damocles.fleet.fleetmanagementsystembackend.security;
 
 import com.damocles.fleet.fleetmanagementsystembackend.security.JwtAuthFilter;
 import com.damocles.fleet.fleetmanagementsystembackend.security.JwtService;
+import io.jsonwebtoken.security.SignatureException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -11,6 +12,10 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetailsService;
 
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
@@ -18,13 +23,15 @@ class JwtAuthFilterTest {
 
     private JwtService jwtService;
     private UserDetailsService uds;
+    private AccountSecurityCache accountSecurityCache;
     private JwtAuthFilter filter;
 
     @BeforeEach
     void setup() {
         jwtService = mock(JwtService.class);
         uds = mock(UserDetailsService.class);
-        filter = new JwtAuthFilter(jwtService, uds);
+        accountSecurityCache = mock(AccountSecurityCache.class);
+        filter = new JwtAuthFilter(jwtService, uds, accountSecurityCache, false);
 
         SecurityContextHolder.clearContext();
     }
@@ -66,8 +73,8 @@ class JwtAuthFilterTest {
 
         when(req.getHeader("Authorization")).thenReturn("Bearer good");
         when(jwtService.isRevoked("good")).thenReturn(false);
-        when(jwtService.isTokenExpired("good")).thenReturn(false);
-        when(jwtService.getSubject("good")).thenReturn("admin");
+        var verified = new VerifiedToken("admin", List.of("ADMIN"), Instant.now(), Instant.now().plusSeconds(600));
+        when(jwtService.verify("good")).thenReturn(verified);
 
         var userDetails = User.withUsername("admin")
                 .password("x")
@@ -75,7 +82,7 @@ class JwtAuthFilterTest {
                 .build();
 
         when(uds.loadUserByUsername("admin")).thenReturn(userDetails);
-        when(jwtService.isValid("good", userDetails)).thenReturn(true);
+        when(jwtService.isValid(verified, userDetails)).thenReturn(true);
 
         filter.doFilter(req, res, chain);
 
@@ -84,6 +91,68 @@ class JwtAuthFilterTest {
         assertEquals("admin", auth.getName());
         assertTrue(auth.getAuthorities().stream().anyMatch(a -> a.getAuthority().equals("ROLE_ADMIN")));
 
+        verify(jwtService, times(1)).verify("good");
+        verify(chain).doFilter(req, res);
+    }
+
+    @Test
+    void invalidToken_shouldSkipAuthentication() throws Exception {
+        HttpServletRequest req = mock(HttpServletRequest.class);
+        HttpServletResponse res = mock(HttpServletResponse.class);
+        FilterChain chain = mock(FilterChain.class);
+
+        when(req.getHeader("Authorization")).thenReturn("Bearer forged");
+        when(jwtService.verify("forged")).thenThrow(new SignatureException("bad signature"));
+
+        filter.doFilter(req, res, chain);
+
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+        verifyNoInteractions(uds);
         verify(chain).doFilter(req, res);
     }
+
+    @Test
+    void statelessMode_shouldAuthenticateFromClaimsWithoutLoadingUser() throws Exception {
+        HttpServletRequest req = mock(HttpServletRequest.class);
+        HttpServletResponse res = mock(HttpServletResponse.class);
+        FilterChain chain = mock(FilterChain.class);
+        var stateless = new JwtAuthFilter(jwtService, uds, accountSecurityCache, true);
+
+        when(req.getHeader("Authorization")).thenReturn("Bearer good");
+        var verified = new VerifiedToken("admin", List.of("ADMIN"), Instant.now(), Instant.now().plusSeconds(600));
+        when(jwtService.verify("good")).thenReturn(verified);
+        when(jwtService.isValid(eq(verified), any())).thenReturn(true);
+        when(accountSecurityCache.get("admin"))
+                .thenReturn(new AccountSecurityState(1L, true, Set.of("ADMIN"), System.currentTimeMillis()));
+
+        stateless.doFilter(req, res, chain);
+
+        var auth = SecurityContextHolder.getContext().getAuthentication();
+        assertNotNull(auth);
+        assertEquals("admin", auth.getName());
+        assertTrue(auth.getAuthorities().stream().anyMatch(a -> a.getAuthority().equals("ROLE_ADMIN")));
+        verifyNoInteractions(uds);
+    }
+
+    @Test
+    void statelessMode_shouldRejectTokenOfDisabledOrRegradedAccount() throws Exception {
+        HttpServletRequest req = mock(HttpServletRequest.class);
+        HttpServletResponse res = mock(HttpServletResponse.class);
+        FilterChain chain = mock(FilterChain.class);
+        var stateless = new JwtAuthFilter(jwtService, uds, accountSecurityCache, true);
+
+        when(req.getHeader("Authorization")).thenReturn("Bearer good");
+        var verified = new VerifiedToken("admin", List.of("ADMIN"), Instant.now(), Instant.now().plusSeconds(600));
+        when(jwtService.verify("good")).thenReturn(verified);
+
+        when(accountSecurityCache.get("admin"))
+                .thenReturn(new AccountSecurityState(1L, false, Set.of("ADMIN"), System.currentTimeMillis()));
+        stateless.doFilter(req, res, chain);
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+
+        when(accountSecurityCache.get("admin"))
+                .thenReturn(new AccountSecurityState(1L, true, Set.of("DRIVER"), System.currentTimeMillis()));
+        stateless.doFilter(req, res, chain);
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+    }
 }
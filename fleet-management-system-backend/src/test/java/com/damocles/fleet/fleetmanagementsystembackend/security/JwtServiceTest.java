@@ -4,6 +4,7 @@ import com.damocles.fleet.fleetmanagementsystembackend.domain.Account;
 import com.damocles.fleet.fleetmanagementsystembackend.domain.UserRole;
 import com.damocles.fleet.fleetmanagementsystembackend.repository.IAccountRepository;
 import com.damocles.fleet.fleetmanagementsystembackend.security.JwtService;
+import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import org.junit.jupiter.api.BeforeEach;
@@ -34,7 +35,7 @@ class JwtServiceTest {
 
     @BeforeEach
     void setUp() {
-        jwtService = new JwtService(SECRET, 60, 7, accountRepo);
+        jwtService = new JwtService(SECRET, 60, 7, 10_000, TokenRevocationStore.inMemory(), accountRepo);
     }
 
     @Test
@@ -120,4 +121,29 @@ class JwtServiceTest {
 
         assertTrue(jwtService.isRevoked(token));
     }
+
+    @Test
+    void verify_shouldServeRepeatedTokenFromCache_untilRevoked() {
+        String token = jwtService.generateToken("admin", Set.of(UserRole.ADMIN));
+
+        VerifiedToken first = jwtService.verify(token);
+        assertSame(first, jwtService.verify(token));
+        assertEquals("admin", first.subject());
+        assertEquals(List.of("ADMIN"), first.roles());
+
+        jwtService.revokeToken(token);
+        assertNotSame(first, jwtService.verify(token));
+    }
+
+    @Test
+    void verify_shouldNotCacheRejectedTokens() {
+        String expiredToken = Jwts.builder()
+                .subject("test")
+                .expiration(Date.from(Instant.now().minusSeconds(5)))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                .compact();
+
+        assertThrows(ExpiredJwtException.class, () -> jwtService.verify(expiredToken));
+        assertThrows(ExpiredJwtException.class, () -> jwtService.verify(expiredToken));
+    }
 }
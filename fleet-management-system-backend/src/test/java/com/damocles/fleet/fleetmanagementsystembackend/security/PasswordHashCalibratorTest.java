@@ -0,0 +1,32 @@
+package com.damocles.fleet.fleetmanagementsystembackend.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PasswordHashCalibratorTest {
+
+    private static final long MS = 1_000_000L;
+
+    @Test
+    void picks_the_highest_cost_that_fits_the_budget() {
+        // 50 ms at cost 10 -> 100 ms at 11, 200 ms at 12, 400 ms at 13
+        assertEquals(12, PasswordHashCalibrator.pickCost(50 * MS, 10, 14, 250 * MS));
+        assertEquals(12, PasswordHashCalibrator.pickCost(50 * MS, 10, 14, 200 * MS));
+    }
+
+    @Test
+    void never_goes_below_min_or_above_max_cost() {
+        assertEquals(10, PasswordHashCalibrator.pickCost(900 * MS, 10, 14, 250 * MS));
+        assertEquals(14, PasswordHashCalibrator.pickCost(1 * MS, 10, 14, 250 * MS));
+    }
+
+    @Test
+    void calibration_on_this_host_stays_within_bounds() {
+        int cost = PasswordHashCalibrator.calibrate(Duration.ofMillis(50), 4, 6);
+        assertTrue(cost >= 4 && cost <= 6);
+    }
+}
@@ -0,0 +1,54 @@
+package com.damocles.fleet.fleetmanagementsystembackend.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PasswordHashingPoolTest {
+
+    @Test
+    void bulk_results_come_back_in_task_order() throws Exception {
+        var pool = new PasswordHashingPool(2, 2);
+        List<Callable<Integer>> tasks = IntStream.range(0, 50)
+                .<Callable<Integer>>mapToObj(i -> () -> i)
+                .toList();
+
+        assertEquals(IntStream.range(0, 50).boxed().toList(), pool.invokeAll(tasks));
+        pool.shutdown();
+    }
+
+    @Test
+    void bulk_work_leaves_room_for_logins() throws Exception {
+        var pool = new PasswordHashingPool(2, 2);
+        CountDownLatch release = new CountDownLatch(1);
+        List<Callable<String>> bulk = IntStream.range(0, 20)
+                .<Callable<String>>mapToObj(i -> () -> {
+                    release.await(5, TimeUnit.SECONDS);
+                    return "bulk";
+                })
+                .toList();
+        var provisioning = CompletableFuture.supplyAsync(() -> {
+            try {
+                return pool.invokeAll(bulk);
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        Thread.sleep(100);
+
+        // bulk holds one of the two threads, so a login still gets the other
+        assertEquals("login", pool.submit(() -> "login").get(5, TimeUnit.SECONDS));
+
+        release.countDown();
+        assertTrue(provisioning.get(5, TimeUnit.SECONDS).stream().allMatch("bulk"::equals));
+        pool.shutdown();
+    }
+}
@@ -0,0 +1,84 @@
+package com.damocles.fleet.fleetmanagementsystembackend.security;
+
+import com.damocles.fleet.fleetmanagementsystembackend.repository.IAccountRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PasswordRehasherTest {
+
+    @Mock IAccountRepository accountRepository;
+
+    private final BCryptPasswordEncoder current = new BCryptPasswordEncoder(5);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private PasswordRehasher rehasher;
+
+    @BeforeEach
+    void setUp() {
+        rehasher = new PasswordRehasher(current, accountRepository, meterRegistry, 10);
+    }
+
+    @AfterEach
+    void stop() {
+        rehasher.shutdown();
+    }
+
+    @Test
+    void weaker_hash_is_replaced_with_one_at_the_current_cost() {
+        String weak = new BCryptPasswordEncoder(4).encode("secret");
+        when(accountRepository.updatePasswordHashIfUnchanged(eq(7L), eq(weak), anyString())).thenReturn(true);
+
+        rehasher.upgradeIfNeeded(7L, weak, "secret");
+
+        ArgumentCaptor<String> newHash = ArgumentCaptor.forClass(String.class);
+        verify(accountRepository, timeout(5000)).updatePasswordHashIfUnchanged(eq(7L), eq(weak), newHash.capture());
+        assertTrue(newHash.getValue().startsWith("$2a$05$"));
+        assertTrue(current.matches("secret", newHash.getValue()));
+    }
+
+    @Test
+    void hash_at_current_cost_is_left_alone() {
+        rehasher.upgradeIfNeeded(7L, current.encode("secret"), "secret");
+
+        verify(accountRepository, after(200).never()).updatePasswordHashIfUnchanged(anyLong(), any(), any());
+        assertEquals(0, rehasher.backlog());
+    }
+
+    @Test
+    void metrics_track_upgrades() throws Exception {
+        String weak = new BCryptPasswordEncoder(4).encode("secret");
+        when(accountRepository.updatePasswordHashIfUnchanged(eq(7L), eq(weak), anyString())).thenReturn(true);
+
+        rehasher.upgradeIfNeeded(7L, weak, "secret");
+        awaitEmptyBacklog();
+
+        assertEquals(1.0, meterRegistry.get("security.password.rehash.upgraded").counter().count(), 0.0);
+        assertEquals(0.0, meterRegistry.get("security.password.rehash.dropped").counter().count(), 0.0);
+    }
+
+    private void awaitEmptyBacklog() throws InterruptedException {
+        long deadline = System.nanoTime() + 5_000_000_000L;
+        while (rehasher.backlog() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(0, rehasher.backlog());
+    }
+}
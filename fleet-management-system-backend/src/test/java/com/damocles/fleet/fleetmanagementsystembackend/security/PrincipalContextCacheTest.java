@@ -0,0 +1,80 @@
+package com.damocles.fleet.fleetmanagementsystembackend.security;
+
+import com.damocles.fleet.fleetmanagementsystembackend.domain.Account;
+import com.damocles.fleet.fleetmanagementsystembackend.domain.Driver;
+import com.damocles.fleet.fleetmanagementsystembackend.domain.User;
+import com.damocles.fleet.fleetmanagementsystembackend.domain.UserRole;
+import com.damocles.fleet.fleetmanagementsystembackend.mapper.IMeMapper;
+import com.damocles.fleet.fleetmanagementsystembackend.repository.IAccountRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PrincipalContextCacheTest {
+
+    @Mock IAccountRepository accountRepository;
+    @Mock IMeMapper meMapper;
+
+    private PrincipalContextCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new PrincipalContextCache(accountRepository, meMapper, 60, 100);
+    }
+
+    @Test
+    void context_is_loaded_once_per_login_regardless_of_case() {
+        when(accountRepository.findPrincipalByLoginIgnoreCase("Driver1")).thenReturn(Optional.of(driverAccount()));
+
+        var context = cache.get("Driver1");
+        var again = cache.get("driver1");
+
+        assertEquals(7L, context.accountId());
+        assertEquals(3L, context.userId());
+        assertEquals(3L, context.driverId());
+        assertEquals(List.of("DRIVER"), context.me().roles());
+        assertTrue(context.me().authenticated());
+        assertEquals(context, again);
+        verify(accountRepository, times(1)).findPrincipalByLoginIgnoreCase("Driver1");
+    }
+
+    @Test
+    void invalidating_the_user_reloads_the_context() {
+        when(accountRepository.findPrincipalByLoginIgnoreCase("driver1")).thenReturn(Optional.of(driverAccount()));
+        cache.get("driver1");
+
+        cache.invalidateUser(3L);
+        cache.get("driver1");
+
+        verify(accountRepository, times(2)).findPrincipalByLoginIgnoreCase("driver1");
+    }
+
+    @Test
+    void unknown_login_is_not_cached() {
+        when(accountRepository.findPrincipalByLoginIgnoreCase("ghost")).thenReturn(Optional.empty());
+
+        assertNull(cache.get("ghost"));
+        assertNull(cache.get("ghost"));
+        verify(accountRepository, times(2)).findPrincipalByLoginIgnoreCase("ghost");
+    }
+
+    private Account driverAccount() {
+        User user = User.builder().id(3L).firstName("D").lastName("One").email("d1@local").build();
+        user.setDriver(Driver.builder().userId(3L).user(user).build());
+        return Account.builder().id(7L).login("driver1").roles(Set.of(UserRole.DRIVER)).user(user).build();
+    }
+}
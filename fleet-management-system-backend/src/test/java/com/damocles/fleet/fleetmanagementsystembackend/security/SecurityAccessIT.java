@@ -1,8 +1,12 @@
 package com.damocles.fleet.fleetmanagementsystembackend.security;
 
+import com.damocles.fleet.fleetmanagementsystembackend.domain.AccountStatus;
 import com.damocles.fleet.fleetmanagementsystembackend.domain.Driver;
 import com.damocles.fleet.fleetmanagementsystembackend.domain.UserRole;
+import com.damocles.fleet.fleetmanagementsystembackend.dto.account.AccountRolesUpdateDTO;
+import com.damocles.fleet.fleetmanagementsystembackend.dto.account.AccountStatusUpdateDTO;
 import com.damocles.fleet.fleetmanagementsystembackend.repository.*;
+import com.damocles.fleet.fleetmanagementsystembackend.service.AccountService;
 import com.damocles.fleet.fleetmanagementsystembackend.service.TransportService;
 import com.damocles.fleet.fleetmanagementsystembackend.support.AbstractPostgresIT;
 import com.damocles.fleet.fleetmanagementsystembackend.support.AuthTestUtils;
@@ -30,6 +34,7 @@ class SecurityAccessIT extends AbstractPostgresIT {
     @Autowired ObjectMapper om;
     @Autowired TestDataFactory dataFactory;
     @Autowired TransportService transportService;
+    @Autowired AccountService accountService;
 
     @Autowired IStatusHistoryRepository statusHistoryRepository;
     @Autowired ICargoRepository cargoRepository;
@@ -120,4 +125,25 @@ class SecurityAccessIT extends AbstractPostgresIT {
                         .header("Authorization", "Bearer " + dispatcherToken))
                 .andExpect(status().isForbidden());
     }
+
+    @Test
+    void token_stops_working_once_account_is_disabled_or_its_roles_change() throws Exception {
+        var dispatcher = dataFactory.createAccount("dispatcher", "pass123", Set.of(UserRole.DISPATCHER));
+        var admin = dataFactory.createAccount("admin", "pass123", Set.of(UserRole.ADMIN));
+        String dispatcherToken = AuthTestUtils.loginAndGetToken(mvc, om, "dispatcher", "pass123");
+        String adminToken = AuthTestUtils.loginAndGetToken(mvc, om, "admin", "pass123");
+
+        mvc.perform(get("/api/transports").header("Authorization", "Bearer " + dispatcherToken))
+                .andExpect(status().isOk());
+        mvc.perform(get("/api/transports").header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isOk());
+
+        accountService.updateStatus(dispatcher.getId(), new AccountStatusUpdateDTO(AccountStatus.INACTIVE));
+        accountService.updateRoles(admin.getId(), new AccountRolesUpdateDTO(Set.of(UserRole.DISPATCHER)));
+
+        mvc.perform(get("/api/transports").header("Authorization", "Bearer " + dispatcherToken))
+                .andExpect(status().isUnauthorized());
+        mvc.perform(get("/api/transports").header("Authorization", "Bearer " + adminToken))
+                .andExpect(status().isUnauthorized());
+    }
 }
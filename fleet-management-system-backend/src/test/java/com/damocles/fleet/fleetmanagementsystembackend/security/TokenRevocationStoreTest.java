@@ -0,0 +1,82 @@
+package com.damocles.fleet.fleetmanagementsystembackend.security;
+
+import com.damocles.fleet.fleetmanagementsystembackend.repository.IRevokedTokenRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TokenRevocationStoreTest {
+
+    @Mock IRevokedTokenRepository repository;
+
+    @Test
+    void revoked_token_is_answered_from_memory_and_unknown_token_by_the_filter() {
+        var store = new TokenRevocationStore(repository, 100, 100);
+
+        store.revoke("token-a", Instant.now().plusSeconds(600));
+
+        assertTrue(store.isRevoked("token-a"));
+        assertFalse(store.isRevoked("token-b"));
+        verify(repository).insertIfAbsent(anyString(), any(), any());
+        verify(repository, never()).existsByTokenDigestAndExpiresAtAfter(anyString(), any());
+    }
+
+    @Test
+    void already_expired_token_is_not_recorded() {
+        var store = new TokenRevocationStore(repository, 100, 100);
+
+        store.revoke("token-a", Instant.now().minusSeconds(1));
+
+        assertFalse(store.isRevoked("token-a"));
+        assertEquals(0, store.size());
+        verify(repository, never()).insertIfAbsent(anyString(), any(), any());
+    }
+
+    @Test
+    void revocations_past_the_memory_cap_are_answered_by_the_table() {
+        var store = new TokenRevocationStore(repository, 1, 100);
+        store.revoke("token-a", Instant.now().plusSeconds(600));
+        store.revoke("token-b", Instant.now().plusSeconds(600));
+        String digestB = TokenDigest.hex(TokenDigest.sha256("token-b"));
+        when(repository.existsByTokenDigestAndExpiresAtAfter(eq(digestB), any())).thenReturn(true);
+
+        assertEquals(1, store.size());
+        assertTrue(store.isRevoked("token-b"));
+    }
+
+    @Test
+    void revocations_made_while_the_filter_is_rebuilt_are_not_lost() throws Exception {
+        var store = TokenRevocationStore.inMemory();
+        var sweeping = new AtomicBoolean(true);
+        var sweeper = new Thread(() -> {
+            while (sweeping.get()) store.sweep();
+        });
+        sweeper.start();
+
+        Instant expiresAt = Instant.now().plusSeconds(600);
+        for (int i = 0; i < 5_000; i++) {
+            store.revoke("token-" + i, expiresAt);
+        }
+        sweeping.set(false);
+        sweeper.join();
+
+        for (int i = 0; i < 5_000; i++) {
+            assertTrue(store.isRevoked("token-" + i), "token-" + i);
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package com.damocles.fleet.fleetmanagementsystembackend.statushistory;
+
+import com.damocles.fleet.fleetmanagementsystembackend.domain.TransportStatus;
+import com.damocles.fleet.fleetmanagementsystembackend.dto.statusHistory.StatusHistoryEntry;
+import com.damocles.fleet.fleetmanagementsystembackend.repository.IStatusHistoryRepository;
+import com.damocles.fleet.fleetmanagementsystembackend.service.StatusHistoryAppender;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class StatusHistoryAppenderTest {
+
+    @Mock IStatusHistoryRepository statusHistoryRepository;
+    @InjectMocks StatusHistoryAppender appender;
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void rows_of_one_transaction_are_written_as_one_batch_before_commit() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        appender.append(1L, TransportStatus.ACCEPTED, 10L);
+        appender.append(2L, TransportStatus.CANCELLED, null);
+        verify(statusHistoryRepository, never()).insertEntries(anyList());
+
+        List<TransactionSynchronization> syncs = TransactionSynchronizationManager.getSynchronizations();
+        assertEquals(1, syncs.size());
+        syncs.get(0).beforeCommit(false);
+
+        ArgumentCaptor<List<StatusHistoryEntry>> batch = ArgumentCaptor.forClass(List.class);
+        verify(statusHistoryRepository).insertEntries(batch.capture());
+        List<StatusHistoryEntry> rows = batch.getValue();
+        assertEquals(List.of(1L, 2L), rows.stream().map(StatusHistoryEntry::transportId).toList());
+        assertEquals(10L, rows.get(0).changedById());
+        assertNull(rows.get(1).changedById());
+    }
+
+    @Test
+    void outside_a_transaction_the_row_is_written_at_once() {
+        appender.append(3L, TransportStatus.FAILED, 1L);
+
+        verify(statusHistoryRepository).insertEntries(argThat(rows -> rows.size() == 1
+                && rows.get(0).transportId() == 3L
+                && rows.get(0).status() == TransportStatus.FAILED));
+    }
+}
@@ -6,6 +6,12 @@ import com.damocles.fleet.fleetmanagementsystembackend.exception.TransportNotFou
 import com.damocles.fleet.fleetmanagementsystembackend.mapper.ITransportMapper;
 import com.damocles.fleet.fleetmanagementsystembackend.mapper.IStatusHistoryMapper;
 import com.damocles.fleet.fleetmanagementsystembackend.repository.*;
+import com.damocles.fleet.fleetmanagementsystembackend.security.PrincipalContextCache;
+import com.damocles.fleet.fleetmanagementsystembackend.service.ChangeRecorder;
+import com.damocles.fleet.fleetmanagementsystembackend.service.DriverSyncService;
+import com.damocles.fleet.fleetmanagementsystembackend.service.ResourceAvailabilityRegistry;
+import com.damocles.fleet.fleetmanagementsystembackend.service.StatusHistoryAppender;
+import com.damocles.fleet.fleetmanagementsystembackend.service.TransportEventPublisher;
 import com.damocles.fleet.fleetmanagementsystembackend.service.TransportService;
 import com.damocles.fleet.fleetmanagementsystembackend.support.TestTransportMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -28,11 +34,16 @@ class StatusHistoryServiceTest {
     @Mock IVehicleRepository vehicleRepository;
     @Mock ITrailerRepository trailerRepository;
     @Mock ILocationRepository locationRepository;
-    @Mock IAccountRepository accountRepository;
+    @Mock PrincipalContextCache principalContextCache;
     @Mock IDriverRepository driverRepository;
     ITransportMapper transportMapper;
     @Mock IStatusHistoryRepository statusHistoryRepository;
     @Mock IStatusHistoryMapper statusHistoryMapper;
+    @Mock ResourceAvailabilityRegistry availabilityRegistry;
+    @Mock StatusHistoryAppender statusHistoryAppender;
+    @Mock TransportEventPublisher eventPublisher;
+    @Mock ChangeRecorder changeRecorder;
+    @Mock DriverSyncService driverSyncService;
 
     private TransportService service;
 
@@ -45,11 +56,16 @@ class StatusHistoryServiceTest {
                 vehicleRepository,
                 trailerRepository,
                 locationRepository,
-                accountRepository,
+                principalContextCache,
                 driverRepository,
                 transportMapper,
                 statusHistoryRepository,
-                statusHistoryMapper
+                statusHistoryMapper,
+                availabilityRegistry,
+                statusHistoryAppender,
+                eventPublisher,
+                changeRecorder,
+                driverSyncService
         );
     }
 
@@ -17,6 +17,8 @@ import com.damocles.fleet.fleetmanagementsystembackend.repository.ILocationRepos
 import com.damocles.fleet.fleetmanagementsystembackend.repository.ITrailerRepository;
 import com.damocles.fleet.fleetmanagementsystembackend.repository.IUserRepository;
 import com.damocles.fleet.fleetmanagementsystembackend.repository.IVehicleRepository;
+import com.damocles.fleet.fleetmanagementsystembackend.security.AccountSecurityCache;
+import com.damocles.fleet.fleetmanagementsystembackend.security.PrincipalContextCache;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 
@@ -37,6 +39,8 @@ public class TestDataFactory {
     private final IVehicleRepository vehicleRepository;
     private final ITrailerRepository trailerRepository;
     private final PasswordEncoder passwordEncoder;
+    private final AccountSecurityCache accountSecurityCache;
+    private final PrincipalContextCache principalContextCache;
 
     public TestDataFactory(
             IUserRepository userRepository,
@@ -45,7 +49,9 @@ public class TestDataFactory {
             ILocationRepository locationRepository,
             IVehicleRepository vehicleRepository,
             ITrailerRepository trailerRepository,
-            PasswordEncoder passwordEncoder
+            PasswordEncoder passwordEncoder,
+            AccountSecurityCache accountSecurityCache,
+            PrincipalContextCache principalContextCache
     ) {
         this.userRepository = userRepository;
         this.accountRepository = accountRepository;
@@ -54,6 +60,8 @@ public class TestDataFactory {
         this.vehicleRepository = vehicleRepository;
         this.trailerRepository = trailerRepository;
         this.passwordEncoder = passwordEncoder;
+        this.accountSecurityCache = accountSecurityCache;
+        this.principalContextCache = principalContextCache;
     }
 
     public User createUser(String suffix) {
@@ -80,7 +88,12 @@ public class TestDataFactory {
         acc.setUser(user);
 
         user.setAccount(acc);
-        return accountRepository.save(acc);
+        Account saved = accountRepository.save(acc);
+
+        // tests recreate the same logins after deleting rows behind the services' backs
+        accountSecurityCache.invalidate(login);
+        principalContextCache.invalidate(login);
+        return saved;
     }
 
     public Driver createDriver(User user, String licenseNumber) {
@@ -91,7 +104,9 @@ public class TestDataFactory {
         driver.setDriverLicenseCategory("B");
         driver.setDriverLicenseExpiryDate(LocalDate.now().plusYears(1));
         driver.setDriverStatus(DriverStatus.AVAILABLE);
-        return driverRepository.save(driver);
+        Driver saved = driverRepository.save(driver);
+        principalContextCache.invalidateUser(user.getId());
+        return saved;
     }
 
     public Location createLocation(String suffix) {
@@ -4,6 +4,7 @@ import com.damocles.fleet.fleetmanagementsystembackend.domain.Transport;
 import com.damocles.fleet.fleetmanagementsystembackend.dto.transport.CreateTransportRequest;
 import com.damocles.fleet.fleetmanagementsystembackend.dto.transport.TransportDTO;
 import com.damocles.fleet.fleetmanagementsystembackend.dto.transport.TransportDetailsDTO;
+import com.damocles.fleet.fleetmanagementsystembackend.dto.transport.TransportListRow;
 import com.damocles.fleet.fleetmanagementsystembackend.mapper.ITransportMapper;
 
 public class TestTransportMapper implements ITransportMapper {
@@ -12,6 +13,11 @@ public class TestTransportMapper implements ITransportMapper {
         return null;
     }
 
+    @Override
+    public TransportDTO toDto(TransportListRow row) {
+        return null;
+    }
+
     @Override
     public Transport toEntity(CreateTransportRequest req) {
         return new Transport();
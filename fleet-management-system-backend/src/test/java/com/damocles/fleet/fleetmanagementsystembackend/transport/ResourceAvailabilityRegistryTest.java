@@ -0,0 +1,156 @@
+package com.damocles.fleet.fleetmanagementsystembackend.transport;
+
+import com.damocles.fleet.fleetmanagementsystembackend.domain.TransportStatus;
+import com.damocles.fleet.fleetmanagementsystembackend.dto.transport.TransportAssignment;
+import com.damocles.fleet.fleetmanagementsystembackend.repository.ITransportRepository;
+import com.damocles.fleet.fleetmanagementsystembackend.service.ResourceAvailabilityRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ResourceAvailabilityRegistryTest {
+
+    @Mock ITransportRepository transportRepository;
+    @Mock PlatformTransactionManager transactionManager;
+
+    private ResourceAvailabilityRegistry registry;
+    // what the transports table holds; the registry confirms its hits against it
+    private final Map<Long, TransportAssignment> database = new HashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        registry = new ResourceAvailabilityRegistry(transportRepository, transactionManager);
+        lenient().when(transportRepository.findAssignmentsByIds(anyCollection())).thenAnswer(inv -> {
+            Collection<Long> ids = inv.getArgument(0);
+            return ids.stream().map(database::get).filter(a -> a != null).toList();
+        });
+    }
+
+    // Commits the assignment to the table and applies it to the registry, as the after-commit hook does.
+    private void commit(TransportAssignment assignment) {
+        database.put(assignment.transportId(), assignment);
+        registry.record(assignment);
+    }
+
+    @Test
+    void seed_holds_resources_of_active_transports() {
+        var assignment = new TransportAssignment(1L, TransportStatus.IN_PROGRESS, 10L, 20L, 30L, null, null);
+        database.put(1L, assignment);
+        when(transportRepository.findActiveAssignments()).thenReturn(List.of(assignment));
+
+        registry.seed();
+
+        var held = registry.activeTransportOfVehicle(10L).orElseThrow();
+        assertEquals(1L, held.transportId());
+        assertEquals(TransportStatus.IN_PROGRESS, held.status());
+        assertTrue(registry.activeTransportOfTrailer(20L).isPresent());
+        assertTrue(registry.activeTransportOfDriver(30L).isPresent());
+        assertEquals(List.of(11L), registry.freeVehicles(List.of(10L, 11L), Function.identity(), null, null));
+    }
+
+    @Test
+    void record_moves_and_final_status_releases() {
+        commit(new TransportAssignment(1L, TransportStatus.PLANNED, 10L, null, 30L, null, null));
+        commit(new TransportAssignment(1L, TransportStatus.PLANNED, 11L, null, 30L, null, null));
+
+        assertFalse(registry.activeTransportOfVehicle(10L).isPresent());
+        assertTrue(registry.activeTransportOfVehicle(11L).isPresent());
+
+        commit(new TransportAssignment(1L, TransportStatus.FINISHED, 11L, null, 30L, null, null));
+
+        assertFalse(registry.activeTransportOfVehicle(11L).isPresent());
+        assertFalse(registry.activeTransportOfDriver(30L).isPresent());
+    }
+
+    @Test
+    void resource_stays_held_while_another_transport_keeps_it() {
+        commit(new TransportAssignment(1L, TransportStatus.PLANNED, 10L, null, null, null, null));
+        commit(new TransportAssignment(2L, TransportStatus.ACCEPTED, 10L, null, null, null, null));
+
+        database.remove(1L);
+        registry.release(1L);
+
+        assertEquals(2L, registry.activeTransportOfVehicle(10L).orElseThrow().transportId());
+    }
+
+    @Test
+    void booking_blocks_only_overlapping_windows() {
+        Instant start = Instant.parse("2026-03-02T08:00:00Z");
+        Instant end = start.plus(Duration.ofHours(2));
+        commit(new TransportAssignment(1L, TransportStatus.PLANNED, 10L, null, 30L, start, end));
+
+        assertFalse(registry.isVehicleFree(10L, start.plus(Duration.ofHours(1)), end.plus(Duration.ofHours(1)), null));
+        assertTrue(registry.isVehicleFree(10L, end, end.plus(Duration.ofHours(2)), null));
+        assertTrue(registry.isVehicleFree(10L, start.plus(Duration.ofDays(7)), end.plus(Duration.ofDays(7)), null));
+        // the transport's own booking does not block an edit of its window
+        assertTrue(registry.isDriverFree(30L, start, end.plus(Duration.ofHours(1)), 1L));
+        assertEquals(List.of(10L, 11L),
+                registry.freeVehicles(List.of(10L, 11L), Function.identity(), end, end.plus(Duration.ofHours(1))));
+        assertEquals(List.of(11L),
+                registry.freeVehicles(List.of(10L, 11L), Function.identity(), start, end));
+    }
+
+    @Test
+    void open_ended_booking_blocks_everything_after_its_start() {
+        Instant start = Instant.parse("2026-03-02T08:00:00Z");
+        commit(new TransportAssignment(1L, TransportStatus.ACCEPTED, 10L, null, null, start, null));
+
+        assertFalse(registry.isVehicleFree(10L, start.plus(Duration.ofDays(30)), null, null));
+        assertTrue(registry.isVehicleFree(10L, start.minus(Duration.ofHours(3)), start, null));
+    }
+
+    @Test
+    void stale_booking_is_dropped_once_the_database_disagrees() {
+        Instant start = Instant.parse("2026-03-02T08:00:00Z");
+        // booked here, but finished through another instance
+        registry.record(new TransportAssignment(1L, TransportStatus.PLANNED, 10L, null, 30L, start, null));
+        database.put(1L, new TransportAssignment(1L, TransportStatus.FINISHED, 10L, null, 30L, start, null));
+
+        assertTrue(registry.isVehicleFree(10L, start, null, null));
+        assertFalse(registry.activeTransportOfDriver(30L).isPresent());
+        assertEquals(List.of(10L), registry.freeVehicles(List.of(10L), Function.identity(), null, null));
+    }
+
+    @Test
+    void confirmation_reads_committed_state_in_its_own_transaction() {
+        commit(new TransportAssignment(1L, TransportStatus.PLANNED, 10L, null, null, null, null));
+
+        registry.activeTransportOfVehicle(10L);
+
+        verify(transactionManager).getTransaction(argThat(d ->
+                d.getPropagationBehavior() == TransactionDefinition.PROPAGATION_REQUIRES_NEW && d.isReadOnly()));
+    }
+
+    @Test
+    void reseed_adds_and_drops_bookings_without_clearing() {
+        commit(new TransportAssignment(1L, TransportStatus.PLANNED, 10L, null, null, null, null));
+        var other = new TransportAssignment(2L, TransportStatus.ACCEPTED, 11L, null, null, null, null);
+        when(transportRepository.findActiveAssignments()).thenReturn(List.of(other));
+
+        registry.reseed();
+
+        assertEquals(List.of(10L), registry.freeVehicles(List.of(10L, 11L), Function.identity(), null, null));
+    }
+}
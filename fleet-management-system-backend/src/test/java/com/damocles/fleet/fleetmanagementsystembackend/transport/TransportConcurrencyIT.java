@@ -0,0 +1,236 @@
+package com.damocles.fleet.fleetmanagementsystembackend.transport;
+
+import com.damocles.fleet.fleetmanagementsystembackend.domain.Driver;
+import com.damocles.fleet.fleetmanagementsystembackend.domain.Transport;
+import com.damocles.fleet.fleetmanagementsystembackend.domain.TransportStatus;
+import com.damocles.fleet.fleetmanagementsystembackend.domain.User;
+import com.damocles.fleet.fleetmanagementsystembackend.domain.UserRole;
+import com.damocles.fleet.fleetmanagementsystembackend.dto.transport.CreateTransportRequest;
+import com.damocles.fleet.fleetmanagementsystembackend.exception.BusinessValidationException;
+import com.damocles.fleet.fleetmanagementsystembackend.repository.*;
+import com.damocles.fleet.fleetmanagementsystembackend.service.TransportService;
+import com.damocles.fleet.fleetmanagementsystembackend.support.AbstractPostgresIT;
+import com.damocles.fleet.fleetmanagementsystembackend.support.AuthTestUtils;
+import com.damocles.fleet.fleetmanagementsystembackend.support.TestDataFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import javax.sql.DataSource;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+
+// Parallel writers racing for the same driver or vehicle; the V17 index and V18 exclusion constraints must let
+// exactly one win. ITs build the schema with create-drop, so the migrations are applied here explicitly.
+@AutoConfigureMockMvc
+class TransportConcurrencyIT extends AbstractPostgresIT {
+
+    private static final int THREADS = 8;
+
+    @Autowired MockMvc mvc;
+    @Autowired ObjectMapper om;
+    @Autowired TestDataFactory dataFactory;
+    @Autowired TransportService transportService;
+    @Autowired DataSource dataSource;
+
+    @Autowired IStatusHistoryRepository statusHistoryRepository;
+    @Autowired ITransportRepository transportRepository;
+    @Autowired IDriverRepository driverRepository;
+    @Autowired IAccountRepository accountRepository;
+    @Autowired IUserRepository userRepository;
+    @Autowired IVehicleRepository vehicleRepository;
+    @Autowired ITrailerRepository trailerRepository;
+    @Autowired ILocationRepository locationRepository;
+
+    @BeforeEach
+    void applyIndexes() {
+        new ResourceDatabasePopulator(
+                new ClassPathResource("db/migration/V17__one_active_transport_per_resource.sql"),
+                new ClassPathResource("db/migration/V18__transport_booking_windows.sql")
+        ).execute(dataSource);
+    }
+
+    @AfterEach
+    void clean() {
+        new JdbcTemplate(dataSource).execute("""
+                DROP INDEX IF EXISTS ux_transport_driver_in_progress;
+                ALTER TABLE transports DROP CONSTRAINT IF EXISTS ex_transport_vehicle_window;
+                ALTER TABLE transports DROP CONSTRAINT IF EXISTS ex_transport_trailer_window;
+                ALTER TABLE transports DROP CONSTRAINT IF EXISTS ex_transport_driver_window
+                """);
+        statusHistoryRepository.deleteAll();
+        transportRepository.deleteAll();
+        driverRepository.deleteAll();
+        accountRepository.deleteAll();
+        userRepository.deleteAll();
+        vehicleRepository.deleteAll();
+        trailerRepository.deleteAll();
+        locationRepository.deleteAll();
+    }
+
+    @Test
+    void parallel_starts_leave_one_transport_in_progress_per_driver() throws Exception {
+        var driverAcc = dataFactory.createAccount("race-driver", "pass123", Set.of(UserRole.DRIVER));
+        Driver driver = dataFactory.createDriver(driverAcc.getUser(), "LIC-RACE");
+        var creator = dataFactory.createUser("race-admin");
+
+        List<Long> transportIds = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            transportIds.add(saveTransport(creator, driver, i, TransportStatus.ACCEPTED).getId());
+        }
+
+        String driverToken = AuthTestUtils.loginAndGetToken(mvc, om, "race-driver", "pass123");
+
+        List<MvcResult> results = race(transportIds.stream()
+                .<Callable<?>>map(id -> () -> mvc.perform(patch("/api/transports/" + id + "/status")
+                                .header("Authorization", "Bearer " + driverToken)
+                                .contentType("application/json")
+                                .content("{\"status\":\"IN_PROGRESS\"}"))
+                        .andReturn())
+                .toList())
+                .stream()
+                .map(MvcResult.class::cast)
+                .toList();
+
+        long started = results.stream().filter(r -> r.getResponse().getStatus() == 200).count();
+        assertEquals(1, started);
+        for (MvcResult r : results) {
+            if (r.getResponse().getStatus() == 200) continue;
+            assertEquals(409, r.getResponse().getStatus());
+            assertTrue(r.getResponse().getContentAsString().contains("Driver already has a transport in progress"));
+        }
+
+        long inProgress = transportRepository.findAll().stream()
+                .filter(t -> t.getStatus() == TransportStatus.IN_PROGRESS)
+                .count();
+        assertEquals(1, inProgress);
+    }
+
+    @Test
+    void parallel_creates_assign_a_vehicle_to_one_active_transport() throws Exception {
+        var creator = dataFactory.createUser("race-dispatcher");
+        var vehicle = dataFactory.createVehicle("PL-RACE");
+        var pickup = dataFactory.createLocation("race-pickup");
+        var delivery = dataFactory.createLocation("race-delivery");
+
+        List<Callable<?>> creates = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            var trailer = dataFactory.createTrailer("TR-RACE-" + i);
+            creates.add(() -> transportService.createTransport(new CreateTransportRequest(
+                    null,
+                    Instant.now().plusSeconds(600),
+                    null,
+                    null,
+                    trailer.getId(),
+                    vehicle.getId(),
+                    pickup.getId(),
+                    delivery.getId(),
+                    null
+            ), creator.getId()));
+        }
+
+        List<Object> results = race(creates);
+
+        long created = results.stream().filter(r -> !(r instanceof Throwable)).count();
+        assertEquals(1, created);
+        results.stream()
+                .filter(r -> r instanceof Throwable)
+                .forEach(r -> assertTrue(r instanceof BusinessValidationException
+                        || r instanceof DataIntegrityViolationException, r.toString()));
+        assertEquals(1, transportRepository.count());
+    }
+
+    @Test
+    void overlapping_window_is_rejected_but_adjacent_window_is_booked() {
+        var creator = dataFactory.createUser("window-dispatcher");
+        var vehicle = dataFactory.createVehicle("PL-WINDOW");
+        var pickup = dataFactory.createLocation("window-pickup");
+        var delivery = dataFactory.createLocation("window-delivery");
+        Instant start = Instant.now().plusSeconds(3_600);
+
+        transportService.createTransport(windowRequest(vehicle.getId(), pickup.getId(), delivery.getId(),
+                start, start.plusSeconds(7_200)), creator.getId());
+
+        var ex = assertThrows(BusinessValidationException.class, () ->
+                transportService.createTransport(windowRequest(vehicle.getId(), pickup.getId(), delivery.getId(),
+                        start.plusSeconds(3_600), start.plusSeconds(10_800)), creator.getId()));
+        assertTrue(ex.getMessage().contains("overlapping planned window"));
+
+        // [start + 2h, start + 4h) touches the first booking only at its open end
+        transportService.createTransport(windowRequest(vehicle.getId(), pickup.getId(), delivery.getId(),
+                start.plusSeconds(7_200), start.plusSeconds(14_400)), creator.getId());
+
+        assertEquals(2, transportRepository.count());
+    }
+
+    private CreateTransportRequest windowRequest(Long vehicleId, Long pickupId, Long deliveryId, Instant from, Instant to) {
+        return new CreateTransportRequest(null, from, to, null, null, vehicleId, pickupId, deliveryId, null);
+    }
+
+    // Releases all calls at once and returns each call's result, or the exception it threw.
+    private List<Object> race(List<Callable<?>> calls) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(calls.size());
+        CountDownLatch go = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (Callable<?> call : calls) {
+                futures.add(pool.submit(() -> {
+                    go.await();
+                    return call.call();
+                }));
+            }
+            go.countDown();
+
+            List<Object> results = new ArrayList<>();
+            for (Future<?> f : futures) {
+                try {
+                    results.add(f.get());
+                } catch (ExecutionException e) {
+                    results.add(e.getCause());
+                }
+            }
+            return results;
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private Transport saveTransport(User creator, Driver driver, int i, TransportStatus status) {
+        return transportRepository.save(Transport.builder()
+                .createdBy(creator)
+                .driver(driver)
+                .vehicle(dataFactory.createVehicle("PL-RACE-" + i))
+                .trailer(dataFactory.createTrailer("TR-RACE-D" + i))
+                .pickupLocation(dataFactory.createLocation(null))
+                .deliveryLocation(dataFactory.createLocation(null))
+                // one day apart, so the driver's windows never overlap
+                .plannedStartAt(Instant.now().plusSeconds(86_400L * i))
+                .plannedEndAt(Instant.now().plusSeconds(86_400L * i + 3_600))
+                .status(status)
+                .cargos(new ArrayList<>())
+                .statusHistories(new ArrayList<>())
+                .build());
+    }
+}
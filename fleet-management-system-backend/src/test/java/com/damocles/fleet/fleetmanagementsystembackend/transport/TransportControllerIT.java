@@ -1,6 +1,9 @@
 package com.damocles.fleet.fleetmanagementsystembackend.transport;
 
 import com.damocles.fleet.fleetmanagementsystembackend.domain.Driver;
+import com.damocles.fleet.fleetmanagementsystembackend.domain.Transport;
+import com.damocles.fleet.fleetmanagementsystembackend.domain.TransportStatus;
+import com.damocles.fleet.fleetmanagementsystembackend.domain.User;
 import com.damocles.fleet.fleetmanagementsystembackend.domain.UserRole;
 import com.damocles.fleet.fleetmanagementsystembackend.repository.*;
 import com.damocles.fleet.fleetmanagementsystembackend.support.AbstractPostgresIT;
@@ -15,12 +18,21 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @AutoConfigureMockMvc
@@ -106,5 +118,100 @@ class TransportControllerIT extends AbstractPostgresIT {
                 .andExpect(status().isConflict());
     }
 
-    
+    @Test
+    void batch_status_change_applies_valid_items_and_reports_the_rest() throws Exception {
+        dataFactory.createAccount("dispatcher", "pass123", Set.of(UserRole.DISPATCHER));
+        var creator = dataFactory.createUser("batch-creator");
+
+        Transport planned = saveTransport(creator, 1, TransportStatus.PLANNED);
+        Transport finished = saveTransport(creator, 2, TransportStatus.FINISHED);
+        Transport other = saveTransport(creator, 3, TransportStatus.PLANNED);
+
+        String token = AuthTestUtils.loginAndGetToken(mvc, om, "dispatcher", "pass123");
+
+        mvc.perform(patch("/api/transports/status:batch")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType("application/json")
+                        .content(om.writeValueAsString(Map.of("changes", List.of(
+                                Map.of("id", planned.getId(), "status", "CANCELLED"),
+                                Map.of("id", finished.getId(), "status", "CANCELLED"),
+                                Map.of("id", other.getId(), "status", "IN_PROGRESS"),
+                                Map.of("id", 987654L, "status", "FAILED")
+                        )))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(4))
+                .andExpect(jsonPath("$[0].applied").value(true))
+                .andExpect(jsonPath("$[1].applied").value(false))
+                .andExpect(jsonPath("$[1].error").value("Cannot change status from final state: FINISHED"))
+                .andExpect(jsonPath("$[2].applied").value(false))
+                .andExpect(jsonPath("$[3].applied").value(false))
+                .andExpect(jsonPath("$[3].error").value("Transport not found: 987654"));
+
+        assertEquals(TransportStatus.CANCELLED, transportRepository.findById(planned.getId()).orElseThrow().getStatus());
+        assertEquals(TransportStatus.PLANNED, transportRepository.findById(other.getId()).orElseThrow().getStatus());
+        assertEquals(1, statusHistoryRepository.findByTransport_IdOrderByChangedAtDesc(planned.getId()).size());
+        assertTrue(statusHistoryRepository.findByTransport_IdOrderByChangedAtDesc(finished.getId()).isEmpty());
+    }
+
+    @Test
+    void batch_status_change_rejects_empty_batch() throws Exception {
+        dataFactory.createAccount("dispatcher", "pass123", Set.of(UserRole.DISPATCHER));
+        String token = AuthTestUtils.loginAndGetToken(mvc, om, "dispatcher", "pass123");
+
+        mvc.perform(patch("/api/transports/status:batch")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType("application/json")
+                        .content("{\"changes\":[]}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void export_streams_filtered_transports_as_ndjson_and_csv() throws Exception {
+        dataFactory.createAccount("dispatcher", "pass123", Set.of(UserRole.DISPATCHER));
+        var creator = dataFactory.createUser("export-creator");
+        Transport planned = saveTransport(creator, 4, TransportStatus.PLANNED);
+        saveTransport(creator, 5, TransportStatus.FINISHED);
+
+        String token = AuthTestUtils.loginAndGetToken(mvc, om, "dispatcher", "pass123");
+
+        var ndjson = mvc.perform(get("/api/transports/export")
+                        .header("Authorization", "Bearer " + token)
+                        .param("status", "PLANNED"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String lines = mvc.perform(asyncDispatch(ndjson))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"))
+                .andReturn().getResponse().getContentAsString();
+
+        List<String> rows = lines.lines().toList();
+        assertEquals(1, rows.size());
+        assertEquals(planned.getId().longValue(), om.readTree(rows.get(0)).get("id").asLong());
+
+        var csv = mvc.perform(get("/api/transports/export")
+                        .header("Authorization", "Bearer " + token)
+                        .param("format", "csv"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        String body = mvc.perform(asyncDispatch(csv))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        List<String> csvRows = body.lines().toList();
+        assertEquals(3, csvRows.size());
+        assertTrue(csvRows.get(0).startsWith("id,contractualDueAt,plannedStartAt"));
+    }
+
+    private Transport saveTransport(User creator, int i, TransportStatus status) {
+        return transportRepository.save(Transport.builder()
+                .createdBy(creator)
+                .vehicle(dataFactory.createVehicle("PL-BATCH-" + i))
+                .pickupLocation(dataFactory.createLocation(null))
+                .deliveryLocation(dataFactory.createLocation(null))
+                .plannedStartAt(Instant.now().plusSeconds(86_400L * i))
+                .status(status)
+                .cargos(new ArrayList<>())
+                .statusHistories(new ArrayList<>())
+                .build());
+    }
 }
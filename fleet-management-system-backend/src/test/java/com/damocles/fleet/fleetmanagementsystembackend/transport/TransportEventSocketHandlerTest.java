@@ -0,0 +1,143 @@
+package com.damocles.fleet.fleetmanagementsystembackend.transport;
+
+import com.damocles.fleet.fleetmanagementsystembackend.domain.TransportStatus;
+import com.damocles.fleet.fleetmanagementsystembackend.dto.transport.TransportEvent;
+import com.damocles.fleet.fleetmanagementsystembackend.security.AccountSecurityCache;
+import com.damocles.fleet.fleetmanagementsystembackend.security.AccountSecurityState;
+import com.damocles.fleet.fleetmanagementsystembackend.security.JwtService;
+import com.damocles.fleet.fleetmanagementsystembackend.security.VerifiedToken;
+import com.damocles.fleet.fleetmanagementsystembackend.service.TransportEventPublisher;
+import com.damocles.fleet.fleetmanagementsystembackend.web.TransportEventSocketHandler;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.StreamSupport;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TransportEventSocketHandlerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final Instant later = Instant.now().plusSeconds(3600);
+    private TransportEventPublisher publisher;
+    private JwtService jwtService;
+    private AccountSecurityCache accountSecurityCache;
+    private TransportEventSocketHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        publisher = new TransportEventPublisher(meterRegistry, 2);
+        jwtService = mock(JwtService.class);
+        accountSecurityCache = mock(AccountSecurityCache.class);
+        handler = new TransportEventSocketHandler(publisher, objectMapper, meterRegistry, jwtService,
+                accountSecurityCache, 1000, 64 * 1024, 2, 100);
+    }
+
+    @Test
+    void staff_get_every_event_and_drivers_only_their_own() throws Exception {
+        WebSocketSession dispatcher = connect("s1", true, null, later);
+        WebSocketSession driver7 = connect("s2", false, 7L, later);
+        WebSocketSession driver8 = connect("s3", false, 8L, later);
+
+        publisher.publishAfterCommit(TransportEvent.statusChanged(1L, TransportStatus.ACCEPTED, 7L));
+        publisher.publishAfterCommit(TransportEvent.assigned(2L, TransportStatus.PLANNED, 9L, 7L));
+        handler.flush();
+
+        assertEquals(List.of(1L, 2L), transportIds(sent(dispatcher)));
+        assertEquals(List.of(1L, 2L), transportIds(sent(driver7)));
+        verify(driver8, after(200).never()).sendMessage(any());
+    }
+
+    @Test
+    void dropped_events_ask_everyone_to_resync() throws Exception {
+        WebSocketSession driver8 = connect("s1", false, 8L, later);
+
+        for (long id = 1; id <= 3; id++) {
+            publisher.publishAfterCommit(TransportEvent.created(id, TransportStatus.PLANNED, null));
+        }
+        handler.flush();
+
+        JsonNode message = sent(driver8);
+        assertTrue(message.get("resync").asBoolean());
+        assertEquals(0, message.get("events").size());
+    }
+
+    @Test
+    void connection_with_expired_token_is_closed() throws Exception {
+        WebSocketSession expired = connect("s1", true, null, Instant.now().minusSeconds(1));
+
+        handler.flush();
+
+        verify(expired, timeout(1000)).close(any(CloseStatus.class));
+        assertEquals(0, handler.sessionCount());
+    }
+
+    @Test
+    void connection_is_closed_once_its_token_is_revoked_or_the_account_is_disabled() throws Exception {
+        WebSocketSession revoked = connect("s1", true, null, later);
+        WebSocketSession disabled = connect("s2", false, 7L, later);
+        WebSocketSession active = connect("s3", true, null, later);
+        when(jwtService.isRevoked("token-s1")).thenReturn(true);
+        when(accountSecurityCache.get("user-s2"))
+                .thenReturn(new AccountSecurityState(2L, false, Set.of("DRIVER"), System.currentTimeMillis()));
+
+        handler.flush();
+
+        verify(revoked, timeout(1000)).close(any(CloseStatus.class));
+        verify(disabled, timeout(1000)).close(any(CloseStatus.class));
+        verify(active, after(200).never()).close(any(CloseStatus.class));
+        assertEquals(1, handler.sessionCount());
+    }
+
+    private WebSocketSession connect(String id, boolean staff, Long driverId, Instant expiresAt) {
+        Map<String, Object> attrs = new HashMap<>();
+        attrs.put("push.staff", staff);
+        if (driverId != null) attrs.put("push.driverId", driverId);
+        List<String> roles = List.of(staff ? "DISPATCHER" : "DRIVER");
+        attrs.put("push.token", "token-" + id);
+        attrs.put("push.verified", new VerifiedToken("user-" + id, roles, Instant.now(), expiresAt));
+        // stubbed per connection, so a test can override one account afterwards
+        when(accountSecurityCache.get("user-" + id))
+                .thenReturn(new AccountSecurityState(1L, true, Set.copyOf(roles),
+                        System.currentTimeMillis()));
+
+        WebSocketSession session = mock(WebSocketSession.class);
+        when(session.getId()).thenReturn(id);
+        when(session.getAttributes()).thenReturn(attrs);
+        handler.afterConnectionEstablished(session);
+        return session;
+    }
+
+    private JsonNode sent(WebSocketSession session) throws Exception {
+        ArgumentCaptor<TextMessage> message = ArgumentCaptor.forClass(TextMessage.class);
+        verify(session, timeout(1000)).sendMessage(message.capture());
+        return objectMapper.readTree(message.getValue().getPayload());
+    }
+
+    private static List<Long> transportIds(JsonNode batch) {
+        return StreamSupport.stream(batch.get("events").spliterator(), false)
+                .map(e -> e.get("transportId").asLong())
+                .toList();
+    }
+}
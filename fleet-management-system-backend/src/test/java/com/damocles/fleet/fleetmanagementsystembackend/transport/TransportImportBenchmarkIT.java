@@ -0,0 +1,64 @@
+package com.damocles.fleet.fleetmanagementsystembackend.transport;
+
+import com.damocles.fleet.fleetmanagementsystembackend.service.TransportImportService;
+import com.damocles.fleet.fleetmanagementsystembackend.support.AbstractPostgresIT;
+import com.damocles.fleet.fleetmanagementsystembackend.support.TestDataFactory;
+import com.damocles.fleet.fleetmanagementsystembackend.util.TransportImportReader;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// Opt-in throughput check of the CSV import path; the target is 100k rows per minute against a local Postgres.
+// Run with: mvn test -Dtest=TransportImportBenchmarkIT -Dbenchmark=true [-Dbenchmark.rows=100000]
+@Slf4j
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class TransportImportBenchmarkIT extends AbstractPostgresIT {
+
+    private static final int VEHICLES = 200;
+
+    @Autowired TestDataFactory dataFactory;
+    @Autowired TransportImportService importService;
+
+    @Test
+    void imports_csv_rows() {
+        int rows = Integer.getInteger("benchmark.rows", 100_000);
+        var creator = dataFactory.createUser("bench-importer");
+        long pickup = dataFactory.createLocation("bench-pickup").getId();
+        long delivery = dataFactory.createLocation("bench-delivery").getId();
+
+        List<Long> vehicles = new ArrayList<>();
+        for (int i = 0; i < VEHICLES; i++) {
+            vehicles.add(dataFactory.createVehicle("PL-BENCH-" + i).getId());
+        }
+
+        // each vehicle gets consecutive one-hour windows, so every row is bookable
+        Instant base = Instant.parse("2031-01-01T00:00:00Z");
+        StringBuilder csv = new StringBuilder("plannedStartAt,plannedEndAt,vehicleId,pickupLocationId,deliveryLocationId\n");
+        for (int i = 0; i < rows; i++) {
+            Instant start = base.plus(i / VEHICLES, ChronoUnit.HOURS);
+            csv.append(start).append(',').append(start.plus(1, ChronoUnit.HOURS)).append(',')
+                    .append(vehicles.get(i % VEHICLES)).append(',')
+                    .append(pickup).append(',').append(delivery).append('\n');
+        }
+        byte[] body = csv.toString().getBytes(StandardCharsets.UTF_8);
+
+        long t0 = System.nanoTime();
+        var report = importService.importTransports(
+                new ByteArrayInputStream(body), TransportImportReader.Format.CSV, creator.getId());
+        double seconds = (System.nanoTime() - t0) / 1e9;
+
+        log.info(String.format("imported %d rows in %.1f s (%.0f rows/min)",
+                report.imported(), seconds, report.imported() / seconds * 60));
+        assertEquals(rows, report.imported());
+    }
+}
@@ -0,0 +1,126 @@
+package com.damocles.fleet.fleetmanagementsystembackend.transport;
+
+import com.damocles.fleet.fleetmanagementsystembackend.domain.UserRole;
+import com.damocles.fleet.fleetmanagementsystembackend.repository.*;
+import com.damocles.fleet.fleetmanagementsystembackend.support.AbstractPostgresIT;
+import com.damocles.fleet.fleetmanagementsystembackend.support.AuthTestUtils;
+import com.damocles.fleet.fleetmanagementsystembackend.support.TestDataFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@AutoConfigureMockMvc
+class TransportImportIT extends AbstractPostgresIT {
+
+    @Autowired MockMvc mvc;
+    @Autowired ObjectMapper om;
+    @Autowired TestDataFactory dataFactory;
+
+    @Autowired IStatusHistoryRepository statusHistoryRepository;
+    @Autowired ITransportRepository transportRepository;
+    @Autowired IDriverRepository driverRepository;
+    @Autowired IAccountRepository accountRepository;
+    @Autowired IUserRepository userRepository;
+    @Autowired IVehicleRepository vehicleRepository;
+    @Autowired ITrailerRepository trailerRepository;
+    @Autowired ILocationRepository locationRepository;
+
+    private String token;
+    private Long vehicleId;
+    private Long pickupId;
+    private Long deliveryId;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        dataFactory.createAccount("importer", "pass123", Set.of(UserRole.DISPATCHER));
+        token = AuthTestUtils.loginAndGetToken(mvc, om, "importer", "pass123");
+        vehicleId = dataFactory.createVehicle("PL-IMPORT").getId();
+        pickupId = dataFactory.createLocation("import-pickup").getId();
+        deliveryId = dataFactory.createLocation("import-delivery").getId();
+    }
+
+    @AfterEach
+    void clean() {
+        statusHistoryRepository.deleteAll();
+        transportRepository.deleteAll();
+        driverRepository.deleteAll();
+        accountRepository.deleteAll();
+        userRepository.deleteAll();
+        vehicleRepository.deleteAll();
+        trailerRepository.deleteAll();
+        locationRepository.deleteAll();
+    }
+
+    @Test
+    void csv_import_inserts_valid_lines_and_reports_the_rest() throws Exception {
+        String csv = String.join("\n",
+                "plannedStartAt,plannedEndAt,vehicleId,pickupLocationId,deliveryLocationId",
+                row("2030-01-01T08:00:00Z", "2030-01-01T12:00:00Z", vehicleId),
+                row("2030-01-01T10:00:00Z", "2030-01-01T14:00:00Z", vehicleId),
+                row("2030-01-02T08:00:00Z", "2030-01-02T12:00:00Z", 987654L),
+                row("not-a-date", "2030-01-03T12:00:00Z", vehicleId),
+                row("2030-01-04T08:00:00Z", "2030-01-04T12:00:00Z", null),
+                "",
+                row("2030-01-01T12:00:00Z", "2030-01-01T16:00:00Z", vehicleId));
+
+        mvc.perform(post("/api/transports/import")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType("text/csv")
+                        .content(csv))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(2))
+                .andExpect(jsonPath("$.rejected").value(4))
+                .andExpect(jsonPath("$.errors[0].line").value(3))
+                .andExpect(jsonPath("$.errors[0].message").value("Vehicle is already booked for an overlapping planned window"))
+                .andExpect(jsonPath("$.errors[1].message").value("Vehicle not found: 987654"))
+                .andExpect(jsonPath("$.errors[2].message").value("Invalid value for plannedStartAt: not-a-date"))
+                .andExpect(jsonPath("$.errors[3].message").value("Vehicle is required"));
+
+        assertEquals(2, transportRepository.count());
+        assertEquals(2, statusHistoryRepository.count());
+    }
+
+    @Test
+    void ndjson_import_reports_malformed_lines() throws Exception {
+        String ndjson = String.join("\n",
+                om.writeValueAsString(java.util.Map.of(
+                        "plannedStartAt", "2030-02-01T08:00:00Z",
+                        "vehicleId", vehicleId,
+                        "pickupLocationId", pickupId,
+                        "deliveryLocationId", deliveryId)),
+                "{\"plannedStartAt\": ");
+
+        mvc.perform(post("/api/transports/import")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType("application/x-ndjson")
+                        .content(ndjson))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(1))
+                .andExpect(jsonPath("$.rejected").value(1))
+                .andExpect(jsonPath("$.errors[0].line").value(2));
+    }
+
+    @Test
+    void csv_import_rejects_unknown_columns() throws Exception {
+        mvc.perform(post("/api/transports/import")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType("text/csv")
+                        .content("plannedStartAt,colour\n2030-01-01T08:00:00Z,red"))
+                .andExpect(status().isBadRequest());
+    }
+
+    private String row(String start, String end, Long vehicle) {
+        return start + "," + end + "," + (vehicle != null ? vehicle : "") + "," + pickupId + "," + deliveryId;
+    }
+}
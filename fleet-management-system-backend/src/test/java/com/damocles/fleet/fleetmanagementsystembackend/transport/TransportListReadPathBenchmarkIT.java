@@ -0,0 +1,129 @@
+package com.damocles.fleet.fleetmanagementsystembackend.transport;
+
+import com.damocles.fleet.fleetmanagementsystembackend.domain.Transport;
+import com.damocles.fleet.fleetmanagementsystembackend.domain.TransportStatus;
+import com.damocles.fleet.fleetmanagementsystembackend.mapper.ITransportMapper;
+import com.damocles.fleet.fleetmanagementsystembackend.repository.*;
+import com.damocles.fleet.fleetmanagementsystembackend.service.TransportService;
+import com.damocles.fleet.fleetmanagementsystembackend.support.AbstractPostgresIT;
+import com.damocles.fleet.fleetmanagementsystembackend.support.TestDataFactory;
+import com.damocles.fleet.fleetmanagementsystembackend.util.TransportSpecifications;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// Opt-in comparison of the entity list path against the TransportListRow projection:
+// statements, entities loaded and bytes allocated per page.
+// Run with: mvn test -Dtest=TransportListReadPathBenchmarkIT -Dbenchmark=true
+@Slf4j
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class TransportListReadPathBenchmarkIT extends AbstractPostgresIT {
+
+    private static final int TRANSPORTS = 500;
+    private static final int ROUNDS = 20;
+
+    @Autowired TestDataFactory dataFactory;
+    @Autowired TransportService transportService;
+    @Autowired ITransportRepository transportRepository;
+    @Autowired ITransportMapper transportMapper;
+    @Autowired IDriverRepository driverRepository;
+    @Autowired IUserRepository userRepository;
+    @Autowired IVehicleRepository vehicleRepository;
+    @Autowired ITrailerRepository trailerRepository;
+    @Autowired ILocationRepository locationRepository;
+    @Autowired EntityManagerFactory entityManagerFactory;
+    @Autowired TransactionTemplate transactionTemplate;
+
+    @DynamicPropertySource
+    static void statistics(DynamicPropertyRegistry r) {
+        r.add("spring.jpa.properties.hibernate.generate_statistics", () -> "true");
+    }
+
+    @AfterEach
+    void clean() {
+        transportRepository.deleteAll();
+        driverRepository.deleteAll();
+        userRepository.deleteAll();
+        vehicleRepository.deleteAll();
+        trailerRepository.deleteAll();
+        locationRepository.deleteAll();
+    }
+
+    @Test
+    void projection_page_loads_no_entities() {
+        seed();
+        var pageable = PageRequest.of(0, 50, Sort.by(Sort.Direction.DESC, "plannedStartAt"));
+        var spec = TransportSpecifications.withFilters(null, null, null, null, null, null);
+
+        Supplier<Object> entityPath = () -> transactionTemplate.execute(tx ->
+                transportRepository.findAll(spec, pageable).map(transportMapper::toDto));
+        Supplier<Object> projectionPath = () -> transportService.search(
+                null, null, null, null, null, null, pageable);
+
+        assertEquals(entityPath.get(), projectionPath.get());
+
+        report("entity", entityPath);
+        report("projection", projectionPath);
+    }
+
+    private void report(String label, Supplier<Object> path) {
+        Statistics stats = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        var threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().threadId();
+
+        path.get();
+        stats.clear();
+        long allocatedBefore = threads.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < ROUNDS; i++) {
+            path.get();
+        }
+        long allocated = threads.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+        log.info(String.format("%-10s statements/page=%5.1f entities/page=%6.1f allocated/page=%8d KB",
+                label,
+                stats.getPrepareStatementCount() / (double) ROUNDS,
+                stats.getEntityLoadCount() / (double) ROUNDS,
+                allocated / ROUNDS / 1024));
+    }
+
+    private void seed() {
+        var creator = dataFactory.createUser("bench-admin");
+        List<Transport> batch = new ArrayList<>();
+        Instant base = Instant.now();
+
+        for (int i = 0; i < TRANSPORTS; i++) {
+            var driverUser = dataFactory.createUser("bench-driver-" + i);
+            batch.add(Transport.builder()
+                    .createdBy(creator)
+                    .vehicle(dataFactory.createVehicle("PL-BENCH-" + i))
+                    .trailer(dataFactory.createTrailer("TR-BENCH-" + i))
+                    .driver(dataFactory.createDriver(driverUser, "LIC-BENCH-" + i))
+                    .pickupLocation(dataFactory.createLocation("bench-pickup-" + i))
+                    .deliveryLocation(dataFactory.createLocation("bench-delivery-" + i))
+                    .plannedStartAt(base.plusSeconds(i * 60L))
+                    .status(TransportStatus.PLANNED)
+                    .cargos(new ArrayList<>())
+                    .statusHistories(new ArrayList<>())
+                    .build());
+        }
+        transportRepository.saveAll(batch);
+    }
+}
@@ -0,0 +1,163 @@
+package com.damocles.fleet.fleetmanagementsystembackend.transport;
+
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// Opt-in latency comparison of the old five-join LIKE search against the transport_search document.
+// Run with: mvn test -Dtest=TransportSearchBenchmarkIT -Dbenchmark=true [-Dbenchmark.transports=1000000]
+@Slf4j
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class TransportSearchBenchmarkIT {
+
+    private static final int ROUNDS = 20;
+    private static final List<String> TERMS = List.of("kowal", "pl-12", "gdan", "volvo", "in_progress");
+
+    private static final String LEGACY_SQL = """
+            SELECT t.id FROM transports t
+            CROSS JOIN (SELECT CAST(? AS text) AS p) q
+            LEFT JOIN users u ON u.id = t.driver_id
+            LEFT JOIN vehicles v ON v.id = t.vehicle_id
+            LEFT JOIN trailers tr ON tr.id = t.trailer_id
+            LEFT JOIN locations pl ON pl.id = t.pickup_address_id
+            LEFT JOIN locations dl ON dl.id = t.delivery_address_id
+            WHERE lower(t.status) LIKE ?1
+               OR lower(coalesce(u.first_name, '')) LIKE ?1 OR lower(coalesce(u.last_name, '')) LIKE ?1
+               OR lower(coalesce(u.email, '')) LIKE ?1
+               OR lower(coalesce(v.license_plate, '')) LIKE ?1 OR lower(coalesce(v.manufacturer, '')) LIKE ?1
+               OR lower(coalesce(v.model, '')) LIKE ?1
+               OR lower(coalesce(tr.license_plate, '')) LIKE ?1 OR lower(coalesce(tr.name, '')) LIKE ?1
+               OR lower(coalesce(pl.city, '')) LIKE ?1 OR lower(coalesce(pl.street, '')) LIKE ?1
+               OR lower(coalesce(pl.postcode, '')) LIKE ?1 OR lower(coalesce(pl.country, '')) LIKE ?1
+               OR lower(coalesce(dl.city, '')) LIKE ?1 OR lower(coalesce(dl.street, '')) LIKE ?1
+               OR lower(coalesce(dl.postcode, '')) LIKE ?1 OR lower(coalesce(dl.country, '')) LIKE ?1
+            ORDER BY t.id DESC LIMIT 20
+            """.replace("?1", "q.p");
+
+    private static final String DOCUMENT_SQL = """
+            SELECT t.id FROM transports t
+            WHERE t.id IN (SELECT s.transport_id FROM transport_search s WHERE s.document LIKE ?)
+            ORDER BY t.id DESC LIMIT 20
+            """;
+
+    static final PostgreSQLContainer<?> POSTGRES =
+            new PostgreSQLContainer<>("postgres:16-alpine")
+                    .withDatabaseName("fleet_bench")
+                    .withUsername("test")
+                    .withPassword("test");
+
+    static JdbcTemplate jdbc;
+
+    @BeforeAll
+    static void seed() {
+        POSTGRES.start();
+        Flyway.configure()
+                .dataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword())
+                .load()
+                .migrate();
+        jdbc = new JdbcTemplate(new DriverManagerDataSource(
+                POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword()));
+
+        int transports = Integer.getInteger("benchmark.transports", 1_000_000);
+
+        jdbc.update("""
+                INSERT INTO users (first_name, last_name, email)
+                SELECT 'Jan' || g, (ARRAY['Kowalski','Nowak','Wisniewski','Wojcik'])[1 + g % 4] || g,
+                       'bench' || g || '@fleet.test'
+                FROM generate_series(1, 2000) g
+                """);
+        jdbc.update("""
+                INSERT INTO drivers (user_id, driver_license_number)
+                SELECT id, 'BENCH-' || id FROM users WHERE email LIKE 'bench%'
+                """);
+        jdbc.update("""
+                INSERT INTO vehicles (manufacturer, model, license_plate)
+                SELECT (ARRAY['Volvo','Scania','MAN','DAF'])[1 + g % 4], 'M' || g, 'PL-' || g
+                FROM generate_series(1, 1000) g
+                """);
+        jdbc.update("""
+                INSERT INTO trailers (name, license_plate, payload, volume)
+                SELECT 'Trailer ' || g, 'TR-' || g, 24000, 90
+                FROM generate_series(1, 1000) g
+                """);
+        jdbc.update("""
+                INSERT INTO locations (street, city, country, postcode, building_number)
+                SELECT 'Street ' || g, (ARRAY['Gdansk','Warszawa','Poznan','Krakow'])[1 + g % 4] || ' ' || g,
+                       'Poland', lpad(g::text, 5, '0'), g::text
+                FROM generate_series(1, 5000) g
+                """);
+        jdbc.update("""
+                WITH d AS (SELECT array_agg(user_id) ids FROM drivers),
+                     v AS (SELECT array_agg(id) ids FROM vehicles),
+                     tr AS (SELECT array_agg(id) ids FROM trailers),
+                     l AS (SELECT array_agg(id) ids FROM locations)
+                INSERT INTO transports (vehicle_id, driver_id, pickup_address_id, delivery_address_id,
+                                        status, created_by, trailer_id, planned_start_at)
+                SELECT v.ids[1 + g % array_length(v.ids, 1)],
+                       d.ids[1 + g % array_length(d.ids, 1)],
+                       l.ids[1 + g % array_length(l.ids, 1)],
+                       l.ids[1 + (g * 7) % array_length(l.ids, 1)],
+                       -- only the first pass over vehicles and trailers may be active (V17 unique indexes)
+                       CASE WHEN g <= array_length(v.ids, 1)
+                            THEN (ARRAY['PLANNED','ACCEPTED','IN_PROGRESS','FINISHED'])[1 + g % 4]
+                            ELSE (ARRAY['FINISHED','CANCELLED','REJECTED','FAILED'])[1 + g % 4]
+                       END,
+                       d.ids[1],
+                       tr.ids[1 + g % array_length(tr.ids, 1)],
+                       now() - make_interval(mins => g)
+                FROM generate_series(1, ?) g, d, v, tr, l
+                """, transports);
+        jdbc.execute("ANALYZE");
+    }
+
+    @AfterAll
+    static void stop() {
+        POSTGRES.stop();
+    }
+
+    @Test
+    void document_search_matches_legacy_and_reports_latency() {
+        for (String term : TERMS) {
+            String like = "%" + term + "%";
+
+            List<Long> legacy = jdbc.queryForList(LEGACY_SQL, Long.class, like);
+            List<Long> document = jdbc.queryForList(DOCUMENT_SQL, Long.class, like);
+            assertEquals(legacy, document, "result mismatch for '" + term + "'");
+
+            long[] legacyNanos = time(LEGACY_SQL, like);
+            long[] documentNanos = time(DOCUMENT_SQL, like);
+            log.info(String.format("q=%-12s legacy p50=%6.1fms p95=%6.1fms | document p50=%6.1fms p95=%6.1fms",
+                    term, p(legacyNanos, 50), p(legacyNanos, 95), p(documentNanos, 50), p(documentNanos, 95)));
+        }
+
+        log.info("Document search plan:\n{}", String.join("\n",
+                jdbc.queryForList("EXPLAIN ANALYZE " + DOCUMENT_SQL, String.class, "%kowal%")));
+    }
+
+    private long[] time(String sql, String like) {
+        long[] nanos = new long[ROUNDS];
+        for (int i = 0; i < ROUNDS; i++) {
+            long start = System.nanoTime();
+            jdbc.queryForList(sql, Long.class, like);
+            nanos[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(nanos);
+        return nanos;
+    }
+
+    private double p(long[] sortedNanos, int percentile) {
+        int idx = Math.min(sortedNanos.length - 1, (int) Math.ceil(percentile / 100.0 * sortedNanos.length) - 1);
+        return sortedNanos[idx] / 1_000_000.0;
+    }
+}
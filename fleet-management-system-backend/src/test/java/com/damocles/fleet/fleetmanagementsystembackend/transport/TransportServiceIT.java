@@ -14,6 +14,9 @@ import java.math.BigDecimal;
 import java.time.Instant;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class TransportServiceIT extends AbstractPostgresIT {
 
@@ -72,4 +75,42 @@ class TransportServiceIT extends AbstractPostgresIT {
         var accepted = transportService.acceptTransport(transport.id(), driver.getUserId());
         assertEquals(TransportStatus.ACCEPTED, accepted.status());
     }
+
+    @Test
+    void search_after_walks_planned_start_descending_without_overlap() {
+        var admin = dataFactory.createUser("cursor-admin");
+        var pickup = dataFactory.createLocation("cursor-pickup");
+        var delivery = dataFactory.createLocation("cursor-delivery");
+
+        Instant base = Instant.now().plusSeconds(3600);
+        for (int i = 0; i < 3; i++) {
+            var vehicle = dataFactory.createVehicle("PL-CUR-" + i);
+            var trailer = dataFactory.createTrailer("TR-CUR-" + i);
+            transportService.createTransport(
+                    new com.damocles.fleet.fleetmanagementsystembackend.dto.transport.CreateTransportRequest(
+                            null,
+                            base.plusSeconds(i * 60L),
+                            null,
+                            null,
+                            trailer.getId(),
+                            vehicle.getId(),
+                            pickup.getId(),
+                            delivery.getId(),
+                            null
+                    ),
+                    admin.getId()
+            );
+        }
+
+        var first = transportService.searchAfter(null, null, null, null, null, null, null, 2);
+        assertEquals(2, first.content().size());
+        assertTrue(first.hasNext());
+        assertTrue(first.content().get(0).plannedStartAt().isAfter(first.content().get(1).plannedStartAt()));
+
+        var second = transportService.searchAfter(null, null, null, null, null, null, first.nextCursor(), 2);
+        assertEquals(1, second.content().size());
+        assertFalse(second.hasNext());
+        assertNull(second.nextCursor());
+        assertTrue(second.content().get(0).plannedStartAt().isBefore(first.content().get(1).plannedStartAt()));
+    }
 }
@@ -1,14 +1,25 @@
 package com.damocles.fleet.fleetmanagementsystembackend.transport;
 
+import com.damocles.fleet.fleetmanagementsystembackend.domain.Cargo;
+import com.damocles.fleet.fleetmanagementsystembackend.domain.ChangeEntityType;
 import com.damocles.fleet.fleetmanagementsystembackend.domain.Driver;
 import com.damocles.fleet.fleetmanagementsystembackend.domain.Transport;
 import com.damocles.fleet.fleetmanagementsystembackend.domain.TransportStatus;
+import com.damocles.fleet.fleetmanagementsystembackend.dto.transport.BatchStatusChangeResult;
 import com.damocles.fleet.fleetmanagementsystembackend.dto.transport.CreateTransportRequest;
+import com.damocles.fleet.fleetmanagementsystembackend.dto.transport.TransportStatusChange;
 import com.damocles.fleet.fleetmanagementsystembackend.exception.BusinessValidationException;
 import com.damocles.fleet.fleetmanagementsystembackend.exception.TransportNotFoundException;
 import com.damocles.fleet.fleetmanagementsystembackend.mapper.IStatusHistoryMapper;
 import com.damocles.fleet.fleetmanagementsystembackend.mapper.ITransportMapper;
 import com.damocles.fleet.fleetmanagementsystembackend.repository.*;
+import com.damocles.fleet.fleetmanagementsystembackend.security.PrincipalContext;
+import com.damocles.fleet.fleetmanagementsystembackend.security.PrincipalContextCache;
+import com.damocles.fleet.fleetmanagementsystembackend.service.ChangeRecorder;
+import com.damocles.fleet.fleetmanagementsystembackend.service.DriverSyncService;
+import com.damocles.fleet.fleetmanagementsystembackend.service.ResourceAvailabilityRegistry;
+import com.damocles.fleet.fleetmanagementsystembackend.service.StatusHistoryAppender;
+import com.damocles.fleet.fleetmanagementsystembackend.service.TransportEventPublisher;
 import com.damocles.fleet.fleetmanagementsystembackend.service.TransportService;
 import com.damocles.fleet.fleetmanagementsystembackend.support.TestTransportMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -17,9 +28,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.List;
 import java.util.Optional;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -30,11 +46,16 @@ class TransportServiceTest {
     @Mock IVehicleRepository vehicleRepository;
     @Mock ITrailerRepository trailerRepository;
     @Mock ILocationRepository locationRepository;
-    @Mock IAccountRepository accountRepository;
+    @Mock PrincipalContextCache principalContextCache;
     @Mock IDriverRepository driverRepository;
     ITransportMapper transportMapper;
     @Mock IStatusHistoryRepository statusHistoryRepository;
     @Mock IStatusHistoryMapper statusHistoryMapper;
+    @Mock ResourceAvailabilityRegistry availabilityRegistry;
+    @Mock StatusHistoryAppender statusHistoryAppender;
+    @Mock TransportEventPublisher eventPublisher;
+    @Mock ChangeRecorder changeRecorder;
+    @Mock DriverSyncService driverSyncService;
 
     private TransportService service;
 
@@ -47,14 +68,29 @@ class TransportServiceTest {
                 vehicleRepository,
                 trailerRepository,
                 locationRepository,
-                accountRepository,
+                principalContextCache,
                 driverRepository,
                 transportMapper,
                 statusHistoryRepository,
-                statusHistoryMapper
+                statusHistoryMapper,
+                availabilityRegistry,
+                statusHistoryAppender,
+                eventPublisher,
+                changeRecorder,
+                driverSyncService
         );
     }
 
+    @Test
+    void driver_id_comes_from_the_principal_context() {
+        when(principalContextCache.get("driver1")).thenReturn(new PrincipalContext(7L, 3L, 3L, null, 0));
+        when(principalContextCache.get("dispatcher")).thenReturn(new PrincipalContext(8L, 4L, null, null, 0));
+
+        assertEquals(3L, service.getDriverIdByAccountLogin("driver1"));
+        var ex = assertThrows(BusinessValidationException.class, () -> service.getDriverIdByAccountLogin("dispatcher"));
+        assertEquals("User is not a driver", ex.getMessage());
+    }
+
     @Test
     void updateTransport_throws_when_not_planned() {
         Transport transport = new Transport();
@@ -71,11 +107,7 @@ class TransportServiceTest {
 
     @Test
     void acceptTransport_throws_when_driver_has_active_transport() {
-        when(transportRepository.existsByDriver_UserIdAndStatusAndIdNot(
-                10L,
-                TransportStatus.IN_PROGRESS,
-                99L
-        )).thenReturn(true);
+        when(availabilityRegistry.driverHasOtherTransportInProgress(10L, 99L)).thenReturn(true);
 
         assertThrows(BusinessValidationException.class, () -> service.acceptTransport(99L, 10L));
     }
@@ -142,6 +174,32 @@ class TransportServiceTest {
                 () -> service.changeStatusByAdmin(5L, TransportStatus.CANCELLED, 1L));
     }
 
+    @Test
+    void changeStatusesByAdmin_applies_valid_items_and_reports_rejected_ones() {
+        Transport planned = new Transport();
+        planned.setId(11L);
+        planned.setStatus(TransportStatus.PLANNED);
+
+        Transport finished = new Transport();
+        finished.setId(12L);
+        finished.setStatus(TransportStatus.FINISHED);
+
+        when(transportRepository.findAllById(List.of(11L, 12L, 13L))).thenReturn(List.of(planned, finished));
+
+        var results = service.changeStatusesByAdmin(List.of(
+                new TransportStatusChange(11L, TransportStatus.CANCELLED),
+                new TransportStatusChange(12L, TransportStatus.CANCELLED),
+                new TransportStatusChange(13L, TransportStatus.FAILED)
+        ), 1L);
+
+        assertEquals(List.of(true, false, false), results.stream().map(BatchStatusChangeResult::applied).toList());
+        assertEquals(TransportStatus.CANCELLED, planned.getStatus());
+        assertNotNull(planned.getActualEndAt());
+        assertEquals(TransportStatus.FINISHED, finished.getStatus());
+        verify(statusHistoryAppender).append(11L, TransportStatus.CANCELLED, 1L);
+        verifyNoMoreInteractions(statusHistoryAppender);
+    }
+
     @Test
     void assignDriver_throws_when_transport_not_planned() {
         Transport transport = new Transport();
@@ -195,6 +253,23 @@ class TransportServiceTest {
         assertThrows(BusinessValidationException.class, () -> service.deleteTransport(7L));
     }
 
+    @Test
+    void deleteTransport_records_a_delete_for_each_cascaded_cargo() {
+        Transport transport = new Transport();
+        transport.setId(7L);
+        transport.setStatus(TransportStatus.PLANNED);
+        transport.getCargos().add(Cargo.builder().id(21L).transport(transport).build());
+        transport.getCargos().add(Cargo.builder().id(22L).transport(transport).build());
+
+        when(transportRepository.findById(7L)).thenReturn(Optional.of(transport));
+
+        service.deleteTransport(7L);
+
+        verify(changeRecorder).delete(ChangeEntityType.TRANSPORT, 7L);
+        verify(changeRecorder).delete(ChangeEntityType.CARGO, 21L);
+        verify(changeRecorder).delete(ChangeEntityType.CARGO, 22L);
+    }
+
     @Test
     void updateStatus_throws_when_transport_missing() {
         when(transportRepository.findById(99L)).thenReturn(Optional.empty());
@@ -88,5 +88,26 @@ class UserControllerIT extends AbstractPostgresIT {
                 .andExpect(status().isNoContent());
     }
 
-    
+    @Test
+    void me_reflects_a_user_update_after_being_cached() throws Exception {
+        var acc = dataFactory.createAccount("admin", "pass123", Set.of(UserRole.ADMIN));
+        String token = AuthTestUtils.loginAndGetToken(mvc, om, "admin", "pass123");
+
+        mvc.perform(get("/api/me").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.account.firstName").value("Test"))
+                .andExpect(jsonPath("$.account.userId").value(acc.getUser().getId()));
+
+        mvc.perform(patch("/api/users/" + acc.getUser().getId())
+                        .header("Authorization", "Bearer " + token)
+                        .contentType("application/json")
+                        .content("""
+                                {"firstName": "Renamed"}
+                                """))
+                .andExpect(status().isOk());
+
+        mvc.perform(get("/api/me").header("Authorization", "Bearer " + token))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.account.firstName").value("Renamed"));
+    }
 }
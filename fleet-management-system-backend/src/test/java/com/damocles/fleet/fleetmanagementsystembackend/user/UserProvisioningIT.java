@@ -0,0 +1,135 @@
+package com.damocles.fleet.fleetmanagementsystembackend.user;
+
+import com.damocles.fleet.fleetmanagementsystembackend.domain.DriverStatus;
+import com.damocles.fleet.fleetmanagementsystembackend.domain.UserRole;
+import com.damocles.fleet.fleetmanagementsystembackend.repository.IAccountRepository;
+import com.damocles.fleet.fleetmanagementsystembackend.repository.IDriverRepository;
+import com.damocles.fleet.fleetmanagementsystembackend.repository.IUserRepository;
+import com.damocles.fleet.fleetmanagementsystembackend.support.AbstractPostgresIT;
+import com.damocles.fleet.fleetmanagementsystembackend.support.AuthTestUtils;
+import com.damocles.fleet.fleetmanagementsystembackend.support.TestDataFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@AutoConfigureMockMvc
+class UserProvisioningIT extends AbstractPostgresIT {
+
+    @Autowired MockMvc mvc;
+    @Autowired ObjectMapper om;
+    @Autowired TestDataFactory dataFactory;
+    @Autowired IDriverRepository driverRepository;
+    @Autowired IAccountRepository accountRepository;
+    @Autowired IUserRepository userRepository;
+
+    private String token;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        dataFactory.createAccount("provisioner", "pass123", Set.of(UserRole.ADMIN));
+        token = AuthTestUtils.loginAndGetToken(mvc, om, "provisioner", "pass123");
+    }
+
+    @AfterEach
+    void clean() {
+        driverRepository.deleteAll();
+        accountRepository.deleteAll();
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void json_bulk_creates_valid_rows_and_reports_the_rest() throws Exception {
+        dataFactory.createAccount("taken", "pass123", Set.of(UserRole.DISPATCHER));
+        String takenEmail = accountRepository.findByLoginIgnoreCase("taken").orElseThrow().getUser().getEmail();
+
+        mvc.perform(post("/api/admin/users-with-account/bulk")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType("application/json")
+                        .content("""
+                                [
+                                  {"firstName": "Anna", "lastName": "Nowak", "email": "anna@depot.local",
+                                   "login": "anna", "password": "secret1", "roles": ["DRIVER"],
+                                   "driverLicenseNumber": "LIC-ANNA", "driverLicenseExpiryDate": "2031-05-01"},
+                                  {"firstName": "Jan", "lastName": "Kowal", "email": "%s",
+                                   "login": "jan", "password": "secret1", "roles": ["DRIVER"]},
+                                  {"firstName": "Ola", "lastName": "Lis", "email": "ola@depot.local",
+                                   "login": "ANNA", "password": "secret1", "roles": ["DRIVER"]},
+                                  {"firstName": "Piotr", "lastName": "Wrona", "email": "piotr@depot.local",
+                                   "login": "piotr", "password": "secret1", "roles": []},
+                                  {"firstName": "Ewa", "lastName": "Sowa", "email": "ewa@depot.local",
+                                   "login": "ewa", "password": "secret1", "roles": ["DISPATCHER"]}
+                                ]
+                                """.formatted(takenEmail)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(2))
+                .andExpect(jsonPath("$.rejected").value(3))
+                .andExpect(jsonPath("$.results[0].row").value(1))
+                .andExpect(jsonPath("$.results[0].userId").isNumber())
+                .andExpect(jsonPath("$.results[0].accountId").isNumber())
+                .andExpect(jsonPath("$.results[1].error").value("Email already in use: " + takenEmail))
+                .andExpect(jsonPath("$.results[2].error").value("Login repeated in this batch: ANNA"))
+                .andExpect(jsonPath("$.results[3].error").value("roles: must not be empty"))
+                .andExpect(jsonPath("$.results[4].login").value("ewa"));
+
+        var anna = accountRepository.findWithUserByLoginIgnoreCase("anna").orElseThrow();
+        assertEquals(Set.of(UserRole.DRIVER), anna.getRoles());
+        var driver = driverRepository.findById(anna.getUser().getId()).orElseThrow();
+        assertEquals("LIC-ANNA", driver.getDriverLicenseNumber());
+        assertEquals(LocalDate.parse("2031-05-01"), driver.getDriverLicenseExpiryDate());
+        assertEquals(DriverStatus.AVAILABLE, driver.getDriverStatus());
+        assertEquals(1, driverRepository.count());
+
+        // the hashed password works for login
+        assertNotNull(AuthTestUtils.loginAndGetToken(mvc, om, "ewa", "secret1"));
+    }
+
+    @Test
+    void csv_bulk_reports_unparseable_rows() throws Exception {
+        String csv = String.join("\n",
+                "firstName,lastName,email,login,password,roles,driverLicenseNumber",
+                "Adam,Kruk,adam@depot.local,adam,secret1,DRIVER|DISPATCHER,LIC-ADAM",
+                "Basia,Kos,basia@depot.local,basia,secret1,PILOT,",
+                "",
+                "Cezary,Wilk,not-an-email,cezary,secret1,DISPATCHER,");
+
+        mvc.perform(post("/api/admin/users-with-account/bulk")
+                        .header("Authorization", "Bearer " + token)
+                        .contentType("text/csv")
+                        .content(csv))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(1))
+                .andExpect(jsonPath("$.rejected").value(2))
+                .andExpect(jsonPath("$.results[1].error").value("Invalid value for roles: PILOT"))
+                .andExpect(jsonPath("$.results[2].row").value(3))
+                .andExpect(jsonPath("$.results[2].error").value("email: must be a well-formed email address"));
+
+        var adam = accountRepository.findWithUserByLoginIgnoreCase("adam").orElseThrow();
+        assertEquals(Set.of(UserRole.DRIVER, UserRole.DISPATCHER), adam.getRoles());
+        assertEquals("LIC-ADAM", driverRepository.findById(adam.getUser().getId()).orElseThrow().getDriverLicenseNumber());
+    }
+
+    @Test
+    void bulk_requires_admin() throws Exception {
+        dataFactory.createAccount("dispatcher", "pass123", Set.of(UserRole.DISPATCHER));
+        String dispatcherToken = AuthTestUtils.loginAndGetToken(mvc, om, "dispatcher", "pass123");
+
+        mvc.perform(post("/api/admin/users-with-account/bulk")
+                        .header("Authorization", "Bearer " + dispatcherToken)
+                        .contentType("application/json")
+                        .content("[]"))
+                .andExpect(status().isForbidden());
+    }
+}
@@ -0,0 +1,32 @@
+package com.damocles.fleet.fleetmanagementsystembackend.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BatchEnricherTest {
+
+    @Test
+    void large_id_lists_are_looked_up_in_bounded_chunks() {
+        List<Long> ids = LongStream.rangeClosed(1, 1_201).boxed().toList();
+        List<Integer> chunkSizes = new ArrayList<>();
+
+        Set<Long> found = BatchEnricher.inChunks(ids, chunk -> {
+            chunkSizes.add(chunk.size());
+            Set<Long> even = new HashSet<>();
+            chunk.stream().filter(id -> id % 2 == 0).forEach(even::add);
+            return even;
+        });
+
+        assertEquals(List.of(500, 500, 201), chunkSizes);
+        assertEquals(600, found.size());
+        assertTrue(found.contains(1_200L));
+    }
+}
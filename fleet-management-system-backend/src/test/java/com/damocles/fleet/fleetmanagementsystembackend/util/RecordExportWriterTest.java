@@ -0,0 +1,34 @@
+package com.damocles.fleet.fleetmanagementsystembackend.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class RecordExportWriterTest {
+
+    record Row(String note, BigDecimal amount) {
+    }
+
+    @Test
+    void csv_text_cells_that_would_run_as_formulas_are_prefixed() throws Exception {
+        var out = new ByteArrayOutputStream();
+        new RecordExportWriter(new ObjectMapper()).write(Stream.of(
+                new Row("=HYPERLINK(\"http://x\")", new BigDecimal("-5")),
+                new Row("@SUM(A1)", null),
+                new Row("plain, text", BigDecimal.ONE)
+        ), Row.class, ExportFormat.CSV, out);
+
+        assertEquals("""
+                note,amount
+                "'=HYPERLINK(""http://x"")",-5
+                '@SUM(A1),
+                "plain, text",1
+                """, out.toString(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,115 @@
+package com.damocles.fleet.fleetmanagementsystembackend.util;
+
+import com.damocles.fleet.fleetmanagementsystembackend.util.SingleFlight.Outcome;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SingleFlightTest {
+
+    private static final long MINUTE = TimeUnit.MINUTES.toNanos(1);
+
+    @Test
+    void concurrent_callers_share_one_computation() throws Exception {
+        int callers = 16;
+        AtomicInteger joined = new AtomicInteger();
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        SingleFlight<String> flight = new SingleFlight<>(0, 100, (key, outcome) -> {
+            if (outcome == Outcome.JOINED) joined.incrementAndGet();
+        });
+
+        ExecutorService pool = Executors.newFixedThreadPool(callers);
+        try {
+            List<Future<List<String>>> results = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                results.add(pool.submit(() -> flight.execute("drivers/available", () -> {
+                    loads.incrementAndGet();
+                    await(release);
+                    return List.of("a", "b");
+                })));
+            }
+
+            // hold the leader until everyone else is waiting on it
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (joined.get() < callers - 1 && System.nanoTime() < deadline) Thread.sleep(5);
+            release.countDown();
+
+            List<String> first = results.get(0).get(5, TimeUnit.SECONDS);
+            for (Future<List<String>> result : results) {
+                assertSame(first, result.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertEquals(1, loads.get());
+        assertEquals(callers - 1, joined.get());
+        assertEquals(0, flight.size());
+    }
+
+    @Test
+    void without_reuse_window_sequential_calls_load_again() {
+        AtomicInteger loads = new AtomicInteger();
+        SingleFlight<String> flight = new SingleFlight<>(0, 100, (key, outcome) -> { });
+
+        flight.execute("k", loads::incrementAndGet);
+        flight.execute("k", loads::incrementAndGet);
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void reuse_window_serves_finished_result_until_invalidated() {
+        AtomicInteger loads = new AtomicInteger();
+        List<Outcome> outcomes = new ArrayList<>();
+        SingleFlight<String> flight = new SingleFlight<>(MINUTE, 100, (key, outcome) -> outcomes.add(outcome));
+
+        assertEquals(1, (int) flight.execute("k", loads::incrementAndGet));
+        assertEquals(1, (int) flight.execute("k", loads::incrementAndGet));
+        assertEquals(2, (int) flight.execute("other", loads::incrementAndGet));
+
+        flight.invalidate();
+        assertEquals(3, (int) flight.execute("k", loads::incrementAndGet));
+
+        assertEquals(List.of(Outcome.LEADER, Outcome.REUSED, Outcome.LEADER, Outcome.LEADER), outcomes);
+    }
+
+    @Test
+    void failures_are_rethrown_and_not_reused() {
+        AtomicInteger loads = new AtomicInteger();
+        SingleFlight<String> flight = new SingleFlight<>(MINUTE, 100, (key, outcome) -> { });
+
+        assertThrows(IllegalStateException.class, () -> flight.execute("k", () -> {
+            loads.incrementAndGet();
+            throw new IllegalStateException("db down");
+        }));
+        assertEquals("ok", flight.execute("k", () -> {
+            loads.incrementAndGet();
+            return "ok";
+        }));
+
+        assertEquals(2, loads.get());
+        assertTrue(flight.size() <= 1);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -10,6 +10,7 @@ import com.damocles.fleet.fleetmanagementsystembackend.mapper.IDriverWorkLogMapp
 import com.damocles.fleet.fleetmanagementsystembackend.repository.IDriverRepository;
 import com.damocles.fleet.fleetmanagementsystembackend.repository.IDriverWorkLogRepository;
 import com.damocles.fleet.fleetmanagementsystembackend.repository.ITransportRepository;
+import com.damocles.fleet.fleetmanagementsystembackend.service.ChangeRecorder;
 import com.damocles.fleet.fleetmanagementsystembackend.service.DriverWorkLogService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -33,6 +34,7 @@ class DriverWorkLogServiceTest {
     @Mock IDriverRepository driverRepository;
     @Mock ITransportRepository transportRepository;
     @Mock IDriverWorkLogMapper mapper;
+    @Mock ChangeRecorder changeRecorder;
 
     private DriverWorkLogService service;
 
@@ -42,7 +44,8 @@ class DriverWorkLogServiceTest {
                 driverWorkLogRepository,
                 driverRepository,
                 transportRepository,
-                mapper
+                mapper,
+                changeRecorder
         );
     }
 
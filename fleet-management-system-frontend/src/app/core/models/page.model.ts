@@ -9,3 +9,11 @@ export interface Page<T> {
 
 
 
+
+// Keyset slice returned by cursor endpoints; pass nextCursor back as `after`.
+export interface CursorSlice<T> {
+  content: T[];
+  size: number;
+  hasNext: boolean;
+  nextCursor: string | null;
+}
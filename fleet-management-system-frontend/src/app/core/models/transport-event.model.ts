@@ -0,0 +1,18 @@
+import { TransportStatus } from './transport-status.model';
+
+export type TransportEventType = 'CREATED' | 'ASSIGNED' | 'STATUS_CHANGED';
+
+export interface TransportEvent {
+  type: TransportEventType;
+  transportId: number;
+  status: TransportStatus;
+  driverId?: number | null;
+  previousDriverId?: number | null;
+  at: string;     // ISO
+}
+
+// one push message; resync = events were dropped, refetch instead of relying on them
+export interface TransportEventBatch {
+  events: TransportEvent[];
+  resync: boolean;
+}
@@ -6,7 +6,7 @@ import { CreateDriverRequest, DriverDTO, UpdateDriverRequest } from "../../model
 import { CargoDTO } from "../../models/cargo.model";
 import { StatusHistoryDTO } from "../../models/status-history.model";
 import { TransportDTO } from "../../models/transport.model";
-import { Page } from "../../models/page.model";
+import { CursorSlice, Page } from "../../models/page.model";
 import { buildHttpParams } from '../http-params.util';
 
 export interface DriverSearchParams {
@@ -126,9 +126,11 @@ export class DriverService {
   }
 
   /** GET /api/drivers/my-transports/timeline */
-  // Fetches status timeline for current driver transports.
-  getMyTimeline(): Observable<StatusHistoryDTO[]> {
-    return this.http.get<StatusHistoryDTO[]>('/api/drivers/my-transports/timeline');
+  // Fetches a slice of the status timeline for current driver transports, newest first.
+  getMyTimeline(size = 50, after?: string): Observable<CursorSlice<StatusHistoryDTO>> {
+    return this.http.get<CursorSlice<StatusHistoryDTO>>('/api/drivers/my-transports/timeline', {
+      params: buildHttpParams({ size, after })
+    });
   }
 
   // Fetches current driver transports.
@@ -1,21 +1,30 @@
 import { Injectable, inject } from '@angular/core';
-import { HttpClient } from '@angular/common/http';
+import { HttpClient, HttpParams } from '@angular/common/http';
 import { Observable } from 'rxjs';
 
 import { LoginHistoryDTO } from '../../models/login-history.model';
+import { CursorSlice } from '../../models/page.model';
 
 @Injectable({ providedIn: 'root' })
 export class LoginHistoryService {
   private http = inject(HttpClient);
   private base = '/api/login-histories';
 
-  // Fetches login history for the current account.
-  getMy(): Observable<LoginHistoryDTO[]> {
-    return this.http.get<LoginHistoryDTO[]>(`${this.base}/me`);
+  // Fetches a slice of the current account's login history, newest first.
+  getMy(size = 50, after?: string): Observable<CursorSlice<LoginHistoryDTO>> {
+    return this.http.get<CursorSlice<LoginHistoryDTO>>(`${this.base}/me`, { params: this.params(size, after) });
   }
 
-  // Fetches login history for a specific account (admin only).
-  getByAccount(accountId: number): Observable<LoginHistoryDTO[]> {
-    return this.http.get<LoginHistoryDTO[]>(`${this.base}/account/${accountId}`);
+  // Fetches a slice of a specific account's login history, newest first (admin only).
+  getByAccount(accountId: number, size = 50, after?: string): Observable<CursorSlice<LoginHistoryDTO>> {
+    return this.http.get<CursorSlice<LoginHistoryDTO>>(`${this.base}/account/${accountId}`, {
+      params: this.params(size, after)
+    });
+  }
+
+  private params(size: number, after?: string): HttpParams {
+    let params = new HttpParams().set('size', size);
+    if (after) params = params.set('after', after);
+    return params;
   }
 }
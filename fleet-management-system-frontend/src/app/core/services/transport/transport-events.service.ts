@@ -0,0 +1,31 @@
+import { Injectable, inject } from '@angular/core';
+import { EMPTY, Observable, defer, filter, repeat, retry, share, timer } from 'rxjs';
+import { webSocket } from 'rxjs/webSocket';
+import { AuthService } from '../auth/auth.service';
+import { environment } from '../../../../environments/environment';
+import { TransportEventBatch } from '../../models/transport-event.model';
+
+@Injectable({
+  providedIn: 'root'
+})
+export class TransportEventsService {
+  private auth = inject(AuthService);
+
+  // Batches of committed transport changes pushed by the backend (one socket shared by all subscribers).
+  // Reconnects (with backoff after errors) using the current token, e.g. once the server closed an expired one.
+  readonly batches$: Observable<TransportEventBatch> = defer(() => {
+    const token = this.auth.token();
+    if (!token || environment.useMockAuth) return EMPTY;
+    return webSocket<TransportEventBatch>(this.url(token));
+  }).pipe(
+    repeat({ delay: 1000 }),
+    retry({ delay: (_, attempt) => timer(Math.min(30_000, 1000 * 2 ** Math.min(attempt, 5))), resetOnSuccess: true }),
+    filter(batch => batch.resync || (batch.events?.length ?? 0) > 0),
+    share()
+  );
+
+  private url(token: string) {
+    const scheme = location.protocol === 'https:' ? 'wss' : 'ws';
+    return `${scheme}://${location.host}/api/ws/transports?access_token=${encodeURIComponent(token)}`;
+  }
+}
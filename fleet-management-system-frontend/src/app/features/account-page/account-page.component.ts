@@ -47,15 +47,8 @@ export class AccountPageComponent {
     }
 
     this.loadingHistory.set(true);
-    this.loginHistoryApi.getMy().subscribe({
-      next: entries => {
-        const sorted = [...entries].sort((a, b) => {
-          const at = a.loggedAt ? new Date(a.loggedAt).getTime() : 0;
-          const bt = b.loggedAt ? new Date(b.loggedAt).getTime() : 0;
-          return bt - at;
-        });
-        this.loginHistory.set(sorted.slice(0, 5));
-      },
+    this.loginHistoryApi.getMy(5).subscribe({
+      next: slice => this.loginHistory.set(slice.content),
       error: () => this.loginHistory.set([]),
       complete: () => this.loadingHistory.set(false)
     });
@@ -14,6 +14,7 @@ import { TransportDTO } from '../../../core/models/transport.model';
 import { NotificationService } from '../../../core/services/notification/notification.service';
 import { TransportService } from '../../../core/services/transport/transport.service';
 import { TransportStatus } from '../../../core/models/transport-status.model';
+import { TransportEventsService } from '../../../core/services/transport/transport-events.service';
 
 @Component({
   selector: 'app-driver-transports',
@@ -35,6 +36,7 @@ export class DriverTransportsComponent {
   private transportApi = inject(TransportService);
   private notify = inject(NotificationService);
   private destroyRef = inject(DestroyRef);
+  private transportEvents = inject(TransportEventsService);
 
   loading = signal(false);
   error = signal<string | null>(null);
@@ -57,10 +59,14 @@ export class DriverTransportsComponent {
 
   constructor() {
     this.load();
+    // the server only pushes changes to this driver's own transports
+    this.transportEvents.batches$
+      .pipe(takeUntilDestroyed(this.destroyRef))
+      .subscribe(() => this.load(true));
   }
 
-  load() {
-    this.loading.set(true);
+  load(silent = false) {
+    if (!silent) this.loading.set(true);
     this.error.set(null);
 
     this.driverApi.getMyTransports()
@@ -14,6 +14,7 @@ import { DriverService } from '../../../core/services/driver/driver.service';
 import { StatusHistoryDTO } from '../../../core/models/status-history.model';
 import { TransportDTO } from '../../../core/models/transport.model';
 import { TransportStatus } from '../../../core/models/transport-status.model';
+import { TransportEventsService } from '../../../core/services/transport/transport-events.service';
 
 @Component({
   selector: 'app-my-timeline',
@@ -33,10 +34,13 @@ import { TransportStatus } from '../../../core/models/transport-status.model';
 export class MyTimelineComponent {
   private api = inject(DriverService);
   private destroyRef = inject(DestroyRef);
+  private transportEvents = inject(TransportEventsService);
 
   loading = signal(false);
   error = signal<string | null>(null);
   timeline = signal<StatusHistoryDTO[]>([]);
+  nextCursor = signal<string | null>(null);
+  loadingMore = signal(false);
   transports = signal<TransportDTO[]>([]);
 
   viewMode = signal<'current' | 'history'>('current');
@@ -68,10 +72,14 @@ export class MyTimelineComponent {
 
   constructor() {
     this.load();
+    // a pushed change means a new newest entry: reload the first slice
+    this.transportEvents.batches$
+      .pipe(takeUntilDestroyed(this.destroyRef))
+      .subscribe(() => this.load(true));
   }
 
-  load() {
-    this.loading.set(true);
+  load(silent = false) {
+    if (!silent) this.loading.set(true);
     this.error.set(null);
 
     forkJoin({
@@ -81,7 +89,8 @@ export class MyTimelineComponent {
       .pipe(takeUntilDestroyed(this.destroyRef))
       .subscribe({
         next: ({ timeline, transports }) => {
-          this.timeline.set(timeline ?? []);
+          this.timeline.set(timeline?.content ?? []);
+          this.nextCursor.set(timeline?.hasNext ? timeline.nextCursor : null);
           this.transports.set(transports ?? []);
           this.applyDefaultSelection();
           this.loading.set(false);
@@ -93,6 +102,27 @@ export class MyTimelineComponent {
       });
   }
 
+  // Appends the next (older) slice of the timeline.
+  loadMore() {
+    const after = this.nextCursor();
+    if (!after || this.loadingMore()) return;
+
+    this.loadingMore.set(true);
+    this.api.getMyTimeline(50, after)
+      .pipe(takeUntilDestroyed(this.destroyRef))
+      .subscribe({
+        next: slice => {
+          this.timeline.update(list => [...list, ...slice.content]);
+          this.nextCursor.set(slice.hasNext ? slice.nextCursor : null);
+          this.loadingMore.set(false);
+        },
+        error: () => {
+          this.loadingMore.set(false);
+          this.error.set('Failed to load timeline.');
+        },
+      });
+  }
+
   setMode(mode: 'current' | 'history') {
     this.viewMode.set(mode);
     this.applyDefaultSelection();
@@ -29,6 +29,7 @@ import { DriverDTO } from "../../core/models/driver.model";
 import { VehicleDTO } from "../../core/models/vehicle.model";
 import { LocationDTO } from "../../core/models/location.model";
 import { MatTooltipModule } from '@angular/material/tooltip';
+import { TransportEventsService } from '../../core/services/transport/transport-events.service';
 
 @Component({
   selector: 'app-transports-page',
@@ -53,6 +54,7 @@ export class TransportsPageComponent implements OnInit {
   private driversApi = inject(DriverService);
   private vehiclesApi = inject(VehicleService);
   private locationApi = inject(LocationService);
+  private transportEvents = inject(TransportEventsService);
 
   private driverMap = signal<Record<number, DriverDTO | null>>({});
   private vehicleMap = signal<Record<number, VehicleDTO | null>>({});
@@ -94,6 +96,10 @@ export class TransportsPageComponent implements OnInit {
         this.pageIndex.set(0);
         this.reload();
       });
+    // pushed changes refresh the current page in place instead of polling the list
+    this.transportEvents.batches$
+      .pipe(takeUntilDestroyed(this.destroyRef))
+      .subscribe(() => this.reload(true));
     this.loadLocations();
     this.reload();
   }
@@ -147,8 +153,8 @@ export class TransportsPageComponent implements OnInit {
     return { status: undefined, driverId: undefined, vehicleId: undefined, q };
   }
 
-  reload() {
-    this.loading = true;
+  reload(silent = false) {
+    if (!silent) this.loading = true;
 
     const { status, driverId, vehicleId, q } = this.parseFilters(this.searchCtrl.value);
 